@@ -0,0 +1,241 @@
+package tech.read_only.containers.benchmarks;
+
+import tech.read_only.containers.Container;
+import tech.read_only.containers.ReadableIterator;
+import tech.read_only.containers.ReadableList;
+import tech.read_only.containers.WritableContainer;
+import tech.read_only.containers.WritableList;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A container under benchmark, adapted to the operations every benchmark needs. Each JMH fork only
+ * ever sees one subclass, so calls through this adapter stay monomorphic and inline.
+ *
+ * <p>Operations an implementation does not support throw {@link UnsupportedOperationException};
+ * benchmarks only pair them with {@link Implementation}s that do.
+ */
+public abstract class BenchmarkContainer {
+    public abstract int size();
+
+    public abstract boolean contains(Object e);
+
+    public abstract boolean add(Integer e);
+
+    public abstract boolean remove(Integer e);
+
+    public abstract Integer removeAt(int index);
+
+    public abstract Integer get(int index);
+
+    public abstract void set(int index, Integer e);
+
+    /** Traverses every element with an iterator, folding them so the JIT cannot skip the loop. */
+    public abstract int iterate();
+
+    public abstract int containerHashCode();
+
+    public abstract boolean containerEquals(BenchmarkContainer other);
+
+    public abstract Object[] toArray();
+
+    /** @return A new container of the same implementation, built from this one */
+    public abstract BenchmarkContainer copy();
+
+    /** Adapts {@link Container}s, using the given copy constructor. */
+    static class ContainerAdapter<C extends Container<Integer>> extends BenchmarkContainer {
+        protected final C container;
+        protected final Function<C, C> copyConstructor;
+
+        ContainerAdapter(final C container, final Function<C, C> copyConstructor) {
+            this.container = container;
+            this.copyConstructor = copyConstructor;
+        }
+
+        @Override
+        public int size() {
+            return this.container.size();
+        }
+
+        @Override
+        public boolean contains(final Object e) {
+            return this.container.contains(e);
+        }
+
+        @Override
+        public boolean add(final Integer e) {
+            if (!(this.container instanceof WritableContainer)) {
+                throw new UnsupportedOperationException();
+            }
+
+            //noinspection unchecked
+            return ((WritableContainer<Integer>) this.container).add(e);
+        }
+
+        @Override
+        public boolean remove(final Integer e) {
+            if (!(this.container instanceof WritableContainer)) {
+                throw new UnsupportedOperationException();
+            }
+
+            //noinspection unchecked
+            return ((WritableContainer<Integer>) this.container).remove(e);
+        }
+
+        @Override
+        public Integer removeAt(final int index) {
+            if (!(this.container instanceof WritableList)) {
+                throw new UnsupportedOperationException();
+            }
+
+            //noinspection unchecked
+            return ((WritableList<Integer>) this.container).removeAt(index);
+        }
+
+        @Override
+        public Integer get(final int index) {
+            if (!(this.container instanceof ReadableList)) {
+                throw new UnsupportedOperationException();
+            }
+
+            //noinspection unchecked
+            return ((ReadableList<Integer>) this.container).get(index);
+        }
+
+        @Override
+        public void set(final int index, final Integer e) {
+            if (!(this.container instanceof WritableList)) {
+                throw new UnsupportedOperationException();
+            }
+
+            //noinspection unchecked
+            ((WritableList<Integer>) this.container).set(index, e);
+        }
+
+        @Override
+        public int iterate() {
+            int result = 0;
+            for (final ReadableIterator<Integer> iter = this.container.iterator();
+                    iter.hasNext(); ) {
+                result += iter.next();
+            }
+
+            return result;
+        }
+
+        @Override
+        public int containerHashCode() {
+            return this.container.hashCode();
+        }
+
+        @Override
+        public boolean containerEquals(final BenchmarkContainer other) {
+            return this.container.equals(((ContainerAdapter<?>) other).container);
+        }
+
+        @Override
+        public Object[] toArray() {
+            return this.container.toArray();
+        }
+
+        @Override
+        public BenchmarkContainer copy() {
+            return new ContainerAdapter<>(
+                    this.copyConstructor.apply(this.container), this.copyConstructor);
+        }
+    }
+
+    /** Adapts {@link Collection}s, using the given copy constructor. */
+    static class CollectionAdapter<C extends Collection<Integer>> extends BenchmarkContainer {
+        protected final C collection;
+        protected final Function<C, C> copyConstructor;
+
+        CollectionAdapter(final C collection, final Function<C, C> copyConstructor) {
+            this.collection = collection;
+            this.copyConstructor = copyConstructor;
+        }
+
+        @Override
+        public int size() {
+            return this.collection.size();
+        }
+
+        @Override
+        public boolean contains(final Object e) {
+            return this.collection.contains(e);
+        }
+
+        @Override
+        public boolean add(final Integer e) {
+            return this.collection.add(e);
+        }
+
+        @Override
+        public boolean remove(final Integer e) {
+            return this.collection.remove(e);
+        }
+
+        @Override
+        public Integer removeAt(final int index) {
+            if (!(this.collection instanceof List)) {
+                throw new UnsupportedOperationException();
+            }
+
+            //noinspection unchecked
+            return ((List<Integer>) this.collection).remove(index);
+        }
+
+        @Override
+        public Integer get(final int index) {
+            if (!(this.collection instanceof List)) {
+                throw new UnsupportedOperationException();
+            }
+
+            //noinspection unchecked
+            return ((List<Integer>) this.collection).get(index);
+        }
+
+        @Override
+        public void set(final int index, final Integer e) {
+            if (!(this.collection instanceof List)) {
+                throw new UnsupportedOperationException();
+            }
+
+            //noinspection unchecked
+            ((List<Integer>) this.collection).set(index, e);
+        }
+
+        @Override
+        public int iterate() {
+            int result = 0;
+            for (final Integer e : this.collection) {
+                result += e;
+            }
+
+            return result;
+        }
+
+        @Override
+        public int containerHashCode() {
+            return this.collection.hashCode();
+        }
+
+        @Override
+        public boolean containerEquals(final BenchmarkContainer other) {
+            return this.collection.equals(((CollectionAdapter<?>) other).collection);
+        }
+
+        @Override
+        public Object[] toArray() {
+            return this.collection.toArray();
+        }
+
+        @Override
+        public BenchmarkContainer copy() {
+            return new CollectionAdapter<>(
+                    this.copyConstructor.apply(this.collection), this.copyConstructor);
+        }
+    }
+}
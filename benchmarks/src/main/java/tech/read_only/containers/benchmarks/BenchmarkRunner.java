@@ -0,0 +1,26 @@
+package tech.read_only.containers.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the usual JMH command line, and always adds the GC
+ * profiler (as {@code -prof gc} would) so every result reports allocation rates alongside timings.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {}
+
+    public static void main(final String[] args)
+            throws CommandLineOptionException, RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .parent(new CommandLineOptions(args))
+                                .addProfiler(GCProfiler.class)
+                                .build())
+                .run();
+    }
+}
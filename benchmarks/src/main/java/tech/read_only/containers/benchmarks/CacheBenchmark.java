@@ -0,0 +1,172 @@
+package tech.read_only.containers.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import tech.read_only.containers.BoundedWritableHashSet;
+import tech.read_only.containers.BoundedWritableHashSet.EvictionPolicy;
+import tech.read_only.containers.ConcurrentBoundedWritableHashSet;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cache shared by every benchmark thread, each looking up keys drawn from a skewed distribution
+ * and adding the ones it misses. Besides the throughput, JMH reports the {@code hits} and {@code
+ * misses} per second, from which the policies' hit rates follow. Run with {@code -t} set to the
+ * thread counts of interest: the concurrent caches should keep scaling, since their hits never
+ * lock.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+    /** A thread-safe cache, as a lookup that adds the key when it misses. */
+    interface Cache {
+        /** @return Whether {@code key} was already cached */
+        boolean getOrAdd(Integer key);
+    }
+
+    public enum Implementation {
+        SYNCHRONIZED_LRU {
+            @Override
+            Cache create(final int maximumSize) {
+                return synchronize(bounded(maximumSize, EvictionPolicy.LRU).build());
+            }
+        },
+        SYNCHRONIZED_W_TINY_LFU {
+            @Override
+            Cache create(final int maximumSize) {
+                return synchronize(bounded(maximumSize, EvictionPolicy.W_TINY_LFU).build());
+            }
+        },
+        CONCURRENT_LRU {
+            @Override
+            Cache create(final int maximumSize) {
+                return getOrAdd(bounded(maximumSize, EvictionPolicy.LRU).buildConcurrent());
+            }
+        },
+        CONCURRENT_W_TINY_LFU {
+            @Override
+            Cache create(final int maximumSize) {
+                return getOrAdd(bounded(maximumSize, EvictionPolicy.W_TINY_LFU).buildConcurrent());
+            }
+        },
+        /** An access-ordered {@link LinkedHashMap} evicting its eldest entry. */
+        SYNCHRONIZED_LINKED_HASH_MAP {
+            @Override
+            Cache create(final int maximumSize) {
+                final Map<Integer, Boolean> map =
+                        Collections.synchronizedMap(
+                                new LinkedHashMap<Integer, Boolean>(16, 0.75f, true) {
+                                    @Override
+                                    protected boolean removeEldestEntry(
+                                            final Map.Entry<Integer, Boolean> eldest) {
+                                        return this.size() > maximumSize;
+                                    }
+                                });
+
+                return key -> map.putIfAbsent(key, Boolean.TRUE) != null;
+            }
+        };
+
+        abstract Cache create(int maximumSize);
+
+        private static BoundedWritableHashSet.Builder<Integer> bounded(
+                final int maximumSize, final EvictionPolicy policy) {
+            return BoundedWritableHashSet.<Integer>builder()
+                    .maximumSize(maximumSize)
+                    .evictionPolicy(policy);
+        }
+
+        private static Cache synchronize(final BoundedWritableHashSet<Integer> set) {
+            return key -> {
+                synchronized (set) {
+                    return set.contains(key) || !set.add(key);
+                }
+            };
+        }
+
+        private static Cache getOrAdd(final ConcurrentBoundedWritableHashSet<Integer> set) {
+            return key -> set.contains(key) || !set.add(key);
+        }
+    }
+
+    @Param({
+        "SYNCHRONIZED_LRU",
+        "SYNCHRONIZED_W_TINY_LFU",
+        "CONCURRENT_LRU",
+        "CONCURRENT_W_TINY_LFU",
+        "SYNCHRONIZED_LINKED_HASH_MAP"
+    })
+    public Implementation implementation;
+
+    @Param({"1000", "100000"})
+    public int maximumSize;
+
+    Cache cache;
+
+    @Setup
+    public void setup() {
+        this.cache = this.implementation.create(this.maximumSize);
+    }
+
+    /**
+     * Each thread's own cycle of keys, out of a range ten times the cache's maximum size, with low
+     * keys far more likely than high ones.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadKeys {
+        static final int COUNT = 1 << 16;
+
+        Integer[] keys;
+        int next = 0;
+
+        public long hits;
+        public long misses;
+
+        @Setup
+        public void setup(final CacheBenchmark benchmark, final ThreadParams threads) {
+            final Random random = new Random(threads.getThreadIndex());
+            final int range = 10 * benchmark.maximumSize;
+
+            this.keys = new Integer[COUNT];
+            for (int i = 0; i < COUNT; i++) {
+                this.keys[i] = (int) (range * Math.pow(random.nextDouble(), 3));
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean getOrAdd(final ThreadKeys keys) {
+        final Integer key = keys.keys[keys.next];
+        keys.next = (keys.next + 1) & (ThreadKeys.COUNT - 1);
+
+        final boolean hit = this.cache.getOrAdd(key);
+        if (hit) {
+            keys.hits++;
+        } else {
+            keys.misses++;
+        }
+
+        return hit;
+    }
+}
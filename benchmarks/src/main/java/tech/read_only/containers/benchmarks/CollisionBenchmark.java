@@ -0,0 +1,162 @@
+package tech.read_only.containers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.read_only.containers.IncrementalWritableHashSet;
+import tech.read_only.containers.WritableHashSet;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Lookups of {@link KeyDistribution#CRAFTED} keys, which all share one probe run if the attacker
+ * knows the hash seed. The {@code KnownSeed} benchmarks fix the seed to the one the keys were
+ * crafted for, showing the cost of a successful attack; the others run with the usual random seed,
+ * showing the same keys scattered again. {@code java.util.HashSet} is unaffected either way, since
+ * the keys only target this library's mixing function.
+ *
+ * <p>The {@code EqualHash} benchmarks use strings built from "Aa" and "BB" blocks instead, which
+ * all share one {@code hashCode}, so no seed scatters them. They measure the sorted overflow that
+ * such keys spill into, against {@code java.util.HashSet}'s tree bins. {@link
+ * IncrementalWritableHashSet} keeps them in its table, so it shows the cost without the overflow.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+    private static final String KNOWN_SEED = "-Dtech.read_only.containers.hashSeed=0";
+
+    @Param({"WRITABLE_HASH_SET", "INCREMENTAL_WRITABLE_HASH_SET", "HASH_SET"})
+    public Implementation implementation;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    Integer[] keys;
+    BenchmarkContainer container;
+    int next = 0;
+
+    String[] stringKeys;
+    Predicate<String> containsString;
+    Predicate<String> addString;
+    Predicate<String> removeString;
+
+    @Setup
+    public void setup() {
+        this.keys = KeyDistribution.CRAFTED.keys(0, this.size);
+        this.container = this.implementation.create(this.keys);
+
+        this.stringKeys = equalHashStrings(this.size);
+        switch (this.implementation) {
+            case WRITABLE_HASH_SET:
+                final WritableHashSet<String> writable = new WritableHashSet<>(this.stringKeys);
+                this.containsString = writable::contains;
+                this.addString = writable::add;
+                this.removeString = writable::remove;
+                break;
+            case INCREMENTAL_WRITABLE_HASH_SET:
+                final IncrementalWritableHashSet<String> incremental =
+                        new IncrementalWritableHashSet<>(this.stringKeys);
+                this.containsString = incremental::contains;
+                this.addString = incremental::add;
+                this.removeString = incremental::remove;
+                break;
+            default:
+                final HashSet<String> hashSet = new HashSet<>(Arrays.asList(this.stringKeys));
+                this.containsString = hashSet::contains;
+                this.addString = hashSet::add;
+                this.removeString = hashSet::remove;
+        }
+    }
+
+    /**
+     * @return {@code count} distinct strings of "Aa" and "BB" blocks, which all have the same
+     *     {@code hashCode} since both blocks do
+     */
+    static String[] equalHashStrings(final int count) {
+        final int blocks = 32 - Integer.numberOfLeadingZeros(count);
+        final String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            final StringBuilder builder = new StringBuilder();
+            for (int block = 0; block < blocks; block++) {
+                builder.append(((i >>> block) & 1) == 0 ? "Aa" : "BB");
+            }
+            strings[i] = builder.toString();
+        }
+
+        return strings;
+    }
+
+    private String nextString() {
+        final String key = this.stringKeys[this.next];
+        this.next = this.next + 1 == this.size ? 0 : this.next + 1;
+
+        return key;
+    }
+
+    private boolean nextContains() {
+        final Integer key = this.keys[this.next];
+        this.next = this.next + 1 == this.size ? 0 : this.next + 1;
+
+        return this.container.contains(key);
+    }
+
+    private boolean nextRemoveAndAdd() {
+        final Integer key = this.keys[this.next];
+        this.next = this.next + 1 == this.size ? 0 : this.next + 1;
+
+        this.container.remove(key);
+        return this.container.add(key);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return this.nextContains();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = KNOWN_SEED)
+    public boolean containsKnownSeed() {
+        return this.nextContains();
+    }
+
+    /** Removes a contained element and adds it back, keeping the container's size steady. */
+    @Benchmark
+    public boolean remove() {
+        return this.nextRemoveAndAdd();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = KNOWN_SEED)
+    public boolean removeKnownSeed() {
+        return this.nextRemoveAndAdd();
+    }
+
+    @Benchmark
+    public boolean containsEqualHash() {
+        return this.containsString.test(this.nextString());
+    }
+
+    /** Removes a contained string and adds it back, keeping the set's size steady. */
+    @Benchmark
+    public boolean removeEqualHash() {
+        final String key = this.nextString();
+        this.removeString.test(key);
+        return this.addString.test(key);
+    }
+}
@@ -0,0 +1,96 @@
+package tech.read_only.containers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operations on one container shared by every benchmark thread, measured for each thread-safe
+ * {@link Implementation}. Run with {@code -t} set to the thread counts of interest (for example
+ * {@code -t 1}, then {@code -t 8}, then {@code -t 32}): throughput should grow with the thread
+ * count for implementations whose writers do not serialize.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentBenchmark {
+    @Param({"CONCURRENT_WRITABLE_HASH_SET", "CONCURRENT_HASH_SET", "SYNCHRONIZED_HASH_SET"})
+    public Implementation implementation;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM"})
+    public KeyDistribution distribution;
+
+    Integer[] keys;
+    BenchmarkContainer container;
+
+    @Setup
+    public void setup() {
+        this.keys = this.distribution.keys(0, this.size);
+        this.container = this.implementation.create(this.keys);
+    }
+
+    /**
+     * Each thread's own cycle of keys: contained keys for lookups, and keys no other thread touches
+     * for writes, so concurrent writers never undo each other's work.
+     */
+    @State(Scope.Thread)
+    public static class ThreadKeys {
+        static final int COUNT = 1024;
+
+        Integer[] writes;
+        int nextWrite = 0;
+        int nextLookup;
+
+        @Setup
+        public void setup(final ConcurrentBenchmark benchmark, final ThreadParams threads) {
+            final int thread = threads.getThreadIndex();
+            this.writes = benchmark.distribution.keys(benchmark.size + thread * COUNT, COUNT);
+            this.nextLookup = (int) ((long) thread * benchmark.size / threads.getThreadCount());
+        }
+    }
+
+    @Benchmark
+    public boolean contains(final ThreadKeys keys) {
+        final Integer key = this.keys[keys.nextLookup];
+        keys.nextLookup = keys.nextLookup + 1 == this.size ? 0 : keys.nextLookup + 1;
+
+        return this.container.contains(key);
+    }
+
+    /** Adds a key and removes it again, keeping the container's size steady. */
+    @Benchmark
+    public boolean addRemove(final ThreadKeys keys) {
+        final Integer key = keys.writes[keys.nextWrite];
+        keys.nextWrite = (keys.nextWrite + 1) & (ThreadKeys.COUNT - 1);
+
+        this.container.add(key);
+        return this.container.remove(key);
+    }
+
+    /** One write for every eight lookups, roughly the mix of a shared deduplication filter. */
+    @Benchmark
+    public boolean readMostly(final ThreadKeys keys) {
+        if ((keys.nextLookup & 7) == 0) {
+            this.addRemove(keys);
+        }
+
+        return this.contains(keys);
+    }
+}
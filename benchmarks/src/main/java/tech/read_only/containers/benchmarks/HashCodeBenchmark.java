@@ -0,0 +1,77 @@
+package tech.read_only.containers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code hashCode} interleaved with writes, as when a container is used as a key or compared while
+ * it is being built up. The hash sets maintain their hash code on every write and the array lists
+ * on every append, so both stay constant-time here; the {@code java.util} collections rehash every
+ * element each time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashCodeBenchmark {
+    @Param({
+        "WRITABLE_ARRAY_LIST",
+        "ARRAY_LIST",
+        "WRITABLE_HASH_SET",
+        "INCREMENTAL_WRITABLE_HASH_SET",
+        "HASH_SET"
+    })
+    public Implementation implementation;
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    Integer[] keys;
+    BenchmarkContainer container;
+    boolean list;
+    int next = 0;
+
+    @Setup
+    public void setup() {
+        this.keys = KeyDistribution.RANDOM.keys(0, this.size);
+        this.container = this.implementation.create(this.keys);
+        this.list = this.implementation.name().endsWith("_LIST");
+    }
+
+    @Benchmark
+    public int unmodified() {
+        return this.container.containerHashCode();
+    }
+
+    /**
+     * Removes an element and adds it back before hashing: the last element of a list, so that its
+     * order is kept, or the next of the keys of a set.
+     */
+    @Benchmark
+    public int afterWrite() {
+        if (this.list) {
+            this.container.add(this.container.removeAt(this.size - 1));
+        } else {
+            final Integer key = this.keys[this.next];
+            this.next = this.next + 1 == this.size ? 0 : this.next + 1;
+
+            this.container.remove(key);
+            this.container.add(key);
+        }
+
+        return this.container.containerHashCode();
+    }
+}
@@ -0,0 +1,179 @@
+package tech.read_only.containers.benchmarks;
+
+import tech.read_only.containers.ConcurrentWritableArrayList;
+import tech.read_only.containers.ConcurrentWritableHashSet;
+import tech.read_only.containers.IncrementalWritableHashSet;
+import tech.read_only.containers.LinkedWritableHashSet;
+import tech.read_only.containers.ReadableArrayList;
+import tech.read_only.containers.ReadableHashSet;
+import tech.read_only.containers.WritableArrayList;
+import tech.read_only.containers.WritableBTreeSet;
+import tech.read_only.containers.WritableHashSet;
+import tech.read_only.containers.WritableIntArrayList;
+import tech.read_only.containers.WritableIntHashSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Every {@link tech.read_only.containers.Container} implementation under benchmark, plus the {@code
+ * java.util} collections they are measured against. Benchmarks take these as a {@code @Param} by
+ * name.
+ */
+public enum Implementation {
+    READABLE_ARRAY_LIST {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.ContainerAdapter<>(
+                    new ReadableArrayList<>(elems), ReadableArrayList::new);
+        }
+    },
+    WRITABLE_ARRAY_LIST {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.ContainerAdapter<>(
+                    new WritableArrayList<>(elems), WritableArrayList::new);
+        }
+    },
+    WRITABLE_INT_ARRAY_LIST {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.ContainerAdapter<>(
+                    new WritableIntArrayList(new ReadableArrayList<>(elems)),
+                    WritableIntArrayList::new);
+        }
+    },
+    ARRAY_LIST {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.CollectionAdapter<>(
+                    new ArrayList<>(Arrays.asList(elems)), ArrayList::new);
+        }
+    },
+    CONCURRENT_WRITABLE_ARRAY_LIST {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.ContainerAdapter<>(
+                    new ConcurrentWritableArrayList<>(elems), ConcurrentWritableArrayList::new);
+        }
+    },
+    SYNCHRONIZED_ARRAY_LIST {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.CollectionAdapter<>(
+                    Collections.synchronizedList(new ArrayList<>(Arrays.asList(elems))),
+                    other -> Collections.synchronizedList(new ArrayList<>(other)));
+        }
+    },
+    COPY_ON_WRITE_ARRAY_LIST {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.CollectionAdapter<>(
+                    new CopyOnWriteArrayList<>(elems), CopyOnWriteArrayList::new);
+        }
+    },
+    READABLE_HASH_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.ContainerAdapter<>(
+                    new ReadableHashSet<>(elems), ReadableHashSet::new);
+        }
+    },
+    WRITABLE_HASH_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.ContainerAdapter<>(
+                    new WritableHashSet<>(elems), WritableHashSet::new);
+        }
+    },
+    INCREMENTAL_WRITABLE_HASH_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.ContainerAdapter<>(
+                    new IncrementalWritableHashSet<>(elems), IncrementalWritableHashSet::new);
+        }
+    },
+    LINKED_WRITABLE_HASH_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.ContainerAdapter<>(
+                    new LinkedWritableHashSet<>(elems), LinkedWritableHashSet::new);
+        }
+    },
+    WRITABLE_INT_HASH_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.ContainerAdapter<>(
+                    new WritableIntHashSet(new ReadableArrayList<>(elems)),
+                    WritableIntHashSet::new);
+        }
+    },
+    HASH_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.CollectionAdapter<>(
+                    new HashSet<>(Arrays.asList(elems)), HashSet::new);
+        }
+    },
+    LINKED_HASH_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.CollectionAdapter<>(
+                    new LinkedHashSet<>(Arrays.asList(elems)), LinkedHashSet::new);
+        }
+    },
+    CONCURRENT_WRITABLE_HASH_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.ContainerAdapter<>(
+                    new ConcurrentWritableHashSet<>(elems), ConcurrentWritableHashSet::new);
+        }
+    },
+    CONCURRENT_HASH_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            final Set<Integer> set = ConcurrentHashMap.newKeySet(elems.length);
+            set.addAll(Arrays.asList(elems));
+
+            return new BenchmarkContainer.CollectionAdapter<>(
+                    set,
+                    other -> {
+                        final Set<Integer> copy = ConcurrentHashMap.newKeySet(other.size());
+                        copy.addAll(other);
+                        return copy;
+                    });
+        }
+    },
+    WRITABLE_B_TREE_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.ContainerAdapter<>(
+                    new WritableBTreeSet<>(elems), WritableBTreeSet::new);
+        }
+    },
+    TREE_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.CollectionAdapter<>(
+                    new TreeSet<>(Arrays.asList(elems)), TreeSet::new);
+        }
+    },
+    SYNCHRONIZED_HASH_SET {
+        @Override
+        public BenchmarkContainer create(final Integer[] elems) {
+            return new BenchmarkContainer.CollectionAdapter<>(
+                    Collections.synchronizedSet(new HashSet<>(Arrays.asList(elems))),
+                    other -> Collections.synchronizedSet(new HashSet<>(other)));
+        }
+    };
+
+    /** @return A new container of this implementation holding {@code elems} */
+    public abstract BenchmarkContainer create(final Integer[] elems);
+}
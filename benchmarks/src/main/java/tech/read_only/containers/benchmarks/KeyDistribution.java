@@ -0,0 +1,67 @@
+package tech.read_only.containers.benchmarks;
+
+/**
+ * How benchmark keys are chosen. Every distribution yields distinct keys for distinct indices, so
+ * keys generated from {@code [0, size)} never collide with miss keys generated from {@code [size, 2
+ * * size)}.
+ */
+public enum KeyDistribution {
+    /** 0, 1, 2, ...: the friendliest case for most hash functions. */
+    SEQUENTIAL {
+        @Override
+        int key(final int index) {
+            return index;
+        }
+    },
+    /** Multiples of 64, which all share their low bits and defeat hashes that only mask. */
+    STRIDED {
+        @Override
+        int key(final int index) {
+            return index * 64;
+        }
+    },
+    /** A bijective scramble of the index, approximating uniformly random keys. */
+    RANDOM {
+        @Override
+        int key(final int index) {
+            int h = index;
+            h ^= h >>> 16;
+            h *= 0x85EBCA6B;
+            h ^= h >>> 13;
+            h *= 0xC2B2AE35;
+            h ^= h >>> 16;
+            return h;
+        }
+    },
+    /**
+     * Keys crafted so that, with a hash seed of 0, their mixed hash codes all share their low 16
+     * bits, as an attacker who knew the seed could craft them. Distinct for indices below 65536.
+     * The library's random seed scatters them again unless {@code
+     * -Dtech.read_only.containers.hashSeed=0} is set.
+     */
+    CRAFTED {
+        @Override
+        int key(final int index) {
+            // inverts the library's mixing function for a seed of 0
+            int h = index << 16;
+            h ^= h >>> 16;
+            h *= 0x7ED1B41D;
+            h ^= (h >>> 13) ^ (h >>> 26);
+            h *= 0xA5CB9243;
+            h ^= h >>> 16;
+            return h;
+        }
+    };
+
+    abstract int key(final int index);
+
+    /** @return Boxed keys for the indices {@code [from, from + count)} */
+    public Integer[] keys(final int from, final int count) {
+        final Integer[] keys = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = this.key(from + i);
+        }
+
+        return keys;
+    }
+}
@@ -0,0 +1,130 @@
+package tech.read_only.containers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operations every {@link tech.read_only.containers.Container} supports, measured against full
+ * containers of each {@link Implementation}.
+ *
+ * <p>Note that the hash sets and array lists cache their hash codes, so {@link #containerHashCode}
+ * measures the cached path for them, just as callers would see it. {@link HashCodeBenchmark}
+ * measures it between writes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReadBenchmark {
+    @Param({
+        "READABLE_ARRAY_LIST",
+        "WRITABLE_ARRAY_LIST",
+        "WRITABLE_INT_ARRAY_LIST",
+        "ARRAY_LIST",
+        "READABLE_HASH_SET",
+        "WRITABLE_HASH_SET",
+        "INCREMENTAL_WRITABLE_HASH_SET",
+        "LINKED_WRITABLE_HASH_SET",
+        "HASH_SET",
+        "LINKED_HASH_SET",
+        "WRITABLE_B_TREE_SET",
+        "TREE_SET"
+    })
+    public Implementation implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"SEQUENTIAL", "STRIDED", "RANDOM"})
+    public KeyDistribution distribution;
+
+    Integer[] keys;
+    BenchmarkContainer container;
+    BenchmarkContainer equalContainer;
+
+    @Setup
+    public void setup() {
+        this.keys = this.distribution.keys(0, this.size);
+        this.container = this.implementation.create(this.keys);
+        this.equalContainer = this.implementation.create(this.keys);
+    }
+
+    /** A cycle of pre-boxed lookup keys, hitting the container at the given ratio. */
+    @State(Scope.Thread)
+    public static class Lookups {
+        static final int COUNT = 1024;
+
+        @Param({"0.0", "0.5", "1.0"})
+        public double hitRatio;
+
+        Integer[] lookups;
+        int next = 0;
+
+        @Setup
+        public void setup(final ReadBenchmark benchmark) {
+            final Random random = new Random(42);
+            final Integer[] misses = benchmark.distribution.keys(benchmark.size, COUNT);
+
+            this.lookups = new Integer[COUNT];
+            for (int i = 0; i < COUNT; i++) {
+                this.lookups[i] =
+                        random.nextDouble() < this.hitRatio
+                                ? benchmark.keys[random.nextInt(benchmark.size)]
+                                : misses[i];
+            }
+        }
+
+        Integer next() {
+            return this.lookups[this.next++ & (COUNT - 1)];
+        }
+    }
+
+    @Benchmark
+    public boolean contains(final Lookups lookups) {
+        return this.container.contains(lookups.next());
+    }
+
+    @Benchmark
+    public int iterate() {
+        return this.container.iterate();
+    }
+
+    @Benchmark
+    public int containerHashCode() {
+        return this.container.containerHashCode();
+    }
+
+    @Benchmark
+    public boolean containerEquals() {
+        return this.container.containerEquals(this.equalContainer);
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return this.container.toArray();
+    }
+
+    @Benchmark
+    public BenchmarkContainer constructFromArray() {
+        return this.implementation.create(this.keys);
+    }
+
+    @Benchmark
+    public BenchmarkContainer constructFromContainer() {
+        return this.container.copy();
+    }
+}
@@ -0,0 +1,85 @@
+package tech.read_only.containers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many threads reading one shared list while a single thread occasionally rewrites it, as with a
+ * routing or configuration table. JMH reports the readers' and the writer's throughput separately;
+ * the readers' is the number that matters. {@code -tg 7,1} changes the thread split.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ReadMostlyListBenchmark {
+    @Param({
+        "CONCURRENT_WRITABLE_ARRAY_LIST",
+        "SYNCHRONIZED_ARRAY_LIST",
+        "COPY_ON_WRITE_ARRAY_LIST"
+    })
+    public Implementation implementation;
+
+    @Param({"100", "10000"})
+    public int size;
+
+    /** How long the writer pauses between writes, in {@link Blackhole#consumeCPU} tokens. */
+    @Param({"10000"})
+    public long writePause;
+
+    Integer[] keys;
+    BenchmarkContainer container;
+
+    @Setup
+    public void setup() {
+        this.keys = KeyDistribution.RANDOM.keys(0, this.size);
+        this.container = this.implementation.create(this.keys);
+    }
+
+    /** Each reader's own position, so readers do not share a cache line through their cursors. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next = 0;
+    }
+
+    /** Alternates positional reads with lookups of a contained element. */
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public Object read(final Cursor cursor) {
+        final int index = cursor.next;
+        cursor.next = index + 1 == this.size ? 0 : index + 1;
+
+        return (index & 1) == 0
+                ? this.container.get(index)
+                : (Object) this.container.contains(this.keys[index]);
+    }
+
+    /** Overwrites an element with its current value, then pauses. */
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public void write(final Cursor cursor) {
+        final int index = cursor.next;
+        cursor.next = index + 1 == this.size ? 0 : index + 1;
+
+        this.container.set(index, this.keys[index]);
+        Blackhole.consumeCPU(this.writePause);
+    }
+}
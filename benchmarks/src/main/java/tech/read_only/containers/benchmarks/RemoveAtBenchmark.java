@@ -0,0 +1,55 @@
+package tech.read_only.containers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** Positional removal from the writable lists, at uniformly random indices. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RemoveAtBenchmark {
+    private static final int INDEX_COUNT = 1024;
+
+    @Param({"WRITABLE_ARRAY_LIST", "WRITABLE_INT_ARRAY_LIST", "ARRAY_LIST"})
+    public Implementation implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    BenchmarkContainer container;
+    int[] indices;
+    int next = 0;
+
+    @Setup
+    public void setup() {
+        this.container = this.implementation.create(KeyDistribution.SEQUENTIAL.keys(0, this.size));
+
+        final Random random = new Random(42);
+        this.indices = new int[INDEX_COUNT];
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            this.indices[i] = random.nextInt(this.size);
+        }
+    }
+
+    /** Removes the element at an index and appends it again, keeping the list's size steady. */
+    @Benchmark
+    public boolean removeAt() {
+        final int index = this.indices[this.next++ & (INDEX_COUNT - 1)];
+        return this.container.add(this.container.removeAt(index));
+    }
+}
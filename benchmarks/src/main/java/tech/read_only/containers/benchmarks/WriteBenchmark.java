@@ -0,0 +1,80 @@
+package tech.read_only.containers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mutations supported by every {@link tech.read_only.containers.WritableContainer}, measured for
+ * each writable {@link Implementation}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WriteBenchmark {
+    private static final Integer[] NO_KEYS = new Integer[0];
+
+    @Param({
+        "WRITABLE_ARRAY_LIST",
+        "WRITABLE_INT_ARRAY_LIST",
+        "ARRAY_LIST",
+        "WRITABLE_HASH_SET",
+        "INCREMENTAL_WRITABLE_HASH_SET",
+        "LINKED_WRITABLE_HASH_SET",
+        "HASH_SET",
+        "LINKED_HASH_SET",
+        "WRITABLE_B_TREE_SET",
+        "TREE_SET"
+    })
+    public Implementation implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"SEQUENTIAL", "STRIDED", "RANDOM"})
+    public KeyDistribution distribution;
+
+    Integer[] keys;
+    BenchmarkContainer container;
+    int next = 0;
+
+    @Setup
+    public void setup() {
+        this.keys = this.distribution.keys(0, this.size);
+        this.container = this.implementation.create(this.keys);
+    }
+
+    /** Builds a full container one {@code add} at a time, starting from empty. */
+    @Benchmark
+    public BenchmarkContainer add() {
+        final BenchmarkContainer result = this.implementation.create(NO_KEYS);
+        for (final Integer key : this.keys) {
+            result.add(key);
+        }
+
+        return result;
+    }
+
+    /** Removes a contained element and adds it back, keeping the container's size steady. */
+    @Benchmark
+    public boolean remove() {
+        final Integer key = this.keys[this.next];
+        this.next = this.next + 1 == this.size ? 0 : this.next + 1;
+
+        this.container.remove(key);
+        return this.container.add(key);
+    }
+}
@@ -1,5 +1,7 @@
 package tech.read_only.containers;
 
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
@@ -31,6 +33,12 @@ public abstract class AbstractReadableList<E> implements ReadableList<E> {
         return new ReadableListIterator();
     }
 
+    /** Splits by index range, reading each element with {@link #get}. */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ReadableListSpliterator(0, this.size());
+    }
+
     /** A basic {@link ReadableIterator} implementation. */
     protected class ReadableListIterator implements ReadableIterator<E> {
         protected int currIndex = 0;
@@ -47,5 +55,63 @@ public abstract class AbstractReadableList<E> implements ReadableList<E> {
 
             return AbstractReadableList.this.get(this.currIndex++);
         }
+
+        /** Reads the size once, instead of once per element like {@link #hasNext}. */
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            final int size = AbstractReadableList.this.size();
+            for (; this.currIndex < size; this.currIndex++) {
+                action.accept(AbstractReadableList.this.get(this.currIndex));
+            }
+        }
+    }
+
+    /**
+     * A {@link Spliterator} over the index range [{@link #index}, {@link #fence}), splitting off
+     * the lower half of its range.
+     */
+    protected class ReadableListSpliterator implements Spliterator<E> {
+        protected int index;
+        protected final int fence;
+
+        protected ReadableListSpliterator(final int origin, final int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super E> action) {
+            if (this.index >= this.fence) return false;
+
+            action.accept(AbstractReadableList.this.get(this.index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            for (; this.index < this.fence; this.index++) {
+                action.accept(AbstractReadableList.this.get(this.index));
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            final int mid = (this.index + this.fence) >>> 1;
+            if (mid <= this.index) return null;
+
+            final Spliterator<E> prefix = new ReadableListSpliterator(this.index, mid);
+            this.index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.fence - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 }
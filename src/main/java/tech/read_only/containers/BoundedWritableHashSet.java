@@ -0,0 +1,445 @@
+package tech.read_only.containers;
+
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link WritableSet} holding at most a maximum number of elements, for use as a cache: adding an
+ * element to a full set evicts another one, chosen by the set's {@link EvictionPolicy}. Evicted
+ * elements are passed to an optional listener, and the set counts its hits, misses and evictions.
+ *
+ * <p>The elements live in access-ordered {@link LinkedWritableHashSet} segments, so every operation
+ * takes amortized constant time and no per-element nodes are allocated. {@link EvictionPolicy#LRU}
+ * uses a single segment, and evicts its least recently used element. {@link
+ * EvictionPolicy#W_TINY_LFU} adds new elements to a small window segment, and only admits the
+ * window's least recently used element into the main area, split into a probation and a protected
+ * segment, if a {@link FrequencySketch} estimates that it was seen more often than the element it
+ * would replace. Elements found again while on probation are promoted to the protected segment.
+ *
+ * <p>{@link #contains} counts as an access, and so changes the order elements are evicted in, and
+ * thereby the iteration order. Iteration, {@link #containsAll} and {@link #equals} do not.
+ */
+public class BoundedWritableHashSet<E> implements WritableSet<E> {
+    /** How a full set chooses the element to evict. */
+    public enum EvictionPolicy {
+        /** Evicts the least recently added or found element. */
+        LRU,
+
+        /**
+         * Evicts the least recently used element of whichever of two candidates was seen less often
+         * recently; it keeps frequently used elements through scans of one-off ones.
+         */
+        W_TINY_LFU
+    }
+
+    protected static final EvictionPolicy DEFAULT_EVICTION_POLICY = EvictionPolicy.LRU;
+
+    /** The share of a {@link EvictionPolicy#W_TINY_LFU} set's maximum size given to its window. */
+    protected static final double WINDOW_SHARE = 0.01;
+
+    /** The share of a {@link EvictionPolicy#W_TINY_LFU} set's main area that is protected. */
+    protected static final double PROTECTED_SHARE = 0.8;
+
+    protected final int maximumSize;
+
+    protected final EvictionPolicy evictionPolicy;
+
+    @Nullable protected final Consumer<? super E> evictionListener;
+
+    /** Holds every element under {@link EvictionPolicy#LRU}, and the newest ones otherwise. */
+    protected final LinkedWritableHashSet<E> window;
+
+    /** Holds elements admitted into the main area but not found again since. */
+    protected final LinkedWritableHashSet<E> probation;
+
+    /** Holds elements found again while on probation. */
+    protected final LinkedWritableHashSet<E> protection;
+
+    protected final int windowCapacity;
+
+    protected final int protectionCapacity;
+
+    /** Estimates how often elements were seen; {@code null} under {@link EvictionPolicy#LRU}. */
+    @Nullable protected final FrequencySketch sketch;
+
+    protected long hitCount = 0;
+
+    protected long missCount = 0;
+
+    protected long evictionCount = 0;
+
+    /**
+     * @param maximumSize The number of elements the set holds before it evicts; at least 1
+     * @param evictionListener Called with each evicted element, or {@code null} for none
+     */
+    protected BoundedWritableHashSet(
+            final int maximumSize,
+            final EvictionPolicy evictionPolicy,
+            @Nullable final Consumer<? super E> evictionListener) {
+        this.maximumSize = maximumSize;
+        this.evictionPolicy = evictionPolicy;
+        this.evictionListener = evictionListener;
+
+        this.window = newSegment();
+        this.probation = newSegment();
+        this.protection = newSegment();
+
+        if (evictionPolicy == EvictionPolicy.LRU) {
+            this.windowCapacity = maximumSize;
+            this.sketch = null;
+        } else {
+            this.windowCapacity = Math.max(1, (int) (maximumSize * WINDOW_SHARE));
+            this.sketch = new FrequencySketch(maximumSize);
+        }
+        this.protectionCapacity = (int) ((maximumSize - this.windowCapacity) * PROTECTED_SHARE);
+    }
+
+    /**
+     * An {@link EvictionPolicy#LRU} set.
+     *
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    public BoundedWritableHashSet(final int maximumSize) throws IllegalArgumentException {
+        this(checkMaximumSize(maximumSize), DEFAULT_EVICTION_POLICY, null);
+    }
+
+    /** @return A builder for sets with a given maximum size, eviction policy or listener */
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Configures a new {@link BoundedWritableHashSet} or {@link ConcurrentBoundedWritableHashSet}.
+     */
+    public static class Builder<E> {
+        protected int maximumSize = 0;
+        protected EvictionPolicy evictionPolicy = DEFAULT_EVICTION_POLICY;
+        @Nullable protected Consumer<? super E> evictionListener = null;
+
+        protected Builder() {}
+
+        /**
+         * @param maximumSize The number of elements the set holds before it evicts
+         * @throws IllegalArgumentException if {@code maximumSize} is not positive
+         */
+        public Builder<E> maximumSize(final int maximumSize) throws IllegalArgumentException {
+            this.maximumSize = checkMaximumSize(maximumSize);
+            return this;
+        }
+
+        public Builder<E> evictionPolicy(final EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
+        /**
+         * @param evictionListener Called with each element evicted to make room for another, but
+         *     not with elements removed explicitly
+         */
+        public Builder<E> evictionListener(final Consumer<? super E> evictionListener) {
+            this.evictionListener = evictionListener;
+            return this;
+        }
+
+        /** @throws IllegalStateException if no maximum size was set */
+        public BoundedWritableHashSet<E> build() throws IllegalStateException {
+            return new BoundedWritableHashSet<>(
+                    this.checkedMaximumSize(), this.evictionPolicy, this.evictionListener);
+        }
+
+        /** @throws IllegalStateException if no maximum size was set */
+        public ConcurrentBoundedWritableHashSet<E> buildConcurrent() throws IllegalStateException {
+            return new ConcurrentBoundedWritableHashSet<>(
+                    this.checkedMaximumSize(), this.evictionPolicy, this.evictionListener);
+        }
+
+        protected int checkedMaximumSize() throws IllegalStateException {
+            if (this.maximumSize == 0) throw new IllegalStateException("No maximum size set");
+
+            return this.maximumSize;
+        }
+    }
+
+    protected static int checkMaximumSize(final int maximumSize) throws IllegalArgumentException {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size not positive: " + maximumSize);
+        }
+
+        return maximumSize;
+    }
+
+    protected static <E> LinkedWritableHashSet<E> newSegment() {
+        return LinkedWritableHashSet.<E>builder().accessOrder(true).build();
+    }
+
+    /** @return The least recently used element of a non-empty segment */
+    @Nullable
+    protected static <E> E eldest(final LinkedWritableHashSet<E> segment) {
+        return segment.elementAt(segment.head);
+    }
+
+    public int maximumSize() {
+        return this.maximumSize;
+    }
+
+    public EvictionPolicy evictionPolicy() {
+        return this.evictionPolicy;
+    }
+
+    /** @return The number of calls to {@link #contains} that found their element */
+    public long hitCount() {
+        return this.hitCount;
+    }
+
+    /** @return The number of calls to {@link #contains} that did not find their element */
+    public long missCount() {
+        return this.missCount;
+    }
+
+    /** @return The number of elements evicted to make room for others */
+    public long evictionCount() {
+        return this.evictionCount;
+    }
+
+    /** Counts as an access to {@code e}, and as a hit or a miss. */
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        final boolean found = this.access(e);
+        if (found) {
+            this.hitCount++;
+        } else {
+            this.missCount++;
+        }
+
+        return found;
+    }
+
+    /**
+     * Records an access to {@code e} without counting it as a hit or a miss.
+     *
+     * @return Whether the set contains {@code e}
+     */
+    protected boolean access(@Nullable final Object e) {
+        if (this.sketch != null) {
+            this.sketch.increment(e);
+        }
+
+        return this.window.contains(e) || this.accessMain(e);
+    }
+
+    /**
+     * Moves {@code e} last in the protected segment, promoting it there if it is on probation, and
+     * demoting the protected segment's least recently used element if that overflows.
+     *
+     * @return Whether the main area contains {@code e}
+     */
+    protected boolean accessMain(@Nullable final Object e) {
+        if (this.protection.contains(e)) return true;
+
+        //noinspection unchecked
+        final E promoted = (E) e;
+        if (!this.probation.remove(promoted)) return false;
+
+        this.protection.add(promoted);
+        if (this.protection.size() > this.protectionCapacity) {
+            this.probation.add(this.protection.removeFirst());
+        }
+
+        return true;
+    }
+
+    /** @return Whether the set contains {@code e}, without counting as an access to it */
+    @Override
+    public boolean containsQuietly(@Nullable final Object e) {
+        return this.window.containsQuietly(e)
+                || this.probation.containsQuietly(e)
+                || this.protection.containsQuietly(e);
+    }
+
+    /**
+     * Does not count as an access to any element, so that checking this set against itself does not
+     * reorder it mid-iteration.
+     */
+    @Override
+    public boolean containsAll(final Container<?> other) {
+        for (final ReadableIterator<?> iter = other.iterator(); iter.hasNext(); ) {
+            if (!this.containsQuietly(iter.next())) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds {@code e} as the most recently used element, evicting another one if the set is full.
+     * Re-adding a contained element counts as an access to it, though not as a hit.
+     */
+    @Override
+    public boolean add(@Nullable final E e) {
+        if (this.sketch != null) {
+            this.sketch.increment(e);
+        }
+        // the window itself moves e last if it already holds it
+        if (this.accessMain(e) || !this.window.add(e)) return false;
+
+        if (this.window.size() > this.windowCapacity) {
+            this.evictFromWindow();
+        }
+
+        return true;
+    }
+
+    /**
+     * Moves the window's least recently used element into the main area, if there is room for it or
+     * it was seen more often than the eldest element on probation. Evicts whichever of the two does
+     * not fit.
+     */
+    protected void evictFromWindow() {
+        final E candidate = this.window.removeFirst();
+
+        final int mainCapacity = this.maximumSize - this.windowCapacity;
+        if (this.probation.size() + this.protection.size() < mainCapacity) {
+            this.probation.add(candidate);
+            return;
+        }
+        if (this.sketch == null || mainCapacity == 0) {
+            this.evict(candidate);
+            return;
+        }
+
+        final E victim = eldest(this.probation);
+        if (this.sketch.frequency(candidate) > this.sketch.frequency(victim)) {
+            this.probation.removeFirst();
+            this.probation.add(candidate);
+            this.evict(victim);
+        } else {
+            this.evict(candidate);
+        }
+    }
+
+    /** Counts an element already taken out of its segment as evicted, and notifies the listener. */
+    protected void evict(@Nullable final E e) {
+        this.evictionCount++;
+        if (this.evictionListener != null) {
+            this.evictionListener.accept(e);
+        }
+    }
+
+    /** Removes {@code e} without notifying the eviction listener. */
+    @Override
+    public boolean remove(@Nullable final E e) {
+        return this.window.remove(e) || this.probation.remove(e) || this.protection.remove(e);
+    }
+
+    /** Removes every element without notifying the eviction listener, but keeps the counts. */
+    @Override
+    public void clear() {
+        this.window.clear();
+        this.probation.clear();
+        this.protection.clear();
+        if (this.sketch != null) {
+            this.sketch.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.window.size() + this.probation.size() + this.protection.size();
+    }
+
+    /** Compares elements without counting as an access to any of them. */
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+
+        final BoundedWritableHashSet<?> that = (BoundedWritableHashSet<?>) o;
+        if (this.size() != that.size()) return false;
+
+        for (final ReadableIterator<E> iter = this.iterator(); iter.hasNext(); ) {
+            if (!that.containsQuietly(iter.next())) return false;
+        }
+
+        return true;
+    }
+
+    /** Agrees with {@link ReadableHashSet#hashCode}, from the sums its segments maintain. */
+    @Override
+    public int hashCode() {
+        final int sum = this.window.hashSum + this.probation.hashSum + this.protection.hashSum;
+        final boolean containsNull =
+                this.window.containsNull
+                        || this.probation.containsNull
+                        || this.protection.containsNull;
+
+        return (1 + sum) * (containsNull ? 31 : 1);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (final ReadableIterator<E> iter = this.iterator(); iter.hasNext(); ) {
+            builder.append(iter.next());
+            if (iter.hasNext()) {
+                builder.append(", ");
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /** Visits the window, then the probation segment, then the protected one. */
+    @Override
+    public WritableIterator<E> iterator() {
+        return new BoundedWritableHashSetIterator();
+    }
+
+    /** Chains the iterators of the segments, each of which is fail-fast on its own. */
+    protected class BoundedWritableHashSetIterator implements WritableIterator<E> {
+        protected final WritableIterator<E> windowIter =
+                BoundedWritableHashSet.this.window.iterator();
+        protected final WritableIterator<E> probationIter =
+                BoundedWritableHashSet.this.probation.iterator();
+        protected final WritableIterator<E> protectionIter =
+                BoundedWritableHashSet.this.protection.iterator();
+
+        /** The segment iterator being traversed, from the window's to the protected one's. */
+        protected WritableIterator<E> currSegment = this.windowIter;
+
+        /** The iterator that returned the last element, and so must remove it. */
+        @Nullable protected WritableIterator<E> lastSegment = null;
+
+        @Override
+        public boolean hasNext() {
+            while (!this.currSegment.hasNext()) {
+                if (this.currSegment == this.windowIter) {
+                    this.currSegment = this.probationIter;
+                } else if (this.currSegment == this.probationIter) {
+                    this.currSegment = this.protectionIter;
+                } else {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public E next() throws IllegalStateException {
+            if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
+
+            this.lastSegment = this.currSegment;
+            return this.lastSegment.next();
+        }
+
+        @Override
+        public void remove() throws IllegalStateException {
+            if (this.lastSegment == null) {
+                throw new IllegalStateException("No previously successful call to next()");
+            }
+
+            this.lastSegment.remove();
+            this.lastSegment = null;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package tech.read_only.containers;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A bounded {@link WritableSet} like {@link BoundedWritableHashSet}, that may be shared between
+ * threads.
+ *
+ * <p>The elements are held in a {@link ConcurrentWritableHashSet}, so {@link #contains} never
+ * locks. The eviction order is kept by a {@link BoundedWritableHashSet} guarded by a lock, and a
+ * hit only has to move an element in that order eventually: {@link #contains} records the access in
+ * one of several striped read buffers, and whichever thread fills a buffer drains every buffer into
+ * the eviction order at once, if it can take the lock without waiting. Writers take the lock, drain
+ * the buffers, and update both the elements and the eviction order. When a buffer is full and
+ * another thread is already draining, accesses are dropped, which only makes the eviction order
+ * slightly less precise.
+ *
+ * <p>The set may briefly hold one element more than its maximum size while an addition is evicting.
+ * The eviction listener is called while the lock is held, and must not modify the set. {@link
+ * #size}, {@link #equals}, {@link #hashCode}, {@link #toString} and iteration are weakly
+ * consistent, as in {@link ConcurrentWritableHashSet}.
+ */
+public class ConcurrentBoundedWritableHashSet<E> implements WritableSet<E> {
+    /** The number of accesses a read buffer holds; a power of two. */
+    protected static final int READ_BUFFER_SIZE = 16;
+
+    /** Enough read buffers that reader threads rarely share one. */
+    protected static final int READ_BUFFER_COUNT =
+            ReadableHashSet.ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Stands for the {@code null} element in read buffers, where {@code null} marks empty slots.
+     */
+    protected static final Object NULL_ELEMENT = new Object();
+
+    protected final ConcurrentWritableHashSet<E> elements = new ConcurrentWritableHashSet<>();
+
+    /** Decides which element to evict; only used while holding {@link #lock}. */
+    protected final BoundedWritableHashSet<E> policy;
+
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    protected final ReadBuffer[] readBuffers = new ReadBuffer[READ_BUFFER_COUNT];
+
+    @Nullable protected final Consumer<? super E> evictionListener;
+
+    protected final LongAdder hitCount = new LongAdder();
+
+    protected final LongAdder missCount = new LongAdder();
+
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maximumSize The number of elements the set holds before it evicts; at least 1
+     * @param evictionListener Called with each evicted element, or {@code null} for none
+     */
+    protected ConcurrentBoundedWritableHashSet(
+            final int maximumSize,
+            final BoundedWritableHashSet.EvictionPolicy evictionPolicy,
+            @Nullable final Consumer<? super E> evictionListener) {
+        this.evictionListener = evictionListener;
+        this.policy = new BoundedWritableHashSet<>(maximumSize, evictionPolicy, this::onEviction);
+        for (int i = 0; i < this.readBuffers.length; i++) {
+            this.readBuffers[i] = new ReadBuffer();
+        }
+    }
+
+    /**
+     * An {@link BoundedWritableHashSet.EvictionPolicy#LRU} set.
+     *
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    public ConcurrentBoundedWritableHashSet(final int maximumSize) throws IllegalArgumentException {
+        this(
+                BoundedWritableHashSet.checkMaximumSize(maximumSize),
+                BoundedWritableHashSet.DEFAULT_EVICTION_POLICY,
+                null);
+    }
+
+    /** Removes an element the policy evicted, while holding {@link #lock}. */
+    protected void onEviction(@Nullable final E e) {
+        this.elements.remove(e);
+        this.evictionCount.increment();
+        if (this.evictionListener != null) {
+            this.evictionListener.accept(e);
+        }
+    }
+
+    public int maximumSize() {
+        return this.policy.maximumSize();
+    }
+
+    public BoundedWritableHashSet.EvictionPolicy evictionPolicy() {
+        return this.policy.evictionPolicy();
+    }
+
+    /** @return The number of calls to {@link #contains} that found their element */
+    public long hitCount() {
+        return this.hitCount.sum();
+    }
+
+    /** @return The number of calls to {@link #contains} that did not find their element */
+    public long missCount() {
+        return this.missCount.sum();
+    }
+
+    /** @return The number of elements evicted to make room for others */
+    public long evictionCount() {
+        return this.evictionCount.sum();
+    }
+
+    /** Counts as an access to {@code e}, and as a hit or a miss, without locking. */
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        final boolean found = this.elements.contains(e);
+        if (found) {
+            this.hitCount.increment();
+        } else {
+            this.missCount.increment();
+        }
+
+        final int stripe =
+                ReadableHashSet.spread(Long.hashCode(Thread.currentThread().getId()))
+                        & (this.readBuffers.length - 1);
+        if (this.readBuffers[stripe].offer(e == null ? NULL_ELEMENT : e)) {
+            this.tryDrainReadBuffers();
+        }
+
+        return found;
+    }
+
+    /** Neither counts as an access to {@code e}, nor as a hit or a miss. */
+    @Override
+    public boolean containsQuietly(@Nullable final Object e) {
+        return this.elements.contains(e);
+    }
+
+    /** Drains the read buffers unless another thread holds the lock, or this one already does. */
+    protected void tryDrainReadBuffers() {
+        if (this.lock.isHeldByCurrentThread() || !this.lock.tryLock()) return;
+
+        try {
+            this.drainReadBuffers();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /** Applies every buffered access to the eviction order; requires {@link #lock}. */
+    protected void drainReadBuffers() {
+        for (final ReadBuffer buffer : this.readBuffers) {
+            buffer.drainTo(e -> this.policy.access(e == NULL_ELEMENT ? null : e));
+        }
+    }
+
+    /**
+     * Applies the buffered accesses to the eviction order now, instead of once a buffer fills or
+     * the next write.
+     */
+    public void cleanUp() {
+        this.lock.lock();
+        try {
+            this.drainReadBuffers();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean add(@Nullable final E e) {
+        this.lock.lock();
+        try {
+            this.drainReadBuffers();
+
+            // added first, so that evicting it straight away leaves it out
+            final boolean added = this.elements.add(e);
+            this.policy.add(e);
+
+            return added;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /** Removes {@code e} without notifying the eviction listener. */
+    @Override
+    public boolean remove(@Nullable final E e) {
+        this.lock.lock();
+        try {
+            this.drainReadBuffers();
+            this.policy.remove(e);
+
+            return this.elements.remove(e);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /** Removes every element without notifying the eviction listener, but keeps the counts. */
+    @Override
+    public void clear() {
+        this.lock.lock();
+        try {
+            this.drainReadBuffers();
+            this.policy.clear();
+            this.elements.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.elements.size();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+
+        return this.elements.equals(((ConcurrentBoundedWritableHashSet<?>) o).elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.elements.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.elements.toString();
+    }
+
+    /** Iterates without counting as an access to any element. */
+    @Override
+    public WritableIterator<E> iterator() {
+        final WritableIterator<E> iter = this.elements.iterator();
+
+        return new WritableIterator<E>() {
+            @Nullable private E lastElem = null;
+            private boolean canRemove = false;
+
+            @Override
+            public boolean hasNext() {
+                return iter.hasNext();
+            }
+
+            @Override
+            public E next() throws IllegalStateException {
+                this.lastElem = iter.next();
+                this.canRemove = true;
+
+                return this.lastElem;
+            }
+
+            @Override
+            public void remove() throws IllegalStateException {
+                if (!this.canRemove) {
+                    throw new IllegalStateException("No previously successful call to next()");
+                }
+
+                ConcurrentBoundedWritableHashSet.this.remove(this.lastElem);
+                this.canRemove = false;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return this.elements.spliterator();
+    }
+
+    /**
+     * A ring of recent accesses, written by any thread and drained under {@link #lock}. A slot is
+     * claimed by advancing {@link #writeCount}, and only then filled, so the drain stops at the
+     * first claimed slot that is still empty and picks it up next time.
+     */
+    protected static final class ReadBuffer {
+        protected final AtomicReferenceArray<Object> slots =
+                new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+
+        protected final AtomicLong writeCount = new AtomicLong();
+
+        /** Only advanced by the thread holding {@link #lock}. */
+        protected volatile long readCount = 0;
+
+        /**
+         * Records an access, or drops it if the buffer is full or another thread claimed the same
+         * slot first.
+         *
+         * @return Whether the buffer is full, and should be drained
+         */
+        protected boolean offer(final Object e) {
+            final long read = this.readCount;
+            final long write = this.writeCount.get();
+            if (write - read >= READ_BUFFER_SIZE) return true;
+            if (!this.writeCount.compareAndSet(write, write + 1)) return false;
+
+            this.slots.lazySet((int) write & (READ_BUFFER_SIZE - 1), e);
+            return write + 1 - read >= READ_BUFFER_SIZE;
+        }
+
+        protected void drainTo(final Consumer<Object> sink) {
+            final long write = this.writeCount.get();
+
+            long read = this.readCount;
+            for (; read < write; read++) {
+                final int slot = (int) read & (READ_BUFFER_SIZE - 1);
+                final Object e = this.slots.get(slot);
+                if (e == null) break;
+
+                this.slots.lazySet(slot, null);
+                sink.accept(e);
+            }
+
+            this.readCount = read;
+        }
+    }
+}
@@ -0,0 +1,571 @@
+package tech.read_only.containers;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link WritableArrayList} that may be shared between threads, tuned for lists that are read far
+ * more often than they are written.
+ *
+ * <p>Reads run under an optimistic {@link StampedLock} stamp: they copy the array reference and
+ * size, do their work on those copies, and only then validate the stamp. Unless a write happened in
+ * the meantime, a read neither blocks nor writes to any shared memory, so readers on different
+ * cores never contend. A read that overlapped a write is retried under the shared read lock. Writes
+ * take the exclusive write lock.
+ *
+ * <p>Iteration is weakly consistent: each step is a separate read, so an iterator may skip or
+ * repeat elements if another thread removes or inserts elements during traversal, and ends early if
+ * the list shrinks below its position. Removing through an iterator is only safe while no other
+ * thread writes.
+ */
+public class ConcurrentWritableArrayList<E> extends WritableArrayList<E> {
+    /** Stands for the position past the last element, since {@code null} is a valid element. */
+    protected static final Object END = new Object();
+
+    protected final StampedLock lock = new StampedLock();
+
+    public ConcurrentWritableArrayList() {
+        super();
+    }
+
+    public ConcurrentWritableArrayList(@Nullable final E e) {
+        super(e);
+    }
+
+    @SafeVarargs
+    public ConcurrentWritableArrayList(final E... elems) {
+        super(elems);
+    }
+
+    public ConcurrentWritableArrayList(@Nullable final Container<E> container) {
+        super(container);
+    }
+
+    protected static IndexOutOfBoundsException outOfBounds(final int index, final int size) {
+        return new IndexOutOfBoundsException("Size: " + size + " Index: " + index);
+    }
+
+    /**
+     * @return The first index below {@code size} holding an element equal to {@code e}, or -1 if
+     *     there is none
+     */
+    protected static int indexIn(final Object[] array, final int size, @Nullable final Object e) {
+        if (e == null) {
+            for (int i = 0; i < size; i++) {
+                if (array[i] == null) return i;
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (e.equals(array[i])) return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Nullable
+    @Override
+    public E get(final int index) {
+        final long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            final Object[] array = this.array;
+            final int size = Math.min(this.size, array.length);
+            final Object elem = index >= 0 && index < size ? array[index] : null;
+
+            if (this.lock.validate(stamp)) {
+                if (index < 0 || index >= size) throw outOfBounds(index, size);
+
+                //noinspection unchecked
+                return (E) elem;
+            }
+        }
+
+        final long readStamp = this.lock.readLock();
+        try {
+            if (index < 0 || index >= this.size) {
+                throw outOfBounds(index, this.size);
+            }
+
+            //noinspection unchecked
+            return (E) this.array[index];
+        } finally {
+            this.lock.unlockRead(readStamp);
+        }
+    }
+
+    /**
+     * Like {@link #get}, but for an index the list has shrunk below since the caller last checked.
+     *
+     * @param index Must not be negative
+     * @return The element at {@code index}, or {@link #END} if the list is not that long
+     */
+    @Nullable
+    protected Object elementOrEnd(final int index) {
+        final long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            final Object[] array = this.array;
+            final Object elem = index < Math.min(this.size, array.length) ? array[index] : END;
+
+            if (this.lock.validate(stamp)) return elem;
+        }
+
+        final long readStamp = this.lock.readLock();
+        try {
+            return index < this.size ? this.array[index] : END;
+        } finally {
+            this.lock.unlockRead(readStamp);
+        }
+    }
+
+    @Override
+    public int indexOf(@Nullable final Object e) {
+        final long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            final Object[] array = this.array;
+            final int index = indexIn(array, Math.min(this.size, array.length), e);
+
+            if (this.lock.validate(stamp)) return index;
+        }
+
+        final long readStamp = this.lock.readLock();
+        try {
+            return indexIn(this.array, this.size, e);
+        } finally {
+            this.lock.unlockRead(readStamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        final long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            final int size = this.size;
+            if (this.lock.validate(stamp)) return size;
+        }
+
+        final long readStamp = this.lock.readLock();
+        try {
+            return this.size;
+        } finally {
+            this.lock.unlockRead(readStamp);
+        }
+    }
+
+    /** @return A consistent snapshot of the list's elements */
+    @Override
+    public E[] toArray() {
+        final long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            final Object[] array = this.array;
+            final Object[] copy = Arrays.copyOf(array, Math.min(this.size, array.length));
+
+            if (this.lock.validate(stamp)) {
+                //noinspection unchecked
+                return (E[]) copy;
+            }
+        }
+
+        final long readStamp = this.lock.readLock();
+        try {
+            //noinspection unchecked
+            return (E[]) Arrays.copyOf(this.array, this.size);
+        } finally {
+            this.lock.unlockRead(readStamp);
+        }
+    }
+
+    /** Traverses a consistent {@link #toArray} snapshot, without holding any lock. */
+    @Override
+    public void forEach(final Consumer<? super E> action) {
+        for (final E elem : this.toArray()) {
+            action.accept(elem);
+        }
+    }
+
+    /** Splits a consistent {@link #toArray} snapshot, so streams never see concurrent writes. */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(
+                this.toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Nullable
+    @Override
+    public E removeAt(final int index) {
+        final long stamp = this.lock.writeLock();
+        try {
+            return super.removeAt(index);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void set(final int index, @Nullable final E e) {
+        final long stamp = this.lock.writeLock();
+        try {
+            super.set(index, e);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean add(@Nullable final E e) {
+        final long stamp = this.lock.writeLock();
+        try {
+            return super.add(e);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(@Nullable final E e) {
+        final long stamp = this.lock.writeLock();
+        try {
+            final int index = indexIn(this.array, this.size, e);
+            if (index < 0) return false;
+
+            super.removeAt(index);
+            return true;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void ensureCapacity(final int minCapacity) {
+        final long stamp = this.lock.writeLock();
+        try {
+            super.ensureCapacity(minCapacity);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        final long stamp = this.lock.writeLock();
+        try {
+            super.trimToSize();
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Copies {@code other} before taking the write lock, so it may be this list itself. */
+    @Override
+    public boolean addAll(final Container<? extends E> other) {
+        final Object[] elems = other.toArray();
+
+        final long stamp = this.lock.writeLock();
+        try {
+            return super.addAll(new ReadableArrayList<E>(elems, elems.length));
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Holds the write lock for the whole pass, so {@code filter} must not access this list. */
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        final long stamp = this.lock.writeLock();
+        try {
+            return super.removeIf(filter);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        final long stamp = this.lock.writeLock();
+        try {
+            super.clear();
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public ReadableArrayList<E> snapshot() {
+        final long stamp = this.lock.writeLock();
+        try {
+            return super.snapshot();
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Appends without taking the lock again, since its callers already hold the write lock. */
+    @Override
+    protected void insertAt(final int index, @Nullable final E e) {
+        if (index == this.size) {
+            super.add(e);
+            return;
+        }
+
+        super.insertAt(index, e);
+    }
+
+    /**
+     * Returns a view of the elements from index {@code from} (inclusive) to {@code to} (exclusive)
+     * that writes through to this list, like {@link WritableArrayList#subList}. Each of its methods
+     * takes this list's lock, so it may be used alongside other threads, but a change to this
+     * list's length made other than through the view still makes it throw {@link
+     * java.util.ConcurrentModificationException}.
+     *
+     * @throws IndexOutOfBoundsException if {@code from} is negative, {@code to} exceeds the size,
+     *     or {@code from} exceeds {@code to}
+     */
+    @Override
+    public WritableList<E> subList(final int from, final int to) throws IndexOutOfBoundsException {
+        final long stamp = this.lock.readLock();
+        try {
+            checkRange(from, to, this.size);
+            return new ConcurrentWritableSubList(null, from, to - from);
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /** Weakly consistent rather than fail-fast, as described in the class documentation. */
+    @Override
+    public WritableIterator<E> iterator() {
+        return new ConcurrentWritableArrayListIterator();
+    }
+
+    /** Compares consistent snapshots of both lists. */
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+
+        return Arrays.equals(this.toArray(), ((ConcurrentWritableArrayList<?>) o).toArray());
+    }
+
+    /** Consistent with {@link AbstractReadableList#hashCode}, over a consistent snapshot. */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.toArray());
+    }
+
+    /**
+     * A {@link WritableSubList} whose reads take the read lock and whose writes take the write
+     * lock. Since the lock is not reentrant, writes call the list's unlocked implementations.
+     * {@link #forEach} and {@link #spliterator} traverse a consistent {@link #toArray} copy.
+     */
+    protected class ConcurrentWritableSubList extends WritableSubList {
+        protected ConcurrentWritableSubList(
+                @Nullable final WritableSubList parent, final int offset, final int size) {
+            super(parent, offset, size);
+        }
+
+        @Override
+        public E get(final int index) {
+            final long stamp = ConcurrentWritableArrayList.this.lock.readLock();
+            try {
+                return super.get(index);
+            } finally {
+                ConcurrentWritableArrayList.this.lock.unlockRead(stamp);
+            }
+        }
+
+        @Override
+        public int indexOf(@Nullable final Object e) {
+            final long stamp = ConcurrentWritableArrayList.this.lock.readLock();
+            try {
+                return super.indexOf(e);
+            } finally {
+                ConcurrentWritableArrayList.this.lock.unlockRead(stamp);
+            }
+        }
+
+        @Override
+        public int size() {
+            final long stamp = ConcurrentWritableArrayList.this.lock.readLock();
+            try {
+                return super.size();
+            } finally {
+                ConcurrentWritableArrayList.this.lock.unlockRead(stamp);
+            }
+        }
+
+        @Override
+        public E[] toArray() {
+            final long stamp = ConcurrentWritableArrayList.this.lock.readLock();
+            try {
+                return super.toArray();
+            } finally {
+                ConcurrentWritableArrayList.this.lock.unlockRead(stamp);
+            }
+        }
+
+        @Override
+        public void forEach(final Consumer<? super E> action) {
+            for (final E elem : this.toArray()) {
+                action.accept(elem);
+            }
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            return Spliterators.spliterator(
+                    this.toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        @Override
+        public WritableList<E> subList(final int from, final int to)
+                throws IndexOutOfBoundsException {
+            final long stamp = ConcurrentWritableArrayList.this.lock.readLock();
+            try {
+                this.checkForComodification();
+                checkRange(from, to, this.size);
+                return new ConcurrentWritableSubList(this, this.offset + from, to - from);
+            } finally {
+                ConcurrentWritableArrayList.this.lock.unlockRead(stamp);
+            }
+        }
+
+        @Nullable
+        @Override
+        public E removeAt(final int index) {
+            final long stamp = ConcurrentWritableArrayList.this.lock.writeLock();
+            try {
+                this.checkForComodification();
+                this.checkIndex(index);
+                final E elem = ConcurrentWritableArrayList.super.removeAt(this.offset + index);
+                this.updateSize(-1);
+
+                return elem;
+            } finally {
+                ConcurrentWritableArrayList.this.lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public void set(final int index, @Nullable final E e) {
+            final long stamp = ConcurrentWritableArrayList.this.lock.writeLock();
+            try {
+                this.checkForComodification();
+                this.checkIndex(index);
+                ConcurrentWritableArrayList.super.set(this.offset + index, e);
+            } finally {
+                ConcurrentWritableArrayList.this.lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public boolean add(@Nullable final E e) {
+            final long stamp = ConcurrentWritableArrayList.this.lock.writeLock();
+            try {
+                return super.add(e);
+            } finally {
+                ConcurrentWritableArrayList.this.lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public boolean remove(@Nullable final E e) {
+            final long stamp = ConcurrentWritableArrayList.this.lock.writeLock();
+            try {
+                final int index = super.indexOf(e);
+                if (index < 0) return false;
+
+                ConcurrentWritableArrayList.super.removeAt(this.offset + index);
+                this.updateSize(-1);
+                return true;
+            } finally {
+                ConcurrentWritableArrayList.this.lock.unlockWrite(stamp);
+            }
+        }
+
+        /** Holds the write lock for the whole pass, so {@code filter} must not access the list. */
+        @Override
+        public boolean removeIf(final Predicate<? super E> filter) {
+            final long stamp = ConcurrentWritableArrayList.this.lock.writeLock();
+            try {
+                return super.removeIf(filter);
+            } finally {
+                ConcurrentWritableArrayList.this.lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public void clear() {
+            final long stamp = ConcurrentWritableArrayList.this.lock.writeLock();
+            try {
+                super.clear();
+            } finally {
+                ConcurrentWritableArrayList.this.lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+    }
+
+    /**
+     * Reads each element together with the size in {@link #hasNext}, and returns that element from
+     * {@link #next}, so that a removal between the two calls cannot push {@link #next} out of
+     * bounds.
+     */
+    protected class ConcurrentWritableArrayListIterator extends WritableArrayListIterator {
+        /** The element {@link #hasNext} found at {@link #currIndex}, or {@link #END} if unread. */
+        @Nullable protected Object pending = END;
+
+        protected ConcurrentWritableArrayListIterator() {
+            super(false);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.pending == END) {
+                this.pending = ConcurrentWritableArrayList.this.elementOrEnd(this.currIndex);
+            }
+
+            return this.pending != END;
+        }
+
+        @Nullable
+        @Override
+        public E next() throws IllegalStateException {
+            if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
+
+            final Object elem = this.pending;
+            this.pending = END;
+            this.currIndex++;
+            this.canRemove = true;
+
+            //noinspection unchecked
+            return (E) elem;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            while (this.hasNext()) {
+                action.accept(this.next());
+            }
+        }
+
+        @Override
+        public void remove() throws IllegalStateException {
+            this.pending = END;
+            super.remove();
+        }
+    }
+}
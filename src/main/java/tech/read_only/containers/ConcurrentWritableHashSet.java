@@ -0,0 +1,403 @@
+package tech.read_only.containers;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link WritableSet} that may be shared between threads.
+ *
+ * <p>Elements are split across a fixed, power-of-two number of segments by the high bits of their
+ * spread hash code. Each segment is an open-addressing table like {@link ReadableHashSet}'s,
+ * guarded by its own lock, so writers only contend when they hit the same segment, and each segment
+ * resizes on its own. {@link #contains} never locks: a segment's table is only ever republished
+ * whole, and removal leaves a tombstone instead of shifting elements, so a concurrent reader can
+ * never miss an element that stays in the set. {@link #size} sums the per-segment counts without
+ * locking either.
+ *
+ * <p>Operations spanning the whole set ({@link #size}, {@link #equals}, {@link #hashCode}, {@link
+ * #toString} and iteration) are weakly consistent: they reflect every modification completed before
+ * they started, and may or may not reflect those made concurrently. Iterators never throw because
+ * of concurrent modification.
+ */
+public class ConcurrentWritableHashSet<E> implements WritableSet<E> {
+    protected static final float DEFAULT_MAX_LOAD_FACTOR = ReadableHashSet.DEFAULT_MAX_LOAD_FACTOR;
+
+    /** Enough segments that writer threads rarely share one, even with every core writing. */
+    protected static final int DEFAULT_SEGMENT_COUNT =
+            ReadableHashSet.ceilingPowerOfTwo(4L * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Marks slots whose element has been removed. Unlike {@code null} it does not terminate probes,
+     * so elements further along the same probe run stay reachable for lock-free readers.
+     */
+    protected static final Object TOMBSTONE = new Object();
+
+    protected final float maxLoadFactor;
+
+    protected final Segment[] segments;
+
+    /** Shifts a spread hash code right so that only the bits selecting a segment remain. */
+    protected final int segmentShift;
+
+    protected final AtomicBoolean containsNull = new AtomicBoolean(false);
+
+    /**
+     * @param segmentCount Rounded up to a power of two, and to at least {@link
+     *     ReadableHashSet#MINIMUM_CAPACITY}
+     * @param loadFactor The maximum ratio of elements and tombstones to slots, per segment
+     */
+    protected ConcurrentWritableHashSet(final int segmentCount, final float loadFactor) {
+        this.maxLoadFactor = loadFactor;
+
+        final int count = ReadableHashSet.ceilingPowerOfTwo(segmentCount);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            this.segments[i] = new Segment();
+        }
+
+        this.segmentShift = Integer.numberOfLeadingZeros(count) + 1;
+    }
+
+    public ConcurrentWritableHashSet() {
+        this(DEFAULT_SEGMENT_COUNT, DEFAULT_MAX_LOAD_FACTOR);
+    }
+
+    public ConcurrentWritableHashSet(@Nullable final E e) {
+        this();
+        this.add(e);
+    }
+
+    @SafeVarargs
+    public ConcurrentWritableHashSet(final E... elems) {
+        this();
+        for (final E elem : elems) {
+            this.add(elem);
+        }
+    }
+
+    public ConcurrentWritableHashSet(@Nullable final Container<E> other) {
+        this();
+        if (other == null) return;
+
+        for (final ReadableIterator<E> iter = other.iterator(); iter.hasNext(); ) {
+            this.add(iter.next());
+        }
+    }
+
+    /** @return The segment responsible for an element with the given spread hash code */
+    protected Segment segmentFor(final int spreadHash) {
+        return this.segments[spreadHash >>> this.segmentShift];
+    }
+
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        if (e == null) return this.containsNull.get();
+
+        final int h = ReadableHashSet.spread(e.hashCode());
+        return this.segmentFor(h).contains(e, h);
+    }
+
+    @Override
+    public boolean add(@Nullable final E e) {
+        if (e == null) return this.containsNull.compareAndSet(false, true);
+
+        final int h = ReadableHashSet.spread(e.hashCode());
+        return this.segmentFor(h).add(e, h, this.maxLoadFactor);
+    }
+
+    @Override
+    public boolean remove(@Nullable final E e) {
+        if (e == null) return this.containsNull.compareAndSet(true, false);
+
+        final int h = ReadableHashSet.spread(e.hashCode());
+        return this.segmentFor(h).remove(e, h);
+    }
+
+    /** Clears one segment at a time; elements added concurrently to cleared segments remain. */
+    @Override
+    public void clear() {
+        this.containsNull.set(false);
+        for (final Segment segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = this.containsNull.get() ? 1 : 0;
+        for (final Segment segment : this.segments) {
+            size += segment.count;
+        }
+
+        return size;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+
+        final ConcurrentWritableHashSet<?> that = (ConcurrentWritableHashSet<?>) o;
+        if (this.size() != that.size()) return false;
+
+        for (final ReadableIterator<E> iter = this.iterator(); iter.hasNext(); ) {
+            if (!that.contains(iter.next())) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Consistent with {@link ReadableHashSet#hashCode}. Recomputed on every call, since another
+     * thread may invalidate a cached value at any time.
+     */
+    @Override
+    public int hashCode() {
+        int sum = 0;
+        for (final Segment segment : this.segments) {
+            final AtomicReferenceArray<Object> table = segment.table;
+            for (int i = 0; i < table.length(); i++) {
+                final Object elem = table.get(i);
+                if (elem != null && elem != TOMBSTONE) {
+                    sum += elem.hashCode();
+                }
+            }
+        }
+
+        return (1 + sum) * (this.containsNull.get() ? 31 : 1);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (final ReadableIterator<E> iter = this.iterator(); iter.hasNext(); ) {
+            builder.append(iter.next());
+            if (iter.hasNext()) {
+                builder.append(", ");
+            }
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public WritableIterator<E> iterator() {
+        return new ConcurrentWritableHashSetIterator();
+    }
+
+    /**
+     * Wraps the weakly consistent {@link #iterator}. Since other threads may add or remove elements
+     * during traversal, the spliterator reports {@link Spliterator#CONCURRENT} instead of a size.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(
+                new ReadableIteratorAdapter<>(this.iterator()),
+                Spliterator.DISTINCT | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * A lock-guarded open-addressing table. Slots go from {@code null} to an element, and from an
+     * element to {@link #TOMBSTONE} (or back to an element), but never back to {@code null}: only a
+     * rehash into a freshly published table clears tombstones. Every table a reader can observe
+     * therefore keeps at least one {@code null} slot, so lock-free probes always terminate.
+     */
+    protected static final class Segment extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        /** Replaced whole under the lock; slots are written under the lock too. */
+        protected volatile AtomicReferenceArray<Object> table = new AtomicReferenceArray<>(0);
+
+        /** Only written under the lock, but read without it by {@link #size}. */
+        protected volatile int count = 0;
+
+        protected int tombstones = 0;
+
+        protected boolean contains(final Object e, final int h) {
+            final AtomicReferenceArray<Object> table = this.table;
+            final int mask = table.length() - 1;
+            if (mask < 0) return false;
+
+            for (int i = h & mask; ; i = (i + 1) & mask) {
+                final Object candidate = table.get(i);
+                if (candidate == null) return false;
+                if (candidate == e || (candidate != TOMBSTONE && e.equals(candidate))) return true;
+            }
+        }
+
+        protected boolean add(final Object e, final int h, final float loadFactor) {
+            this.lock();
+            try {
+                // rehash before probing, so that the table keeps a null slot after the insertion
+                if ((this.count + this.tombstones + 1) / (double) this.table.length()
+                        > loadFactor) {
+                    this.rehash(ReadableHashSet.capacityFor(this.count + 1, loadFactor));
+                }
+
+                final AtomicReferenceArray<Object> table = this.table;
+                final int mask = table.length() - 1;
+
+                int tombstone = -1;
+                int i = h & mask;
+                for (Object candidate; (candidate = table.get(i)) != null; i = (i + 1) & mask) {
+                    if (candidate == TOMBSTONE) {
+                        if (tombstone < 0) tombstone = i;
+                    } else if (candidate == e || e.equals(candidate)) {
+                        return false;
+                    }
+                }
+
+                if (tombstone >= 0) {
+                    i = tombstone;
+                    this.tombstones--;
+                }
+
+                table.set(i, e);
+                this.count++;
+                return true;
+            } finally {
+                this.unlock();
+            }
+        }
+
+        protected boolean remove(final Object e, final int h) {
+            this.lock();
+            try {
+                final AtomicReferenceArray<Object> table = this.table;
+                final int mask = table.length() - 1;
+                if (mask < 0) return false;
+
+                for (int i = h & mask; ; i = (i + 1) & mask) {
+                    final Object candidate = table.get(i);
+                    if (candidate == null) return false;
+                    if (candidate == e || (candidate != TOMBSTONE && e.equals(candidate))) {
+                        table.set(i, TOMBSTONE);
+                        this.tombstones++;
+                        this.count--;
+                        return true;
+                    }
+                }
+            } finally {
+                this.unlock();
+            }
+        }
+
+        protected void clear() {
+            this.lock();
+            try {
+                this.table = new AtomicReferenceArray<>(0);
+                this.tombstones = 0;
+                this.count = 0;
+            } finally {
+                this.unlock();
+            }
+        }
+
+        /**
+         * Copies every element into a new table of the given length, dropping tombstones, and
+         * publishes it. Must hold the lock.
+         */
+        protected void rehash(final int capacity) {
+            final AtomicReferenceArray<Object> oldTable = this.table;
+            final AtomicReferenceArray<Object> newTable = new AtomicReferenceArray<>(capacity);
+            final int mask = capacity - 1;
+
+            for (int j = 0; j < oldTable.length(); j++) {
+                final Object elem = oldTable.get(j);
+                if (elem == null || elem == TOMBSTONE) continue;
+
+                int i = ReadableHashSet.spread(elem.hashCode()) & mask;
+                while (newTable.getPlain(i) != null) {
+                    i = (i + 1) & mask;
+                }
+
+                // the volatile write of the table field below publishes these
+                newTable.setPlain(i, elem);
+            }
+
+            this.table = newTable;
+            this.tombstones = 0;
+        }
+    }
+
+    /**
+     * Traverses {@code null} (if contained) and then each segment's table as it was when the
+     * iterator reached that segment. Looks one element ahead, since {@link #size} cannot bound a
+     * traversal that other threads modify.
+     */
+    protected class ConcurrentWritableHashSetIterator implements WritableIterator<E> {
+        protected int segmentIndex = 0;
+        protected AtomicReferenceArray<Object> table = new AtomicReferenceArray<>(0);
+        protected int slot = 0;
+
+        protected boolean hasNextElem;
+        @Nullable protected E nextElem = null;
+
+        @Nullable protected E lastElem = null;
+        protected boolean canRemove = false;
+
+        protected ConcurrentWritableHashSetIterator() {
+            this.hasNextElem = ConcurrentWritableHashSet.this.containsNull.get();
+            if (!this.hasNextElem) {
+                this.advance();
+            }
+        }
+
+        /** Finds the next element in the tables, if any. */
+        protected void advance() {
+            final Segment[] segments = ConcurrentWritableHashSet.this.segments;
+            while (true) {
+                while (this.slot < this.table.length()) {
+                    final Object elem = this.table.get(this.slot++);
+                    if (elem != null && elem != TOMBSTONE) {
+                        //noinspection unchecked
+                        this.nextElem = (E) elem;
+                        this.hasNextElem = true;
+                        return;
+                    }
+                }
+
+                if (this.segmentIndex == segments.length) break;
+
+                this.table = segments[this.segmentIndex++].table;
+                this.slot = 0;
+            }
+
+            this.nextElem = null;
+            this.hasNextElem = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.hasNextElem;
+        }
+
+        @Nullable
+        @Override
+        public E next() throws IllegalStateException {
+            if (!this.hasNextElem) throw new IllegalStateException("No elements remaining");
+
+            this.lastElem = this.nextElem;
+            this.canRemove = true;
+            this.advance();
+
+            return this.lastElem;
+        }
+
+        /** Removes the last returned element, unless another thread already has. */
+        @Override
+        public void remove() throws IllegalStateException {
+            if (!this.canRemove) {
+                throw new IllegalStateException("No previously successful call to next()");
+            }
+
+            this.canRemove = false;
+            ConcurrentWritableHashSet.this.remove(this.lastElem);
+        }
+    }
+}
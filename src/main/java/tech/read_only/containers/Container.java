@@ -1,5 +1,11 @@
 package tech.read_only.containers;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import javax.annotation.Nullable;
 
 /**
@@ -17,6 +23,19 @@ public interface Container<E> extends Iteratable<E, ReadableIterator<E>> {
      */
     boolean contains(@Nullable final Object e);
 
+    /**
+     * Whether the element is contained, without counting as an access to it. Bulk operations test
+     * elements against another container through this method, so that they leave an access-ordered
+     * container's order untouched. The default implementation calls {@link #contains}; containers
+     * that record accesses override it.
+     *
+     * @param e The element to check
+     * @return {@code true} if this container holds {@code e}; {@code false} otherwise
+     */
+    default boolean containsQuietly(@Nullable final Object e) {
+        return this.contains(e);
+    }
+
     /**
      * Whether all elements of the other container are contained by this container. Does not check
      * the converse.
@@ -67,6 +86,41 @@ public interface Container<E> extends Iteratable<E, ReadableIterator<E>> {
         return (E[]) array;
     }
 
+    /**
+     * Performs an action for each element. The default implementation traverses {@link #iterator};
+     * implementations should override it with a loop straight over their storage. Unless this is a
+     * {@link ReadableList}, the elements may be visited in a different order than {@link
+     * #iterator}'s.
+     *
+     * @param action The action to perform on each element
+     */
+    default void forEach(final Consumer<? super E> action) {
+        this.iterator().forEachRemaining(action);
+    }
+
+    /**
+     * @return A {@link Spliterator} over this container's elements. The default implementation
+     *     wraps {@link #iterator}, and can only split off batches of elements by copying them;
+     *     implementations with indexable storage should override it.
+     */
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(
+                new ReadableIteratorAdapter<>(this.iterator()), this.size(), 0);
+    }
+
+    /** @return A sequential {@link Stream} over this container's {@link #spliterator} */
+    default Stream<E> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * @return A parallel {@link Stream} over this container's {@link #spliterator}, run in the
+     *     common {@link java.util.concurrent.ForkJoinPool}
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
     /**
      * Whether this container is equal to another. Must be false if {@link #containsAll} is false,
      * if {@link #size} is not equal, or if the containers are not of the same class. Subtypes may
@@ -0,0 +1,113 @@
+package tech.read_only.containers;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * A count-min sketch of how often elements were seen recently, for {@link BoundedWritableHashSet}'s
+ * W-TinyLFU admission policy.
+ *
+ * <p>Each element has a 4-bit counter in each of four rows, and its estimated frequency is the
+ * smallest of them, so unrelated elements sharing one counter only inflate an estimate if they
+ * share all four. The counters are packed sixteen to a {@code long}, with each row using four of
+ * them, so the sketch takes eight to sixteen bytes per element of the set's maximum size. Once it
+ * has counted ten increments per element of that size, every counter is halved: frequencies decay,
+ * and an element that used to be popular cannot keep newly popular ones out forever.
+ */
+final class FrequencySketch {
+    private static final int ROWS = 4;
+
+    private static final int MAX_COUNT = 15;
+
+    /** Clears the bit each 4-bit counter receives from its neighbour when a word shifts right. */
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+    /** Multiply an element's spread hash code once per row, so that each row places it apart. */
+    private static final long[] ROW_SEEDS = {
+        0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L
+    };
+
+    private final long[] table;
+
+    /** The number of increments after which every counter is halved. */
+    private final int sampleSize;
+
+    private int increments = 0;
+
+    /** @param maximumSize The number of elements whose frequencies should be told apart */
+    FrequencySketch(final int maximumSize) {
+        this.table = new long[ReadableHashSet.ceilingPowerOfTwo(maximumSize)];
+        this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+    }
+
+    /** @return The spread hash code of an element, computed once for all rows */
+    private static int spread(@Nullable final Object e) {
+        return ReadableHashSet.spread(e == null ? 0 : e.hashCode());
+    }
+
+    /** @return The hash placing an element with the given spread hash code in a row */
+    private static int rowHash(final int spread, final int row) {
+        long h = (spread + ROW_SEEDS[row]) * ROW_SEEDS[row];
+        h += h >>> 32;
+        return (int) h;
+    }
+
+    /** @return The word of {@link #table} holding the counter a row hash selects */
+    private int wordOf(final int rowHash) {
+        return (rowHash >>> 2) & (this.table.length - 1);
+    }
+
+    /** @return How far the counter a row hash selects is shifted within its word */
+    private static int shiftOf(final int rowHash, final int row) {
+        return ((row << 2) | (rowHash & 3)) << 2;
+    }
+
+    /** @return An estimate of how often {@code e} was seen, from 0 to 15 */
+    int frequency(@Nullable final Object e) {
+        final int spread = spread(e);
+
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < ROWS; row++) {
+            final int h = rowHash(spread, row);
+            final int count = (int) (this.table[this.wordOf(h)] >>> shiftOf(h, row)) & MAX_COUNT;
+            frequency = Math.min(frequency, count);
+        }
+
+        return frequency;
+    }
+
+    /** Records a sighting of {@code e}, halving every counter once enough have been recorded. */
+    void increment(@Nullable final Object e) {
+        final int spread = spread(e);
+
+        boolean incremented = false;
+        for (int row = 0; row < ROWS; row++) {
+            final int h = rowHash(spread, row);
+            final int word = this.wordOf(h);
+            final int shift = shiftOf(h, row);
+
+            if (((this.table[word] >>> shift) & MAX_COUNT) != MAX_COUNT) {
+                this.table[word] += 1L << shift;
+                incremented = true;
+            }
+        }
+
+        if (incremented && ++this.increments == this.sampleSize) {
+            this.halve();
+        }
+    }
+
+    private void halve() {
+        for (int i = 0; i < this.table.length; i++) {
+            this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+        }
+        this.increments /= 2;
+    }
+
+    /** Forgets every sighting. */
+    void clear() {
+        Arrays.fill(this.table, 0L);
+        this.increments = 0;
+    }
+}
@@ -0,0 +1,103 @@
+package tech.read_only.containers;
+
+import java.util.Arrays;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.Nullable;
+
+/** The predefined {@link HashingStrategy} instances. */
+final class HashingStrategies {
+    static final HashingStrategy<Object> NATURAL =
+            new HashingStrategy<Object>() {
+                @Override
+                public int hash(final Object e) {
+                    return e.hashCode();
+                }
+
+                @Override
+                public boolean equivalent(final Object a, final Object b) {
+                    return a.equals(b);
+                }
+
+                @Override
+                public String toString() {
+                    return "HashingStrategy.natural()";
+                }
+            };
+
+    static final HashingStrategy<Object> IDENTITY =
+            new HashingStrategy<Object>() {
+                @Override
+                public int hash(final Object e) {
+                    return System.identityHashCode(e);
+                }
+
+                @Override
+                public boolean equivalent(final Object a, final Object b) {
+                    return a == b;
+                }
+
+                @Override
+                public String toString() {
+                    return "HashingStrategy.identity()";
+                }
+            };
+
+    static final HashingStrategy<byte[]> BYTE_ARRAYS =
+            new HashingStrategy<byte[]>() {
+                @Override
+                public int hash(final byte[] e) {
+                    return Arrays.hashCode(e);
+                }
+
+                @Override
+                public boolean equivalent(final byte[] a, final byte[] b) {
+                    return Arrays.equals(a, b);
+                }
+
+                @Override
+                public boolean accepts(final Object e) {
+                    return e instanceof byte[];
+                }
+
+                @Override
+                public String toString() {
+                    return "HashingStrategy.byteArrays()";
+                }
+            };
+
+    private HashingStrategies() {}
+
+    static final class Custom<E> implements HashingStrategy<E> {
+        /** The class of the accepted elements, or {@code null} to accept every element. */
+        @Nullable private final Class<E> type;
+
+        private final ToIntFunction<? super E> hash;
+        private final BiPredicate<? super E, ? super E> equivalent;
+
+        Custom(
+                @Nullable final Class<E> type,
+                final ToIntFunction<? super E> hash,
+                final BiPredicate<? super E, ? super E> equivalent) {
+            this.type = type;
+            this.hash = hash;
+            this.equivalent = equivalent;
+        }
+
+        @Override
+        public int hash(final E e) {
+            return this.hash.applyAsInt(e);
+        }
+
+        @Override
+        public boolean equivalent(final E a, final E b) {
+            return this.equivalent.test(a, b);
+        }
+
+        @Override
+        public boolean accepts(final Object e) {
+            return this.type == null || this.type.isInstance(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package tech.read_only.containers;
+
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Decides which elements a {@link ReadableHashSet} considers equal, in place of the elements' own
+ * {@code hashCode} and {@code equals}. Hash sets store each element's hash next to it, so a
+ * strategy hashes an element once when it is added or looked up, and is never asked to hash it
+ * again when the table grows, nor to compare elements whose hashes differ.
+ *
+ * <p>Sets are only equal to sets using the same strategy instance, so a custom strategy should be
+ * created once and shared.
+ *
+ * <p>Lookups such as {@code contains(Object)} may pass elements of any type. Sets report that they
+ * do not contain an element the strategy does not {@link #accepts accept}, without hashing it. A
+ * strategy over a narrower type should therefore know its type, so that a {@link
+ * ClassCastException} from {@link #hash} or {@link #equivalent} always signals a bug.
+ */
+public interface HashingStrategy<E> {
+    /**
+     * @param e Never {@code null}
+     * @return A hash consistent with {@link #equivalent}
+     */
+    int hash(E e);
+
+    /**
+     * @param a Never {@code null}
+     * @param b Never {@code null}
+     * @return {@code true} if a set should hold at most one of {@code a} and {@code b}
+     */
+    boolean equivalent(E a, E b);
+
+    /**
+     * @param e Never {@code null}, and of any type
+     * @return Whether {@code e} is of a type this strategy can hash. The default implementation
+     *     accepts every element.
+     */
+    default boolean accepts(final Object e) {
+        return true;
+    }
+
+    /** @return The strategy of {@code Object.hashCode} and {@code Object.equals}; the default */
+    static <E> HashingStrategy<E> natural() {
+        //noinspection unchecked
+        return (HashingStrategy<E>) HashingStrategies.NATURAL;
+    }
+
+    /**
+     * @return The strategy of reference equality and {@link System#identityHashCode}, for elements
+     *     whose own {@code equals} is either too expensive or too lenient
+     */
+    static <E> HashingStrategy<E> identity() {
+        //noinspection unchecked
+        return (HashingStrategy<E>) HashingStrategies.IDENTITY;
+    }
+
+    /**
+     * @return The strategy of {@link java.util.Arrays#hashCode(byte[])} and its {@code equals},
+     *     which only accepts {@code byte[]} elements
+     */
+    static HashingStrategy<byte[]> byteArrays() {
+        return HashingStrategies.BYTE_ARRAYS;
+    }
+
+    /**
+     * Combines a hash function and an equivalence into a strategy. For elements that already carry
+     * a precomputed hash, {@code hash} can simply return it.
+     *
+     * @param hash Must return equal hashes for equivalent elements
+     * @param equivalent Must be reflexive, symmetric and transitive
+     */
+    static <E> HashingStrategy<E> of(
+            final ToIntFunction<? super E> hash,
+            final BiPredicate<? super E, ? super E> equivalent) {
+        return new HashingStrategies.Custom<>(null, hash, equivalent);
+    }
+
+    /**
+     * Like {@link #of(ToIntFunction, BiPredicate)}, but only accepts elements of {@code type}, so
+     * that lookups of other elements never reach {@code hash}.
+     *
+     * @param type The class of the elements the strategy hashes
+     */
+    static <E> HashingStrategy<E> of(
+            final Class<E> type,
+            final ToIntFunction<? super E> hash,
+            final BiPredicate<? super E, ? super E> equivalent) {
+        return new HashingStrategies.Custom<>(type, hash, equivalent);
+    }
+}
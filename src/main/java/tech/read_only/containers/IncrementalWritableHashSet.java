@@ -0,0 +1,371 @@
+package tech.read_only.containers;
+
+import java.util.Spliterator;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link WritableHashSet} that spreads the cost of growing its table over subsequent operations
+ * instead of rehashing every element at once.
+ *
+ * <p>When the load factor is exceeded, the full table is kept alongside a new, larger one. New
+ * elements only ever go into the new table, and each {@link #add} or {@link #remove} first moves
+ * the elements from at most {@link #migrationStep} slots of the old table across. Lookups and
+ * iteration check both tables until the migration is complete. No single operation therefore
+ * touches more than {@link #migrationStep} old slots, regardless of the set's size.
+ */
+public class IncrementalWritableHashSet<E> extends WritableHashSet<E> {
+    protected static final int DEFAULT_MIGRATION_STEP = 8;
+
+    /**
+     * Marks old-table slots whose element has been migrated or removed. Unlike {@code null} it does
+     * not terminate probes, so elements further along the same probe run stay reachable.
+     */
+    protected static final Object MOVED = new Object();
+
+    /**
+     * The maximum number of old-table slots migrated per operation. Must be at least 2, so that the
+     * migration always finishes before the new table reaches its own load factor.
+     */
+    protected final int migrationStep = DEFAULT_MIGRATION_STEP;
+
+    /** The table being migrated away from, or {@code null} if no migration is in progress. */
+    @Nullable protected Object[] oldHashtable = null;
+
+    /** The hashes of {@link #oldHashtable}'s elements, or {@code null} along with it. */
+    @Nullable protected int[] oldHashes = null;
+
+    /** Every old-table slot below this index has been migrated. */
+    protected int migratedSlots = 0;
+
+    public IncrementalWritableHashSet() {
+        super();
+    }
+
+    public IncrementalWritableHashSet(@Nullable final E e) {
+        super(e);
+    }
+
+    @SafeVarargs
+    public IncrementalWritableHashSet(final E... elems) {
+        super(elems);
+    }
+
+    public IncrementalWritableHashSet(final Container<E> other) {
+        super(other);
+    }
+
+    /** @param strategy Decides which elements are equal, in place of their own {@code equals} */
+    public IncrementalWritableHashSet(
+            @Nullable final Container<E> other, final HashingStrategy<? super E> strategy) {
+        super(other, strategy);
+    }
+
+    /** @return {@code true} if elements are still being moved out of an old table */
+    public boolean isResizing() {
+        return this.oldHashtable != null;
+    }
+
+    /** Every element keeps a slot, since migration moves elements slot by slot. */
+    @Override
+    protected boolean spillsCollisions() {
+        return false;
+    }
+
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        if (e == null || this.oldHashtable == null) return super.contains(e);
+
+        if (!this.accepts(e)) return false;
+
+        final int hash = this.hash(e);
+        return this.findSlot(this.hashtable, this.hashes, e, hash) >= 0
+                || this.findOldSlot(e, hash) >= 0;
+    }
+
+    @Override
+    protected boolean addHashed(final E e, final int hash) {
+        if (this.oldHashtable == null) return super.addHashed(e, hash);
+
+        this.migrate(this.migrationStep);
+        if (this.oldHashtable != null && this.findOldSlot(e, hash) >= 0) return false;
+
+        return super.addHashed(e, hash);
+    }
+
+    @Override
+    protected boolean removeHashed(final E e, final int hash) {
+        if (this.oldHashtable == null) return super.removeHashed(e, hash);
+
+        this.migrate(this.migrationStep);
+        if (super.removeHashed(e, hash)) return true;
+        if (this.oldHashtable == null) return false;
+
+        final int slot = this.findOldSlot(e, hash);
+        if (slot < 0) return false;
+
+        this.removeFromOldTable(slot);
+        return true;
+    }
+
+    /**
+     * Probes the old table like {@link #findSlot}, skipping {@link #MOVED} slots, whose stored
+     * hashes are stale.
+     *
+     * @return The old-table slot holding {@code e} if present; otherwise a negative number
+     */
+    protected int findOldSlot(final Object e, final int hash) {
+        final Object[] old = this.oldHashtable;
+        final int[] oldHashes = this.oldHashes;
+        //noinspection ConstantConditions
+        final int mask = old.length - 1;
+        for (int i = this.homeSlot(old, hash); ; i = (i + 1) & mask) {
+            final Object candidate = old[i];
+            if (candidate == null) return ~i;
+            if (candidate == MOVED) continue;
+            //noinspection ConstantConditions
+            if (candidate == e || (oldHashes[i] == hash && this.equivalent(e, candidate))) {
+                return i;
+            }
+        }
+    }
+
+    protected void removeFromOldTable(final int slot) {
+        //noinspection ConstantConditions
+        this.hashSum -= this.oldHashes[slot];
+        this.oldHashtable[slot] = MOVED;
+        this.size--;
+        this.modCount++;
+    }
+
+    /** Starts a migration to a larger table, finishing any migration already in progress. */
+    @Override
+    protected void resize() {
+        if (this.hashtable.length == 0) {
+            super.resize();
+            return;
+        }
+
+        this.completeMigration();
+
+        // migration marks old slots as moved, which a snapshot sharing the table must not see
+        this.unshareHashtable();
+        this.oldHashtable = this.hashtable;
+        this.oldHashes = this.hashes;
+        this.migratedSlots = 0;
+        this.hashtable = new Object[this.grownCapacity()];
+        this.hashes = new int[this.hashtable.length];
+        this.modCount++;
+    }
+
+    /**
+     * Moves the elements from up to {@code maxSlots} old-table slots into the current table, and
+     * drops the old table once every slot has been migrated.
+     */
+    protected void migrate(final int maxSlots) {
+        final Object[] old = this.oldHashtable;
+        final int[] oldHashes = this.oldHashes;
+        if (old == null) return;
+
+        // moving elements between tables disturbs iterators, just like rehashing
+        this.modCount++;
+        final int end = (int) Math.min(old.length, (long) this.migratedSlots + maxSlots);
+        for (; this.migratedSlots < end; this.migratedSlots++) {
+            final Object elem = old[this.migratedSlots];
+            if (elem != null && elem != MOVED) {
+                //noinspection ConstantConditions
+                this.addToTable(this.hashtable, this.hashes, elem, oldHashes[this.migratedSlots]);
+                old[this.migratedSlots] = MOVED;
+            }
+        }
+
+        if (this.migratedSlots == old.length) {
+            this.oldHashtable = null;
+            this.oldHashes = null;
+        }
+    }
+
+    protected void completeMigration() {
+        if (this.oldHashtable != null) {
+            this.migrate(this.oldHashtable.length);
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.oldHashtable = null;
+        this.oldHashes = null;
+        this.migratedSlots = 0;
+    }
+
+    /** Completes any migration in progress first, so only then takes constant time. */
+    @Override
+    public ReadableHashSet<E> snapshot() {
+        this.completeMigration();
+        return super.snapshot();
+    }
+
+    /**
+     * Adds the elements one by one, without growing the table up front: a bulk rehash would break
+     * the bound on the slots any single operation touches.
+     */
+    @Override
+    public boolean addAll(final Container<? extends E> other) {
+        if (other == this) return false;
+
+        boolean changed = false;
+        for (final Object elem : other.toArray()) {
+            //noinspection unchecked
+            changed |= this.add((E) elem);
+        }
+
+        return changed;
+    }
+
+    /** Completes any migration in progress first, and then rehashes all elements at once. */
+    @Override
+    public void ensureCapacity(final int expectedSize) {
+        this.completeMigration();
+        super.ensureCapacity(expectedSize);
+    }
+
+    /** Completes any migration in progress first, and then rehashes all elements at once. */
+    @Override
+    public void trimToSize() {
+        this.completeMigration();
+        super.trimToSize();
+    }
+
+    /** Completes any migration in progress first, so that all elements are in one table. */
+    @Override
+    public void forEach(final Consumer<? super E> action) {
+        this.completeMigration();
+        super.forEach(action);
+    }
+
+    /** Completes any migration in progress first, so that all elements are in one table. */
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        this.completeMigration();
+        return super.removeIf(filter);
+    }
+
+    /** Completes any migration in progress first, so that all elements are in one table. */
+    @Override
+    public Spliterator<E> spliterator() {
+        this.completeMigration();
+        return super.spliterator();
+    }
+
+    /** Also tests the unmigrated part of the old table, rather than moving it across. */
+    @Override
+    protected boolean allNonNullMatch(final Predicate<Object> test) {
+        final Object[] old = this.oldHashtable;
+        if (old != null) {
+            for (int i = this.migratedSlots; i < old.length; i++) {
+                final Object elem = old[i];
+                if (elem != null && elem != MOVED && !test.test(elem)) return false;
+            }
+        }
+
+        return super.allNonNullMatch(test);
+    }
+
+    /** Reads both tables, so that it neither advances the migration nor disturbs iterators. */
+    @Override
+    public boolean equals(final Object o) {
+        return super.equals(o);
+    }
+
+    /** Takes constant time during a migration too, since {@link #hashSum} spans both tables. */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /** Lists the unmigrated part of the old table first, without advancing the migration. */
+    @Override
+    public String toString() {
+        final Object[] old = this.oldHashtable;
+        if (old == null) return super.toString();
+
+        final StringJoiner joiner = new StringJoiner(", ");
+        if (this.containsNull) {
+            joiner.add("null");
+        }
+        for (int i = this.migratedSlots; i < old.length; i++) {
+            if (old[i] != null && old[i] != MOVED) {
+                joiner.add(old[i].toString());
+            }
+        }
+        for (final Object elem : this.hashtable) {
+            if (elem != null) {
+                joiner.add(elem.toString());
+            }
+        }
+
+        return joiner.toString();
+    }
+
+    @Override
+    public WritableIterator<E> iterator() {
+        return new IncrementalWritableHashSetIterator();
+    }
+
+    /**
+     * Traverses the unmigrated part of the old table before the current table. Removal through the
+     * iterator never advances the migration, so elements cannot move between the two tables
+     * mid-traversal.
+     */
+    protected class IncrementalWritableHashSetIterator extends WritableHashSetIterator {
+        protected int oldSlot = IncrementalWritableHashSet.this.migratedSlots;
+        protected boolean lastInOldTable = false;
+
+        @Override
+        protected E nextInTable() {
+            final Object[] old = IncrementalWritableHashSet.this.oldHashtable;
+            if (old != null) {
+                while (this.oldSlot < old.length) {
+                    final Object elem = old[this.oldSlot++];
+                    if (elem != null && elem != MOVED) {
+                        this.lastSlot = this.oldSlot - 1;
+                        this.lastInOldTable = true;
+
+                        //noinspection unchecked
+                        return (E) elem;
+                    }
+                }
+            }
+
+            this.lastInOldTable = false;
+            return super.nextInTable();
+        }
+
+        /** Steps through {@link #nextInTable}, since the elements may span both tables. */
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            while (this.hasNext()) {
+                action.accept(this.next());
+            }
+        }
+
+        @Override
+        public void remove() throws IllegalStateException {
+            if (!this.canRemove || !this.lastInOldTable || this.lastSlot < 0) {
+                super.remove();
+                return;
+            }
+
+            this.checkForComodification();
+
+            this.canRemove = false;
+            this.currIndex--;
+            IncrementalWritableHashSet.this.removeFromOldTable(this.lastSlot);
+            this.expectedModCount = IncrementalWritableHashSet.this.modCount;
+        }
+    }
+}
@@ -0,0 +1,528 @@
+package tech.read_only.containers;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link WritableHashSet} that iterates in insertion order, or optionally in access order (least
+ * recently used first), regardless of how its table is laid out.
+ *
+ * <p>The order is kept in two {@code int} arrays parallel to the table, linking each occupied slot
+ * to the slots of the elements before and after it, so no per-element node objects are allocated.
+ * The arrays have one extra index past the table's slots, which stands for the {@code null}
+ * element. Backward-shift deletion relinks every element it moves, and rehashing reinserts the
+ * elements in link order, so adding, removing and looking up an element still take constant time,
+ * and iteration only ever visits live elements.
+ */
+public class LinkedWritableHashSet<E> extends WritableHashSet<E> {
+    /**
+     * Links that lead nowhere: the {@link #before} of the first, and {@link #after} of the last.
+     */
+    protected static final int NONE = -1;
+
+    /** Whether a successful {@link #contains} or repeated {@link #add} moves an element last. */
+    protected final boolean accessOrder;
+
+    /** The entry preceding each entry, indexed like {@link #hashtable}; see {@link #nullEntry}. */
+    protected int[] before;
+
+    /** The entry following each entry, indexed like {@link #hashtable}; see {@link #nullEntry}. */
+    protected int[] after;
+
+    /** The first entry in iteration order, or {@link #NONE} if the set is empty. */
+    protected int head = NONE;
+
+    /** The last entry in iteration order, or {@link #NONE} if the set is empty. */
+    protected int tail = NONE;
+
+    public LinkedWritableHashSet() {
+        super();
+        this.accessOrder = false;
+        this.before = new int[] {NONE};
+        this.after = new int[] {NONE};
+    }
+
+    public LinkedWritableHashSet(@Nullable final E e) {
+        this();
+        this.add(e);
+    }
+
+    @SafeVarargs
+    public LinkedWritableHashSet(final E... elems) {
+        this();
+        this.ensureCapacity(elems.length);
+        for (final E elem : elems) {
+            this.add(elem);
+        }
+    }
+
+    public LinkedWritableHashSet(@Nullable final Container<E> other) {
+        this();
+        if (other != null) {
+            this.addAll(other);
+        }
+    }
+
+    /** @param strategy Decides which elements are equal, in place of their own {@code equals} */
+    public LinkedWritableHashSet(
+            @Nullable final Container<E> other, final HashingStrategy<? super E> strategy) {
+        this(0, DEFAULT_MAX_LOAD_FACTOR, DEFAULT_GROWTH_FACTOR, DEFAULT_FAIL_FAST, strategy, false);
+        if (other != null) {
+            this.addAll(other);
+        }
+    }
+
+    protected LinkedWritableHashSet(
+            final int expectedSize,
+            final float loadFactor,
+            final float growthFactor,
+            final boolean failFast,
+            final HashingStrategy<? super E> strategy,
+            final boolean accessOrder) {
+        super(expectedSize, loadFactor, growthFactor, failFast, strategy);
+        this.accessOrder = accessOrder;
+        this.before = new int[this.hashtable.length + 1];
+        this.after = new int[this.hashtable.length + 1];
+    }
+
+    /**
+     * @return A builder for sets with a given expected size, load factor, growth factor, hashing
+     *     strategy or order
+     */
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /** Configures a new {@link LinkedWritableHashSet}; see {@link WritableHashSet.Builder}. */
+    public static class Builder<E> extends WritableHashSet.Builder<E> {
+        protected boolean accessOrder = false;
+
+        protected Builder() {}
+
+        @Override
+        public Builder<E> expectedSize(final int expectedSize) throws IllegalArgumentException {
+            super.expectedSize(expectedSize);
+            return this;
+        }
+
+        @Override
+        public Builder<E> loadFactor(final float loadFactor) throws IllegalArgumentException {
+            super.loadFactor(loadFactor);
+            return this;
+        }
+
+        @Override
+        public Builder<E> growthFactor(final float growthFactor) throws IllegalArgumentException {
+            super.growthFactor(growthFactor);
+            return this;
+        }
+
+        @Override
+        public Builder<E> failFast(final boolean failFast) {
+            super.failFast(failFast);
+            return this;
+        }
+
+        @Override
+        public Builder<E> hashingStrategy(final HashingStrategy<? super E> hashingStrategy) {
+            super.hashingStrategy(hashingStrategy);
+            return this;
+        }
+
+        /**
+         * @param accessOrder Whether to iterate from the least to the most recently added or found
+         *     element, instead of in insertion order
+         */
+        public Builder<E> accessOrder(final boolean accessOrder) {
+            this.accessOrder = accessOrder;
+            return this;
+        }
+
+        @Override
+        public LinkedWritableHashSet<E> build() {
+            return new LinkedWritableHashSet<>(
+                    this.expectedSize,
+                    this.loadFactor,
+                    this.growthFactor,
+                    this.failFast,
+                    this.hashingStrategy,
+                    this.accessOrder);
+        }
+    }
+
+    /** @return The index of the links of the {@code null} element, just past the table's slots */
+    protected int nullEntry() {
+        return this.hashtable.length;
+    }
+
+    /** Links an entry after the current {@link #tail}. */
+    protected void linkLast(final int entry) {
+        this.before[entry] = this.tail;
+        this.after[entry] = NONE;
+        if (this.tail == NONE) {
+            this.head = entry;
+        } else {
+            this.after[this.tail] = entry;
+        }
+        this.tail = entry;
+    }
+
+    /** Joins an entry's neighbours to each other, leaving the entry's own links stale. */
+    protected void unlink(final int entry) {
+        final int prev = this.before[entry];
+        final int next = this.after[entry];
+
+        if (prev == NONE) {
+            this.head = next;
+        } else {
+            this.after[prev] = next;
+        }
+        if (next == NONE) {
+            this.tail = prev;
+        } else {
+            this.before[next] = prev;
+        }
+    }
+
+    /** Makes an entry the {@link #tail}, as an access does in access order. */
+    protected void moveToTail(final int entry) {
+        if (entry == this.tail) return;
+
+        this.unlink(entry);
+        this.linkLast(entry);
+        this.modCount++;
+    }
+
+    /**
+     * Moves the links of an element that moved from slot {@code from} to the empty slot {@code to}.
+     */
+    protected void relink(final int from, final int to) {
+        final int prev = this.before[from];
+        final int next = this.after[from];
+        this.before[to] = prev;
+        this.after[to] = next;
+
+        if (prev == NONE) {
+            this.head = to;
+        } else {
+            this.after[prev] = to;
+        }
+        if (next == NONE) {
+            this.tail = to;
+        } else {
+            this.before[next] = to;
+        }
+    }
+
+    /** Every element keeps a slot, since the order is linked through the slots. */
+    @Override
+    protected boolean spillsCollisions() {
+        return false;
+    }
+
+    /** In access order, moves a contained element last. */
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        if (!this.accessOrder) return super.contains(e);
+
+        if (e == null) {
+            if (this.containsNull) {
+                this.moveToTail(this.nullEntry());
+            }
+
+            return this.containsNull;
+        }
+        if (this.hashtable.length == 0 || !this.accepts(e)) return false;
+
+        final int slot = this.findSlot(this.hashtable, this.hashes, e, this.hash(e));
+        if (slot < 0) return false;
+
+        this.moveToTail(slot);
+        return true;
+    }
+
+    /** @return Whether the set contains {@code e}, without moving it last even in access order */
+    @Override
+    public boolean containsQuietly(@Nullable final Object e) {
+        return super.contains(e);
+    }
+
+    /** Adds a new element last. In access order, also moves an already contained element last. */
+    @Override
+    public boolean add(@Nullable final E e) {
+        if (e != null) return super.add(e);
+
+        if (this.containsNull) {
+            if (this.accessOrder) {
+                this.moveToTail(this.nullEntry());
+            }
+
+            return false;
+        }
+
+        super.add(null);
+        this.linkLast(this.nullEntry());
+        return true;
+    }
+
+    @Override
+    protected void addedAgain(final int slot) {
+        if (this.accessOrder) {
+            this.moveToTail(slot);
+        }
+    }
+
+    @Override
+    protected void insertAt(final int slot, final E e, final int hash) {
+        super.insertAt(slot, e, hash);
+        this.linkLast(slot);
+    }
+
+    @Override
+    public boolean remove(@Nullable final E e) {
+        if (e != null) return super.remove(e);
+        if (!this.containsNull) return false;
+
+        this.unlink(this.nullEntry());
+        return super.remove(null);
+    }
+
+    /**
+     * Removes the first element in iteration order, which in access order is the least recently
+     * used one, without probing for it.
+     *
+     * @return The removed element
+     * @throws IllegalStateException if the set is empty
+     */
+    @Nullable
+    public E removeFirst() throws IllegalStateException {
+        if (this.head == NONE) throw new IllegalStateException("No elements remaining");
+        if (this.head == this.nullEntry()) {
+            this.remove(null);
+            return null;
+        }
+
+        final int slot = this.head;
+        final E first = this.elementAt(slot);
+        this.unshareHashtable();
+        this.hashSum -= this.hashes[slot];
+        this.removeFromTable(this.hashtable, this.hashes, slot);
+        this.size--;
+        this.modCount++;
+
+        return first;
+    }
+
+    /** Unlinks the emptied slot, and relinks every element shifted backwards into a gap. */
+    @Override
+    protected void removeFromTable(final Object[] table, final int[] hashes, final int slot) {
+        this.unlink(slot);
+
+        final int mask = table.length - 1;
+
+        int gap = slot;
+        for (int i = (gap + 1) & mask; table[i] != null; i = (i + 1) & mask) {
+            final int home = this.homeSlot(table, hashes[i]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                table[gap] = table[i];
+                hashes[gap] = hashes[i];
+                this.relink(i, gap);
+                gap = i;
+            }
+        }
+
+        table[gap] = null;
+    }
+
+    /**
+     * Moves every element into a new table in slot order, like {@link WritableHashSet#rehash}, and
+     * then translates the links through a map from old slots to new ones, so that both passes read
+     * the old arrays sequentially.
+     */
+    @Override
+    protected void rehash(final int capacity) {
+        final Object[] newHashtable = new Object[capacity];
+        final int[] newHashes = new int[capacity];
+        final int[] newSlots = new int[this.hashtable.length + 1];
+        final int mask = capacity - 1;
+
+        for (int i = 0; i < this.hashtable.length; i++) {
+            final Object elem = this.hashtable[i];
+            if (elem == null) continue;
+
+            int slot = this.homeSlot(newHashtable, this.hashes[i]);
+            while (newHashtable[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+
+            newHashtable[slot] = elem;
+            newHashes[slot] = this.hashes[i];
+            newSlots[i] = slot;
+        }
+        newSlots[this.nullEntry()] = capacity;
+
+        final int[] newBefore = new int[capacity + 1];
+        final int[] newAfter = new int[capacity + 1];
+        for (int i = 0; i < newSlots.length; i++) {
+            if (i == this.nullEntry() ? this.containsNull : this.hashtable[i] != null) {
+                final int prev = this.before[i];
+                final int next = this.after[i];
+                newBefore[newSlots[i]] = prev == NONE ? NONE : newSlots[prev];
+                newAfter[newSlots[i]] = next == NONE ? NONE : newSlots[next];
+            }
+        }
+
+        if (this.head != NONE) {
+            this.head = newSlots[this.head];
+            this.tail = newSlots[this.tail];
+        }
+        this.hashtable = newHashtable;
+        this.hashes = newHashes;
+        this.before = newBefore;
+        this.after = newAfter;
+        this.hashtableShared = false;
+        this.modCount++;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        final boolean removedNull = this.containsNull && filter.test(null) && this.remove(null);
+        return super.removeIf(e -> e != null && filter.test(e)) || removedNull;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.head = NONE;
+        this.tail = NONE;
+    }
+
+    /**
+     * Shares this set's table in constant time, but is a plain {@link ReadableHashSet}, so it does
+     * not keep this set's order. Copy this set into a new {@link LinkedWritableHashSet} instead for
+     * an ordered copy.
+     */
+    @Override
+    public ReadableHashSet<E> snapshot() {
+        return super.snapshot();
+    }
+
+    /** @return The element an entry links, which is {@code null} for {@link #nullEntry} */
+    @Nullable
+    protected E elementAt(final int entry) {
+        //noinspection unchecked
+        return entry == this.nullEntry() ? null : (E) this.hashtable[entry];
+    }
+
+    /** Visits the elements in order. */
+    @Override
+    public void forEach(final Consumer<? super E> action) {
+        for (int entry = this.head; entry != NONE; entry = this.after[entry]) {
+            action.accept(this.elementAt(entry));
+        }
+    }
+
+    /** Traverses in order, which leaves no table slot ranges to split along. */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(
+                new ReadableIteratorAdapter<>(this.iterator()),
+                this.size(),
+                Spliterator.DISTINCT
+                        | Spliterator.ORDERED
+                        | (this.containsNull ? 0 : Spliterator.NONNULL));
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ");
+        this.forEach(elem -> joiner.add(String.valueOf(elem)));
+
+        return joiner.toString();
+    }
+
+    @Override
+    public WritableIterator<E> iterator() {
+        return new LinkedWritableHashSetIterator();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /** Follows the links from {@link #head}, visiting only live elements. */
+    protected class LinkedWritableHashSetIterator implements WritableIterator<E> {
+        protected final boolean failFast = LinkedWritableHashSet.this.failFast;
+        protected int expectedModCount = LinkedWritableHashSet.this.modCount;
+        protected int nextEntry = LinkedWritableHashSet.this.head;
+        protected int lastEntry = NONE;
+
+        /**
+         * @throws ConcurrentModificationException if the set was modified other than through this
+         *     iterator
+         */
+        protected void checkForComodification() throws ConcurrentModificationException {
+            if (this.failFast && LinkedWritableHashSet.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.nextEntry != NONE;
+        }
+
+        @Nullable
+        @Override
+        public E next() throws IllegalStateException, ConcurrentModificationException {
+            this.checkForComodification();
+            if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
+
+            this.lastEntry = this.nextEntry;
+            this.nextEntry = LinkedWritableHashSet.this.after[this.nextEntry];
+            return LinkedWritableHashSet.this.elementAt(this.lastEntry);
+        }
+
+        @Override
+        public void remove() throws IllegalStateException, ConcurrentModificationException {
+            if (this.lastEntry == NONE) {
+                throw new IllegalStateException("No previously successful call to next()");
+            }
+            this.checkForComodification();
+
+            final LinkedWritableHashSet<E> set = LinkedWritableHashSet.this;
+            if (this.lastEntry == set.nullEntry()) {
+                set.remove(null);
+            } else {
+                // backward-shift deletion may move the next element into an earlier slot
+                final Object next =
+                        this.nextEntry == NONE || this.nextEntry == set.nullEntry()
+                                ? null
+                                : set.hashtable[this.nextEntry];
+                final int nextHash = next == null ? 0 : set.hashes[this.nextEntry];
+
+                //noinspection unchecked
+                set.removeHashed((E) set.hashtable[this.lastEntry], set.hashes[this.lastEntry]);
+
+                if (next != null && set.hashtable[this.nextEntry] != next) {
+                    this.nextEntry = set.findSlot(set.hashtable, set.hashes, next, nextHash);
+                }
+            }
+
+            this.lastEntry = NONE;
+            this.expectedModCount = set.modCount;
+        }
+    }
+}
@@ -0,0 +1,599 @@
+package tech.read_only.containers;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable {@link ReadableSet} whose modified copies share structure with the original.
+ *
+ * <p>Elements are stored in a compressed hash-array mapped prefix trie (CHAMP): each node consumes
+ * 5 bits of the element's spread hash code and keeps its elements and its child nodes in one
+ * compact array, indexed through two bitmaps. {@link #plus} and {@link #minus} copy only the nodes
+ * on one root-to-leaf path, so each new version costs O(log<sub>32</sub> n). Removal keeps the trie
+ * in a canonical shape, so equal sets always have equal tries, and {@link #equals} can skip any
+ * subtrees the two sets share.
+ *
+ * <p>The hash code is kept up to date with every version instead of being recomputed. For bulk
+ * loads, {@link #toTransient} returns a {@link Transient} that edits the nodes it has already
+ * copied in place.
+ */
+public class PersistentHashSet<E> implements ReadableSet<E> {
+    protected static final int BITS = 5;
+    protected static final int MASK = (1 << BITS) - 1;
+
+    /**
+     * Nodes at or below this shift have no hash bits left, and hold colliding elements as a list.
+     */
+    protected static final int COLLISION_SHIFT = 35;
+
+    protected static final Node EMPTY_NODE = new Node(null, 0, 0, new Object[0]);
+
+    /**
+     * A trie node. {@link #content} holds the node's elements in bitmap order, followed by its
+     * child nodes in reverse bitmap order. A node with both bitmaps empty but a non-empty content
+     * array is a collision node, holding elements whose spread hash codes are all equal.
+     *
+     * <p>Only the {@link Transient} whose edit token is {@link #edit} may modify a node in place.
+     */
+    protected static final class Node {
+        @Nullable protected final Object edit;
+        protected int dataMap;
+        protected int nodeMap;
+        protected Object[] content;
+
+        protected Node(
+                @Nullable final Object edit,
+                final int dataMap,
+                final int nodeMap,
+                final Object[] content) {
+            this.edit = edit;
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        protected boolean isCollision() {
+            return (this.dataMap | this.nodeMap) == 0 && this.content.length > 0;
+        }
+
+        protected int payloadArity() {
+            return this.isCollision() ? this.content.length : Integer.bitCount(this.dataMap);
+        }
+
+        protected int nodeArity() {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        protected int dataIndex(final int bitpos) {
+            return Integer.bitCount(this.dataMap & (bitpos - 1));
+        }
+
+        protected int nodeSlot(final int bitpos) {
+            return this.content.length - 1 - Integer.bitCount(this.nodeMap & (bitpos - 1));
+        }
+
+        protected Node childAt(final int index) {
+            return (Node) this.content[this.content.length - 1 - index];
+        }
+    }
+
+    protected final Node root;
+
+    /** The number of elements, including {@code null}. */
+    protected final int size;
+
+    /** The sum of the hash codes of the non-null elements. */
+    protected final int hashSum;
+
+    protected final boolean containsNull;
+
+    protected PersistentHashSet(
+            final Node root, final int size, final int hashSum, final boolean containsNull) {
+        this.root = root;
+        this.size = size;
+        this.hashSum = hashSum;
+        this.containsNull = containsNull;
+    }
+
+    /** Freezes the contents of a transient, which can no longer be used afterwards. */
+    protected PersistentHashSet(final Transient<E> built) {
+        built.ensureEditable();
+        built.frozen = true;
+
+        this.root = built.root;
+        this.size = built.size;
+        this.hashSum = built.hashSum;
+        this.containsNull = built.containsNull;
+    }
+
+    public PersistentHashSet() {
+        this(EMPTY_NODE, 0, 0, false);
+    }
+
+    public PersistentHashSet(@Nullable final E e) {
+        this(new Transient<E>().add(e));
+    }
+
+    @SafeVarargs
+    public PersistentHashSet(final E... elems) {
+        this(new Transient<E>().addAll(elems));
+    }
+
+    public PersistentHashSet(@Nullable final Container<E> container) {
+        this(new Transient<E>().addAll(container));
+    }
+
+    protected static int bitpos(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    protected static boolean contains(
+            final Node node, final Object e, final int hash, final int shift) {
+        if (shift >= COLLISION_SHIFT) {
+            for (final Object elem : node.content) {
+                if (e.equals(elem)) return true;
+            }
+
+            return false;
+        }
+
+        final int bitpos = bitpos(hash, shift);
+        if ((node.dataMap & bitpos) != 0) return e.equals(node.content[node.dataIndex(bitpos)]);
+        if ((node.nodeMap & bitpos) != 0) {
+            return contains((Node) node.content[node.nodeSlot(bitpos)], e, hash, shift + BITS);
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        if (e == null) return this.containsNull;
+
+        return contains(this.root, e, ReadableHashSet.spread(e.hashCode()), 0);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /** @return A set that also contains {@code e}; this set itself if it already does */
+    public PersistentHashSet<E> plus(@Nullable final E e) {
+        final Transient<E> edited = new Transient<>(this, null);
+        edited.add(e);
+
+        return edited.modified ? new PersistentHashSet<>(edited) : this;
+    }
+
+    /** @return A set that does not contain {@code e}; this set itself if it already does not */
+    public PersistentHashSet<E> minus(@Nullable final E e) {
+        final Transient<E> edited = new Transient<>(this, null);
+        edited.remove(e);
+
+        return edited.modified ? new PersistentHashSet<>(edited) : this;
+    }
+
+    /** @return A transient holding the same elements, which this set is unaffected by */
+    public Transient<E> toTransient() {
+        return new Transient<>(this, new Object());
+    }
+
+    /**
+     * Compares the tries node by node. Since the tries of equal sets have the same shape, any pair
+     * of nodes with different bitmaps proves inequality, and shared subtrees are skipped entirely.
+     */
+    protected static boolean nodeEquals(final Node a, final Node b) {
+        if (a == b) return true;
+        if (a.dataMap != b.dataMap || a.nodeMap != b.nodeMap) return false;
+        if (a.content.length != b.content.length) return false;
+
+        if (a.isCollision()) {
+            for (final Object elem : a.content) {
+                if (!contains(b, elem, 0, COLLISION_SHIFT)) return false;
+            }
+
+            return true;
+        }
+
+        final int payload = a.payloadArity();
+        for (int i = 0; i < payload; i++) {
+            if (!a.content[i].equals(b.content[i])) return false;
+        }
+
+        for (int i = payload; i < a.content.length; i++) {
+            if (!nodeEquals((Node) a.content[i], (Node) b.content[i])) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+
+        final PersistentHashSet<?> that = (PersistentHashSet<?>) o;
+        return this.size == that.size
+                && this.hashSum == that.hashSum
+                && this.containsNull == that.containsNull
+                && nodeEquals(this.root, that.root);
+    }
+
+    /** Consistent with {@link ReadableHashSet#hashCode}. */
+    @Override
+    public int hashCode() {
+        return (1 + this.hashSum) * (this.containsNull ? 31 : 1);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (final ReadableIterator<E> iter = this.iterator(); iter.hasNext(); ) {
+            builder.append(iter.next());
+            if (iter.hasNext()) {
+                builder.append(", ");
+            }
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public ReadableIterator<E> iterator() {
+        return new PersistentHashSetIterator();
+    }
+
+    /**
+     * Traverses {@code null} (if contained), and then the trie depth-first, yielding each node's
+     * elements before descending into its children.
+     */
+    protected class PersistentHashSetIterator implements ReadableIterator<E> {
+        protected int currIndex = 0;
+
+        protected final Node[] nodes = new Node[COLLISION_SHIFT / BITS + 1];
+        protected final int[] childCursors = new int[COLLISION_SHIFT / BITS + 1];
+        protected int depth = 0;
+
+        protected Node valueNode = PersistentHashSet.this.root;
+        protected int valueCursor = 0;
+
+        protected PersistentHashSetIterator() {
+            this.nodes[0] = PersistentHashSet.this.root;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.currIndex < PersistentHashSet.this.size;
+        }
+
+        @Nullable
+        @Override
+        public E next() throws IllegalStateException {
+            if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
+            if (this.currIndex++ == 0 && PersistentHashSet.this.containsNull) return null;
+
+            while (this.valueCursor == this.valueNode.payloadArity()) {
+                // descend into the next unvisited child, backtracking past exhausted nodes
+                final Node node = this.nodes[this.depth];
+                if (this.childCursors[this.depth] == node.nodeArity()) {
+                    this.depth--;
+                    continue;
+                }
+
+                final Node child = node.childAt(this.childCursors[this.depth]++);
+                this.nodes[++this.depth] = child;
+                this.childCursors[this.depth] = 0;
+                this.valueNode = child;
+                this.valueCursor = 0;
+            }
+
+            //noinspection unchecked
+            return (E) this.valueNode.content[this.valueCursor++];
+        }
+    }
+
+    /**
+     * A mutable builder sharing structure with the {@link PersistentHashSet} it was created from.
+     * The first edit of a node copies it and tags it with this transient's edit token, and later
+     * edits of tagged nodes happen in place.
+     *
+     * <p>A transient must only be used by one thread at a time, and not at all after {@link
+     * #toPersistent}.
+     */
+    public static class Transient<E> {
+        /** Tags the nodes this transient may modify in place; {@code null} to copy every edit. */
+        @Nullable protected final Object edit;
+
+        protected boolean frozen = false;
+
+        protected Node root;
+        protected int size;
+        protected int hashSum;
+        protected boolean containsNull;
+
+        /** Whether the last {@link #add} or {@link #remove} changed the contents. */
+        protected boolean modified = false;
+
+        public Transient() {
+            this(new PersistentHashSet<>(), new Object());
+        }
+
+        protected Transient(final PersistentHashSet<E> set, @Nullable final Object edit) {
+            this.edit = edit;
+            this.root = set.root;
+            this.size = set.size;
+            this.hashSum = set.hashSum;
+            this.containsNull = set.containsNull;
+        }
+
+        /** @throws IllegalStateException if {@link #toPersistent} was already called */
+        protected void ensureEditable() throws IllegalStateException {
+            if (this.frozen) {
+                throw new IllegalStateException("Transient used after toPersistent()");
+            }
+        }
+
+        protected boolean owns(final Node node) {
+            return this.edit != null && node.edit == this.edit;
+        }
+
+        public int size() {
+            return this.size;
+        }
+
+        public boolean contains(@Nullable final Object e) {
+            this.ensureEditable();
+            if (e == null) return this.containsNull;
+
+            return PersistentHashSet.contains(
+                    this.root, e, ReadableHashSet.spread(e.hashCode()), 0);
+        }
+
+        public Transient<E> add(@Nullable final E e) {
+            this.ensureEditable();
+            this.modified = false;
+
+            if (e == null) {
+                if (!this.containsNull) {
+                    this.containsNull = true;
+                    this.size++;
+                    this.modified = true;
+                }
+
+                return this;
+            }
+
+            final int hash = e.hashCode();
+            this.root = this.add(this.root, e, ReadableHashSet.spread(hash), 0);
+            if (this.modified) {
+                this.size++;
+                this.hashSum += hash;
+            }
+
+            return this;
+        }
+
+        @SafeVarargs
+        public final Transient<E> addAll(final E... elems) {
+            for (final E elem : elems) {
+                this.add(elem);
+            }
+
+            return this;
+        }
+
+        public Transient<E> addAll(@Nullable final Container<E> container) {
+            if (container == null) return this;
+
+            for (final ReadableIterator<E> iter = container.iterator(); iter.hasNext(); ) {
+                this.add(iter.next());
+            }
+
+            return this;
+        }
+
+        public Transient<E> remove(@Nullable final E e) {
+            this.ensureEditable();
+            this.modified = false;
+
+            if (e == null) {
+                if (this.containsNull) {
+                    this.containsNull = false;
+                    this.size--;
+                    this.modified = true;
+                }
+
+                return this;
+            }
+
+            final int hash = e.hashCode();
+            this.root = this.remove(this.root, e, ReadableHashSet.spread(hash), 0);
+            if (this.modified) {
+                this.size--;
+                this.hashSum -= hash;
+            }
+
+            return this;
+        }
+
+        /**
+         * @return A persistent set holding this transient's elements
+         * @throws IllegalStateException if called more than once
+         */
+        public PersistentHashSet<E> toPersistent() throws IllegalStateException {
+            return new PersistentHashSet<>(this);
+        }
+
+        protected Node add(final Node node, final Object e, final int hash, final int shift) {
+            if (shift >= COLLISION_SHIFT) {
+                if (PersistentHashSet.contains(node, e, hash, shift)) return node;
+
+                this.modified = true;
+                final Object[] content = new Object[node.content.length + 1];
+                System.arraycopy(node.content, 0, content, 0, node.content.length);
+                content[node.content.length] = e;
+                return this.update(node, 0, 0, content);
+            }
+
+            final int bitpos = bitpos(hash, shift);
+
+            if ((node.dataMap & bitpos) != 0) {
+                final int index = node.dataIndex(bitpos);
+                final Object existing = node.content[index];
+                if (e.equals(existing)) return node;
+
+                this.modified = true;
+                final Node child =
+                        this.mergeTwo(
+                                existing,
+                                ReadableHashSet.spread(existing.hashCode()),
+                                e,
+                                hash,
+                                shift + BITS);
+                return this.migrateToNode(node, bitpos, child);
+            }
+
+            if ((node.nodeMap & bitpos) != 0) {
+                final int slot = node.nodeSlot(bitpos);
+                final Node child = (Node) node.content[slot];
+                final Node newChild = this.add(child, e, hash, shift + BITS);
+                if (newChild == child) return node;
+
+                return this.setNode(node, slot, newChild);
+            }
+
+            this.modified = true;
+            final int index = node.dataIndex(bitpos);
+            final Object[] content = new Object[node.content.length + 1];
+            System.arraycopy(node.content, 0, content, 0, index);
+            content[index] = e;
+            System.arraycopy(node.content, index, content, index + 1, node.content.length - index);
+            return this.update(node, node.dataMap | bitpos, node.nodeMap, content);
+        }
+
+        protected Node remove(final Node node, final Object e, final int hash, final int shift) {
+            if (shift >= COLLISION_SHIFT) {
+                for (int i = 0; i < node.content.length; i++) {
+                    if (e.equals(node.content[i])) {
+                        this.modified = true;
+                        final Object[] content = new Object[node.content.length - 1];
+                        System.arraycopy(node.content, 0, content, 0, i);
+                        System.arraycopy(
+                                node.content, i + 1, content, i, node.content.length - i - 1);
+                        return this.update(node, 0, 0, content);
+                    }
+                }
+
+                return node;
+            }
+
+            final int bitpos = bitpos(hash, shift);
+
+            if ((node.dataMap & bitpos) != 0) {
+                final int index = node.dataIndex(bitpos);
+                if (!e.equals(node.content[index])) return node;
+
+                this.modified = true;
+                final Object[] content = new Object[node.content.length - 1];
+                System.arraycopy(node.content, 0, content, 0, index);
+                System.arraycopy(
+                        node.content, index + 1, content, index, node.content.length - index - 1);
+                return this.update(node, node.dataMap ^ bitpos, node.nodeMap, content);
+            }
+
+            if ((node.nodeMap & bitpos) != 0) {
+                final int slot = node.nodeSlot(bitpos);
+                final Node child = (Node) node.content[slot];
+                final Node newChild = this.remove(child, e, hash, shift + BITS);
+                if (!this.modified) return node;
+
+                // a child left with a single element is inlined, keeping the trie canonical
+                if (newChild.nodeArity() == 0 && newChild.payloadArity() == 1) {
+                    return this.migrateToInline(node, bitpos, newChild.content[0]);
+                }
+
+                return newChild == child ? node : this.setNode(node, slot, newChild);
+            }
+
+            return node;
+        }
+
+        /** @return A node holding two distinct elements, nested as deep as their hashes require */
+        protected Node mergeTwo(
+                final Object e0,
+                final int hash0,
+                final Object e1,
+                final int hash1,
+                final int shift) {
+            if (shift >= COLLISION_SHIFT) {
+                return new Node(this.edit, 0, 0, new Object[] {e0, e1});
+            }
+
+            final int mask0 = (hash0 >>> shift) & MASK;
+            final int mask1 = (hash1 >>> shift) & MASK;
+
+            if (mask0 == mask1) {
+                final Node child = this.mergeTwo(e0, hash0, e1, hash1, shift + BITS);
+                return new Node(this.edit, 0, 1 << mask0, new Object[] {child});
+            }
+
+            return new Node(
+                    this.edit,
+                    (1 << mask0) | (1 << mask1),
+                    0,
+                    mask0 < mask1 ? new Object[] {e0, e1} : new Object[] {e1, e0});
+        }
+
+        /** @return {@code node} with the given bitmaps and content, modified in place if owned */
+        protected Node update(
+                final Node node, final int dataMap, final int nodeMap, final Object[] content) {
+            if (!this.owns(node)) return new Node(this.edit, dataMap, nodeMap, content);
+
+            node.dataMap = dataMap;
+            node.nodeMap = nodeMap;
+            node.content = content;
+            return node;
+        }
+
+        protected Node setNode(final Node node, final int slot, final Node child) {
+            if (this.owns(node)) {
+                node.content[slot] = child;
+                return node;
+            }
+
+            final Object[] content = node.content.clone();
+            content[slot] = child;
+            return new Node(this.edit, node.dataMap, node.nodeMap, content);
+        }
+
+        /** Replaces the element at {@code bitpos} with a child node holding it and another. */
+        protected Node migrateToNode(final Node node, final int bitpos, final Node child) {
+            final Object[] src = node.content;
+            final int oldIndex = node.dataIndex(bitpos);
+            final int newIndex = src.length - 1 - Integer.bitCount(node.nodeMap & (bitpos - 1));
+
+            final Object[] content = new Object[src.length];
+            System.arraycopy(src, 0, content, 0, oldIndex);
+            System.arraycopy(src, oldIndex + 1, content, oldIndex, newIndex - oldIndex);
+            content[newIndex] = child;
+            System.arraycopy(src, newIndex + 1, content, newIndex + 1, src.length - newIndex - 1);
+
+            return this.update(node, node.dataMap ^ bitpos, node.nodeMap | bitpos, content);
+        }
+
+        /** Replaces the child node at {@code bitpos} with its only remaining element. */
+        protected Node migrateToInline(final Node node, final int bitpos, final Object e) {
+            final Object[] src = node.content;
+            final int oldIndex = node.nodeSlot(bitpos);
+            final int newIndex = node.dataIndex(bitpos);
+
+            final Object[] content = new Object[src.length];
+            System.arraycopy(src, 0, content, 0, newIndex);
+            content[newIndex] = e;
+            System.arraycopy(src, newIndex, content, newIndex + 1, oldIndex - newIndex);
+            System.arraycopy(src, oldIndex + 1, content, oldIndex + 1, src.length - oldIndex - 1);
+
+            return this.update(node, node.dataMap | bitpos, node.nodeMap ^ bitpos, content);
+        }
+    }
+}
@@ -0,0 +1,573 @@
+package tech.read_only.containers;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable {@link ReadableList} whose modified copies share structure with the original.
+ *
+ * <p>Elements live in the leaves of a 32-way trie, except for the last (up to) 32, which are kept
+ * in a separate tail array. {@link #get} and {@link #with} walk at most log<sub>32</sub>(n) levels,
+ * and {@link #with}, {@link #append} and {@link #withoutLast} copy only the nodes on that path
+ * (usually just the tail), so each new version costs O(log<sub>32</sub> n) instead of a full copy.
+ *
+ * <p>For bulk edits, {@link #toTransient} returns a {@link Transient} that modifies the nodes it
+ * has already copied in place, and {@link Transient#toPersistent} freezes the result again.
+ */
+public class PersistentVector<E> extends AbstractReadableList<E> {
+    protected static final int BITS = 5;
+    protected static final int WIDTH = 1 << BITS;
+    protected static final int MASK = WIDTH - 1;
+
+    protected static final Object[] EMPTY_TAIL = new Object[0];
+
+    /**
+     * An inner node (holding child nodes) or a leaf (holding elements). Only the {@link Transient}
+     * whose edit token is {@link #edit} may modify {@link #array} in place.
+     */
+    protected static final class Node {
+        @Nullable protected final Object edit;
+        protected final Object[] array;
+
+        protected Node(@Nullable final Object edit, final Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    protected static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+    protected final int size;
+
+    /** The bit shift selecting the root's child; {@link #BITS} times the number of inner levels. */
+    protected final int shift;
+
+    protected final Node root;
+
+    /** Holds exactly the elements past {@link #tailOffset}. */
+    protected final Object[] tail;
+
+    protected PersistentVector(
+            final int size, final int shift, final Node root, final Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /** Freezes the contents of a transient, which can no longer be used afterwards. */
+    protected PersistentVector(final Transient<E> built) {
+        built.ensureEditable();
+        built.edit = null;
+
+        this.size = built.size;
+        this.shift = built.shift;
+        this.root = built.root;
+        this.tail = Arrays.copyOf(built.tail, built.size - tailOffset(built.size));
+    }
+
+    public PersistentVector() {
+        this(0, BITS, EMPTY_NODE, EMPTY_TAIL);
+    }
+
+    public PersistentVector(@Nullable final E e) {
+        this(1, BITS, EMPTY_NODE, new Object[] {e});
+    }
+
+    @SafeVarargs
+    public PersistentVector(final E... elems) {
+        this(new Transient<E>().addAll(elems));
+    }
+
+    public PersistentVector(@Nullable final Container<E> container) {
+        this(new Transient<E>().addAll(container));
+    }
+
+    /** @return The index of the first element held in the tail of a vector of the given size */
+    protected static int tailOffset(final int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    protected static Node newPath(@Nullable final Object edit, final int level, final Node node) {
+        if (level == 0) return node;
+
+        final Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    /** @return The leaf (or tail) array holding the element at {@code index} */
+    protected Object[] arrayFor(final int index) {
+        if (index >= tailOffset(this.size)) return this.tail;
+
+        Node node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+
+        return node.array;
+    }
+
+    protected final void checkIndex(final int index) {
+        if (index >= this.size || index < 0) {
+            throw new IndexOutOfBoundsException("Size: " + this.size + " Index: " + index);
+        }
+    }
+
+    @Nullable
+    @Override
+    public E get(final int index) {
+        this.checkIndex(index);
+
+        //noinspection unchecked
+        return (E) this.arrayFor(index)[index & MASK];
+    }
+
+    @Override
+    public int indexOf(@Nullable final Object e) {
+        for (int base = 0; base < this.size; base += WIDTH) {
+            final Object[] leaf = this.arrayFor(base);
+            final int length = Math.min(WIDTH, this.size - base);
+
+            for (int i = 0; i < length; i++) {
+                if (e == null ? leaf[i] == null : e.equals(leaf[i])) {
+                    return base + i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        return this.indexOf(e) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /** @return A vector with {@code e} in place of the element at {@code index} */
+    public PersistentVector<E> with(final int index, @Nullable final E e) {
+        this.checkIndex(index);
+
+        if (index >= tailOffset(this.size)) {
+            final Object[] newTail = this.tail.clone();
+            newTail[index & MASK] = e;
+            return new PersistentVector<>(this.size, this.shift, this.root, newTail);
+        }
+
+        return new PersistentVector<>(
+                this.size, this.shift, this.assoc(this.shift, this.root, index, e), this.tail);
+    }
+
+    protected Node assoc(final int level, final Node node, final int index, @Nullable final E e) {
+        final Node copy = new Node(null, node.array.clone());
+        if (level == 0) {
+            copy.array[index & MASK] = e;
+        } else {
+            final int child = (index >>> level) & MASK;
+            copy.array[child] = this.assoc(level - BITS, (Node) node.array[child], index, e);
+        }
+
+        return copy;
+    }
+
+    /** @return A vector with {@code e} added after the last element */
+    public PersistentVector<E> append(@Nullable final E e) {
+        if (this.size - tailOffset(this.size) < WIDTH) {
+            final Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + 1);
+            newTail[this.tail.length] = e;
+            return new PersistentVector<>(this.size + 1, this.shift, this.root, newTail);
+        }
+
+        // the tail is full, so it becomes a leaf of the trie
+        final Node tailNode = new Node(null, this.tail);
+        final Node newRoot;
+        int newShift = this.shift;
+
+        if ((this.size >>> BITS) > (1 << this.shift)) {
+            // the trie is full too, so it grows a level
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = this.root;
+            newRoot.array[1] = newPath(null, this.shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = this.pushTail(this.shift, this.root, tailNode);
+        }
+
+        return new PersistentVector<>(this.size + 1, newShift, newRoot, new Object[] {e});
+    }
+
+    protected Node pushTail(final int level, final Node parent, final Node tailNode) {
+        final int child = ((this.size - 1) >>> level) & MASK;
+        final Node copy = new Node(null, parent.array.clone());
+
+        if (level == BITS) {
+            copy.array[child] = tailNode;
+        } else {
+            final Node existing = (Node) parent.array[child];
+            copy.array[child] =
+                    existing == null
+                            ? newPath(null, level - BITS, tailNode)
+                            : this.pushTail(level - BITS, existing, tailNode);
+        }
+
+        return copy;
+    }
+
+    /**
+     * @return A vector without the last element
+     * @throws IllegalStateException if this vector is empty
+     */
+    public PersistentVector<E> withoutLast() throws IllegalStateException {
+        if (this.size == 0) throw new IllegalStateException("No elements remaining");
+        if (this.size == 1) return new PersistentVector<>();
+
+        if (this.size - tailOffset(this.size) > 1) {
+            return new PersistentVector<>(
+                    this.size - 1,
+                    this.shift,
+                    this.root,
+                    Arrays.copyOf(this.tail, this.tail.length - 1));
+        }
+
+        // the tail is about to be empty, so the last leaf of the trie becomes the tail
+        final Object[] newTail = this.arrayFor(this.size - 2);
+
+        Node newRoot = this.popTail(this.shift, this.root);
+        int newShift = this.shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (this.shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+
+        return new PersistentVector<>(this.size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * @return A copy of {@code node} without its last leaf, or {@code null} if it would be empty
+     */
+    @Nullable
+    protected Node popTail(final int level, final Node node) {
+        final int child = ((this.size - 2) >>> level) & MASK;
+
+        if (level > BITS) {
+            final Node newChild = this.popTail(level - BITS, (Node) node.array[child]);
+            if (newChild == null && child == 0) return null;
+
+            final Node copy = new Node(null, node.array.clone());
+            copy.array[child] = newChild;
+            return copy;
+        }
+
+        if (child == 0) return null;
+
+        final Node copy = new Node(null, node.array.clone());
+        copy.array[child] = null;
+        return copy;
+    }
+
+    /** @return A transient holding the same elements, which this vector is unaffected by */
+    public Transient<E> toTransient() {
+        return new Transient<>(this);
+    }
+
+    @Override
+    public E[] toArray() {
+        final Object[] array = new Object[this.size];
+        for (int base = 0; base < this.size; base += WIDTH) {
+            System.arraycopy(
+                    this.arrayFor(base), 0, array, base, Math.min(WIDTH, this.size - base));
+        }
+
+        //noinspection unchecked
+        return (E[]) array;
+    }
+
+    /** Skips comparing elements when both vectors share all of their structure. */
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+
+        final PersistentVector<?> that = (PersistentVector<?>) o;
+        if (this.size == that.size && this.root == that.root && this.tail == that.tail) {
+            return true;
+        }
+
+        return this.listEquals(that);
+    }
+
+    /** Consistent with {@link AbstractReadableList#hashCode}, without a lookup per element. */
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (final ReadableIterator<E> iter = this.iterator(); iter.hasNext(); ) {
+            final E elem = iter.next();
+            hashCode = 31 * hashCode + (elem == null ? 0 : elem.hashCode());
+        }
+
+        return hashCode;
+    }
+
+    @Override
+    public ReadableIterator<E> iterator() {
+        return new PersistentVectorIterator();
+    }
+
+    /** Walks the trie once per leaf rather than once per element. */
+    protected class PersistentVectorIterator implements ReadableIterator<E> {
+        protected int currIndex = 0;
+        protected Object[] leaf = EMPTY_TAIL;
+
+        @Override
+        public boolean hasNext() {
+            return this.currIndex < PersistentVector.this.size;
+        }
+
+        @Nullable
+        @Override
+        public E next() throws IllegalStateException {
+            if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
+
+            if ((this.currIndex & MASK) == 0) {
+                this.leaf = PersistentVector.this.arrayFor(this.currIndex);
+            }
+
+            //noinspection unchecked
+            return (E) this.leaf[this.currIndex++ & MASK];
+        }
+    }
+
+    /**
+     * A mutable builder sharing structure with the {@link PersistentVector} it was created from.
+     * The first edit of a node copies it and tags it with this transient's edit token, and later
+     * edits of tagged nodes happen in place, so a batch of edits copies each node at most once.
+     *
+     * <p>A transient must only be used by one thread at a time, and not at all after {@link
+     * #toPersistent}.
+     */
+    public static class Transient<E> {
+        /** Tags the nodes this transient may modify in place; {@code null} once frozen. */
+        @Nullable protected Object edit = new Object();
+
+        protected int size;
+        protected int shift;
+        protected Node root;
+
+        /** Always {@link #WIDTH} long, holding the elements past {@link #tailOffset}. */
+        protected Object[] tail;
+
+        public Transient() {
+            this.size = 0;
+            this.shift = BITS;
+            this.root = new Node(this.edit, new Object[WIDTH]);
+            this.tail = new Object[WIDTH];
+        }
+
+        protected Transient(final PersistentVector<E> vector) {
+            this.size = vector.size;
+            this.shift = vector.shift;
+            this.root = new Node(this.edit, vector.root.array.clone());
+            this.tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        /** @throws IllegalStateException if {@link #toPersistent} was already called */
+        protected void ensureEditable() throws IllegalStateException {
+            if (this.edit == null) {
+                throw new IllegalStateException("Transient used after toPersistent()");
+            }
+        }
+
+        /** @return {@code node} itself if this transient owns it; otherwise an owned copy */
+        protected Node ensureEditable(final Node node) {
+            return node.edit == this.edit ? node : new Node(this.edit, node.array.clone());
+        }
+
+        protected final void checkIndex(final int index) {
+            if (index >= this.size || index < 0) {
+                throw new IndexOutOfBoundsException("Size: " + this.size + " Index: " + index);
+            }
+        }
+
+        public int size() {
+            return this.size;
+        }
+
+        @Nullable
+        public E get(final int index) {
+            this.ensureEditable();
+            this.checkIndex(index);
+
+            Object[] array = this.tail;
+            if (index < tailOffset(this.size)) {
+                Node node = this.root;
+                for (int level = this.shift; level > 0; level -= BITS) {
+                    node = (Node) node.array[(index >>> level) & MASK];
+                }
+                array = node.array;
+            }
+
+            //noinspection unchecked
+            return (E) array[index & MASK];
+        }
+
+        public Transient<E> add(@Nullable final E e) {
+            this.ensureEditable();
+
+            if (this.size - tailOffset(this.size) < WIDTH) {
+                this.tail[this.size++ & MASK] = e;
+                return this;
+            }
+
+            final Node tailNode = new Node(this.edit, this.tail);
+            this.tail = new Object[WIDTH];
+            this.tail[0] = e;
+
+            if ((this.size >>> BITS) > (1 << this.shift)) {
+                final Node newRoot = new Node(this.edit, new Object[WIDTH]);
+                newRoot.array[0] = this.root;
+                newRoot.array[1] = newPath(this.edit, this.shift, tailNode);
+                this.root = newRoot;
+                this.shift += BITS;
+            } else {
+                this.root = this.pushTail(this.shift, this.root, tailNode);
+            }
+
+            this.size++;
+            return this;
+        }
+
+        @SafeVarargs
+        public final Transient<E> addAll(final E... elems) {
+            for (final E elem : elems) {
+                this.add(elem);
+            }
+
+            return this;
+        }
+
+        public Transient<E> addAll(@Nullable final Container<E> container) {
+            if (container == null) return this;
+
+            for (final ReadableIterator<E> iter = container.iterator(); iter.hasNext(); ) {
+                this.add(iter.next());
+            }
+
+            return this;
+        }
+
+        protected Node pushTail(final int level, final Node parent, final Node tailNode) {
+            final Node owned = this.ensureEditable(parent);
+            final int child = ((this.size - 1) >>> level) & MASK;
+
+            if (level == BITS) {
+                owned.array[child] = tailNode;
+            } else {
+                final Node existing = (Node) owned.array[child];
+                owned.array[child] =
+                        existing == null
+                                ? newPath(this.edit, level - BITS, tailNode)
+                                : this.pushTail(level - BITS, existing, tailNode);
+            }
+
+            return owned;
+        }
+
+        public Transient<E> set(final int index, @Nullable final E e) {
+            this.ensureEditable();
+            this.checkIndex(index);
+
+            if (index >= tailOffset(this.size)) {
+                this.tail[index & MASK] = e;
+            } else {
+                this.root = this.assoc(this.shift, this.root, index, e);
+            }
+
+            return this;
+        }
+
+        protected Node assoc(
+                final int level, final Node node, final int index, @Nullable final E e) {
+            final Node owned = this.ensureEditable(node);
+            if (level == 0) {
+                owned.array[index & MASK] = e;
+            } else {
+                final int child = (index >>> level) & MASK;
+                owned.array[child] = this.assoc(level - BITS, (Node) owned.array[child], index, e);
+            }
+
+            return owned;
+        }
+
+        /** @throws IllegalStateException if this transient is empty */
+        public Transient<E> removeLast() throws IllegalStateException {
+            this.ensureEditable();
+            if (this.size == 0) throw new IllegalStateException("No elements remaining");
+
+            if (this.size == 1 || this.size - tailOffset(this.size) > 1) {
+                this.tail[--this.size & MASK] = null;
+                return this;
+            }
+
+            // the tail is about to be empty, so the last leaf of the trie becomes the tail
+            final int index = this.size - 2;
+            this.root = this.ensureEditable(this.root);
+            Node node = this.root;
+            for (int level = this.shift; level > 0; level -= BITS) {
+                final int child = (index >>> level) & MASK;
+                node.array[child] = this.ensureEditable((Node) node.array[child]);
+                node = (Node) node.array[child];
+            }
+            final Object[] newTail = node.array;
+
+            Node newRoot = this.popTail(this.shift, this.root);
+            if (newRoot == null) {
+                newRoot = new Node(this.edit, new Object[WIDTH]);
+            }
+            if (this.shift > BITS && newRoot.array[1] == null) {
+                newRoot = this.ensureEditable((Node) newRoot.array[0]);
+                this.shift -= BITS;
+            }
+
+            this.root = newRoot;
+            this.tail = newTail;
+            this.size--;
+            return this;
+        }
+
+        @Nullable
+        protected Node popTail(final int level, final Node node) {
+            final Node owned = this.ensureEditable(node);
+            final int child = ((this.size - 2) >>> level) & MASK;
+
+            if (level > BITS) {
+                final Node newChild = this.popTail(level - BITS, (Node) owned.array[child]);
+                if (newChild == null && child == 0) return null;
+
+                owned.array[child] = newChild;
+                return owned;
+            }
+
+            if (child == 0) return null;
+
+            owned.array[child] = null;
+            return owned;
+        }
+
+        /**
+         * @return A persistent vector holding this transient's elements
+         * @throws IllegalStateException if called more than once
+         */
+        public PersistentVector<E> toPersistent() throws IllegalStateException {
+            return new PersistentVector<>(this);
+        }
+    }
+}
@@ -1,29 +1,49 @@
 package tech.read_only.containers;
 
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
 import javax.annotation.Nullable;
 
 /** A {@link ReadableList} backed by an array. Guarantees constant-time lookup by index. */
 public class ReadableArrayList<E> extends AbstractReadableList<E> {
+    /** Only the first {@link #size} slots hold elements; any further slots are spare capacity. */
     protected Object[] array;
 
+    protected int size;
+
+    /**
+     * {@link #hashCode}'s result, or 0 if it has not been computed yet (or happens to be 0). Like
+     * {@link String}'s cached hash, a single int field can be computed racily by several threads
+     * reading a shared snapshot, since they all store the same value. {@link WritableArrayList}
+     * keeps it up to date while appending.
+     */
+    protected int cachedHashCode = 0;
+
     public ReadableArrayList() {
         array = new Object[0];
+        size = 0;
     }
 
     public ReadableArrayList(@Nullable final E e) {
         array = new Object[1];
         array[0] = e;
+        size = 1;
     }
 
     @SafeVarargs
     public ReadableArrayList(final E... elems) {
         array = new Object[elems.length];
         System.arraycopy(elems, 0, array, 0, elems.length);
+        size = elems.length;
     }
 
     public ReadableArrayList(@Nullable final Container<E> container) {
         if (container == null) {
             array = new Object[0];
+            size = 0;
             return;
         }
 
@@ -32,6 +52,16 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> {
         for (int i = 0; i < container.size(); i++) {
             array[i] = iter.next();
         }
+        size = array.length;
+    }
+
+    /**
+     * Wraps the first {@code size} slots of {@code array} without copying them. The caller must
+     * never modify those slots afterwards.
+     */
+    protected ReadableArrayList(final Object[] array, final int size) {
+        this.array = array;
+        this.size = size;
     }
 
     @Override
@@ -43,11 +73,31 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> {
     }
 
     protected final void checkIndex(final int index) {
-        if (index >= this.array.length || index < 0) {
-            throw new IndexOutOfBoundsException("Size: " + this.array.length + " Index: " + index);
+        if (index >= this.size || index < 0) {
+            throw new IndexOutOfBoundsException("Size: " + this.size + " Index: " + index);
+        }
+    }
+
+    protected static void checkRange(final int from, final int to, final int size) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Size: " + size + " From: " + from + " To: " + to);
         }
     }
 
+    /**
+     * Returns a view of the elements from index {@code from} (inclusive) to {@code to} (exclusive)
+     * in constant time, reading straight from this list's backing array. The view can be sliced
+     * again, which also takes constant time.
+     *
+     * @throws IndexOutOfBoundsException if {@code from} is negative, {@code to} exceeds the size,
+     *     or {@code from} exceeds {@code to}
+     */
+    @Override
+    public ReadableList<E> subList(final int from, final int to) throws IndexOutOfBoundsException {
+        checkRange(from, to, this.size);
+        return new ReadableSubList(from, to - from);
+    }
+
     @Override
     public boolean contains(@Nullable final Object e) {
         return this.indexOf(e) >= 0;
@@ -57,7 +107,7 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> {
     public int indexOf(@Nullable final Object e) {
         if (e == null) return this.indexOfNull();
 
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < size; i++) {
             if (e.equals(array[i])) {
                 return i;
             }
@@ -67,7 +117,7 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> {
     }
 
     protected int indexOfNull() {
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < size; i++) {
             if (array[i] == null) {
                 return i;
             }
@@ -78,7 +128,7 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> {
 
     @Override
     public int size() {
-        return array.length;
+        return size;
     }
 
     @Override
@@ -90,13 +140,175 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> {
         return (E[]) copy;
     }
 
+    @Override
+    public void forEach(final Consumer<? super E> action) {
+        final Object[] array = this.array;
+        final int size = this.size;
+        for (int i = 0; i < size; i++) {
+            //noinspection unchecked
+            action.accept((E) array[i]);
+        }
+    }
+
+    /** Splits by index range, reading straight from the backing array. */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(this.array, 0, this.size, Spliterator.ORDERED);
+    }
+
+    /**
+     * @return {@code true} if {@code o} is exactly a {@link ReadableArrayList} or {@link
+     *     WritableArrayList}, whose backing array can be read directly; subclasses that guard their
+     *     array (such as {@link ConcurrentWritableArrayList}) return {@code false}
+     */
+    protected static boolean isPlainArrayList(final Object o) {
+        return o.getClass() == ReadableArrayList.class || o.getClass() == WritableArrayList.class;
+    }
+
+    /**
+     * Compares sizes and any cached hash codes first. If both lists are plain array lists, their
+     * backing arrays are then compared directly, without iterators.
+     */
+    @Override
+    public boolean listEquals(@Nullable final ReadableList<?> other) {
+        if (other == null) return false;
+        if (!isPlainArrayList(this) || !isPlainArrayList(other)) return super.listEquals(other);
+
+        final ReadableArrayList<?> that = (ReadableArrayList<?>) other;
+        if (this.size != that.size) return false;
+
+        final int hashCode = this.cachedHashCode;
+        final int otherHashCode = that.cachedHashCode;
+        if (hashCode != 0 && otherHashCode != 0 && hashCode != otherHashCode) return false;
+
+        return Arrays.equals(this.array, 0, this.size, that.array, 0, that.size);
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         return super.equals(o);
     }
 
+    /** Consistent with {@link AbstractReadableList#hashCode}, and computed at most once. */
     @Override
     public int hashCode() {
-        return super.hashCode();
+        int hashCode = this.cachedHashCode;
+        if (hashCode == 0) {
+            hashCode = 1;
+            final Object[] array = this.array;
+            final int size = this.size;
+            for (int i = 0; i < size; i++) {
+                final Object elem = array[i];
+                hashCode = 31 * hashCode + (elem == null ? 0 : elem.hashCode());
+            }
+            this.cachedHashCode = hashCode;
+        }
+
+        return hashCode;
+    }
+
+    /**
+     * A window of {@link #array}, starting at {@link #offset}. The array is looked up on every
+     * access, since a {@link WritableArrayList} may replace it.
+     */
+    protected class ReadableSubList extends AbstractReadableList<E> {
+        protected final int offset;
+        protected int size;
+
+        protected ReadableSubList(final int offset, final int size) {
+            this.offset = offset;
+            this.size = size;
+        }
+
+        /** Called before every access; a no-op, since a {@link ReadableArrayList} never changes. */
+        protected void checkForComodification() {}
+
+        protected final void checkIndex(final int index) {
+            if (index >= this.size || index < 0) {
+                throw new IndexOutOfBoundsException("Size: " + this.size + " Index: " + index);
+            }
+        }
+
+        @Override
+        public E get(final int index) {
+            this.checkForComodification();
+            this.checkIndex(index);
+
+            //noinspection unchecked
+            return (E) ReadableArrayList.this.array[this.offset + index];
+        }
+
+        @Override
+        public boolean contains(@Nullable final Object e) {
+            return this.indexOf(e) >= 0;
+        }
+
+        @Override
+        public int indexOf(@Nullable final Object e) {
+            this.checkForComodification();
+            final Object[] array = ReadableArrayList.this.array;
+            for (int i = 0; i < this.size; i++) {
+                final Object elem = array[this.offset + i];
+                if (e == null ? elem == null : e.equals(elem)) return i;
+            }
+
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            this.checkForComodification();
+            return this.size;
+        }
+
+        @Override
+        public E[] toArray() {
+            this.checkForComodification();
+
+            //noinspection unchecked
+            return (E[])
+                    Arrays.copyOfRange(
+                            ReadableArrayList.this.array, this.offset, this.offset + this.size);
+        }
+
+        @Override
+        public void forEach(final Consumer<? super E> action) {
+            this.checkForComodification();
+            final Object[] array = ReadableArrayList.this.array;
+            final int end = this.offset + this.size;
+            for (int i = this.offset; i < end; i++) {
+                //noinspection unchecked
+                action.accept((E) array[i]);
+            }
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            this.checkForComodification();
+            return Spliterators.spliterator(
+                    ReadableArrayList.this.array,
+                    this.offset,
+                    this.offset + this.size,
+                    Spliterator.ORDERED);
+        }
+
+        /** @see ReadableArrayList#subList */
+        @Override
+        public ReadableList<E> subList(final int from, final int to)
+                throws IndexOutOfBoundsException {
+            this.checkForComodification();
+            checkRange(from, to, this.size);
+            return new ReadableSubList(this.offset + from, to - from);
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
     }
 }
@@ -0,0 +1,788 @@
+package tech.read_only.containers;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableSortedSet} stored as a B+ tree of wide nodes.
+ *
+ * <p>Every element is held in a leaf, in a sorted array of up to {@link #MAX_NODE_SIZE} elements,
+ * and the leaves are linked in order, so iteration and range scans read arrays sequentially instead
+ * of chasing a pointer per element. Internal nodes hold up to {@link #MAX_NODE_SIZE} children, with
+ * a separator per child to binary search, and the number of elements under each child, so the tree
+ * is only a few levels deep and {@link #rank} and {@link #select} take logarithmic time.
+ *
+ * <p>Copying a sorted set with the same comparator, or a list through {@link #fromSorted}, builds
+ * the tree bottom-up in linear time. Range views ({@link #subSet}, {@link #headSet} and {@link
+ * #tailSet}) only hold their bounds, and find their elements through the tree on every call.
+ */
+public class ReadableBTreeSet<E> implements ReadableSortedSet<E> {
+    /** The most elements a leaf holds, and the most children an internal node has. */
+    protected static final int MAX_NODE_SIZE = 64;
+
+    /** The fewest elements or children any node but the root has. */
+    protected static final int MIN_NODE_SIZE = MAX_NODE_SIZE / 2;
+
+    protected final Comparator<? super E> comparator;
+
+    /** A leaf while the set fits in one, and never {@code null}. */
+    protected Node root;
+
+    protected int size;
+
+    /** The sum of the hash codes of every non-null element, as in {@link ReadableHashSet}. */
+    protected int hashSum;
+
+    public ReadableBTreeSet() {
+        this(naturalOrder(), new Object[0], 0);
+    }
+
+    public ReadableBTreeSet(@Nullable final E e) {
+        this(naturalOrder(), new Object[] {e}, 1);
+    }
+
+    @SafeVarargs
+    public ReadableBTreeSet(final E... elems) {
+        this.comparator = naturalOrder();
+        this.load(elems.clone(), false);
+    }
+
+    public ReadableBTreeSet(@Nullable final Container<E> other) {
+        this(other, naturalOrder());
+    }
+
+    /** @param comparator Orders the elements, and decides which of them are equal */
+    public ReadableBTreeSet(
+            @Nullable final Container<E> other, final Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        if (other == null) {
+            this.load(new Object[0], true);
+            return;
+        }
+
+        final boolean sorted =
+                other instanceof ReadableSortedSet
+                        && comparator.equals(((ReadableSortedSet<?>) other).comparator());
+        this.load(other.toArray(), sorted);
+    }
+
+    /**
+     * Builds the tree from elements that are already sorted and distinct.
+     *
+     * @param sorted Only read while constructing
+     */
+    protected ReadableBTreeSet(
+            final Comparator<? super E> comparator, final Object[] sorted, final int size) {
+        this.comparator = comparator;
+        this.root = bulkLoad(sorted, size);
+        this.size = size;
+        this.hashSum = hashSum(sorted, size);
+    }
+
+    /**
+     * Bulk loads a set in linear time from a list that is already sorted by {@code comparator},
+     * instead of sorting it again.
+     *
+     * @throws IllegalArgumentException if the list is not in strictly ascending order
+     */
+    public static <E> ReadableBTreeSet<E> fromSorted(
+            final ReadableList<? extends E> sorted, final Comparator<? super E> comparator)
+            throws IllegalArgumentException {
+        final Object[] elems = sorted.toArray();
+        checkSorted(elems, comparator);
+        return new ReadableBTreeSet<>(comparator, elems, elems.length);
+    }
+
+    /** Like {@link #fromSorted(ReadableList, Comparator)}, in the elements' natural order. */
+    public static <E> ReadableBTreeSet<E> fromSorted(final ReadableList<? extends E> sorted)
+            throws IllegalArgumentException {
+        return fromSorted(sorted, naturalOrder());
+    }
+
+    protected static <E> Comparator<? super E> naturalOrder() {
+        //noinspection unchecked
+        return (Comparator<? super E>)
+                (Comparator<?>) Comparator.<Comparable<Object>>naturalOrder();
+    }
+
+    protected static void checkSorted(final Object[] elems, final Comparator<?> comparator)
+            throws IllegalArgumentException {
+        for (int i = 1; i < elems.length; i++) {
+            if (compare(comparator, elems[i - 1], elems[i]) >= 0) {
+                throw new IllegalArgumentException("Not strictly ascending at index " + i);
+            }
+        }
+    }
+
+    /**
+     * Sorts (unless {@code sorted}) and deduplicates {@code elems} in place, then bulk loads it.
+     */
+    protected void load(final Object[] elems, final boolean sorted) {
+        if (!sorted) {
+            Arrays.sort(elems, this::compare);
+        }
+
+        int distinct = Math.min(elems.length, 1);
+        for (int i = 1; i < elems.length; i++) {
+            if (this.compare(elems[distinct - 1], elems[i]) != 0) {
+                elems[distinct++] = elems[i];
+            }
+        }
+
+        this.root = bulkLoad(elems, distinct);
+        this.size = distinct;
+        this.hashSum = hashSum(elems, distinct);
+    }
+
+    protected static int hashSum(final Object[] elems, final int size) {
+        int sum = 0;
+        for (int i = 0; i < size; i++) {
+            if (elems[i] != null) {
+                sum += elems[i].hashCode();
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Builds a tree bottom-up: fills leaves from {@code sorted}, then each level of internal nodes
+     * from the level below. Nodes of a level get sizes differing by at most one, so that none is
+     * less than half full.
+     *
+     * @return The root
+     */
+    protected static Node bulkLoad(final Object[] sorted, final int size) {
+        if (size == 0) return new Node(true);
+
+        int count = (size + MAX_NODE_SIZE - 1) / MAX_NODE_SIZE;
+        Node[] level = new Node[count];
+        int[] sizes = new int[count];
+        for (int n = 0, start = 0; n < count; n++) {
+            final Node leaf = new Node(true);
+            leaf.count = size / count + (n < size % count ? 1 : 0);
+            System.arraycopy(sorted, start, leaf.keys, 0, leaf.count);
+            if (n > 0) {
+                level[n - 1].next = leaf;
+            }
+
+            level[n] = leaf;
+            sizes[n] = leaf.count;
+            start += leaf.count;
+        }
+
+        while (level.length > 1) {
+            count = (level.length + MAX_NODE_SIZE - 1) / MAX_NODE_SIZE;
+            final Node[] parents = new Node[count];
+            final int[] parentSizes = new int[count];
+            for (int n = 0, start = 0; n < count; n++) {
+                final Node parent = new Node(false);
+                parent.count = level.length / count + (n < level.length % count ? 1 : 0);
+                System.arraycopy(level, start, parent.children, 0, parent.count);
+                System.arraycopy(sizes, start, parent.sizes, 0, parent.count);
+                for (int i = 0; i < parent.count; i++) {
+                    parent.keys[i] = level[start + i].keys[0];
+                    parentSizes[n] += sizes[start + i];
+                }
+
+                parents[n] = parent;
+                start += parent.count;
+            }
+
+            level = parents;
+            sizes = parentSizes;
+        }
+
+        return level[0];
+    }
+
+    /** Orders {@code null} before every other element, and the rest by {@code comparator}. */
+    protected static int compare(
+            final Comparator<?> comparator, @Nullable final Object a, @Nullable final Object b) {
+        if (a == null) return b == null ? 0 : -1;
+        if (b == null) return 1;
+
+        //noinspection unchecked
+        return ((Comparator<Object>) comparator).compare(a, b);
+    }
+
+    protected int compare(@Nullable final Object a, @Nullable final Object b) {
+        return compare(this.comparator, a, b);
+    }
+
+    /**
+     * Binary searches {@code keys[from, to)}.
+     *
+     * @return The index of {@code e} if present; otherwise the bitwise complement of the index it
+     *     would be inserted at (always negative)
+     */
+    protected int search(
+            final Object[] keys, final int from, final int to, @Nullable final Object e) {
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = this.compare(keys[mid], e);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return ~low;
+    }
+
+    /** @return The index of the child of an internal node whose subtree would hold {@code e} */
+    protected int childIndex(final Node node, @Nullable final Object e) {
+        final int found = this.search(node.keys, 1, node.count, e);
+        return found >= 0 ? found : ~found - 1;
+    }
+
+    /**
+     * @param inclusive Whether to also count {@code e} itself, if contained
+     * @return The number of elements less than {@code e}
+     */
+    protected int rank(@Nullable final Object e, final boolean inclusive) {
+        int rank = 0;
+        Node node = this.root;
+        while (!node.isLeaf()) {
+            final int child = this.childIndex(node, e);
+            for (int i = 0; i < child; i++) {
+                rank += node.sizes[i];
+            }
+            node = node.children[child];
+        }
+
+        final int found = this.search(node.keys, 0, node.count, e);
+        return rank + (found < 0 ? ~found : inclusive ? found + 1 : found);
+    }
+
+    protected static void checkIndex(final int index, final int size)
+            throws IllegalArgumentException {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException(
+                    "Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    @Override
+    public Comparator<? super E> comparator() {
+        return this.comparator;
+    }
+
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        Node node = this.root;
+        while (!node.isLeaf()) {
+            node = node.children[this.childIndex(node, e)];
+        }
+
+        return this.search(node.keys, 0, node.count, e) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Nullable
+    @Override
+    public E select(final int index) throws IllegalArgumentException {
+        checkIndex(index, this.size);
+
+        int remaining = index;
+        Node node = this.root;
+        while (!node.isLeaf()) {
+            int child = 0;
+            while (remaining >= node.sizes[child]) {
+                remaining -= node.sizes[child++];
+            }
+            node = node.children[child];
+        }
+
+        //noinspection unchecked
+        return (E) node.keys[remaining];
+    }
+
+    @Override
+    public int rank(@Nullable final E e) {
+        return this.rank(e, false);
+    }
+
+    @Nullable
+    @Override
+    public E first() throws IllegalStateException {
+        return this.first(0, this.size);
+    }
+
+    @Nullable
+    @Override
+    public E last() throws IllegalStateException {
+        return this.last(0, this.size);
+    }
+
+    @Nullable
+    @Override
+    public E lower(@Nullable final E e) {
+        return this.below(0, this.size, e, false);
+    }
+
+    @Nullable
+    @Override
+    public E floor(@Nullable final E e) {
+        return this.below(0, this.size, e, true);
+    }
+
+    @Nullable
+    @Override
+    public E ceiling(@Nullable final E e) {
+        return this.above(0, this.size, e, true);
+    }
+
+    @Nullable
+    @Override
+    public E higher(@Nullable final E e) {
+        return this.above(0, this.size, e, false);
+    }
+
+    /** @return The element at index {@code from}, the first of the index range [from, to) */
+    @Nullable
+    protected E first(final int from, final int to) throws IllegalStateException {
+        if (from >= to) throw new IllegalStateException("No elements remaining");
+
+        return this.select(from);
+    }
+
+    /** @return The element at index {@code to - 1}, the last of the index range [from, to) */
+    @Nullable
+    protected E last(final int from, final int to) throws IllegalStateException {
+        if (from >= to) throw new IllegalStateException("No elements remaining");
+
+        return this.select(to - 1);
+    }
+
+    /** @return The largest element of the index range [from, to) less than (or equal to) e */
+    @Nullable
+    protected E below(final int from, final int to, @Nullable final E e, final boolean inclusive) {
+        final int rank = Math.min(this.rank(e, inclusive), to);
+        return rank <= from ? null : this.select(rank - 1);
+    }
+
+    /** @return The smallest element of the index range [from, to) greater than (or equal to) e */
+    @Nullable
+    protected E above(final int from, final int to, @Nullable final E e, final boolean inclusive) {
+        final int rank = Math.max(this.rank(e, !inclusive), from);
+        return rank >= to ? null : this.select(rank);
+    }
+
+    @Override
+    public ReadableSortedSet<E> subSet(
+            @Nullable final E from,
+            final boolean fromInclusive,
+            @Nullable final E to,
+            final boolean toInclusive)
+            throws IllegalArgumentException {
+        if (this.compare(from, to) > 0) {
+            throw new IllegalArgumentException("From " + from + " exceeds to " + to);
+        }
+
+        return this.newSubSet(true, from, fromInclusive, true, to, toInclusive);
+    }
+
+    @Override
+    public ReadableSortedSet<E> headSet(@Nullable final E to, final boolean inclusive) {
+        return this.newSubSet(false, null, false, true, to, inclusive);
+    }
+
+    @Override
+    public ReadableSortedSet<E> tailSet(@Nullable final E from, final boolean inclusive) {
+        return this.newSubSet(true, from, inclusive, false, null, false);
+    }
+
+    /** Creates a range view; overridden by {@link WritableBTreeSet} to write through. */
+    protected ReadableSubSet newSubSet(
+            final boolean hasFrom,
+            @Nullable final E from,
+            final boolean fromInclusive,
+            final boolean hasTo,
+            @Nullable final E to,
+            final boolean toInclusive) {
+        return new ReadableSubSet(hasFrom, from, fromInclusive, hasTo, to, toInclusive);
+    }
+
+    @Override
+    public ReadableIterator<E> iterator() {
+        return new ReadableBTreeSetIterator(0, this.size);
+    }
+
+    /** Compares elements in order if both sets share a comparator, and by lookup otherwise. */
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+
+        final ReadableBTreeSet<?> that = (ReadableBTreeSet<?>) o;
+        if (this.size != that.size || this.hashSum != that.hashSum) return false;
+        if (!this.comparator.equals(that.comparator)) return that.containsAll(this);
+
+        final ReadableIterator<E> thisIter = this.iterator();
+        final ReadableIterator<?> thatIter = that.iterator();
+        while (thisIter.hasNext()) {
+            if (this.compare(thisIter.next(), thatIter.next()) != 0) return false;
+        }
+
+        return true;
+    }
+
+    /** Agrees with {@link ReadableHashSet#hashCode} for the same elements. */
+    @Override
+    public int hashCode() {
+        final boolean containsNull = this.size != 0 && this.first() == null;
+        return (1 + this.hashSum) * (containsNull ? 31 : 1);
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ");
+        this.forEach(elem -> joiner.add(String.valueOf(elem)));
+
+        return joiner.toString();
+    }
+
+    /**
+     * A node of the tree. A leaf holds elements in {@link #keys}; an internal node holds {@link
+     * #children}, and separators in {@link #keys}. Every array has a slot to spare, so that a node
+     * can overflow by one before it is split.
+     */
+    protected static final class Node {
+        /**
+         * A leaf's elements, in order. For an internal node, {@code keys[i]} (for {@code i >= 1})
+         * is greater than every element under {@code children[i - 1]}, and at most the smallest
+         * element under {@code children[i]}; {@code keys[0]} is ignored.
+         */
+        protected final Object[] keys = new Object[MAX_NODE_SIZE + 1];
+
+        /** The number of elements of a leaf, or of children of an internal node. */
+        protected int count = 0;
+
+        /** {@code null} for a leaf. */
+        @Nullable protected final Node[] children;
+
+        /** The number of elements under each child, or {@code null} for a leaf. */
+        @Nullable protected final int[] sizes;
+
+        /** The following leaf, or {@code null} for the last leaf and for internal nodes. */
+        @Nullable protected Node next = null;
+
+        protected Node(final boolean leaf) {
+            this.children = leaf ? null : new Node[MAX_NODE_SIZE + 1];
+            this.sizes = leaf ? null : new int[MAX_NODE_SIZE + 1];
+        }
+
+        protected boolean isLeaf() {
+            return this.children == null;
+        }
+    }
+
+    /** Visits the elements at the indices [from, to), following the links between leaves. */
+    protected class ReadableBTreeSetIterator implements ReadableIterator<E> {
+        @Nullable protected Node leaf;
+        protected int offset;
+
+        /** The index of the next element in the whole set. */
+        protected int index;
+
+        protected int end;
+
+        protected ReadableBTreeSetIterator(final int from, final int to) {
+            this.end = to;
+            this.seek(from);
+        }
+
+        /** Positions the iterator before the element at {@code index}, descending from the root. */
+        protected void seek(final int index) {
+            this.index = index;
+            if (index >= ReadableBTreeSet.this.size) {
+                this.leaf = null;
+                return;
+            }
+
+            int remaining = index;
+            Node node = ReadableBTreeSet.this.root;
+            while (!node.isLeaf()) {
+                int child = 0;
+                while (remaining >= node.sizes[child]) {
+                    remaining -= node.sizes[child++];
+                }
+                node = node.children[child];
+            }
+
+            this.leaf = node;
+            this.offset = remaining;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.end;
+        }
+
+        @Nullable
+        @Override
+        public E next() throws IllegalStateException {
+            if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
+
+            if (this.offset == this.leaf.count) {
+                this.leaf = this.leaf.next;
+                this.offset = 0;
+            }
+            this.index++;
+
+            //noinspection unchecked
+            return (E) this.leaf.keys[this.offset++];
+        }
+
+        /** Reads each leaf's array in turn, with no checks per element. */
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            while (this.index < this.end) {
+                if (this.offset == this.leaf.count) {
+                    this.leaf = this.leaf.next;
+                    this.offset = 0;
+                }
+
+                final int start = this.offset;
+                final int stop = Math.min(this.leaf.count, start + this.end - this.index);
+                for (int i = start; i < stop; i++) {
+                    //noinspection unchecked
+                    action.accept((E) this.leaf.keys[i]);
+                }
+
+                this.offset = stop;
+                this.index += stop - start;
+            }
+        }
+    }
+
+    /**
+     * The elements between two bounds. Its indices into the whole set are found again on every
+     * call, so the view stays accurate as a {@link WritableBTreeSet} changes underneath it.
+     */
+    protected class ReadableSubSet implements ReadableSortedSet<E> {
+        protected final boolean hasFrom;
+        @Nullable protected final E from;
+        protected final boolean fromInclusive;
+        protected final boolean hasTo;
+        @Nullable protected final E to;
+        protected final boolean toInclusive;
+
+        protected ReadableSubSet(
+                final boolean hasFrom,
+                @Nullable final E from,
+                final boolean fromInclusive,
+                final boolean hasTo,
+                @Nullable final E to,
+                final boolean toInclusive) {
+            this.hasFrom = hasFrom;
+            this.from = from;
+            this.fromInclusive = fromInclusive;
+            this.hasTo = hasTo;
+            this.to = to;
+            this.toInclusive = toInclusive;
+        }
+
+        /** @return The index in the whole set of this view's first element */
+        protected int fromIndex() {
+            return this.hasFrom ? ReadableBTreeSet.this.rank(this.from, !this.fromInclusive) : 0;
+        }
+
+        /** @return The index in the whole set just past this view's last element */
+        protected int toIndex() {
+            final int to =
+                    this.hasTo
+                            ? ReadableBTreeSet.this.rank(this.to, this.toInclusive)
+                            : ReadableBTreeSet.this.size;
+
+            // an empty range with equal bounds, exclusive on one side, ends before it starts
+            return Math.max(to, this.fromIndex());
+        }
+
+        protected boolean inRange(@Nullable final Object e) {
+            if (this.hasFrom) {
+                final int cmp = ReadableBTreeSet.this.compare(e, this.from);
+                if (cmp < 0 || (cmp == 0 && !this.fromInclusive)) return false;
+            }
+            if (this.hasTo) {
+                final int cmp = ReadableBTreeSet.this.compare(e, this.to);
+                if (cmp > 0 || (cmp == 0 && !this.toInclusive)) return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public Comparator<? super E> comparator() {
+            return ReadableBTreeSet.this.comparator;
+        }
+
+        @Override
+        public boolean contains(@Nullable final Object e) {
+            return this.inRange(e) && ReadableBTreeSet.this.contains(e);
+        }
+
+        @Override
+        public int size() {
+            return this.toIndex() - this.fromIndex();
+        }
+
+        @Nullable
+        @Override
+        public E first() throws IllegalStateException {
+            return ReadableBTreeSet.this.first(this.fromIndex(), this.toIndex());
+        }
+
+        @Nullable
+        @Override
+        public E last() throws IllegalStateException {
+            return ReadableBTreeSet.this.last(this.fromIndex(), this.toIndex());
+        }
+
+        @Nullable
+        @Override
+        public E lower(@Nullable final E e) {
+            return ReadableBTreeSet.this.below(this.fromIndex(), this.toIndex(), e, false);
+        }
+
+        @Nullable
+        @Override
+        public E floor(@Nullable final E e) {
+            return ReadableBTreeSet.this.below(this.fromIndex(), this.toIndex(), e, true);
+        }
+
+        @Nullable
+        @Override
+        public E ceiling(@Nullable final E e) {
+            return ReadableBTreeSet.this.above(this.fromIndex(), this.toIndex(), e, true);
+        }
+
+        @Nullable
+        @Override
+        public E higher(@Nullable final E e) {
+            return ReadableBTreeSet.this.above(this.fromIndex(), this.toIndex(), e, false);
+        }
+
+        @Override
+        public int rank(@Nullable final E e) {
+            final int from = this.fromIndex();
+            final int rank = ReadableBTreeSet.this.rank(e, false);
+
+            return Math.min(Math.max(rank, from), this.toIndex()) - from;
+        }
+
+        @Nullable
+        @Override
+        public E select(final int index) throws IllegalArgumentException {
+            final int from = this.fromIndex();
+            checkIndex(index, this.toIndex() - from);
+
+            return ReadableBTreeSet.this.select(from + index);
+        }
+
+        @Override
+        public ReadableSortedSet<E> subSet(
+                @Nullable final E from,
+                final boolean fromInclusive,
+                @Nullable final E to,
+                final boolean toInclusive)
+                throws IllegalArgumentException {
+            if (ReadableBTreeSet.this.compare(from, to) > 0) {
+                throw new IllegalArgumentException("From " + from + " exceeds to " + to);
+            }
+
+            return this.narrowed(true, from, fromInclusive, true, to, toInclusive);
+        }
+
+        @Override
+        public ReadableSortedSet<E> headSet(@Nullable final E to, final boolean inclusive) {
+            return this.narrowed(false, null, false, true, to, inclusive);
+        }
+
+        @Override
+        public ReadableSortedSet<E> tailSet(@Nullable final E from, final boolean inclusive) {
+            return this.narrowed(true, from, inclusive, false, null, false);
+        }
+
+        /** @return A view over the intersection of this view's range and the given one */
+        protected ReadableSubSet narrowed(
+                boolean hasFrom,
+                @Nullable E from,
+                boolean fromInclusive,
+                boolean hasTo,
+                @Nullable E to,
+                boolean toInclusive) {
+            if (this.hasFrom) {
+                final int cmp = hasFrom ? ReadableBTreeSet.this.compare(this.from, from) : 1;
+                if (cmp > 0 || (cmp == 0 && !this.fromInclusive)) {
+                    hasFrom = true;
+                    from = this.from;
+                    fromInclusive = this.fromInclusive;
+                }
+            }
+            if (this.hasTo) {
+                final int cmp = hasTo ? ReadableBTreeSet.this.compare(this.to, to) : -1;
+                if (cmp < 0 || (cmp == 0 && !this.toInclusive)) {
+                    hasTo = true;
+                    to = this.to;
+                    toInclusive = this.toInclusive;
+                }
+            }
+
+            return ReadableBTreeSet.this.newSubSet(
+                    hasFrom, from, fromInclusive, hasTo, to, toInclusive);
+        }
+
+        @Override
+        public ReadableIterator<E> iterator() {
+            return new ReadableBTreeSetIterator(this.fromIndex(), this.toIndex());
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) return true;
+            if (o == null || this.getClass() != o.getClass()) return false;
+
+            final ReadableSortedSet<?> that = (ReadableSortedSet<?>) o;
+            return this.size() == that.size() && that.containsAll(this);
+        }
+
+        @Override
+        public int hashCode() {
+            int sum = 0;
+            boolean containsNull = false;
+            for (final ReadableIterator<E> iter = this.iterator(); iter.hasNext(); ) {
+                final E elem = iter.next();
+                if (elem == null) {
+                    containsNull = true;
+                } else {
+                    sum += elem.hashCode();
+                }
+            }
+
+            return (1 + sum) * (containsNull ? 31 : 1);
+        }
+
+        @Override
+        public String toString() {
+            final StringJoiner joiner = new StringJoiner(", ");
+            this.forEach(elem -> joiner.add(String.valueOf(elem)));
+
+            return joiner.toString();
+        }
+    }
+}
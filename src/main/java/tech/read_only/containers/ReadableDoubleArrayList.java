@@ -0,0 +1,176 @@
+package tech.read_only.containers;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableList} of {@code double}s backed by a {@code double[]}. Elements are never boxed
+ * unless accessed through the {@link ReadableList} methods; prefer {@link #getDouble}, {@link
+ * #indexOfDouble}, {@link #containsDouble} and {@link ReadableDoubleIterator#nextDouble}. Cannot
+ * contain {@code null}.
+ */
+public class ReadableDoubleArrayList extends AbstractReadableList<Double> {
+    protected double[] array;
+
+    public ReadableDoubleArrayList() {
+        array = new double[0];
+    }
+
+    public ReadableDoubleArrayList(final double... elems) {
+        array = new double[elems.length];
+        System.arraycopy(elems, 0, array, 0, elems.length);
+    }
+
+    /** @throws NullPointerException if {@code container} contains {@code null} */
+    public ReadableDoubleArrayList(@Nullable final Container<Double> container) {
+        if (container == null) {
+            array = new double[0];
+            return;
+        }
+
+        if (container instanceof ReadableDoubleArrayList) {
+            array = ((ReadableDoubleArrayList) container).toDoubleArray();
+            return;
+        }
+
+        array = new double[container.size()];
+        final ReadableIterator<Double> iter = container.iterator();
+        for (int i = 0; i < container.size(); i++) {
+            array[i] = iter.next();
+        }
+    }
+
+    /**
+     * Like {@link #get}, but without boxing the element.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds (less than 0 or greater than
+     *     or equal to {@link #size})
+     */
+    public double getDouble(final int index) {
+        this.checkIndex(index);
+
+        return array[index];
+    }
+
+    /** Boxes the result of {@link #getDouble}. Never returns {@code null}. */
+    @Override
+    public Double get(final int index) {
+        return this.getDouble(index);
+    }
+
+    protected final void checkIndex(final int index) {
+        if (index >= this.size() || index < 0) {
+            throw new IndexOutOfBoundsException("Size: " + this.size() + " Index: " + index);
+        }
+    }
+
+    /** Like {@link #contains}, but without boxing the element. */
+    public boolean containsDouble(final double e) {
+        return this.indexOfDouble(e) >= 0;
+    }
+
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        return this.indexOf(e) >= 0;
+    }
+
+    /**
+     * Like {@link #indexOf}, but without boxing the element. Elements are compared the way {@link
+     * Double#equals} compares them, so {@code NaN} can be found and {@code -0.0} is not {@code
+     * 0.0}.
+     */
+    public int indexOfDouble(final double e) {
+        final int size = this.size();
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(array[i]) == Double.doubleToLongBits(e)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /** @return -1 for {@code null} or anything that is not a {@link Double} */
+    @Override
+    public int indexOf(@Nullable final Object e) {
+        if (!(e instanceof Double)) return -1;
+
+        return this.indexOfDouble((Double) e);
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    /** Boxes every element; prefer {@link #toDoubleArray}. */
+    @Override
+    public Double[] toArray() {
+        final Double[] copy = new Double[this.size()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = this.array[i];
+        }
+
+        return copy;
+    }
+
+    /** @return An array containing the same elements as this list, in the same order */
+    public double[] toDoubleArray() {
+        final double[] copy = new double[this.size()];
+        System.arraycopy(this.array, 0, copy, 0, this.size());
+
+        return copy;
+    }
+
+    @Override
+    public boolean listEquals(@Nullable final ReadableList<?> other) {
+        if (!(other instanceof ReadableDoubleArrayList)) return super.listEquals(other);
+
+        final ReadableDoubleArrayList that = (ReadableDoubleArrayList) other;
+        if (this.size() != that.size()) return false;
+
+        for (int i = 0; i < this.size(); i++) {
+            if (Double.doubleToLongBits(this.array[i]) != Double.doubleToLongBits(that.array[i]))
+                return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        return super.equals(o);
+    }
+
+    /** Consistent with {@link AbstractReadableList#hashCode}, without boxing. */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < this.size(); i++) {
+            result = 31 * result + Double.hashCode(this.array[i]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public ReadableDoubleIterator iterator() {
+        return new ReadableDoubleArrayListIterator();
+    }
+
+    /** A {@link ReadableDoubleIterator} reading straight from the backing array. */
+    protected class ReadableDoubleArrayListIterator implements ReadableDoubleIterator {
+        protected int currIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return this.currIndex < ReadableDoubleArrayList.this.size();
+        }
+
+        @Override
+        public double nextDouble() throws IllegalStateException {
+            if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
+
+            return ReadableDoubleArrayList.this.array[this.currIndex++];
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package tech.read_only.containers;
+
+/**
+ * A {@link ReadableIterator} over {@code double}s that can traverse them without boxing.
+ *
+ * @see ReadableDoubleArrayList
+ */
+public interface ReadableDoubleIterator extends ReadableIterator<Double> {
+    /**
+     * Like {@link #next}, but without boxing the element.
+     *
+     * @return The next element in this iterator's traversal
+     * @throws IllegalStateException if this iterator has no elements left to traverse
+     */
+    double nextDouble() throws IllegalStateException;
+
+    /** Boxes the result of {@link #nextDouble}. Never returns {@code null}. */
+    @Override
+    default Double next() throws IllegalStateException {
+        return this.nextDouble();
+    }
+}
@@ -0,0 +1,458 @@
+package tech.read_only.containers;
+
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableMap} with efficient lookup times based on {@code K.hashCode()}'s efficiency.
+ *
+ * <p>Keys and values are stored in two parallel flat arrays, probed like {@link ReadableHashSet}'s
+ * table: a key's value sits at the same index as the key. There is no node object per entry, so a
+ * lookup touches at most the two arrays, and the table's length is always zero or a power of two
+ * with at least one empty slot.
+ */
+public class ReadableHashMap<K, V> implements ReadableMap<K, V> {
+    protected final float maxLoadFactor;
+
+    /** Slots are either {@code null} (empty) or hold a non-null key. */
+    protected Object[] keyTable;
+
+    /** The value of the key in the same slot of {@link #keyTable}; {@code null} in empty slots. */
+    protected Object[] valueTable;
+
+    /** The number of keys, including {@code null}. */
+    protected int size = 0;
+
+    protected boolean containsNullKey = false;
+
+    @Nullable protected Object nullKeyValue = null;
+
+    protected ReadableHashMap(final float loadFactor) {
+        this.maxLoadFactor = loadFactor;
+        this.keyTable = new Object[0];
+        this.valueTable = new Object[0];
+    }
+
+    protected ReadableHashMap(
+            @Nullable final ReadableMap<? extends K, ? extends V> other, final float loadFactor) {
+        this.maxLoadFactor = loadFactor;
+
+        if (other == null) {
+            this.keyTable = new Object[0];
+            this.valueTable = new Object[0];
+            return;
+        }
+
+        final int capacity = ReadableHashSet.capacityFor(other.size(), loadFactor);
+        this.keyTable = new Object[capacity];
+        this.valueTable = new Object[capacity];
+
+        for (final ReadableIterator<? extends Entry<? extends K, ? extends V>> iter =
+                        other.entries().iterator();
+                iter.hasNext(); ) {
+            final Entry<? extends K, ? extends V> entry = iter.next();
+            final K key = entry.getKey();
+
+            if (key == null) {
+                this.containsNullKey = true;
+                this.nullKeyValue = entry.getValue();
+            } else {
+                final int slot = ~this.findSlot(this.keyTable, key);
+                this.keyTable[slot] = key;
+                this.valueTable[slot] = entry.getValue();
+            }
+            this.size++;
+        }
+    }
+
+    public ReadableHashMap() {
+        this(ReadableHashSet.DEFAULT_MAX_LOAD_FACTOR);
+    }
+
+    public ReadableHashMap(@Nullable final ReadableMap<? extends K, ? extends V> other) {
+        this(other, ReadableHashSet.DEFAULT_MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * @return The number of structural modifications so far, which view iterators compare against
+     *     to fail fast; always 0, since this map is never modified after construction
+     */
+    protected int modCount() {
+        return 0;
+    }
+
+    /** @return The slot {@code key} would occupy in {@code table} if there were no collisions */
+    protected int homeSlot(final Object[] table, final Object key) {
+        return ReadableHashSet.spread(key.hashCode()) & (table.length - 1);
+    }
+
+    /**
+     * Probes {@code table} for {@code key}.
+     *
+     * @param table Must not be zero-length
+     * @param key Must not be {@code null}
+     * @return The slot holding {@code key} if present; otherwise the bitwise complement of the
+     *     empty slot where it would be inserted (always negative)
+     */
+    protected int findSlot(final Object[] table, final Object key) {
+        final int mask = table.length - 1;
+        for (int i = this.homeSlot(table, key); ; i = (i + 1) & mask) {
+            final Object candidate = table[i];
+            if (candidate == null) return ~i;
+            if (candidate == key || key.equals(candidate)) return i;
+        }
+    }
+
+    /** @return The slot holding {@code key}; -1 if it is not in the table */
+    protected int slotOf(final Object key) {
+        if (this.keyTable.length == 0) return -1;
+
+        final int slot = this.findSlot(this.keyTable, key);
+        return slot >= 0 ? slot : -1;
+    }
+
+    @Nullable
+    @Override
+    public V get(@Nullable final Object key) {
+        if (key == null) {
+            //noinspection unchecked
+            return (V) this.nullKeyValue;
+        }
+
+        final int slot = this.slotOf(key);
+
+        //noinspection unchecked
+        return slot < 0 ? null : (V) this.valueTable[slot];
+    }
+
+    @Nullable
+    @Override
+    public V getOrDefault(@Nullable final Object key, @Nullable final V defaultValue) {
+        if (key == null) {
+            //noinspection unchecked
+            return this.containsNullKey ? (V) this.nullKeyValue : defaultValue;
+        }
+
+        final int slot = this.slotOf(key);
+
+        //noinspection unchecked
+        return slot < 0 ? defaultValue : (V) this.valueTable[slot];
+    }
+
+    @Override
+    public boolean containsKey(@Nullable final Object key) {
+        if (key == null) return this.containsNullKey;
+
+        return this.slotOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public ReadableSet<K> keys() {
+        return new KeyView();
+    }
+
+    @Override
+    public Container<V> values() {
+        return new ValueView();
+    }
+
+    @Override
+    public ReadableSet<Entry<K, V>> entries() {
+        return new EntryView();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+
+        final ReadableHashMap<?, ?> that = (ReadableHashMap<?, ?>) o;
+        if (this.size != that.size || this.containsNullKey != that.containsNullKey) return false;
+        if (this.containsNullKey && !Objects.equals(this.nullKeyValue, that.nullKeyValue)) {
+            return false;
+        }
+
+        for (int i = 0; i < this.keyTable.length; i++) {
+            final Object key = this.keyTable[i];
+            if (key == null) continue;
+
+            final int slot = that.slotOf(key);
+            if (slot < 0 || !Objects.equals(this.valueTable[i], that.valueTable[slot])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = this.containsNullKey ? Objects.hashCode(this.nullKeyValue) : 0;
+        for (int i = 0; i < this.keyTable.length; i++) {
+            final Object key = this.keyTable[i];
+            if (key != null) {
+                hashCode += key.hashCode() ^ Objects.hashCode(this.valueTable[i]);
+            }
+        }
+
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (final ReadableIterator<Entry<K, V>> iter = this.entries().iterator();
+                iter.hasNext(); ) {
+            builder.append(iter.next());
+            if (iter.hasNext()) {
+                builder.append(", ");
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /** An immutable {@link Entry}, created on demand by the {@link #entries} view. */
+    protected static final class MapEntry<K, V> implements Entry<K, V> {
+        @Nullable protected final K key;
+        @Nullable protected final V value;
+
+        protected MapEntry(@Nullable final K key, @Nullable final V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Nullable
+        @Override
+        public K getKey() {
+            return this.key;
+        }
+
+        @Nullable
+        @Override
+        public V getValue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry)) return false;
+
+            final Entry<?, ?> that = (Entry<?, ?>) o;
+            return Objects.equals(this.key, that.getKey())
+                    && Objects.equals(this.value, that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.key) ^ Objects.hashCode(this.value);
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    /**
+     * Traverses the {@code null} key's slot (if contained) and then the table slots, in the same
+     * order for all three views.
+     */
+    protected abstract class SlotIterator<T> implements ReadableIterator<T> {
+        protected int currIndex = 0;
+
+        /** The slot of the last traversed key; -1 for the {@code null} key. */
+        protected int lastSlot = -1;
+
+        protected int expectedModCount = ReadableHashMap.this.modCount();
+
+        @Override
+        public boolean hasNext() {
+            return this.currIndex < ReadableHashMap.this.size;
+        }
+
+        /**
+         * @throws ConcurrentModificationException if the map was structurally modified since this
+         *     iterator was created
+         */
+        protected void checkForComodification() throws ConcurrentModificationException {
+            if (ReadableHashMap.this.modCount() != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * @throws ConcurrentModificationException if the map was structurally modified since this
+         *     iterator was created
+         * @throws IllegalStateException if there are no keys left to traverse
+         */
+        protected void advance() throws ConcurrentModificationException, IllegalStateException {
+            this.checkForComodification();
+            if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
+            if (this.currIndex++ == 0 && ReadableHashMap.this.containsNullKey) {
+                this.lastSlot = -1;
+                return;
+            }
+
+            final Object[] table = ReadableHashMap.this.keyTable;
+            do {
+                this.lastSlot++;
+            } while (table[this.lastSlot] == null);
+        }
+
+        @Nullable
+        protected K lastKey() {
+            //noinspection unchecked
+            return this.lastSlot < 0 ? null : (K) ReadableHashMap.this.keyTable[this.lastSlot];
+        }
+
+        @Nullable
+        protected V lastValue() {
+            //noinspection unchecked
+            return (V)
+                    (this.lastSlot < 0
+                            ? ReadableHashMap.this.nullKeyValue
+                            : ReadableHashMap.this.valueTable[this.lastSlot]);
+        }
+    }
+
+    /** The set of keys, backed by {@link #keyTable}. */
+    protected class KeyView implements ReadableSet<K> {
+        @Override
+        public boolean contains(@Nullable final Object e) {
+            return ReadableHashMap.this.containsKey(e);
+        }
+
+        @Override
+        public int size() {
+            return ReadableHashMap.this.size;
+        }
+
+        @Override
+        public ReadableIterator<K> iterator() {
+            return new SlotIterator<K>() {
+                @Nullable
+                @Override
+                public K next() throws IllegalStateException {
+                    this.advance();
+                    return this.lastKey();
+                }
+            };
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) return true;
+            if (o == null || this.getClass() != o.getClass()) return false;
+
+            final KeyView that = (KeyView) o;
+            return this.size() == that.size() && this.containsAll(that);
+        }
+
+        /** Consistent with {@link ReadableHashSet#hashCode}. */
+        @Override
+        public int hashCode() {
+            int sum = 0;
+            for (final Object key : ReadableHashMap.this.keyTable) {
+                if (key != null) {
+                    sum += key.hashCode();
+                }
+            }
+
+            return (1 + sum) * (ReadableHashMap.this.containsNullKey ? 31 : 1);
+        }
+    }
+
+    /** The values, backed by {@link #valueTable}. */
+    protected class ValueView implements Container<V> {
+        @Override
+        public boolean contains(@Nullable final Object e) {
+            if (ReadableHashMap.this.containsNullKey
+                    && Objects.equals(e, ReadableHashMap.this.nullKeyValue)) {
+                return true;
+            }
+
+            final Object[] keyTable = ReadableHashMap.this.keyTable;
+            final Object[] valueTable = ReadableHashMap.this.valueTable;
+            for (int i = 0; i < keyTable.length; i++) {
+                if (keyTable[i] != null && Objects.equals(e, valueTable[i])) return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public int size() {
+            return ReadableHashMap.this.size;
+        }
+
+        @Override
+        public ReadableIterator<V> iterator() {
+            return new SlotIterator<V>() {
+                @Nullable
+                @Override
+                public V next() throws IllegalStateException {
+                    this.advance();
+                    return this.lastValue();
+                }
+            };
+        }
+    }
+
+    /** The set of entries, backed by both tables. */
+    protected class EntryView implements ReadableSet<Entry<K, V>> {
+        @Override
+        public boolean contains(@Nullable final Object e) {
+            if (!(e instanceof Entry)) return false;
+
+            final Entry<?, ?> entry = (Entry<?, ?>) e;
+            final Object key = entry.getKey();
+            if (key == null) {
+                return ReadableHashMap.this.containsNullKey
+                        && Objects.equals(entry.getValue(), ReadableHashMap.this.nullKeyValue);
+            }
+
+            final int slot = ReadableHashMap.this.slotOf(key);
+            return slot >= 0
+                    && Objects.equals(entry.getValue(), ReadableHashMap.this.valueTable[slot]);
+        }
+
+        @Override
+        public int size() {
+            return ReadableHashMap.this.size;
+        }
+
+        @Override
+        public ReadableIterator<Entry<K, V>> iterator() {
+            return new SlotIterator<Entry<K, V>>() {
+                @Override
+                public Entry<K, V> next() throws IllegalStateException {
+                    this.advance();
+                    return new MapEntry<>(this.lastKey(), this.lastValue());
+                }
+            };
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) return true;
+            if (o == null || this.getClass() != o.getClass()) return false;
+
+            final EntryView that = (EntryView) o;
+            return this.size() == that.size() && this.containsAll(that);
+        }
+
+        @Override
+        public int hashCode() {
+            return ReadableHashMap.this.hashCode();
+        }
+    }
+}
@@ -1,51 +1,162 @@
 package tech.read_only.containers;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
 /**
  * A {@link ReadableSet} with efficient lookup/insertion times based on {@code E.hashCode()}'s
- * efficiency.
+ * efficiency, or that of the set's {@link HashingStrategy}.
+ *
+ * <p>Elements are stored in a single flat open-addressing table with linear probing. The table's
+ * length is always zero or a power of two, and a non-empty table always has at least one empty
+ * slot, so every probe terminates. A parallel table stores each element's hash, so probes compare
+ * hashes before calling {@code equals}, and the table is rehashed without calling {@code hashCode}.
+ *
+ * <p>Hash codes are mixed with a seed chosen at random when the class loads (see {@link #spread}),
+ * so keys crafted to share home slots in one JVM are scattered in the next. Keys whose hash codes
+ * are fully equal still share one probe run, since no mixing can tell them apart, so under the
+ * natural strategy, once an insertion passes {@link #OVERFLOW_THRESHOLD} elements with its own hash
+ * whose class is comparable to itself, all of them move to a small sorted {@link #overflow}.
+ * Lookups of that hash then binary search it, and only call {@code equals} on the elements that
+ * {@code compareTo} ranks equal, so a {@code compareTo} inconsistent with {@code equals} costs time
+ * but never loses elements.
  */
 public class ReadableHashSet<E> implements ReadableSet<E> {
     protected static final float DEFAULT_MAX_LOAD_FACTOR = 0.75f;
+    protected static final int MINIMUM_CAPACITY = 4;
+    protected static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** The system property that, if set to an integer, replaces the random {@link #HASH_SEED}. */
+    protected static final String HASH_SEED_PROPERTY = "tech.read_only.containers.hashSeed";
+
+    /**
+     * Mixed into every hash code by {@link #spread}. Shared by all instances, so that tables can
+     * still be copied and compared between sets; a fixed seed gives reproducible iteration order.
+     */
+    protected static final int HASH_SEED = initialHashSeed();
+
+    /** Containers up to this size are searched linearly by bulk operations, instead of copied. */
+    protected static final int LINEAR_LOOKUP_THRESHOLD = 16;
+
+    /** Set algebra over tables at least this long tests elements in parallel. */
+    protected static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** An insertion that passes this many spillable elements of its own hash spills them all. */
+    protected static final int OVERFLOW_THRESHOLD = 8;
+
+    /**
+     * Whether a class may spill into {@link #overflow}: {@link String}, or a class that directly
+     * implements {@code Comparable} of itself, as {@link java.util.HashMap} checks before ordering
+     * colliding keys. Only such elements can be compared to each other without a {@link
+     * ClassCastException}.
+     */
+    protected static final ClassValue<Boolean> SPILLABLE =
+            new ClassValue<Boolean>() {
+                @Override
+                protected Boolean computeValue(final Class<?> type) {
+                    if (type == String.class) return true;
+                    if (!Comparable.class.isAssignableFrom(type)) return false;
+
+                    for (final Type iface : type.getGenericInterfaces()) {
+                        if (iface instanceof ParameterizedType
+                                && ((ParameterizedType) iface).getRawType() == Comparable.class) {
+                            final Type[] args =
+                                    ((ParameterizedType) iface).getActualTypeArguments();
+                            if (args.length == 1 && args[0] == type) return true;
+                        }
+                    }
+
+                    return false;
+                }
+            };
 
     protected final float maxLoadFactor;
 
-    // TODO: Create a Node class and use a linked list of Node<E> for each entry in the array
-    protected Object[][] hashtable;
+    /** Decides which elements are equal, and hashes them. */
+    protected final HashingStrategy<? super E> strategy;
+
+    /** Slots are either {@code null} (empty) or hold a non-null element. */
+    protected Object[] hashtable;
+
+    /**
+     * Each slot holds the hash of the element in the same slot of {@link #hashtable}, and is
+     * meaningless for empty slots.
+     */
+    protected int[] hashes;
+
     protected int size = 0;
 
-    protected Integer cachedHashCode = null;
+    /**
+     * The sum of the non-null elements' hashes, kept up to date by every modification so that
+     * {@link #hashCode} takes constant time.
+     */
+    protected int hashSum = 0;
 
     protected boolean containsNull = false;
 
-    protected ReadableHashSet(@Nullable final E e, final float loadFactor) {
+    /**
+     * The {@link #SPILLABLE} elements of the hashes that spilled, kept out of the table so that no
+     * probe run fills up with one hash; {@code null} until a hash first spills. Sorted by hash, and
+     * then by {@link #compareSpilled}, with {@link #overflowSize} elements followed by spare slots.
+     * Counted in {@link #size} and {@link #hashSum} like any other element.
+     *
+     * <p>A hash has spilled exactly while one of these elements has it, and all spillable elements
+     * of that hash are then here rather than in the table.
+     */
+    @Nullable protected Object[] overflow = null;
+
+    /** The hashes of {@link #overflow}'s elements, in the same order. */
+    @Nullable protected int[] overflowHashes = null;
+
+    protected int overflowSize = 0;
+
+    protected ReadableHashSet(
+            @Nullable final E e,
+            final float loadFactor,
+            final HashingStrategy<? super E> strategy) {
         this.maxLoadFactor = loadFactor;
+        this.strategy = strategy;
 
         if (e == null) {
-            this.hashtable = new Object[0][];
+            this.hashtable = new Object[0];
+            this.hashes = new int[0];
             this.containsNull = true;
         } else {
-            this.hashtable = new Object[][] {new Object[] {e}};
+            final int capacity = capacityFor(1, loadFactor);
+            final int hash = this.hash(e);
+            this.hashtable = new Object[capacity];
+            this.hashes = new int[capacity];
+            this.addToTable(this.hashtable, this.hashes, e, hash);
+            this.hashSum = hash;
         }
 
         this.size = 1;
     }
 
-    protected ReadableHashSet(final E[] array, final float loadFactor) {
+    protected ReadableHashSet(
+            final E[] array, final float loadFactor, final HashingStrategy<? super E> strategy) {
         this.maxLoadFactor = loadFactor;
+        this.strategy = strategy;
         this.setup(array);
     }
 
     protected void setup(final E[] array) {
-        this.hashtable = new Object[(int) (array.length / this.maxLoadFactor)][];
+        final int capacity = capacityFor(array.length, this.maxLoadFactor);
+        this.hashtable = new Object[capacity];
+        this.hashes = new int[capacity];
         for (final E elem : array) {
-            if (this.contains(elem)) continue;
-
             if (elem == null) {
                 if (!this.containsNull) {
                     this.containsNull = true;
@@ -54,51 +165,457 @@ public class ReadableHashSet<E> implements ReadableSet<E> {
                 continue;
             }
 
-            final int index = this.getIndex(elem);
-            Object[] elems = this.hashtable[index];
+            final int hash = this.hash(elem);
+            if (this.overflows(elem, hash)) {
+                final int index = this.findInOverflow(elem, hash);
+                if (index < 0) {
+                    this.insertIntoOverflow(~index, elem, hash);
+                    this.size++;
+                    this.hashSum += hash;
+                }
+                continue;
+            }
 
-            if (elems == null) {
-                elems = new Object[] {elem};
-                this.size++;
-            } else if (!this.contains(elem)) {
-                final Object[] newElems = new Object[elems.length + 1];
-                System.arraycopy(elems, 0, newElems, 0, elems.length);
-                newElems[elems.length] = elem;
-                elems = newElems;
+            final int slot = this.findSlot(this.hashtable, this.hashes, elem, hash);
+            if (slot < 0) {
+                this.hashtable[~slot] = elem;
+                this.hashes[~slot] = hash;
                 this.size++;
+                this.hashSum += hash;
+                this.spillIfCrowded(elem, hash, ~slot);
             }
-
-            this.hashtable[index] = elems;
         }
     }
 
-    protected ReadableHashSet(@Nullable final Container<E> other, final float loadFactor) {
+    protected ReadableHashSet(
+            @Nullable final Container<E> other,
+            final float loadFactor,
+            final HashingStrategy<? super E> strategy) {
         this.maxLoadFactor = loadFactor;
+        this.strategy = strategy;
 
         if (other == null) {
-            this.hashtable = new Object[0][];
+            this.hashtable = new Object[0];
+            this.hashes = new int[0];
             return;
         }
 
         this.setup(other.toArray());
     }
 
+    /**
+     * Wraps existing tables without copying them. The caller must never modify the tables
+     * afterwards.
+     */
+    protected ReadableHashSet(
+            final Object[] hashtable,
+            final int[] hashes,
+            final int size,
+            final boolean containsNull,
+            final int hashSum,
+            final float loadFactor,
+            final HashingStrategy<? super E> strategy) {
+        this.maxLoadFactor = loadFactor;
+        this.strategy = strategy;
+        this.hashtable = hashtable;
+        this.hashes = hashes;
+        this.size = size;
+        this.containsNull = containsNull;
+        this.hashSum = hashSum;
+    }
+
     public ReadableHashSet() {
         this.maxLoadFactor = DEFAULT_MAX_LOAD_FACTOR;
-        this.hashtable = new Object[0][];
+        this.strategy = HashingStrategy.natural();
+        this.hashtable = new Object[0];
+        this.hashes = new int[0];
     }
 
     public ReadableHashSet(@Nullable final E e) {
-        this(e, DEFAULT_MAX_LOAD_FACTOR);
+        this(e, DEFAULT_MAX_LOAD_FACTOR, HashingStrategy.natural());
     }
 
     @SafeVarargs
     public ReadableHashSet(final E... other) {
-        this(other, DEFAULT_MAX_LOAD_FACTOR);
+        this(other, DEFAULT_MAX_LOAD_FACTOR, HashingStrategy.natural());
     }
 
     public ReadableHashSet(@Nullable final Container<E> other) {
-        this(other, DEFAULT_MAX_LOAD_FACTOR);
+        this(other, DEFAULT_MAX_LOAD_FACTOR, HashingStrategy.natural());
+    }
+
+    /**
+     * @param strategy Decides which of {@code other}'s elements are equal, in place of their own
+     *     {@code equals}
+     */
+    public ReadableHashSet(
+            @Nullable final Container<E> other, final HashingStrategy<? super E> strategy) {
+        this(other, DEFAULT_MAX_LOAD_FACTOR, strategy);
+    }
+
+    /**
+     * @param expectedSize The number of non-null elements the table must hold
+     * @param loadFactor The maximum ratio of elements to slots
+     * @return The smallest power-of-two table length that holds {@code expectedSize} elements
+     *     without exceeding {@code loadFactor} and still leaves an empty slot; 0 if {@code
+     *     expectedSize} is 0
+     */
+    protected static int capacityFor(final int expectedSize, final float loadFactor) {
+        if (expectedSize == 0) return 0;
+
+        final long needed =
+                Math.max((long) Math.ceil(expectedSize / (double) loadFactor), expectedSize + 1L);
+        return ceilingPowerOfTwo(needed);
+    }
+
+    /**
+     * @return The smallest power of two that is at least {@code n}, clamped to [{@link
+     *     #MINIMUM_CAPACITY}, {@link #MAXIMUM_CAPACITY}]
+     */
+    protected static int ceilingPowerOfTwo(final long n) {
+        if (n >= MAXIMUM_CAPACITY) return MAXIMUM_CAPACITY;
+        if (n <= MINIMUM_CAPACITY) return MINIMUM_CAPACITY;
+
+        return Integer.highestOneBit((int) n - 1) << 1;
+    }
+
+    /**
+     * @return {@code other} if its {@link #contains} is fast; otherwise a copy of it as a {@link
+     *     ReadableHashSet}, so that bulk operations testing many elements against it stay linear
+     */
+    protected static Container<?> asLookup(final Container<?> other) {
+        if (other instanceof ReadableSet || other.size() <= LINEAR_LOOKUP_THRESHOLD) return other;
+
+        return new ReadableHashSet<Object>(
+                other.toArray(), DEFAULT_MAX_LOAD_FACTOR, HashingStrategy.natural());
+    }
+
+    /**
+     * @return {@code other} if it considers the same elements equal as this set; otherwise a copy
+     *     of it under this set's strategy, so that set algebra never inserts two elements this set
+     *     considers equal. The copy leaves out elements the strategy does not accept, since this
+     *     set cannot contain them.
+     */
+    protected ReadableSet<?> withSameStrategy(final ReadableSet<?> other) {
+        final HashingStrategy<?> otherStrategy =
+                other instanceof ReadableHashSet
+                        ? ((ReadableHashSet<?>) other).strategy
+                        : HashingStrategy.natural();
+        if (this.strategy.equals(otherStrategy)) return other;
+
+        final Object[] elems = other.toArray();
+        int accepted = 0;
+        for (final Object elem : elems) {
+            if (elem == null || this.accepts(elem)) {
+                elems[accepted++] = elem;
+            }
+        }
+
+        //noinspection unchecked
+        return new ReadableHashSet<Object>(
+                Arrays.copyOf(elems, accepted),
+                DEFAULT_MAX_LOAD_FACTOR,
+                (HashingStrategy<Object>) this.strategy);
+    }
+
+    /**
+     * @return Whether this set's strategy can hash a non-null element of any type; see {@link
+     *     HashingStrategy#accepts}
+     */
+    protected boolean accepts(final Object e) {
+        return this.strategy.accepts(e);
+    }
+
+    /** @return The hash of a non-null element under this set's strategy */
+    protected int hash(final Object e) {
+        //noinspection unchecked
+        return ((HashingStrategy<Object>) this.strategy).hash(e);
+    }
+
+    /** @return Whether this set's strategy considers two non-null elements equal */
+    protected boolean equivalent(final Object a, final Object b) {
+        //noinspection unchecked
+        return ((HashingStrategy<Object>) this.strategy).equivalent(a, b);
+    }
+
+    protected static int initialHashSeed() {
+        final Integer seed = Integer.getInteger(HASH_SEED_PROPERTY);
+        return seed != null ? seed : new SecureRandom().nextInt();
+    }
+
+    /**
+     * Scrambles the bits of a hash code so that keys with patterned hash codes (sequential IDs,
+     * multiples of a power of two, ...) still land on well-distributed home slots once masked. The
+     * hash code is first combined with {@link #HASH_SEED} and then run through MurmurHash3's
+     * finalizer, in which every input bit affects every output bit, so that which keys share low
+     * bits cannot be predicted without the seed.
+     */
+    protected static int spread(final int hashCode) {
+        int h = hashCode ^ HASH_SEED;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return The slot an element with the given hash would occupy in {@code table} if there were
+     *     no collisions
+     */
+    protected int homeSlot(final Object[] table, final int hash) {
+        return spread(hash) & (table.length - 1);
+    }
+
+    /**
+     * Probes {@code table} for {@code e}. Only elements whose stored hash equals {@code hash} are
+     * compared to it.
+     *
+     * @param table Must not be zero-length
+     * @param hashes The hashes of {@code table}'s elements
+     * @param e Must not be {@code null}
+     * @param hash The hash of {@code e}
+     * @return The slot holding {@code e} if present; otherwise the bitwise complement of the empty
+     *     slot where it would be inserted (always negative)
+     */
+    protected int findSlot(
+            final Object[] table, final int[] hashes, final Object e, final int hash) {
+        final int mask = table.length - 1;
+        for (int i = this.homeSlot(table, hash); ; i = (i + 1) & mask) {
+            final Object candidate = table[i];
+            if (candidate == null) return ~i;
+            if (candidate == e || (hashes[i] == hash && this.equivalent(e, candidate))) return i;
+        }
+    }
+
+    /**
+     * Places an element known not to be in the table into the first empty slot of its probe run.
+     *
+     * @param table Must not be zero-length, and must have an empty slot
+     * @param hashes The hashes of {@code table}'s elements
+     * @return The slot it was placed in
+     */
+    protected int addToTable(
+            final Object[] table, final int[] hashes, final Object e, final int hash) {
+        final int mask = table.length - 1;
+
+        int i = this.homeSlot(table, hash);
+        while (table[i] != null) {
+            i = (i + 1) & mask;
+        }
+
+        table[i] = e;
+        hashes[i] = hash;
+        return i;
+    }
+
+    /**
+     * Empties a slot using backward-shift deletion: later members of the probe run are pulled into
+     * the gap whenever the gap lies between their home slot and their current slot, so lookups
+     * never need tombstones to keep probing past it.
+     *
+     * @param table Must not be zero-length
+     * @param hashes The hashes of {@code table}'s elements, moved along with them
+     * @param slot The occupied slot to empty
+     */
+    protected void removeFromTable(final Object[] table, final int[] hashes, final int slot) {
+        final int mask = table.length - 1;
+
+        int gap = slot;
+        for (int i = (gap + 1) & mask; table[i] != null; i = (i + 1) & mask) {
+            final int home = this.homeSlot(table, hashes[i]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                table[gap] = table[i];
+                hashes[gap] = hashes[i];
+                gap = i;
+            }
+        }
+
+        table[gap] = null;
+    }
+
+    /**
+     * @return Whether crowded hashes may spill into {@link #overflow}: only under the natural
+     *     strategy, whose {@code equals} is the one {@code compareTo} is meant to agree with
+     */
+    protected boolean spillsCollisions() {
+        return HashingStrategy.natural().equals(this.strategy);
+    }
+
+    /** @return Whether a non-null element belongs in {@link #overflow} rather than the table */
+    protected boolean overflows(final Object e, final int hash) {
+        if (this.overflowSize == 0 || !SPILLABLE.get(e.getClass())) return false;
+
+        final int index = this.overflowLowerBound(hash);
+        //noinspection ConstantConditions
+        return index < this.overflowSize && this.overflowHashes[index] == hash;
+    }
+
+    /**
+     * Orders two spillable elements of the same hash: by class, and then by {@code compareTo}.
+     *
+     * @return 0 if {@code compareTo} ranks them equal, even if they are not equal
+     */
+    protected static int compareSpilled(final Object a, final Object b) {
+        final Class<?> aClass = a.getClass();
+        final Class<?> bClass = b.getClass();
+        if (aClass != bClass) {
+            final int byName = aClass.getName().compareTo(bClass.getName());
+            if (byName != 0) return byName;
+
+            // classes of the same name from different class loaders
+            return Integer.compare(
+                    System.identityHashCode(aClass), System.identityHashCode(bClass));
+        }
+
+        //noinspection unchecked
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    /**
+     * @return The first index of {@link #overflow} whose hash is not below {@code hash}; {@link
+     *     #overflowSize} if there is none
+     */
+    protected int overflowLowerBound(final int hash) {
+        final int[] hashes = this.overflowHashes;
+        int low = 0;
+        int high = this.overflowSize;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            //noinspection ConstantConditions
+            if (hashes[mid] < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Binary searches {@link #overflow} for the elements {@link #compareSpilled} ranks equal to
+     * {@code e}, and then compares only those to it.
+     *
+     * @return The index holding {@code e} if present; otherwise the bitwise complement of the index
+     *     to insert it at (always negative)
+     */
+    protected int findInOverflow(final Object e, final int hash) {
+        final Object[] overflow = this.overflow;
+        final int[] hashes = this.overflowHashes;
+        final int end = this.overflowSize;
+
+        int low = this.overflowLowerBound(hash);
+        int high = low;
+        //noinspection ConstantConditions
+        while (high < end && hashes[high] == hash) {
+            high++;
+        }
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            //noinspection ConstantConditions
+            if (compareSpilled(overflow[mid], e) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        int i = low;
+        //noinspection ConstantConditions
+        for (; i < end && hashes[i] == hash && compareSpilled(overflow[i], e) == 0; i++) {
+            if (overflow[i] == e || this.equivalent(e, overflow[i])) return i;
+        }
+
+        return ~i;
+    }
+
+    /** Inserts an element into {@link #overflow} at an index found by {@link #findInOverflow}. */
+    protected void insertIntoOverflow(final int index, final Object e, final int hash) {
+        if (this.overflow == null) {
+            this.overflow = new Object[OVERFLOW_THRESHOLD * 2];
+            this.overflowHashes = new int[OVERFLOW_THRESHOLD * 2];
+        } else if (this.overflowSize == this.overflow.length) {
+            this.overflow = Arrays.copyOf(this.overflow, this.overflowSize * 2);
+            this.overflowHashes = Arrays.copyOf(this.overflowHashes, this.overflowSize * 2);
+        }
+
+        final int moved = this.overflowSize - index;
+        System.arraycopy(this.overflow, index, this.overflow, index + 1, moved);
+        //noinspection ConstantConditions
+        System.arraycopy(this.overflowHashes, index, this.overflowHashes, index + 1, moved);
+        this.overflow[index] = e;
+        this.overflowHashes[index] = hash;
+        this.overflowSize++;
+    }
+
+    /** Removes the element at an index of {@link #overflow}, moving the later ones down. */
+    protected void removeFromOverflow(final int index) {
+        final int moved = this.overflowSize - index - 1;
+        //noinspection ConstantConditions
+        System.arraycopy(this.overflow, index + 1, this.overflow, index, moved);
+        //noinspection ConstantConditions
+        System.arraycopy(this.overflowHashes, index + 1, this.overflowHashes, index, moved);
+        this.overflow[--this.overflowSize] = null;
+    }
+
+    /**
+     * Called after {@code e} was placed in {@code slot} of an unshared {@link #hashtable}, and
+     * {@link #spill}s its hash if {@link #crowded}.
+     */
+    protected void spillIfCrowded(final Object e, final int hash, final int slot) {
+        if (this.crowded(e, hash, slot)) {
+            this.spill(hash);
+        }
+    }
+
+    /**
+     * @return Whether the probe that placed {@code e} in {@code slot} passed at least {@link
+     *     #OVERFLOW_THRESHOLD} spillable elements with the same hash. The distance from the home
+     *     slot is checked first, so ordinary insertions only pay for that.
+     */
+    protected boolean crowded(final Object e, final int hash, final int slot) {
+        final Object[] table = this.hashtable;
+        final int[] hashes = this.hashes;
+        final int mask = table.length - 1;
+        final int home = this.homeSlot(table, hash);
+        if (((slot - home) & mask) < OVERFLOW_THRESHOLD
+                || !this.spillsCollisions()
+                || !SPILLABLE.get(e.getClass())) {
+            return false;
+        }
+
+        int sameHash = 0;
+        for (int i = home; i != slot; i = (i + 1) & mask) {
+            if (hashes[i] == hash && SPILLABLE.get(table[i].getClass())) {
+                sameHash++;
+            }
+        }
+
+        return sameHash >= OVERFLOW_THRESHOLD;
+    }
+
+    /**
+     * Moves every spillable element of a hash from an unshared {@link #hashtable} into {@link
+     * #overflow}, along with every later one of that hash.
+     */
+    protected void spill(final int hash) {
+        final Object[] table = this.hashtable;
+        final int[] hashes = this.hashes;
+        final int mask = table.length - 1;
+
+        // every element of this hash lies in the run starting at its home slot, and backward
+        // shifts never move one before it, so each emptied slot is examined again
+        for (int i = this.homeSlot(table, hash); table[i] != null; ) {
+            final Object elem = table[i];
+            if (hashes[i] == hash && SPILLABLE.get(elem.getClass())) {
+                final int index = this.findInOverflow(elem, hash);
+                this.insertIntoOverflow(~index, elem, hash);
+                this.removeFromTable(table, hashes, i);
+            } else {
+                i = (i + 1) & mask;
+            }
+        }
     }
 
     @Override
@@ -107,18 +624,12 @@ public class ReadableHashSet<E> implements ReadableSet<E> {
         if (e == null) return this.containsNull;
         if (this.hashtable.length == 0) return false;
 
-        final Object[] candidates = this.hashtable[this.getIndex(e)];
-        if (candidates == null) {
-            return false;
-        }
+        if (!this.accepts(e)) return false;
 
-        for (final Object candidate : candidates) {
-            if (e.equals(candidate)) {
-                return true;
-            }
-        }
+        final int hash = this.hash(e);
+        if (this.overflows(e, hash)) return this.findInOverflow(e, hash) >= 0;
 
-        return false;
+        return this.findSlot(this.hashtable, this.hashes, e, hash) >= 0;
     }
 
     @Override
@@ -126,51 +637,303 @@ public class ReadableHashSet<E> implements ReadableSet<E> {
         return this.size;
     }
 
+    /**
+     * @return Whether {@code set} is a plain {@link ReadableHashSet} or {@link WritableHashSet}
+     *     that holds all its non-null elements in its table, none in {@link #overflow}
+     */
+    protected static boolean hasPlainTable(final Container<?> set) {
+        return (set.getClass() == ReadableHashSet.class || set.getClass() == WritableHashSet.class)
+                && ((ReadableHashSet<?>) set).overflowSize == 0;
+    }
+
+    /**
+     * @return The storage of a set's non-null elements: the table itself if the set {@link
+     *     #hasPlainTable}, or else a copy of its elements. Any {@code null} slots must be skipped.
+     */
+    protected static Object[] elementsOf(final ReadableSet<?> set) {
+        if (hasPlainTable(set)) {
+            return ((ReadableHashSet<?>) set).hashtable;
+        }
+
+        return set.toArray();
+    }
+
+    /**
+     * @return The hashes parallel to {@link #elementsOf}{@code (set)} if {@code set} {@link
+     *     #hasPlainTable} and has this set's strategy, so that they need not be computed again;
+     *     otherwise {@code null}
+     */
+    @Nullable
+    protected int[] hashesOf(final ReadableSet<?> set) {
+        if (hasPlainTable(set) && this.strategy.equals(((ReadableHashSet<?>) set).strategy)) {
+            return ((ReadableHashSet<?>) set).hashes;
+        }
+
+        return null;
+    }
+
+    /** @return The number of non-null elements of {@code set} */
+    protected static int nonNullSize(final ReadableSet<?> set) {
+        return set.containsQuietly(null) ? set.size() - 1 : set.size();
+    }
+
+    /**
+     * Inserts every non-null element of {@code source} that {@code keep} accepts into this set's
+     * table. The elements must be distinct and must not be in the table already, so no probe has to
+     * compare elements. Above {@link #PARALLEL_THRESHOLD}, the elements are tested in parallel in
+     * the common {@link java.util.concurrent.ForkJoinPool}, each task marking its own words of a
+     * bitset, and the marked elements are then inserted sequentially.
+     *
+     * @param source Distinct elements, with {@code null} for empty slots
+     * @param sourceHashes The hashes of {@code source}'s elements under this set's strategy, or
+     *     {@code null} to compute them
+     * @param keep Tests each element; must be safe to call from multiple threads at once
+     */
+    protected void insertMatching(
+            final Object[] source,
+            @Nullable final int[] sourceHashes,
+            final Predicate<Object> keep) {
+        if (source.length < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < source.length; i++) {
+                final Object elem = source[i];
+                if (elem != null && keep.test(elem)) {
+                    this.insertDistinct(
+                            elem, sourceHashes == null ? this.hash(elem) : sourceHashes[i]);
+                }
+            }
+
+            return;
+        }
+
+        final long[] marks = new long[(source.length + 63) >>> 6];
+        IntStream.range(0, marks.length)
+                .parallel()
+                .forEach(
+                        word -> {
+                            long bits = 0;
+                            final int end = Math.min(source.length, (word + 1) << 6);
+                            for (int i = word << 6; i < end; i++) {
+                                final Object elem = source[i];
+                                if (elem != null && keep.test(elem)) {
+                                    bits |= 1L << (i & 63);
+                                }
+                            }
+                            marks[word] = bits;
+                        });
+
+        for (int word = 0; word < marks.length; word++) {
+            for (long bits = marks[word]; bits != 0; bits &= bits - 1) {
+                final int i = (word << 6) + Long.numberOfTrailingZeros(bits);
+                final Object elem = source[i];
+                this.insertDistinct(elem, sourceHashes == null ? this.hash(elem) : sourceHashes[i]);
+            }
+        }
+    }
+
+    /** Adds a non-null element known not to be in the set, whose table must have room for it. */
+    protected void insertDistinct(final Object e, final int hash) {
+        if (this.overflows(e, hash)) {
+            this.insertIntoOverflow(~this.findInOverflow(e, hash), e, hash);
+        } else {
+            this.spillIfCrowded(e, hash, this.addToTable(this.hashtable, this.hashes, e, hash));
+        }
+        this.size++;
+        this.hashSum += hash;
+    }
+
+    /**
+     * @param expectedSize The number of non-null elements the result may hold
+     * @return An empty result with a table presized for {@code expectedSize} elements
+     */
+    protected ReadableHashSet<E> newResult(final int expectedSize, final boolean containsNull) {
+        final int capacity = capacityFor(expectedSize, this.maxLoadFactor);
+        final ReadableHashSet<E> result =
+                new ReadableHashSet<>(
+                        new Object[capacity],
+                        new int[capacity],
+                        0,
+                        false,
+                        0,
+                        this.maxLoadFactor,
+                        this.strategy);
+        if (containsNull) {
+            result.containsNull = true;
+            result.size = 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the union of this set and another in a single presized table, without modifying
+     * either. {@link WritableHashSet#addAll} computes it in place instead.
+     *
+     * @param other The set to unite with; copied first if it uses a different strategy
+     * @return A new set holding the elements of both sets
+     */
+    public ReadableHashSet<E> union(final ReadableSet<? extends E> other) {
+        final ReadableSet<?> that = this.withSameStrategy(other);
+        final Predicate<Object> inThat = that::containsQuietly;
+        final ReadableHashSet<E> result =
+                this.newResult(
+                        nonNullSize(this) + nonNullSize(that),
+                        this.containsQuietly(null) || inThat.test(null));
+
+        // every element of the larger set goes in; only the smaller set's elements are tested
+        final boolean thisLarger = this.size() >= that.size();
+        final ReadableSet<?> larger = thisLarger ? this : that;
+        final ReadableSet<?> smaller = thisLarger ? that : this;
+        final Predicate<Object> inLarger = larger::containsQuietly;
+
+        result.insertMatching(elementsOf(larger), this.hashesOf(larger), elem -> true);
+        result.insertMatching(
+                elementsOf(smaller), this.hashesOf(smaller), elem -> !inLarger.test(elem));
+        return result;
+    }
+
+    /**
+     * Computes the intersection of this set and another, testing the smaller set's elements against
+     * the larger set, without modifying either. {@link WritableHashSet#retainAll} computes it in
+     * place instead.
+     *
+     * @param other The set to intersect with; copied first if it uses a different strategy
+     * @return A new set holding the elements contained by both sets
+     */
+    public ReadableHashSet<E> intersection(final ReadableSet<?> other) {
+        final ReadableSet<?> that = this.withSameStrategy(other);
+        final Predicate<Object> inThat = that::containsQuietly;
+        final ReadableHashSet<E> result =
+                this.newResult(
+                        Math.min(nonNullSize(this), nonNullSize(that)),
+                        this.containsQuietly(null) && inThat.test(null));
+
+        if (this.size() <= that.size()) {
+            result.insertMatching(elementsOf(this), this.hashesOf(this), inThat);
+        } else {
+            result.insertMatching(elementsOf(that), this.hashesOf(that), this::containsQuietly);
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the elements of this set that another set does not contain, without modifying
+     * either. If the other set is much smaller, this set's table is copied and the other set's
+     * elements are removed from the copy instead, so only the smaller set is traversed. {@link
+     * WritableHashSet#removeAll} computes the difference in place instead.
+     *
+     * @param other The set whose elements to exclude; copied first if it uses a different strategy
+     * @return A new set holding the elements contained by this set but not by {@code other}
+     */
+    public ReadableHashSet<E> difference(final ReadableSet<?> other) {
+        final ReadableSet<?> that = this.withSameStrategy(other);
+        final Predicate<Object> inThat = that::containsQuietly;
+        final boolean containsNull = this.containsQuietly(null) && !inThat.test(null);
+        final Object[] elems = elementsOf(this);
+
+        if (elems == this.hashtable && that.size() < this.size() / 4) {
+            final ReadableHashSet<E> result =
+                    new ReadableHashSet<>(
+                            this.hashtable.clone(),
+                            this.hashes.clone(),
+                            this.size,
+                            this.containsNull,
+                            this.hashSum,
+                            this.maxLoadFactor,
+                            this.strategy);
+
+            final Object[] otherElems = elementsOf(that);
+            final int[] otherHashes = this.hashesOf(that);
+            for (int i = 0; i < otherElems.length; i++) {
+                final Object elem = otherElems[i];
+                if (elem == null) continue;
+
+                final int hash = otherHashes == null ? this.hash(elem) : otherHashes[i];
+                final int slot = result.findSlot(result.hashtable, result.hashes, elem, hash);
+                if (slot >= 0) {
+                    result.removeFromTable(result.hashtable, result.hashes, slot);
+                    result.size--;
+                    result.hashSum -= hash;
+                }
+            }
+
+            if (result.containsNull && !containsNull) {
+                result.containsNull = false;
+                result.size--;
+            }
+
+            return result;
+        }
+
+        final ReadableHashSet<E> result = this.newResult(nonNullSize(this), containsNull);
+        result.insertMatching(elems, this.hashesOf(this), elem -> !inThat.test(elem));
+        return result;
+    }
+
+    /** Sets using different strategies are never equal, even if they hold the same elements. */
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) return true;
         if (o == null || this.getClass() != o.getClass()) return false;
 
         final ReadableHashSet<?> that = (ReadableHashSet<?>) o;
-        return this.size == that.size
-                && this.containsNull == that.containsNull
-                && Arrays.stream(this.hashtable)
-                        .filter(Objects::nonNull)
-                        .flatMap(Arrays::stream)
-                        .filter(Objects::nonNull)
-                        .allMatch(that::contains);
+        if (this.size != that.size
+                || this.containsNull != that.containsNull
+                || this.hashSum != that.hashSum
+                || !this.strategy.equals(that.strategy)) {
+            return false;
+        }
+
+        return this.allNonNullMatch(that::containsQuietly);
     }
 
-    @Override
-    public int hashCode() {
-        if (cachedHashCode == null) {
-            cachedHashCode =
-                    Arrays.stream(this.hashtable)
-                                    .filter(Objects::nonNull)
-                                    .flatMap(Arrays::stream)
-                                    .filter(Objects::nonNull)
-                                    .map(Object::hashCode)
-                                    .reduce(1, (hc1, hc2) -> 31 * hc1 + hc2)
-                            * (this.containsNull ? 31 : 1);
+    /**
+     * @return Whether {@code test} accepts every non-null element, read without modifying the set
+     */
+    protected boolean allNonNullMatch(final Predicate<Object> test) {
+        for (final Object elem : this.hashtable) {
+            if (elem != null && !test.test(elem)) return false;
+        }
+        for (int i = 0; i < this.overflowSize; i++) {
+            //noinspection ConstantConditions
+            if (!test.test(this.overflow[i])) return false;
         }
 
-        return cachedHashCode;
+        return true;
+    }
+
+    /**
+     * Independent of iteration order, since equal sets may have differently sized tables (and so
+     * differently ordered slots). Takes constant time, since {@link #hashSum} is maintained by
+     * every modification.
+     */
+    @Override
+    public int hashCode() {
+        return (1 + this.hashSum) * (this.containsNull ? 31 : 1);
     }
 
     @Override
     public String toString() {
         return (this.containsNull ? "null" : "")
                 + (this.containsNull && this.size() > 1 ? ", " : "")
-                + Arrays.stream(this.hashtable)
-                        .filter(Objects::nonNull)
-                        .flatMap(Arrays::stream)
-                        .filter(Objects::nonNull)
+                + Stream.concat(
+                                Arrays.stream(this.hashtable).filter(Objects::nonNull),
+                                this.overflow == null
+                                        ? Stream.empty()
+                                        : Arrays.stream(this.overflow, 0, this.overflowSize))
                         .map(Object::toString)
                         .collect(Collectors.joining(", "));
     }
 
-    protected int getIndex(final Object e) {
-        return e.hashCode() % this.hashtable.length;
+    /** @return The first empty slot in the table, or -1 if the table is zero-length */
+    protected int firstEmptySlot() {
+        for (int i = 0; i < this.hashtable.length; i++) {
+            if (this.hashtable[i] == null) {
+                return i;
+            }
+        }
+
+        return -1;
     }
 
     @Override
@@ -178,10 +941,154 @@ public class ReadableHashSet<E> implements ReadableSet<E> {
         return new ReadableHashSetIterator();
     }
 
+    /**
+     * Visits {@code null} (if contained), then the table slots in index order, then {@link
+     * #overflow}.
+     */
+    @Override
+    public void forEach(final Consumer<? super E> action) {
+        if (this.containsNull) {
+            action.accept(null);
+        }
+
+        for (final Object elem : this.hashtable) {
+            if (elem != null) {
+                //noinspection unchecked
+                action.accept((E) elem);
+            }
+        }
+        for (int i = 0; i < this.overflowSize; i++) {
+            //noinspection unchecked,ConstantConditions
+            action.accept((E) this.overflow[i]);
+        }
+    }
+
+    /** Splits {@link #overflow}'s elements off along with the table's only after copying them. */
+    @Override
+    public Spliterator<E> spliterator() {
+        if (this.overflowSize != 0) {
+            return Spliterators.spliterator(this.toArray(), Spliterator.DISTINCT);
+        }
+
+        return new ReadableHashSetSpliterator(
+                this.hashtable, 0, this.hashtable.length, this.size, this.containsNull);
+    }
+
+    /**
+     * A {@link Spliterator} over the table slots [{@link #index}, {@link #fence}), splitting off
+     * the lower half of its slot range. The element count of each half is only estimated, so only
+     * an unsplit spliterator reports {@link Spliterator#SIZED}. The {@code null} element, if any,
+     * is traversed first by whichever spliterator holds the lowest slots.
+     */
+    protected class ReadableHashSetSpliterator implements Spliterator<E> {
+        protected final Object[] table;
+        protected int index;
+        protected final int fence;
+        protected int estimatedSize;
+        protected boolean exactSize = true;
+        protected boolean pendingNull;
+        protected final boolean nonNull;
+
+        protected ReadableHashSetSpliterator(
+                final Object[] table,
+                final int origin,
+                final int fence,
+                final int estimatedSize,
+                final boolean pendingNull) {
+            this.table = table;
+            this.index = origin;
+            this.fence = fence;
+            this.estimatedSize = estimatedSize;
+            this.pendingNull = pendingNull;
+            this.nonNull = !pendingNull;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super E> action) {
+            if (this.pendingNull) {
+                this.pendingNull = false;
+                action.accept(null);
+                return true;
+            }
+
+            while (this.index < this.fence) {
+                final Object elem = this.table[this.index++];
+                if (elem != null) {
+                    //noinspection unchecked
+                    action.accept((E) elem);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            if (this.pendingNull) {
+                this.pendingNull = false;
+                action.accept(null);
+            }
+
+            final Object[] table = this.table;
+            for (int i = this.index; i < this.fence; i++) {
+                final Object elem = table[i];
+                if (elem != null) {
+                    //noinspection unchecked
+                    action.accept((E) elem);
+                }
+            }
+            this.index = this.fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            final int mid = (this.index + this.fence) >>> 1;
+            if (mid <= this.index) return null;
+
+            final ReadableHashSetSpliterator prefix =
+                    new ReadableHashSetSpliterator(
+                            this.table,
+                            this.index,
+                            mid,
+                            this.estimatedSize >>> 1,
+                            this.pendingNull);
+            prefix.exactSize = false;
+
+            this.index = mid;
+            this.estimatedSize -= prefix.estimatedSize;
+            this.exactSize = false;
+            this.pendingNull = false;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.estimatedSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT
+                    | (this.exactSize ? Spliterator.SIZED : 0)
+                    | (this.nonNull ? Spliterator.NONNULL : 0);
+        }
+    }
+
+    /**
+     * Traverses {@code null} (if contained) and then the table slots, starting just after an empty
+     * slot, and then {@link #overflow} in order. No probe run can wrap around that slot, which lets
+     * subclasses shift elements backwards on removal without the traversal skipping or repeating
+     * any of them.
+     */
     protected class ReadableHashSetIterator implements ReadableIterator<E> {
+        /** The {@link #lastSlot} of an element returned from {@link #overflow}. */
+        protected static final int OVERFLOW_SLOT = -2;
+
         protected int currIndex = 0;
-        protected int outerArrayIndex = 0;
-        protected int innerArrayIndex = -1;
+        protected final int startSlot = ReadableHashSet.this.firstEmptySlot();
+        protected int slotOffset = 0;
+        protected int lastSlot = -1;
 
         @Override
         public boolean hasNext() {
@@ -192,24 +1099,69 @@ public class ReadableHashSet<E> implements ReadableSet<E> {
         @Override
         public E next() throws IllegalStateException {
             if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
-            if (this.currIndex++ == 0 && ReadableHashSet.this.containsNull) return null;
+            if (this.currIndex++ == 0 && ReadableHashSet.this.containsNull) {
+                this.lastSlot = -1;
+                return null;
+            }
+            if (this.currIndex > this.overflowStart()) {
+                this.lastSlot = OVERFLOW_SLOT;
+                //noinspection unchecked,ConstantConditions
+                return (E) ReadableHashSet.this.overflow[this.currIndex - 1 - this.overflowStart()];
+            }
+
+            return this.nextInTable();
+        }
 
-            Object[] elems = ReadableHashSet.this.hashtable[outerArrayIndex];
-            if (elems == null || this.innerArrayIndex == elems.length - 1) {
-                this.advanceOuter();
+        /** @return The number of elements traversed before the first one in {@link #overflow} */
+        protected int overflowStart() {
+            return ReadableHashSet.this.size - ReadableHashSet.this.overflowSize;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            if (!this.hasNext()) return;
+            if (this.currIndex == 0 && ReadableHashSet.this.containsNull) {
+                this.currIndex++;
+                this.lastSlot = -1;
+                action.accept(null);
             }
 
-            //noinspection unchecked
-            return (E) ReadableHashSet.this.hashtable[outerArrayIndex][++innerArrayIndex];
+            final Object[] table = ReadableHashSet.this.hashtable;
+            final int mask = table.length - 1;
+            final int tableEnd = this.overflowStart();
+            while (this.currIndex < tableEnd) {
+                this.lastSlot = (this.startSlot + ++this.slotOffset) & mask;
+                final Object elem = table[this.lastSlot];
+                if (elem != null) {
+                    this.currIndex++;
+
+                    //noinspection unchecked
+                    action.accept((E) elem);
+                }
+            }
+
+            while (this.currIndex < ReadableHashSet.this.size) {
+                this.lastSlot = OVERFLOW_SLOT;
+                //noinspection unchecked,ConstantConditions
+                action.accept((E) ReadableHashSet.this.overflow[this.currIndex++ - tableEnd]);
+            }
         }
 
-        protected void advanceOuter() {
-            this.innerArrayIndex = -1;
+        /**
+         * @return The element in the next occupied slot, recording that slot in {@link #lastSlot}
+         */
+        protected E nextInTable() {
+            final Object[] table = ReadableHashSet.this.hashtable;
+            final int mask = table.length - 1;
 
-            Object[] elems;
+            Object elem;
             do {
-                elems = ReadableHashSet.this.hashtable[++outerArrayIndex];
-            } while (elems == null || elems.length == 0);
+                this.lastSlot = (this.startSlot + ++this.slotOffset) & mask;
+                elem = table[this.lastSlot];
+            } while (elem == null);
+
+            //noinspection unchecked
+            return (E) elem;
         }
     }
 }
@@ -0,0 +1,171 @@
+package tech.read_only.containers;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableList} of {@code int}s backed by an {@code int[]}. Elements are never boxed
+ * unless accessed through the {@link ReadableList} methods; prefer {@link #getInt}, {@link
+ * #indexOfInt}, {@link #containsInt} and {@link ReadableIntIterator#nextInt}. Cannot contain {@code
+ * null}.
+ */
+public class ReadableIntArrayList extends AbstractReadableList<Integer> {
+    protected int[] array;
+
+    public ReadableIntArrayList() {
+        array = new int[0];
+    }
+
+    public ReadableIntArrayList(final int... elems) {
+        array = new int[elems.length];
+        System.arraycopy(elems, 0, array, 0, elems.length);
+    }
+
+    /** @throws NullPointerException if {@code container} contains {@code null} */
+    public ReadableIntArrayList(@Nullable final Container<Integer> container) {
+        if (container == null) {
+            array = new int[0];
+            return;
+        }
+
+        if (container instanceof ReadableIntArrayList) {
+            array = ((ReadableIntArrayList) container).toIntArray();
+            return;
+        }
+
+        array = new int[container.size()];
+        final ReadableIterator<Integer> iter = container.iterator();
+        for (int i = 0; i < container.size(); i++) {
+            array[i] = iter.next();
+        }
+    }
+
+    /**
+     * Like {@link #get}, but without boxing the element.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds (less than 0 or greater than
+     *     or equal to {@link #size})
+     */
+    public int getInt(final int index) {
+        this.checkIndex(index);
+
+        return array[index];
+    }
+
+    /** Boxes the result of {@link #getInt}. Never returns {@code null}. */
+    @Override
+    public Integer get(final int index) {
+        return this.getInt(index);
+    }
+
+    protected final void checkIndex(final int index) {
+        if (index >= this.size() || index < 0) {
+            throw new IndexOutOfBoundsException("Size: " + this.size() + " Index: " + index);
+        }
+    }
+
+    /** Like {@link #contains}, but without boxing the element. */
+    public boolean containsInt(final int e) {
+        return this.indexOfInt(e) >= 0;
+    }
+
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        return this.indexOf(e) >= 0;
+    }
+
+    /** Like {@link #indexOf}, but without boxing the element. */
+    public int indexOfInt(final int e) {
+        final int size = this.size();
+        for (int i = 0; i < size; i++) {
+            if (array[i] == e) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /** @return -1 for {@code null} or anything that is not an {@link Integer} */
+    @Override
+    public int indexOf(@Nullable final Object e) {
+        if (!(e instanceof Integer)) return -1;
+
+        return this.indexOfInt((Integer) e);
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    /** Boxes every element; prefer {@link #toIntArray}. */
+    @Override
+    public Integer[] toArray() {
+        final Integer[] copy = new Integer[this.size()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = this.array[i];
+        }
+
+        return copy;
+    }
+
+    /** @return An array containing the same elements as this list, in the same order */
+    public int[] toIntArray() {
+        final int[] copy = new int[this.size()];
+        System.arraycopy(this.array, 0, copy, 0, this.size());
+
+        return copy;
+    }
+
+    @Override
+    public boolean listEquals(@Nullable final ReadableList<?> other) {
+        if (!(other instanceof ReadableIntArrayList)) return super.listEquals(other);
+
+        final ReadableIntArrayList that = (ReadableIntArrayList) other;
+        if (this.size() != that.size()) return false;
+
+        for (int i = 0; i < this.size(); i++) {
+            if (this.array[i] != that.array[i]) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        return super.equals(o);
+    }
+
+    /** Consistent with {@link AbstractReadableList#hashCode}, without boxing. */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < this.size(); i++) {
+            result = 31 * result + Integer.hashCode(this.array[i]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public ReadableIntIterator iterator() {
+        return new ReadableIntArrayListIterator();
+    }
+
+    /** A {@link ReadableIntIterator} reading straight from the backing array. */
+    protected class ReadableIntArrayListIterator implements ReadableIntIterator {
+        protected int currIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return this.currIndex < ReadableIntArrayList.this.size();
+        }
+
+        @Override
+        public int nextInt() throws IllegalStateException {
+            if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
+
+            return ReadableIntArrayList.this.array[this.currIndex++];
+        }
+    }
+}
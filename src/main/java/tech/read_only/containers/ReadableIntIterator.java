@@ -0,0 +1,22 @@
+package tech.read_only.containers;
+
+/**
+ * A {@link ReadableIterator} over {@code int}s that can traverse them without boxing.
+ *
+ * @see ReadableIntArrayList
+ */
+public interface ReadableIntIterator extends ReadableIterator<Integer> {
+    /**
+     * Like {@link #next}, but without boxing the element.
+     *
+     * @return The next element in this iterator's traversal
+     * @throws IllegalStateException if this iterator has no elements left to traverse
+     */
+    int nextInt() throws IllegalStateException;
+
+    /** Boxes the result of {@link #nextInt}. Never returns {@code null}. */
+    @Override
+    default Integer next() throws IllegalStateException {
+        return this.nextInt();
+    }
+}
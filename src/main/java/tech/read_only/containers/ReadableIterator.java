@@ -1,5 +1,7 @@
 package tech.read_only.containers;
 
+import java.util.function.Consumer;
+
 import javax.annotation.Nullable;
 
 /**
@@ -20,4 +22,17 @@ public interface ReadableIterator<E> {
      */
     @Nullable
     E next() throws IllegalStateException;
+
+    /**
+     * Performs an action for each element left to traverse, leaving this iterator exhausted. The
+     * default implementation calls {@link #next} repeatedly; implementations should override it
+     * with a loop straight over their source.
+     *
+     * @param action The action to perform on each remaining element
+     */
+    default void forEachRemaining(final Consumer<? super E> action) {
+        while (this.hasNext()) {
+            action.accept(this.next());
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package tech.read_only.containers;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Presents a {@link ReadableIterator} as a {@link java.util.Iterator}, so that the fallback
+ * spliterators in {@link Container} can be built with {@link java.util.Spliterators}.
+ */
+final class ReadableIteratorAdapter<E> implements Iterator<E> {
+    private final ReadableIterator<E> iter;
+
+    ReadableIteratorAdapter(final ReadableIterator<E> iter) {
+        this.iter = iter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.iter.hasNext();
+    }
+
+    @Nullable
+    @Override
+    public E next() {
+        if (!this.iter.hasNext()) throw new NoSuchElementException();
+
+        return this.iter.next();
+    }
+}
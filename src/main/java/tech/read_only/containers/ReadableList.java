@@ -1,5 +1,8 @@
 package tech.read_only.containers;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+
 import javax.annotation.Nullable;
 
 /** A strictly ordered {@link Container}. Each element has a corresponding index for ordering. */
@@ -23,6 +26,31 @@ public interface ReadableList<E> extends Container<E> {
      */
     int indexOf(@Nullable final Object e);
 
+    /**
+     * Retrieves the elements from index {@code from} (inclusive) to {@code to} (exclusive). The
+     * default implementation copies them; {@link ReadableArrayList} and {@link WritableArrayList}
+     * return views instead.
+     *
+     * @param from The index of the first element
+     * @param to The index after the last element
+     * @return A list of the elements in the range, in order
+     * @throws IndexOutOfBoundsException if {@code from} is negative, {@code to} exceeds {@link
+     *     #size}, or {@code from} exceeds {@code to}
+     */
+    default ReadableList<E> subList(final int from, final int to) throws IndexOutOfBoundsException {
+        if (from < 0 || to > this.size() || from > to) {
+            throw new IndexOutOfBoundsException(
+                    "Size: " + this.size() + " From: " + from + " To: " + to);
+        }
+
+        final Object[] elems = new Object[to - from];
+        for (int i = from; i < to; i++) {
+            elems[i - from] = this.get(i);
+        }
+
+        return new ReadableArrayList<>(elems, elems.length);
+    }
+
     /**
      * Consistent with {@link Container#equals}, but also requires that both lists have the same
      * order of elements. Subtypes may set further conditions.
@@ -62,4 +90,11 @@ public interface ReadableList<E> extends Container<E> {
 
         return true;
     }
+
+    /** Consistent with {@link Container#spliterator}, but reports {@link Spliterator#ORDERED}. */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(
+                new ReadableIteratorAdapter<>(this.iterator()), this.size(), Spliterator.ORDERED);
+    }
 }
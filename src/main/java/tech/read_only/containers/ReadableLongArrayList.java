@@ -0,0 +1,171 @@
+package tech.read_only.containers;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableList} of {@code long}s backed by a {@code long[]}. Elements are never boxed
+ * unless accessed through the {@link ReadableList} methods; prefer {@link #getLong}, {@link
+ * #indexOfLong}, {@link #containsLong} and {@link ReadableLongIterator#nextLong}. Cannot contain
+ * {@code null}.
+ */
+public class ReadableLongArrayList extends AbstractReadableList<Long> {
+    protected long[] array;
+
+    public ReadableLongArrayList() {
+        array = new long[0];
+    }
+
+    public ReadableLongArrayList(final long... elems) {
+        array = new long[elems.length];
+        System.arraycopy(elems, 0, array, 0, elems.length);
+    }
+
+    /** @throws NullPointerException if {@code container} contains {@code null} */
+    public ReadableLongArrayList(@Nullable final Container<Long> container) {
+        if (container == null) {
+            array = new long[0];
+            return;
+        }
+
+        if (container instanceof ReadableLongArrayList) {
+            array = ((ReadableLongArrayList) container).toLongArray();
+            return;
+        }
+
+        array = new long[container.size()];
+        final ReadableIterator<Long> iter = container.iterator();
+        for (int i = 0; i < container.size(); i++) {
+            array[i] = iter.next();
+        }
+    }
+
+    /**
+     * Like {@link #get}, but without boxing the element.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds (less than 0 or greater than
+     *     or equal to {@link #size})
+     */
+    public long getLong(final int index) {
+        this.checkIndex(index);
+
+        return array[index];
+    }
+
+    /** Boxes the result of {@link #getLong}. Never returns {@code null}. */
+    @Override
+    public Long get(final int index) {
+        return this.getLong(index);
+    }
+
+    protected final void checkIndex(final int index) {
+        if (index >= this.size() || index < 0) {
+            throw new IndexOutOfBoundsException("Size: " + this.size() + " Index: " + index);
+        }
+    }
+
+    /** Like {@link #contains}, but without boxing the element. */
+    public boolean containsLong(final long e) {
+        return this.indexOfLong(e) >= 0;
+    }
+
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        return this.indexOf(e) >= 0;
+    }
+
+    /** Like {@link #indexOf}, but without boxing the element. */
+    public int indexOfLong(final long e) {
+        final int size = this.size();
+        for (int i = 0; i < size; i++) {
+            if (array[i] == e) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /** @return -1 for {@code null} or anything that is not a {@link Long} */
+    @Override
+    public int indexOf(@Nullable final Object e) {
+        if (!(e instanceof Long)) return -1;
+
+        return this.indexOfLong((Long) e);
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    /** Boxes every element; prefer {@link #toLongArray}. */
+    @Override
+    public Long[] toArray() {
+        final Long[] copy = new Long[this.size()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = this.array[i];
+        }
+
+        return copy;
+    }
+
+    /** @return An array containing the same elements as this list, in the same order */
+    public long[] toLongArray() {
+        final long[] copy = new long[this.size()];
+        System.arraycopy(this.array, 0, copy, 0, this.size());
+
+        return copy;
+    }
+
+    @Override
+    public boolean listEquals(@Nullable final ReadableList<?> other) {
+        if (!(other instanceof ReadableLongArrayList)) return super.listEquals(other);
+
+        final ReadableLongArrayList that = (ReadableLongArrayList) other;
+        if (this.size() != that.size()) return false;
+
+        for (int i = 0; i < this.size(); i++) {
+            if (this.array[i] != that.array[i]) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        return super.equals(o);
+    }
+
+    /** Consistent with {@link AbstractReadableList#hashCode}, without boxing. */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < this.size(); i++) {
+            result = 31 * result + Long.hashCode(this.array[i]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public ReadableLongIterator iterator() {
+        return new ReadableLongArrayListIterator();
+    }
+
+    /** A {@link ReadableLongIterator} reading straight from the backing array. */
+    protected class ReadableLongArrayListIterator implements ReadableLongIterator {
+        protected int currIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return this.currIndex < ReadableLongArrayList.this.size();
+        }
+
+        @Override
+        public long nextLong() throws IllegalStateException {
+            if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
+
+            return ReadableLongArrayList.this.array[this.currIndex++];
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package tech.read_only.containers;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableSet} of {@code long}s stored unboxed in a flat open-addressing table, laid out
+ * like {@link ReadableHashSet}'s. Slots holding 0 are empty; the element 0 itself is tracked
+ * separately by {@link #containsZero}, the way {@link ReadableHashSet} tracks {@code null}. Prefer
+ * {@link #containsLong} and {@link ReadableLongIterator#nextLong}, which never box. Cannot contain
+ * {@code null}.
+ */
+public class ReadableLongHashSet implements ReadableSet<Long> {
+    protected static final float DEFAULT_MAX_LOAD_FACTOR = ReadableHashSet.DEFAULT_MAX_LOAD_FACTOR;
+
+    protected final float maxLoadFactor;
+
+    /** Slots are either 0 (empty) or hold a non-zero element. */
+    protected long[] hashtable;
+
+    protected int size = 0;
+
+    protected Integer cachedHashCode = null;
+
+    protected boolean containsZero = false;
+
+    protected ReadableLongHashSet(final long[] array, final float loadFactor) {
+        this.maxLoadFactor = loadFactor;
+        this.setup(array);
+    }
+
+    protected void setup(final long[] array) {
+        this.hashtable = new long[ReadableHashSet.capacityFor(array.length, this.maxLoadFactor)];
+        for (final long elem : array) {
+            if (elem == 0) {
+                if (!this.containsZero) {
+                    this.containsZero = true;
+                    this.size++;
+                }
+                continue;
+            }
+
+            final int slot = this.findSlot(this.hashtable, elem);
+            if (slot < 0) {
+                this.hashtable[~slot] = elem;
+                this.size++;
+            }
+        }
+    }
+
+    /** @throws NullPointerException if {@code other} contains {@code null} */
+    protected ReadableLongHashSet(@Nullable final Container<Long> other, final float loadFactor) {
+        this.maxLoadFactor = loadFactor;
+
+        if (other == null) {
+            this.hashtable = new long[0];
+            return;
+        }
+
+        final long[] array = new long[other.size()];
+        final ReadableIterator<Long> iter = other.iterator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = iter.next();
+        }
+
+        this.setup(array);
+    }
+
+    public ReadableLongHashSet() {
+        this.maxLoadFactor = DEFAULT_MAX_LOAD_FACTOR;
+        this.hashtable = new long[0];
+    }
+
+    public ReadableLongHashSet(final long... elems) {
+        this(elems, DEFAULT_MAX_LOAD_FACTOR);
+    }
+
+    /** @throws NullPointerException if {@code other} contains {@code null} */
+    public ReadableLongHashSet(@Nullable final Container<Long> other) {
+        this(other, DEFAULT_MAX_LOAD_FACTOR);
+    }
+
+    /** @return The slot {@code e} would occupy in {@code table} if there were no collisions */
+    protected int homeSlot(final long[] table, final long e) {
+        return ReadableHashSet.spread(Long.hashCode(e)) & (table.length - 1);
+    }
+
+    /**
+     * Probes {@code table} for {@code e}.
+     *
+     * @param table Must not be zero-length
+     * @param e Must not be 0
+     * @return The slot holding {@code e} if present; otherwise the bitwise complement of the empty
+     *     slot where it would be inserted (always negative)
+     */
+    protected int findSlot(final long[] table, final long e) {
+        final int mask = table.length - 1;
+        for (int i = this.homeSlot(table, e); ; i = (i + 1) & mask) {
+            final long candidate = table[i];
+            if (candidate == 0) return ~i;
+            if (candidate == e) return i;
+        }
+    }
+
+    /** Like {@link #contains}, but without boxing the element. */
+    public boolean containsLong(final long e) {
+        if (e == 0) return this.containsZero;
+        if (this.hashtable.length == 0) return false;
+
+        return this.findSlot(this.hashtable, e) >= 0;
+    }
+
+    /** @return {@code false} for {@code null} or anything that is not a {@link Long} */
+    @Override
+    public boolean contains(@Nullable final Object e) {
+        return e instanceof Long && this.containsLong((Long) e);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /** Boxes every element; prefer {@link #toLongArray}. */
+    @Override
+    public Long[] toArray() {
+        final Long[] array = new Long[this.size()];
+
+        int i = 0;
+        for (final ReadableLongIterator iter = this.iterator(); iter.hasNext(); ) {
+            array[i++] = iter.nextLong();
+        }
+
+        return array;
+    }
+
+    /**
+     * @return An array containing the same elements as this set, in the same encounter order as
+     *     {@link #iterator}
+     */
+    public long[] toLongArray() {
+        final long[] array = new long[this.size()];
+
+        int i = 0;
+        for (final ReadableLongIterator iter = this.iterator(); iter.hasNext(); ) {
+            array[i++] = iter.nextLong();
+        }
+
+        return array;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+
+        final ReadableLongHashSet that = (ReadableLongHashSet) o;
+        if (this.size != that.size || this.containsZero != that.containsZero) return false;
+
+        for (final long elem : this.hashtable) {
+            if (elem != 0 && !that.containsLong(elem)) return false;
+        }
+
+        return true;
+    }
+
+    /** Consistent with {@link ReadableHashSet#hashCode}, without boxing. */
+    @Override
+    public int hashCode() {
+        if (cachedHashCode == null) {
+            int sum = 0;
+            for (final long elem : this.hashtable) {
+                sum += Long.hashCode(elem);
+            }
+
+            cachedHashCode = 1 + sum;
+        }
+
+        return cachedHashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (final ReadableLongIterator iter = this.iterator(); iter.hasNext(); ) {
+            builder.append(iter.nextLong());
+            if (iter.hasNext()) {
+                builder.append(", ");
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /** @return The first empty slot in the table, or -1 if the table is zero-length */
+    protected int firstEmptySlot() {
+        for (int i = 0; i < this.hashtable.length; i++) {
+            if (this.hashtable[i] == 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public ReadableLongIterator iterator() {
+        return new ReadableLongHashSetIterator();
+    }
+
+    /**
+     * Traverses 0 (if contained) and then the table slots, starting just after an empty slot, as
+     * {@link ReadableHashSet.ReadableHashSetIterator} does.
+     */
+    protected class ReadableLongHashSetIterator implements ReadableLongIterator {
+        protected int currIndex = 0;
+        protected final int startSlot = ReadableLongHashSet.this.firstEmptySlot();
+        protected int slotOffset = 0;
+        protected int lastSlot = -1;
+
+        @Override
+        public boolean hasNext() {
+            return this.currIndex < ReadableLongHashSet.this.size();
+        }
+
+        @Override
+        public long nextLong() throws IllegalStateException {
+            if (!this.hasNext()) throw new IllegalStateException("No elements remaining");
+            if (this.currIndex++ == 0 && ReadableLongHashSet.this.containsZero) {
+                this.lastSlot = -1;
+                return 0;
+            }
+
+            final long[] table = ReadableLongHashSet.this.hashtable;
+            final int mask = table.length - 1;
+
+            long elem;
+            do {
+                this.lastSlot = (this.startSlot + ++this.slotOffset) & mask;
+                elem = table[this.lastSlot];
+            } while (elem == 0);
+
+            return elem;
+        }
+    }
+}
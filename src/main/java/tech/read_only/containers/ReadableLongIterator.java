@@ -0,0 +1,22 @@
+package tech.read_only.containers;
+
+/**
+ * A {@link ReadableIterator} over {@code long}s that can traverse them without boxing.
+ *
+ * @see ReadableLongArrayList
+ */
+public interface ReadableLongIterator extends ReadableIterator<Long> {
+    /**
+     * Like {@link #next}, but without boxing the element.
+     *
+     * @return The next element in this iterator's traversal
+     * @throws IllegalStateException if this iterator has no elements left to traverse
+     */
+    long nextLong() throws IllegalStateException;
+
+    /** Boxes the result of {@link #nextLong}. Never returns {@code null}. */
+    @Override
+    default Long next() throws IllegalStateException {
+        return this.nextLong();
+    }
+}
@@ -0,0 +1,97 @@
+package tech.read_only.containers;
+
+import javax.annotation.Nullable;
+
+/**
+ * An association of unique keys to values. Like {@link Container}, this interface only guarantees
+ * lookup; {@link WritableMap} adds modification.
+ *
+ * @param <K> The type of keys
+ * @param <V> The type of values
+ */
+public interface ReadableMap<K, V> {
+    /** A key and the value it maps to. */
+    interface Entry<K, V> {
+        @Nullable
+        K getKey();
+
+        @Nullable
+        V getValue();
+
+        /**
+         * Whether this entry equals another. Entries are equal when their keys are equal and their
+         * values are equal, regardless of their classes.
+         */
+        @Override
+        boolean equals(@Nullable final Object o);
+
+        /** Must be the key's hash code XOR the value's hash code, treating {@code null} as 0. */
+        @Override
+        int hashCode();
+    }
+
+    /**
+     * Retrieves the value a key maps to. Since values may be {@code null}, use {@link #containsKey}
+     * to tell a key mapped to {@code null} apart from a missing key.
+     *
+     * @param key The key for lookup
+     * @return The value {@code key} maps to; {@code null} if the key is not contained
+     */
+    @Nullable
+    V get(@Nullable final Object key);
+
+    /**
+     * @param key The key for lookup
+     * @param defaultValue The value to return if the key is not contained
+     * @return The value {@code key} maps to; {@code defaultValue} if the key is not contained
+     */
+    @Nullable
+    default V getOrDefault(@Nullable final Object key, @Nullable final V defaultValue) {
+        return this.containsKey(key) ? this.get(key) : defaultValue;
+    }
+
+    /**
+     * Whether a key is contained.
+     *
+     * @param key The key to check
+     * @return {@code true} if this map holds a value for {@code key}; {@code false} otherwise
+     */
+    boolean containsKey(@Nullable final Object key);
+
+    /** @return The number of contained keys */
+    int size();
+
+    /** @return {@code true} when {@link #size} is 0; {@code false} otherwise */
+    default boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * @return A view of this map's keys, reflecting later modifications of the map. The view does
+     *     not copy the keys.
+     */
+    ReadableSet<K> keys();
+
+    /**
+     * @return A view of this map's values, in the same encounter order as {@link #keys}. The view
+     *     does not copy the values.
+     */
+    Container<V> values();
+
+    /**
+     * @return A view of this map's entries, in the same encounter order as {@link #keys}. The view
+     *     does not copy the map's storage, though its iterator may create an entry per step.
+     */
+    ReadableSet<Entry<K, V>> entries();
+
+    /**
+     * Whether this map is equal to another. Must be false if the maps are not of the same class, or
+     * if they do not map equal keys to equal values.
+     */
+    @Override
+    boolean equals(@Nullable final Object other);
+
+    /** Must be the sum of the hash codes of the map's {@link #entries}. */
+    @Override
+    int hashCode();
+}
@@ -1,4 +1,14 @@
 package tech.read_only.containers;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+
 /** A {@link Container} that guarantees no duplicate elements. */
-public interface ReadableSet<E> extends Container<E> {}
+public interface ReadableSet<E> extends Container<E> {
+    /** Consistent with {@link Container#spliterator}, but reports {@link Spliterator#DISTINCT}. */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(
+                new ReadableIteratorAdapter<>(this.iterator()), this.size(), Spliterator.DISTINCT);
+    }
+}
@@ -0,0 +1,110 @@
+package tech.read_only.containers;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableSet} that keeps its elements in ascending order, as decided by its {@link
+ * #comparator}. Iteration visits the elements in that order, and each element has an index in it,
+ * its {@link #rank}.
+ *
+ * <p>Two elements the comparator considers equal are the same element as far as the set is
+ * concerned, whatever their {@code equals} says. {@code null} sorts before every other element. The
+ * navigation methods return {@code null} when there is no such element, so on a set that contains
+ * {@code null}, check {@link #rank} or {@link #contains} to tell the two apart.
+ */
+public interface ReadableSortedSet<E> extends ReadableSet<E> {
+    /** @return The comparator ordering the elements; {@link Comparator#naturalOrder} by default */
+    Comparator<? super E> comparator();
+
+    /**
+     * @return The smallest element
+     * @throws IllegalStateException if the set is empty
+     */
+    @Nullable
+    E first() throws IllegalStateException;
+
+    /**
+     * @return The largest element
+     * @throws IllegalStateException if the set is empty
+     */
+    @Nullable
+    E last() throws IllegalStateException;
+
+    /**
+     * @return The largest element strictly less than {@code e}, or {@code null} if there is none
+     */
+    @Nullable
+    E lower(@Nullable final E e);
+
+    /** @return The largest element less than or equal to {@code e}, or {@code null} if none */
+    @Nullable
+    E floor(@Nullable final E e);
+
+    /** @return The smallest element greater than or equal to {@code e}, or {@code null} if none */
+    @Nullable
+    E ceiling(@Nullable final E e);
+
+    /** @return The smallest element strictly greater than {@code e}, or {@code null} if none */
+    @Nullable
+    E higher(@Nullable final E e);
+
+    /**
+     * @param e Need not be contained
+     * @return The number of elements strictly less than {@code e}; the index of {@code e} if it is
+     *     contained
+     */
+    int rank(@Nullable final E e);
+
+    /**
+     * Retrieves the element with the given rank.
+     *
+     * @param index The number of elements less than the element to retrieve
+     * @return The element at {@code index} in ascending order
+     * @throws IllegalArgumentException if the index is out of bounds (less than 0 or greater than
+     *     or equal to {@link #size})
+     */
+    @Nullable
+    E select(final int index) throws IllegalArgumentException;
+
+    /**
+     * A view of the elements between two bounds, which reflects later changes to this set without
+     * copying any element. Bounds outside of this set's own range are narrowed to it.
+     *
+     * @param from The lower bound
+     * @param fromInclusive Whether the view may contain {@code from} itself
+     * @param to The upper bound
+     * @param toInclusive Whether the view may contain {@code to} itself
+     * @return The elements of this set in the range, in order
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     */
+    ReadableSortedSet<E> subSet(
+            @Nullable final E from,
+            final boolean fromInclusive,
+            @Nullable final E to,
+            final boolean toInclusive)
+            throws IllegalArgumentException;
+
+    /** @return A view of the elements less than (or equal to) {@code to}; see {@link #subSet} */
+    ReadableSortedSet<E> headSet(@Nullable final E to, final boolean inclusive);
+
+    /**
+     * @return A view of the elements greater than (or equal to) {@code from}; see {@link #subSet}
+     */
+    ReadableSortedSet<E> tailSet(@Nullable final E from, final boolean inclusive);
+
+    /**
+     * Consistent with {@link ReadableSet#spliterator}, but also reports {@link
+     * Spliterator#ORDERED}.
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(
+                new ReadableIteratorAdapter<>(this.iterator()),
+                this.size(),
+                Spliterator.DISTINCT | Spliterator.ORDERED);
+    }
+}
@@ -0,0 +1,69 @@
+package tech.read_only.containers;
+
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableSortedSet} that supports the removal, but not the addition, of elements. The
+ * range views of a {@link WritableSortedSet} are removable sorted sets: a view could not hold an
+ * element outside of its range, so it offers no {@code add} at all rather than one that may fail.
+ */
+public interface RemovableSortedSet<E>
+        extends Writeratable<E, WritableIterator<E>>, ReadableSortedSet<E> {
+    /**
+     * Consistent with {@link WritableContainer#remove}. Does nothing for an element outside of a
+     * view's range, even if the underlying set contains it.
+     */
+    boolean remove(@Nullable final E e);
+
+    /** Removes all elements, which for a view are only those within its range. */
+    void clear();
+
+    /**
+     * Consistent with {@link WritableContainer#removeIf}. The default implementation removes
+     * elements one at a time through {@link #iterator}.
+     */
+    default boolean removeIf(final Predicate<? super E> filter) {
+        boolean removed = false;
+        for (final WritableIterator<E> iter = this.iterator(); iter.hasNext(); ) {
+            if (filter.test(iter.next())) {
+                iter.remove();
+                removed = true;
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Removes and returns the smallest element.
+     *
+     * @throws IllegalStateException if the set is empty
+     */
+    @Nullable
+    E removeFirst() throws IllegalStateException;
+
+    /**
+     * Removes and returns the largest element.
+     *
+     * @throws IllegalStateException if the set is empty
+     */
+    @Nullable
+    E removeLast() throws IllegalStateException;
+
+    /** Consistent with {@link ReadableSortedSet#subSet}; removals write through to this set. */
+    @Override
+    RemovableSortedSet<E> subSet(
+            @Nullable final E from,
+            final boolean fromInclusive,
+            @Nullable final E to,
+            final boolean toInclusive)
+            throws IllegalArgumentException;
+
+    @Override
+    RemovableSortedSet<E> headSet(@Nullable final E to, final boolean inclusive);
+
+    @Override
+    RemovableSortedSet<E> tailSet(@Nullable final E from, final boolean inclusive);
+}
@@ -1,57 +1,153 @@
 package tech.read_only.containers;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 import javax.annotation.Nullable;
 
 /**
  * A {@link ReadableArrayList} that also supports the addition and removal of elements. The backing
  * array grows when needed (doubling in size by default).
+ *
+ * <p>{@link #snapshot} shares the backing array with the snapshot instead of copying it. The array
+ * is then only copied if this list later modifies a slot the snapshot can see; appending into spare
+ * capacity needs no copy.
  */
 public class WritableArrayList<E> extends ReadableArrayList<E> implements WritableList<E> {
     protected static final int DEFAULT_INITIAL_SIZE = 4;
     protected static final float DEFAULT_GROWTH_RATE = 2.0f;
 
+    /** The multiplicative inverse of 31 modulo 2<sup>32</sup>, which undoes a step of the hash. */
+    protected static final int INVERSE_OF_31 = 0xbdef7bdf;
+
+    protected static final boolean DEFAULT_FAIL_FAST =
+            Boolean.parseBoolean(System.getProperty(WritableIterator.FAIL_FAST_PROPERTY, "true"));
+
     protected final float growthRate;
 
-    protected int currMaxIndex;
+    /** Whether iterators check {@link #modCount}; see {@link WritableIterator}. */
+    protected final boolean failFast;
+
+    /**
+     * Counts changes to the list's length, so that iterators can detect modifications made other
+     * than through themselves. Replacing an element is not counted.
+     */
+    protected int modCount = 0;
+
+    /** Whether {@link #array} is shared with a snapshot, and must be copied before modification. */
+    protected boolean arrayShared = false;
 
     public WritableArrayList() {
         super();
         this.growthRate = DEFAULT_GROWTH_RATE;
-        this.currMaxIndex = -1;
+        this.failFast = DEFAULT_FAIL_FAST;
     }
 
     public WritableArrayList(@Nullable final E e) {
         super(e);
         this.growthRate = DEFAULT_GROWTH_RATE;
-        this.currMaxIndex = 0;
+        this.failFast = DEFAULT_FAIL_FAST;
     }
 
     @SafeVarargs
     public WritableArrayList(final E... elems) {
         super(elems);
         this.growthRate = DEFAULT_GROWTH_RATE;
-        this.currMaxIndex = elems.length - 1;
+        this.failFast = DEFAULT_FAIL_FAST;
     }
 
     public WritableArrayList(@Nullable final Container<E> container) {
         super(container);
         this.growthRate = DEFAULT_GROWTH_RATE;
-        this.currMaxIndex = this.array.length - 1;
+        this.failFast = DEFAULT_FAIL_FAST;
     }
 
-    // TODO constructors that can provide initial size
+    protected WritableArrayList(
+            final int initialCapacity, final float growthRate, final boolean failFast) {
+        super(new Object[initialCapacity], 0);
+        this.growthRate = growthRate;
+        this.failFast = failFast;
+    }
+
+    /** @return A builder for lists with a given initial capacity or growth rate */
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Configures the backing array of a new {@link WritableArrayList}. Lists whose final size is
+     * known up front can then allocate their array exactly once.
+     */
+    public static class Builder<E> {
+        protected int expectedSize = 0;
+        protected float growthRate = DEFAULT_GROWTH_RATE;
+        protected boolean failFast = DEFAULT_FAIL_FAST;
+
+        protected Builder() {}
+
+        /**
+         * @param expectedSize The number of elements the list can hold before it first grows
+         * @throws IllegalArgumentException if {@code expectedSize} is negative
+         */
+        public Builder<E> expectedSize(final int expectedSize) throws IllegalArgumentException {
+            if (expectedSize < 0) {
+                throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+            }
+
+            this.expectedSize = expectedSize;
+            return this;
+        }
+
+        /**
+         * @param growthRate The factor the backing array's length is multiplied by when it fills up
+         * @throws IllegalArgumentException if {@code growthRate} is not greater than 1
+         */
+        public Builder<E> growthRate(final float growthRate) throws IllegalArgumentException {
+            if (!(growthRate > 1)) {
+                throw new IllegalArgumentException("Growth rate must exceed 1: " + growthRate);
+            }
+
+            this.growthRate = growthRate;
+            return this;
+        }
+
+        /**
+         * @param failFast Whether iterators throw {@link ConcurrentModificationException} once the
+         *     list is modified other than through them, or skip the checks entirely
+         */
+        public Builder<E> failFast(final boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
+        public WritableArrayList<E> build() {
+            return new WritableArrayList<>(this.expectedSize, this.growthRate, this.failFast);
+        }
+    }
 
     @Nullable
     @Override
     public E removeAt(final int index) {
         this.checkIndex(index);
+        this.unshareArray();
         final Object elem = this.array[index];
 
         //noinspection ManualArrayCopy
-        for (int i = index; i < this.currMaxIndex; i++) {
+        for (int i = index; i < this.size - 1; i++) {
             this.array[i] = this.array[i + 1];
         }
-        this.array[currMaxIndex--] = null;
+        this.array[--this.size] = null;
+        this.modCount++;
+
+        // removing the last element undoes its step of the hash; any other removal reorders it
+        if (index == this.size && this.cachedHashCode != 0) {
+            this.cachedHashCode =
+                    (this.cachedHashCode - (elem == null ? 0 : elem.hashCode())) * INVERSE_OF_31;
+        } else {
+            this.cachedHashCode = 0;
+        }
 
         //noinspection unchecked
         return (E) elem;
@@ -60,28 +156,92 @@ public class WritableArrayList<E> extends ReadableArrayList<E> implements Writab
     @Override
     public void set(final int index, @Nullable final E e) {
         this.checkIndex(index);
+        this.unshareArray();
         this.array[index] = e;
+        this.cachedHashCode = 0;
     }
 
     @Override
     public boolean add(@Nullable final E e) {
-        if (this.array.length == this.currMaxIndex + 1) {
+        if (this.array.length == this.size) {
             this.growArray();
         }
 
-        this.array[++this.currMaxIndex] = e;
+        // snapshots never read past their own size, so the spare slot can be written even if shared
+        this.array[this.size++] = e;
+        this.modCount++;
+        if (this.cachedHashCode != 0) {
+            this.cachedHashCode = 31 * this.cachedHashCode + (e == null ? 0 : e.hashCode());
+        }
+
         return true;
     }
 
     protected void growArray() {
-        final int newSize =
-                this.size() == 0
-                        ? DEFAULT_INITIAL_SIZE
-                        : (int) (this.array.length * this.growthRate);
+        this.growArray(this.array.length == 0 ? DEFAULT_INITIAL_SIZE : this.grownCapacity());
+    }
+
+    /** @return The length of the array that should replace the current one when it fills up */
+    protected int grownCapacity() {
+        return Math.max(this.array.length + 1, (int) (this.array.length * this.growthRate));
+    }
 
+    /** Grows the backing array so that at least {@code count} more elements can be appended. */
+    protected void ensureSpareCapacity(final int count) {
+        final int needed = this.size + count;
+        if (needed > this.array.length) {
+            this.growArray(Math.max(needed, this.grownCapacity()));
+        }
+    }
+
+    /**
+     * Grows the backing array, if needed, to exactly {@code minCapacity} slots, so that many
+     * elements can be appended without growing again.
+     *
+     * @param minCapacity The number of elements the list must be able to hold
+     */
+    public void ensureCapacity(final int minCapacity) {
+        if (minCapacity > this.array.length) {
+            this.growArray(minCapacity);
+        }
+    }
+
+    /** Shrinks the backing array to the list's size, releasing any spare capacity. */
+    public void trimToSize() {
+        if (this.array.length > this.size) {
+            this.array = Arrays.copyOf(this.array, this.size);
+            this.arrayShared = false;
+        }
+    }
+
+    protected void growArray(final int newSize) {
         final Object[] newArray = new Object[newSize];
         System.arraycopy(this.array, 0, newArray, 0, this.array.length);
         this.array = newArray;
+        this.arrayShared = false;
+    }
+
+    /** Copies {@link #array} if a snapshot shares it, so that it can be modified in place. */
+    protected void unshareArray() {
+        if (this.arrayShared) {
+            this.array = this.array.clone();
+            this.arrayShared = false;
+        }
+    }
+
+    /**
+     * Returns an immutable list of the elements this list holds right now, in constant time. The
+     * snapshot shares this list's backing array, which this list copies before its next in-place
+     * modification. Hand the snapshot to other threads through a safe publication mechanism (such
+     * as a volatile field or a concurrent queue).
+     */
+    @Override
+    public ReadableArrayList<E> snapshot() {
+        this.arrayShared = true;
+        final ReadableArrayList<E> snapshot = new ReadableArrayList<>(this.array, this.size);
+        snapshot.cachedHashCode = this.cachedHashCode;
+
+        return snapshot;
     }
 
     @Override
@@ -95,15 +255,179 @@ public class WritableArrayList<E> extends ReadableArrayList<E> implements Writab
         return true;
     }
 
+    /**
+     * Grows the backing array at most once. A {@link ReadableArrayList} or {@link
+     * WritableArrayList} argument is copied straight from its backing array; any other container is
+     * copied through {@link #toArray}.
+     */
     @Override
-    public void clear() {
-        this.array = new Object[this.array.length];
-        this.currMaxIndex = -1;
+    public boolean addAll(final Container<? extends E> other) {
+        final Object[] elems;
+        final int count;
+        if (isPlainArrayList(other)) {
+            // when adding this list to itself, the old array still holds the elements after growing
+            elems = ((ReadableArrayList<?>) other).array;
+            count = ((ReadableArrayList<?>) other).size;
+        } else {
+            elems = other.toArray();
+            count = elems.length;
+        }
+        if (count == 0) return false;
+
+        this.ensureSpareCapacity(count);
+        // appending only writes spare slots, which snapshots never read
+        System.arraycopy(elems, 0, this.array, this.size, count);
+        if (this.cachedHashCode != 0) {
+            int hashCode = this.cachedHashCode;
+            for (int i = 0; i < count; i++) {
+                final Object elem = elems[i];
+                hashCode = 31 * hashCode + (elem == null ? 0 : elem.hashCode());
+            }
+            this.cachedHashCode = hashCode;
+        }
+        this.size += count;
+        this.modCount++;
+
+        return true;
     }
 
+    /**
+     * Compacts the kept elements in a single pass. Unless {@code other} is a set or small, it is
+     * first copied into a {@link ReadableHashSet}, so the whole call takes linear time.
+     */
     @Override
-    public int size() {
-        return this.currMaxIndex + 1;
+    public boolean removeAll(final Container<?> other) {
+        if (other == this) {
+            final boolean changed = !this.isEmpty();
+            this.clear();
+            return changed;
+        }
+
+        final Container<?> lookup = ReadableHashSet.asLookup(other);
+        return this.removeIf(lookup::containsQuietly);
+    }
+
+    /**
+     * Compacts the kept elements in a single pass. Unless {@code other} is a set or small, it is
+     * first copied into a {@link ReadableHashSet}, so the whole call takes linear time.
+     */
+    @Override
+    public boolean retainAll(final Container<?> other) {
+        if (other == this) return false;
+
+        final Container<?> lookup = ReadableHashSet.asLookup(other);
+        return this.removeIf(e -> !lookup.containsQuietly(e));
+    }
+
+    /**
+     * Compacts the kept elements towards the front in a single pass, instead of shifting the tail
+     * once per removed element. If {@code filter} throws, the elements it has not yet tested are
+     * kept, and the list stays consistent.
+     */
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        return this.removeIfInRange(0, this.size, filter) > 0;
+    }
+
+    /**
+     * Like {@link #removeIf}, but only tests the elements from index {@code from} (inclusive) to
+     * {@code to} (exclusive). The elements after the range are moved up in the same pass.
+     *
+     * @return The number of elements removed
+     */
+    protected int removeIfInRange(final int from, final int to, final Predicate<? super E> filter) {
+        int i = from;
+        //noinspection unchecked
+        while (i < to && !filter.test((E) this.array[i])) {
+            i++;
+        }
+        if (i == to) return 0;
+
+        this.unshareArray();
+        final Object[] array = this.array;
+        final int size = this.size;
+        int kept = i++;
+        int removed = 0;
+        try {
+            for (; i < to; i++) {
+                final Object elem = array[i];
+
+                //noinspection unchecked
+                if (!filter.test((E) elem)) {
+                    array[kept++] = elem;
+                }
+            }
+        } finally {
+            // if filter threw, this also keeps the untested part of the range
+            removed = i - kept;
+            System.arraycopy(array, i, array, kept, size - i);
+
+            Arrays.fill(array, size - removed, size, null);
+            this.size = size - removed;
+            this.modCount++;
+            this.cachedHashCode = 0;
+        }
+
+        return removed;
+    }
+
+    /**
+     * Removes the elements from index {@code from} (inclusive) to {@code to} (exclusive) with a
+     * single copy of the elements after them.
+     */
+    protected void removeRange(final int from, final int to) {
+        if (from == to) return;
+
+        this.unshareArray();
+        final int removed = to - from;
+        System.arraycopy(this.array, to, this.array, from, this.size - to);
+        Arrays.fill(this.array, this.size - removed, this.size, null);
+        this.size -= removed;
+        this.modCount++;
+        this.cachedHashCode = 0;
+    }
+
+    /** Inserts an element at {@code index}, moving the elements from there on up by one. */
+    protected void insertAt(final int index, @Nullable final E e) {
+        if (index == this.size) {
+            this.add(e);
+            return;
+        }
+
+        if (this.array.length == this.size) {
+            this.growArray();
+        } else {
+            this.unshareArray();
+        }
+
+        System.arraycopy(this.array, index, this.array, index + 1, this.size - index);
+        this.array[index] = e;
+        this.size++;
+        this.modCount++;
+        this.cachedHashCode = 0;
+    }
+
+    /**
+     * Returns a view of the elements from index {@code from} (inclusive) to {@code to} (exclusive)
+     * in constant time, which reads from and writes through to this list. See {@link
+     * WritableSubList}.
+     *
+     * @throws IndexOutOfBoundsException if {@code from} is negative, {@code to} exceeds the size,
+     *     or {@code from} exceeds {@code to}
+     */
+    @Override
+    public WritableList<E> subList(final int from, final int to) throws IndexOutOfBoundsException {
+        checkRange(from, to, this.size);
+        return new WritableSubList(null, from, to - from);
+    }
+
+    @Override
+    public void clear() {
+        this.array = new Object[this.array.length];
+        this.size = 0;
+        this.modCount++;
+        this.arrayShared = false;
+        this.cachedHashCode = 0;
     }
 
     @Override
@@ -118,14 +442,217 @@ public class WritableArrayList<E> extends ReadableArrayList<E> implements Writab
 
     @Override
     public WritableIterator<E> iterator() {
-        return new WritableArrayListIterator();
+        return new WritableArrayListIterator(this.failFast);
+    }
+
+    /**
+     * A window of this list that writes through to it. Elements added to the slice are inserted
+     * after its last element; {@link #clear} and {@link #removeIf} remove from the range with a
+     * single copy of the elements after it. Changes to the list's length made through the slice (or
+     * a slice of it) keep it in step, while those made otherwise make it throw {@link
+     * ConcurrentModificationException}, regardless of {@link #failFast}: its offset would no longer
+     * mean anything.
+     */
+    protected class WritableSubList extends ReadableSubList implements WritableList<E> {
+        /** The slice this slice was taken from, or {@code null} if taken from the list itself. */
+        @Nullable protected final WritableSubList parent;
+
+        protected int expectedModCount = WritableArrayList.this.modCount;
+
+        protected WritableSubList(
+                @Nullable final WritableSubList parent, final int offset, final int size) {
+            super(offset, size);
+            this.parent = parent;
+        }
+
+        @Override
+        protected void checkForComodification() throws ConcurrentModificationException {
+            if (WritableArrayList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /** Records a length change made through this slice, in it and in every enclosing slice. */
+        protected void updateSize(final int delta) {
+            for (WritableSubList slice = this; slice != null; slice = slice.parent) {
+                slice.size += delta;
+                slice.expectedModCount = WritableArrayList.this.modCount;
+            }
+        }
+
+        @Override
+        public WritableList<E> subList(final int from, final int to)
+                throws IndexOutOfBoundsException {
+            this.checkForComodification();
+            checkRange(from, to, this.size);
+            return new WritableSubList(this, this.offset + from, to - from);
+        }
+
+        @Nullable
+        @Override
+        public E removeAt(final int index) {
+            this.checkForComodification();
+            this.checkIndex(index);
+            final E elem = WritableArrayList.this.removeAt(this.offset + index);
+            this.updateSize(-1);
+
+            return elem;
+        }
+
+        @Override
+        public void set(final int index, @Nullable final E e) {
+            this.checkForComodification();
+            this.checkIndex(index);
+            WritableArrayList.this.set(this.offset + index, e);
+        }
+
+        @Override
+        public boolean add(@Nullable final E e) {
+            this.checkForComodification();
+            WritableArrayList.this.insertAt(this.offset + this.size, e);
+            this.updateSize(1);
+
+            return true;
+        }
+
+        @Override
+        public boolean remove(@Nullable final E e) {
+            final int index = this.indexOf(e);
+            if (index < 0) return false;
+
+            this.removeAt(index);
+            return true;
+        }
+
+        @Override
+        public boolean removeIf(final Predicate<? super E> filter) {
+            this.checkForComodification();
+            final int sizeBefore = WritableArrayList.this.size;
+            try {
+                return WritableArrayList.this.removeIfInRange(
+                                this.offset, this.offset + this.size, filter)
+                        > 0;
+            } finally {
+                // also runs if filter threw after some elements were removed
+                if (WritableArrayList.this.size != sizeBefore) {
+                    this.updateSize(WritableArrayList.this.size - sizeBefore);
+                }
+            }
+        }
+
+        @Override
+        public void clear() {
+            this.checkForComodification();
+            if (this.size == 0) return;
+
+            WritableArrayList.this.removeRange(this.offset, this.offset + this.size);
+            this.updateSize(-this.size);
+        }
+
+        @Override
+        public WritableIterator<E> iterator() {
+            return new WritableSubListIterator();
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+
+        /** Fails fast through {@link WritableSubList#get}, which every step calls. */
+        protected class WritableSubListIterator extends ReadableListIterator
+                implements WritableIterator<E> {
+            protected boolean canRemove = false;
+
+            @Nullable
+            @Override
+            public E next() throws IllegalStateException {
+                final E elem = super.next();
+                this.canRemove = true;
+
+                return elem;
+            }
+
+            @Override
+            public void forEachRemaining(final Consumer<? super E> action) {
+                final int start = this.currIndex;
+                super.forEachRemaining(action);
+                this.canRemove |= this.currIndex > start;
+            }
+
+            @Override
+            public void remove() throws IllegalStateException, ConcurrentModificationException {
+                if (!this.canRemove) {
+                    throw new IllegalStateException("No previously successful call to next()");
+                }
+
+                this.canRemove = false;
+                WritableSubList.this.removeAt(--this.currIndex);
+            }
+        }
     }
 
     protected class WritableArrayListIterator extends ReadableListIterator
             implements WritableIterator<E> {
+        protected final boolean failFast;
+        protected int expectedModCount = WritableArrayList.this.modCount;
+        protected boolean canRemove = false;
+
+        /** @param failFast Whether to check {@link #modCount} before each step */
+        protected WritableArrayListIterator(final boolean failFast) {
+            this.failFast = failFast;
+        }
+
+        /**
+         * @throws ConcurrentModificationException if the list's length was changed other than
+         *     through this iterator
+         */
+        protected void checkForComodification() throws ConcurrentModificationException {
+            if (this.failFast && WritableArrayList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Nullable
         @Override
-        public void remove() throws IllegalStateException {
+        public E next() throws IllegalStateException, ConcurrentModificationException {
+            this.checkForComodification();
+            final E elem = super.next();
+            this.canRemove = true;
+
+            return elem;
+        }
+
+        /** Steps through {@link #next} if fail-fast, so that every element is checked. */
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            if (!this.failFast) {
+                final int start = this.currIndex;
+                super.forEachRemaining(action);
+                this.canRemove |= this.currIndex > start;
+                return;
+            }
+
+            while (this.hasNext()) {
+                action.accept(this.next());
+            }
+        }
+
+        @Override
+        public void remove() throws IllegalStateException, ConcurrentModificationException {
+            if (!this.canRemove) {
+                throw new IllegalStateException("No previously successful call to next()");
+            }
+            this.checkForComodification();
+
+            this.canRemove = false;
             WritableArrayList.this.removeAt(--this.currIndex);
+            this.expectedModCount = WritableArrayList.this.modCount;
         }
     }
 }
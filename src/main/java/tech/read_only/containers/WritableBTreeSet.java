@@ -0,0 +1,540 @@
+package tech.read_only.containers;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link WritableSortedSet} stored as a B+ tree; see {@link ReadableBTreeSet}.
+ *
+ * <p>Adding an element splits a node that overflows in two, and removing one refills a node that
+ * falls below half full from a sibling, or merges it into one, so that every operation touches a
+ * logarithmic number of nodes. Its iterators are fail-fast; see {@link WritableIterator}.
+ */
+public class WritableBTreeSet<E> extends ReadableBTreeSet<E> implements WritableSortedSet<E> {
+    /** Returned by {@link #delete} when the element is not contained. */
+    protected static final Object NOT_FOUND = new Object();
+
+    protected static final boolean DEFAULT_FAIL_FAST =
+            Boolean.parseBoolean(System.getProperty(WritableIterator.FAIL_FAST_PROPERTY, "true"));
+
+    /** Whether iterators check {@link #modCount}; see {@link WritableIterator}. */
+    protected final boolean failFast = DEFAULT_FAIL_FAST;
+
+    /** Incremented by every change to the set, so that iterators can detect modification. */
+    protected int modCount = 0;
+
+    public WritableBTreeSet() {
+        super();
+    }
+
+    public WritableBTreeSet(@Nullable final E e) {
+        super(e);
+    }
+
+    @SafeVarargs
+    public WritableBTreeSet(final E... elems) {
+        super(elems);
+    }
+
+    public WritableBTreeSet(@Nullable final Container<E> other) {
+        super(other);
+    }
+
+    /** @param comparator Orders the elements, and decides which of them are equal */
+    public WritableBTreeSet(final Comparator<? super E> comparator) {
+        super(comparator, new Object[0], 0);
+    }
+
+    /** @param comparator Orders the elements, and decides which of them are equal */
+    public WritableBTreeSet(
+            @Nullable final Container<E> other, final Comparator<? super E> comparator) {
+        super(other, comparator);
+    }
+
+    protected WritableBTreeSet(
+            final Comparator<? super E> comparator, final Object[] sorted, final int size) {
+        super(comparator, sorted, size);
+    }
+
+    /** Consistent with {@link ReadableBTreeSet#fromSorted(ReadableList, Comparator)}. */
+    public static <E> WritableBTreeSet<E> fromSorted(
+            final ReadableList<? extends E> sorted, final Comparator<? super E> comparator)
+            throws IllegalArgumentException {
+        final Object[] elems = sorted.toArray();
+        checkSorted(elems, comparator);
+        return new WritableBTreeSet<>(comparator, elems, elems.length);
+    }
+
+    /** Consistent with {@link ReadableBTreeSet#fromSorted(ReadableList)}. */
+    public static <E> WritableBTreeSet<E> fromSorted(final ReadableList<? extends E> sorted)
+            throws IllegalArgumentException {
+        return fromSorted(sorted, naturalOrder());
+    }
+
+    /** Shifts {@code array[index, count)} right by one to make room for {@code value}. */
+    protected static void insertAt(
+            final Object[] array, final int count, final int index, final Object value) {
+        System.arraycopy(array, index, array, index + 1, count - index);
+        array[index] = value;
+    }
+
+    protected static void insertAt(
+            final int[] array, final int count, final int index, final int value) {
+        System.arraycopy(array, index, array, index + 1, count - index);
+        array[index] = value;
+    }
+
+    /** Shifts {@code array(index, count)} left by one over {@code array[index]}. */
+    protected static void removeAt(final Object[] array, final int count, final int index) {
+        System.arraycopy(array, index + 1, array, index, count - index - 1);
+        array[count - 1] = null;
+    }
+
+    protected static void removeAt(final int[] array, final int count, final int index) {
+        System.arraycopy(array, index + 1, array, index, count - index - 1);
+    }
+
+    @Override
+    public boolean add(@Nullable final E e) {
+        if (!this.insert(this.root, e)) return false;
+
+        if (this.root.count > MAX_NODE_SIZE) {
+            final Node root = new Node(false);
+            root.children[0] = this.root;
+            root.sizes[0] = this.size + 1;
+            root.count = 1;
+            this.splitChild(root, 0);
+            this.root = root;
+        }
+
+        this.size++;
+        this.hashSum += e == null ? 0 : e.hashCode();
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts into the subtree under {@code node}, leaving {@code node} to be split by its parent
+     * if it overflows.
+     *
+     * @return Whether {@code e} was inserted; {@code false} if it was already contained
+     */
+    protected boolean insert(final Node node, @Nullable final E e) {
+        if (node.isLeaf()) {
+            final int found = this.search(node.keys, 0, node.count, e);
+            if (found >= 0) return false;
+
+            insertAt(node.keys, node.count++, ~found, e);
+            return true;
+        }
+
+        final int child = this.childIndex(node, e);
+        if (!this.insert(node.children[child], e)) return false;
+
+        node.sizes[child]++;
+        if (node.children[child].count > MAX_NODE_SIZE) {
+            this.splitChild(node, child);
+        }
+        return true;
+    }
+
+    /** Moves the upper half of an overflowing child into a new sibling following it. */
+    protected void splitChild(final Node parent, final int index) {
+        final Node child = parent.children[index];
+        final Node sibling = new Node(child.isLeaf());
+        final int kept = child.count / 2;
+        sibling.count = child.count - kept;
+
+        System.arraycopy(child.keys, kept, sibling.keys, 0, sibling.count);
+        Arrays.fill(child.keys, kept, child.count, null);
+
+        int moved = sibling.count;
+        if (child.isLeaf()) {
+            sibling.next = child.next;
+            child.next = sibling;
+        } else {
+            System.arraycopy(child.children, kept, sibling.children, 0, sibling.count);
+            System.arraycopy(child.sizes, kept, sibling.sizes, 0, sibling.count);
+            Arrays.fill(child.children, kept, child.count, null);
+
+            moved = 0;
+            for (int i = 0; i < sibling.count; i++) {
+                moved += sibling.sizes[i];
+            }
+        }
+        child.count = kept;
+
+        // a leaf's first element, or the separator of an internal node's first child
+        insertAt(parent.keys, parent.count, index + 1, sibling.keys[0]);
+        insertAt(parent.children, parent.count, index + 1, sibling);
+        insertAt(parent.sizes, parent.count, index + 1, moved);
+        parent.sizes[index] -= moved;
+        parent.count++;
+    }
+
+    @Override
+    public boolean remove(@Nullable final E e) {
+        final Object removed = this.delete(this.root, e);
+        if (removed == NOT_FOUND) return false;
+
+        if (!this.root.isLeaf() && this.root.count == 1) {
+            this.root = this.root.children[0];
+        }
+
+        this.size--;
+        this.hashSum -= removed == null ? 0 : removed.hashCode();
+        this.modCount++;
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public E removeFirst() throws IllegalStateException {
+        final E first = this.first();
+        this.remove(first);
+
+        return first;
+    }
+
+    @Nullable
+    @Override
+    public E removeLast() throws IllegalStateException {
+        final E last = this.last();
+        this.remove(last);
+
+        return last;
+    }
+
+    /**
+     * Deletes from the subtree under {@code node}, leaving {@code node} to be rebalanced by its
+     * parent if it underflows.
+     *
+     * @return The element removed, which the comparator considers equal to {@code e}; or {@link
+     *     #NOT_FOUND}
+     */
+    protected Object delete(final Node node, @Nullable final Object e) {
+        if (node.isLeaf()) {
+            final int found = this.search(node.keys, 0, node.count, e);
+            if (found < 0) return NOT_FOUND;
+
+            final Object removed = node.keys[found];
+            removeAt(node.keys, node.count--, found);
+            return removed;
+        }
+
+        final int child = this.childIndex(node, e);
+        final Object removed = this.delete(node.children[child], e);
+        if (removed == NOT_FOUND) return NOT_FOUND;
+
+        node.sizes[child]--;
+        if (node.children[child].count < MIN_NODE_SIZE) {
+            this.rebalance(node, child);
+        }
+        return removed;
+    }
+
+    /** Refills an underflowing child from a sibling with elements to spare, or merges the two. */
+    protected void rebalance(final Node parent, final int index) {
+        if (index > 0 && parent.children[index - 1].count > MIN_NODE_SIZE) {
+            this.borrowFromLeft(parent, index);
+        } else if (index + 1 < parent.count && parent.children[index + 1].count > MIN_NODE_SIZE) {
+            this.borrowFromRight(parent, index);
+        } else if (index > 0) {
+            this.merge(parent, index - 1);
+        } else {
+            this.merge(parent, index);
+        }
+    }
+
+    /**
+     * Moves the last element or child of {@code children[index - 1]} into {@code children[index]}.
+     */
+    protected void borrowFromLeft(final Node parent, final int index) {
+        final Node left = parent.children[index - 1];
+        final Node node = parent.children[index];
+        final int last = left.count - 1;
+
+        // a leaf's element; or the separator of the moved child, which becomes node's first
+        final Object separator = left.keys[last];
+        int moved = 1;
+        if (!node.isLeaf()) {
+            // the old first child's lower bound, shifted into place as keys[1]
+            node.keys[0] = parent.keys[index];
+            insertAt(node.children, node.count, 0, left.children[last]);
+            insertAt(node.sizes, node.count, 0, left.sizes[last]);
+            moved = left.sizes[last];
+            left.children[last] = null;
+        }
+        insertAt(node.keys, node.count++, 0, separator);
+        left.keys[last] = null;
+        left.count--;
+
+        parent.keys[index] = separator;
+        parent.sizes[index - 1] -= moved;
+        parent.sizes[index] += moved;
+    }
+
+    /**
+     * Moves the first element or child of {@code children[index + 1]} into {@code children[index]}.
+     */
+    protected void borrowFromRight(final Node parent, final int index) {
+        final Node node = parent.children[index];
+        final Node right = parent.children[index + 1];
+
+        int moved = 1;
+        if (node.isLeaf()) {
+            node.keys[node.count] = right.keys[0];
+        } else {
+            node.keys[node.count] = parent.keys[index + 1];
+            node.children[node.count] = right.children[0];
+            node.sizes[node.count] = right.sizes[0];
+            moved = right.sizes[0];
+            removeAt(right.children, right.count, 0);
+            removeAt(right.sizes, right.count, 0);
+        }
+        node.count++;
+        removeAt(right.keys, right.count--, 0);
+
+        // right's new first element, or the separator of its new first child
+        parent.keys[index + 1] = right.keys[0];
+        parent.sizes[index] += moved;
+        parent.sizes[index + 1] -= moved;
+    }
+
+    /** Appends {@code children[index + 1]} to {@code children[index]}, and drops it. */
+    protected void merge(final Node parent, final int index) {
+        final Node left = parent.children[index];
+        final Node right = parent.children[index + 1];
+
+        System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+        if (left.isLeaf()) {
+            left.next = right.next;
+        } else {
+            left.keys[left.count] = parent.keys[index + 1];
+            System.arraycopy(right.children, 0, left.children, left.count, right.count);
+            System.arraycopy(right.sizes, 0, left.sizes, left.count, right.count);
+        }
+        left.count += right.count;
+
+        parent.sizes[index] += parent.sizes[index + 1];
+        removeAt(parent.keys, parent.count, index + 1);
+        removeAt(parent.children, parent.count, index + 1);
+        removeAt(parent.sizes, parent.count, index + 1);
+        parent.count--;
+    }
+
+    @Override
+    public void clear() {
+        this.root = new Node(true);
+        this.size = 0;
+        this.hashSum = 0;
+        this.modCount++;
+    }
+
+    /** Collects the elements to keep in order, and bulk loads a new tree from them. */
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        final Object[] kept = new Object[this.size];
+        final int[] count = {0};
+        super.iterator()
+                .forEachRemaining(
+                        elem -> {
+                            if (!filter.test(elem)) {
+                                kept[count[0]++] = elem;
+                            }
+                        });
+        if (count[0] == this.size) return false;
+
+        this.root = bulkLoad(kept, count[0]);
+        this.size = count[0];
+        this.hashSum = hashSum(kept, count[0]);
+        this.modCount++;
+        return true;
+    }
+
+    @Override
+    public RemovableSortedSet<E> subSet(
+            @Nullable final E from,
+            final boolean fromInclusive,
+            @Nullable final E to,
+            final boolean toInclusive)
+            throws IllegalArgumentException {
+        return (RemovableSortedSet<E>) super.subSet(from, fromInclusive, to, toInclusive);
+    }
+
+    @Override
+    public RemovableSortedSet<E> headSet(@Nullable final E to, final boolean inclusive) {
+        return (RemovableSortedSet<E>) super.headSet(to, inclusive);
+    }
+
+    @Override
+    public RemovableSortedSet<E> tailSet(@Nullable final E from, final boolean inclusive) {
+        return (RemovableSortedSet<E>) super.tailSet(from, inclusive);
+    }
+
+    @Override
+    protected ReadableSubSet newSubSet(
+            final boolean hasFrom,
+            @Nullable final E from,
+            final boolean fromInclusive,
+            final boolean hasTo,
+            @Nullable final E to,
+            final boolean toInclusive) {
+        return new WritableSubSet(hasFrom, from, fromInclusive, hasTo, to, toInclusive);
+    }
+
+    @Override
+    public WritableIterator<E> iterator() {
+        return new WritableBTreeSetIterator(0, this.size);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    protected class WritableBTreeSetIterator extends ReadableBTreeSetIterator
+            implements WritableIterator<E> {
+        protected final boolean failFast = WritableBTreeSet.this.failFast;
+        protected int expectedModCount = WritableBTreeSet.this.modCount;
+        protected boolean canRemove = false;
+        @Nullable protected E lastReturned = null;
+
+        protected WritableBTreeSetIterator(final int from, final int to) {
+            super(from, to);
+        }
+
+        /**
+         * @throws ConcurrentModificationException if the set was modified other than through this
+         *     iterator
+         */
+        protected void checkForComodification() throws ConcurrentModificationException {
+            if (this.failFast && WritableBTreeSet.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Nullable
+        @Override
+        public E next() throws IllegalStateException, ConcurrentModificationException {
+            this.checkForComodification();
+            this.lastReturned = super.next();
+            this.canRemove = true;
+
+            return this.lastReturned;
+        }
+
+        /**
+         * Steps through {@link #next} if fail-fast, so that every element is checked; an action
+         * that modified the set would otherwise leave the traversal reading a stale leaf.
+         */
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            if (!this.hasNext()) return;
+            if (this.failFast) {
+                while (this.hasNext()) {
+                    action.accept(this.next());
+                }
+
+                return;
+            }
+
+            super.forEachRemaining(action);
+        }
+
+        /** Removes through the set, then finds its place again, since the leaves may have moved. */
+        @Override
+        public void remove() throws IllegalStateException, ConcurrentModificationException {
+            if (!this.canRemove) {
+                throw new IllegalStateException("No previously successful call to next()");
+            }
+            this.checkForComodification();
+
+            this.canRemove = false;
+            WritableBTreeSet.this.remove(this.lastReturned);
+            this.expectedModCount = WritableBTreeSet.this.modCount;
+            this.end--;
+            this.seek(this.index - 1);
+        }
+    }
+
+    /** Removes through the whole set, and only elements within its bounds. */
+    protected class WritableSubSet extends ReadableSubSet implements RemovableSortedSet<E> {
+        protected WritableSubSet(
+                final boolean hasFrom,
+                @Nullable final E from,
+                final boolean fromInclusive,
+                final boolean hasTo,
+                @Nullable final E to,
+                final boolean toInclusive) {
+            super(hasFrom, from, fromInclusive, hasTo, to, toInclusive);
+        }
+
+        @Override
+        public boolean remove(@Nullable final E e) {
+            return this.inRange(e) && WritableBTreeSet.this.remove(e);
+        }
+
+        @Nullable
+        @Override
+        public E removeFirst() throws IllegalStateException {
+            final E first = this.first();
+            WritableBTreeSet.this.remove(first);
+
+            return first;
+        }
+
+        @Nullable
+        @Override
+        public E removeLast() throws IllegalStateException {
+            final E last = this.last();
+            WritableBTreeSet.this.remove(last);
+
+            return last;
+        }
+
+        /** Removes the elements one at a time, in logarithmic time each. */
+        @Override
+        public void clear() {
+            final int from = this.fromIndex();
+            for (int remaining = this.toIndex() - from; remaining > 0; remaining--) {
+                WritableBTreeSet.this.remove(WritableBTreeSet.this.select(from));
+            }
+        }
+
+        @Override
+        public RemovableSortedSet<E> subSet(
+                @Nullable final E from,
+                final boolean fromInclusive,
+                @Nullable final E to,
+                final boolean toInclusive)
+                throws IllegalArgumentException {
+            return (RemovableSortedSet<E>) super.subSet(from, fromInclusive, to, toInclusive);
+        }
+
+        @Override
+        public RemovableSortedSet<E> headSet(@Nullable final E to, final boolean inclusive) {
+            return (RemovableSortedSet<E>) super.headSet(to, inclusive);
+        }
+
+        @Override
+        public RemovableSortedSet<E> tailSet(@Nullable final E from, final boolean inclusive) {
+            return (RemovableSortedSet<E>) super.tailSet(from, inclusive);
+        }
+
+        @Override
+        public WritableIterator<E> iterator() {
+            return new WritableBTreeSetIterator(this.fromIndex(), this.toIndex());
+        }
+    }
+}
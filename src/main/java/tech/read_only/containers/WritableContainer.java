@@ -1,5 +1,7 @@
 package tech.read_only.containers;
 
+import java.util.function.Predicate;
+
 import javax.annotation.Nullable;
 
 /** A {@link Container} that also supports the addition and removal of elements. */
@@ -25,4 +27,64 @@ public interface WritableContainer<E> extends Writeratable<E, WritableIterator<E
 
     /** Removes all elements from the container. */
     void clear();
+
+    /**
+     * Adds every element of another container, as if by {@link #add} for each. Implementations
+     * should make room for all of {@code other}'s elements up front, instead of growing repeatedly.
+     *
+     * @param other The container whose elements to add
+     * @return {@code true} if this container changed; {@code false} otherwise
+     */
+    default boolean addAll(final Container<? extends E> other) {
+        final Object[] elems = other.toArray();
+
+        boolean changed = false;
+        for (final Object elem : elems) {
+            //noinspection unchecked
+            changed |= this.add((E) elem);
+        }
+
+        return changed;
+    }
+
+    /**
+     * Removes every element that another container contains. Containers that support multiple
+     * copies of elements remove every copy.
+     *
+     * @param other The container whose elements to remove
+     * @return {@code true} if this container changed; {@code false} otherwise
+     */
+    default boolean removeAll(final Container<?> other) {
+        return this.removeIf(other::containsQuietly);
+    }
+
+    /**
+     * Removes every element that another container does not contain.
+     *
+     * @param other The container whose elements to keep
+     * @return {@code true} if this container changed; {@code false} otherwise
+     */
+    default boolean retainAll(final Container<?> other) {
+        return this.removeIf(e -> !other.containsQuietly(e));
+    }
+
+    /**
+     * Removes every element matching a predicate. The default implementation removes elements one
+     * at a time through {@link #iterator}; implementations should override it to remove all
+     * matching elements in a single pass.
+     *
+     * @param filter Returns {@code true} for the elements to remove
+     * @return {@code true} if any elements were removed; {@code false} otherwise
+     */
+    default boolean removeIf(final Predicate<? super E> filter) {
+        boolean removed = false;
+        for (final WritableIterator<E> iter = this.iterator(); iter.hasNext(); ) {
+            if (filter.test(iter.next())) {
+                iter.remove();
+                removed = true;
+            }
+        }
+
+        return removed;
+    }
 }
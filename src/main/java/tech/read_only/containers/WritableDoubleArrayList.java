@@ -0,0 +1,168 @@
+package tech.read_only.containers;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableDoubleArrayList} that also supports the addition and removal of elements. The
+ * backing array grows when needed (doubling in size by default). The {@link WritableList} methods
+ * box and unbox their arguments; prefer {@link #addDouble}, {@link #setDouble}, {@link
+ * #removeDouble} and {@link #removeDoubleAt}.
+ */
+public class WritableDoubleArrayList extends ReadableDoubleArrayList
+        implements WritableList<Double> {
+    protected static final int DEFAULT_INITIAL_SIZE = 4;
+    protected static final float DEFAULT_GROWTH_RATE = 2.0f;
+
+    protected final float growthRate;
+
+    protected int currMaxIndex;
+
+    public WritableDoubleArrayList() {
+        super();
+        this.growthRate = DEFAULT_GROWTH_RATE;
+        this.currMaxIndex = -1;
+    }
+
+    public WritableDoubleArrayList(final double... elems) {
+        super(elems);
+        this.growthRate = DEFAULT_GROWTH_RATE;
+        this.currMaxIndex = elems.length - 1;
+    }
+
+    /** @throws NullPointerException if {@code container} contains {@code null} */
+    public WritableDoubleArrayList(@Nullable final Container<Double> container) {
+        super(container);
+        this.growthRate = DEFAULT_GROWTH_RATE;
+        this.currMaxIndex = this.array.length - 1;
+    }
+
+    /**
+     * Like {@link #removeAt}, but without boxing the removed element.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds (less than 0, or greater than
+     *     or equal to {@link #size})
+     */
+    public double removeDoubleAt(final int index) {
+        this.checkIndex(index);
+        final double elem = this.array[index];
+
+        System.arraycopy(this.array, index + 1, this.array, index, this.currMaxIndex - index);
+        this.currMaxIndex--;
+
+        return elem;
+    }
+
+    /** Boxes the result of {@link #removeDoubleAt}. Never returns {@code null}. */
+    @Override
+    public Double removeAt(final int index) {
+        return this.removeDoubleAt(index);
+    }
+
+    /**
+     * Like {@link #set}, but without boxing the element.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds (less than 0, or greater than
+     *     or equal to {@link #size})
+     */
+    public void setDouble(final int index, final double e) {
+        this.checkIndex(index);
+        this.array[index] = e;
+    }
+
+    /** @throws NullPointerException if {@code e} is {@code null} */
+    @Override
+    public void set(final int index, @Nullable final Double e) {
+        this.setDouble(index, e);
+    }
+
+    /** Like {@link #add}, but without boxing the element. Always returns {@code true}. */
+    public boolean addDouble(final double e) {
+        if (this.array.length == this.currMaxIndex + 1) {
+            this.growArray();
+        }
+
+        this.array[++this.currMaxIndex] = e;
+        return true;
+    }
+
+    /** @throws NullPointerException if {@code e} is {@code null} */
+    @Override
+    public boolean add(@Nullable final Double e) {
+        return this.addDouble(e);
+    }
+
+    protected void growArray() {
+        final int newSize =
+                this.size() == 0
+                        ? DEFAULT_INITIAL_SIZE
+                        : (int) (this.array.length * this.growthRate);
+
+        final double[] newArray = new double[newSize];
+        System.arraycopy(this.array, 0, newArray, 0, this.array.length);
+        this.array = newArray;
+    }
+
+    /** Like {@link #remove}, but without boxing the element. */
+    public boolean removeDouble(final double e) {
+        final int index = this.indexOfDouble(e);
+        if (index < 0) {
+            return false;
+        }
+
+        this.removeDoubleAt(index);
+        return true;
+    }
+
+    @Override
+    public boolean remove(@Nullable final Double e) {
+        return e != null && this.removeDouble(e);
+    }
+
+    @Override
+    public void clear() {
+        this.currMaxIndex = -1;
+    }
+
+    @Override
+    public int size() {
+        return this.currMaxIndex + 1;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public WritableDoubleIterator iterator() {
+        return new WritableDoubleArrayListIterator();
+    }
+
+    protected class WritableDoubleArrayListIterator extends ReadableDoubleArrayListIterator
+            implements WritableDoubleIterator {
+        protected boolean canRemove = false;
+
+        @Override
+        public double nextDouble() throws IllegalStateException {
+            final double elem = super.nextDouble();
+            this.canRemove = true;
+
+            return elem;
+        }
+
+        @Override
+        public void remove() throws IllegalStateException {
+            if (!this.canRemove) {
+                throw new IllegalStateException("No previously successful call to next()");
+            }
+
+            this.canRemove = false;
+            WritableDoubleArrayList.this.removeDoubleAt(--this.currIndex);
+        }
+    }
+}
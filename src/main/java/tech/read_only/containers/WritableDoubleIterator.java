@@ -0,0 +1,4 @@
+package tech.read_only.containers;
+
+/** A {@link ReadableDoubleIterator} that can also remove elements from the underlying source. */
+public interface WritableDoubleIterator extends ReadableDoubleIterator, WritableIterator<Double> {}
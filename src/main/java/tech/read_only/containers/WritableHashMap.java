@@ -0,0 +1,242 @@
+package tech.read_only.containers;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableHashMap} that also supports adding, replacing and removing mappings. Like {@link
+ * WritableHashSet}, the tables double in size once the load factor is exceeded, and removal shifts
+ * the rest of the probe run backwards instead of leaving tombstones, so {@link #get}, {@link #put},
+ * {@link #remove} and {@link #computeIfAbsent} never allocate outside of resizing.
+ */
+public class WritableHashMap<K, V> extends ReadableHashMap<K, V> implements WritableMap<K, V> {
+    protected static final boolean DEFAULT_FAIL_FAST =
+            Boolean.parseBoolean(System.getProperty(WritableIterator.FAIL_FAST_PROPERTY, "true"));
+
+    /** Whether view iterators check {@link #modCount}; see {@link WritableIterator}. */
+    protected final boolean failFast = DEFAULT_FAIL_FAST;
+
+    /**
+     * The number of times keys were added or removed, or the tables were resized. Replacing the
+     * value of a contained key does not count.
+     */
+    protected int modCount = 0;
+
+    public WritableHashMap() {
+        super();
+    }
+
+    public WritableHashMap(@Nullable final ReadableMap<? extends K, ? extends V> other) {
+        super(other);
+    }
+
+    /** Always 0 unless {@link #failFast} is set, so that iterators then never fail. */
+    @Override
+    protected int modCount() {
+        return this.failFast ? this.modCount : 0;
+    }
+
+    @Nullable
+    @Override
+    public V put(@Nullable final K key, @Nullable final V value) {
+        if (key == null) {
+            //noinspection unchecked
+            final V previous = (V) this.nullKeyValue;
+            if (!this.containsNullKey) {
+                this.containsNullKey = true;
+                this.size++;
+                this.modCount++;
+            }
+            this.nullKeyValue = value;
+
+            return previous;
+        }
+
+        final int slot = this.insertionSlot(key);
+        if (slot >= 0) {
+            //noinspection unchecked
+            final V previous = (V) this.valueTable[slot];
+            this.valueTable[slot] = value;
+
+            return previous;
+        }
+
+        this.keyTable[~slot] = key;
+        this.valueTable[~slot] = value;
+        this.size++;
+        this.modCount++;
+
+        return null;
+    }
+
+    /**
+     * Probes for a key, growing the tables first if inserting it would exceed the load factor.
+     *
+     * @return The slot holding {@code key} if present; otherwise the bitwise complement of the
+     *     empty slot to insert it into
+     */
+    protected int insertionSlot(final Object key) {
+        if (this.keyTable.length == 0) {
+            this.resize();
+        }
+
+        final int slot = this.findSlot(this.keyTable, key);
+        if (slot >= 0) return slot;
+
+        // grow before inserting, so that the table always keeps an empty slot
+        if ((this.size + 1) / (double) this.keyTable.length > this.maxLoadFactor) {
+            this.resize();
+            return this.findSlot(this.keyTable, key);
+        }
+
+        return slot;
+    }
+
+    /**
+     * Probes once when the key is contained. Otherwise, probes again after calling {@code
+     * mappingFunction}, since the function may have modified this map.
+     */
+    @Nullable
+    @Override
+    public V computeIfAbsent(
+            @Nullable final K key, final Function<? super K, ? extends V> mappingFunction) {
+        if (key == null) {
+            if (!this.containsNullKey) {
+                this.nullKeyValue = mappingFunction.apply(null);
+                this.containsNullKey = true;
+                this.size++;
+                this.modCount++;
+            }
+
+            //noinspection unchecked
+            return (V) this.nullKeyValue;
+        }
+
+        final int slot = this.insertionSlot(key);
+        if (slot >= 0) {
+            //noinspection unchecked
+            return (V) this.valueTable[slot];
+        }
+
+        final V value = mappingFunction.apply(key);
+        final int newSlot = this.insertionSlot(key);
+        if (newSlot >= 0) {
+            this.valueTable[newSlot] = value;
+        } else {
+            this.keyTable[~newSlot] = key;
+            this.valueTable[~newSlot] = value;
+            this.size++;
+            this.modCount++;
+        }
+
+        return value;
+    }
+
+    /** @return The length of the tables that should replace the current ones when they fill up */
+    protected int grownCapacity() {
+        return this.keyTable.length == 0
+                ? ReadableHashSet.MINIMUM_CAPACITY
+                : ReadableHashSet.ceilingPowerOfTwo(this.keyTable.length * 2L);
+    }
+
+    protected void resize() {
+        final Object[] oldKeys = this.keyTable;
+        final Object[] oldValues = this.valueTable;
+        final int capacity = this.grownCapacity();
+
+        this.keyTable = new Object[capacity];
+        this.valueTable = new Object[capacity];
+        this.modCount++;
+
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            final Object key = oldKeys[i];
+            if (key == null) continue;
+
+            int slot = this.homeSlot(this.keyTable, key);
+            while (this.keyTable[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+
+            this.keyTable[slot] = key;
+            this.valueTable[slot] = oldValues[i];
+        }
+    }
+
+    @Nullable
+    @Override
+    public V remove(@Nullable final Object key) {
+        if (key == null) {
+            //noinspection unchecked
+            final V previous = (V) this.nullKeyValue;
+            if (this.containsNullKey) {
+                this.containsNullKey = false;
+                this.nullKeyValue = null;
+                this.size--;
+                this.modCount++;
+            }
+
+            return previous;
+        }
+
+        final int slot = this.slotOf(key);
+        if (slot < 0) return null;
+
+        //noinspection unchecked
+        final V previous = (V) this.valueTable[slot];
+        this.removeFromTables(slot);
+        this.size--;
+        this.modCount++;
+
+        return previous;
+    }
+
+    /**
+     * Empties a slot of both tables using backward-shift deletion, as in {@link
+     * ReadableHashSet#removeFromTable}.
+     *
+     * @param slot The occupied slot to empty
+     */
+    protected void removeFromTables(final int slot) {
+        final Object[] keys = this.keyTable;
+        final Object[] values = this.valueTable;
+        final int mask = keys.length - 1;
+
+        int gap = slot;
+        for (int i = (gap + 1) & mask; keys[i] != null; i = (i + 1) & mask) {
+            final int home = this.homeSlot(keys, keys[i]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+
+        keys[gap] = null;
+        values[gap] = null;
+    }
+
+    @Override
+    public void clear() {
+        if (this.isEmpty()) return;
+
+        Arrays.fill(this.keyTable, null);
+        Arrays.fill(this.valueTable, null);
+        this.size = 0;
+        this.containsNullKey = false;
+        this.nullKeyValue = null;
+        this.modCount++;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
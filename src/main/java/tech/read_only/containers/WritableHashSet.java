@@ -1,100 +1,364 @@
 package tech.read_only.containers;
 
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
-public class WritableHashSet<E> extends ReadableHashSet<E> implements WritableContainer<E> {
+/**
+ * A {@link ReadableHashSet} that also supports the addition and removal of elements. The table
+ * grows (doubling in size by default) once the load factor is exceeded. Removal shifts the rest of
+ * the probe run backwards instead of leaving tombstones, so neither insertion nor removal allocates
+ * outside of resizing.
+ */
+public class WritableHashSet<E> extends ReadableHashSet<E> implements WritableSet<E> {
     protected static final float DEFAULT_GROWTH_FACTOR = 2.0f;
-    // TODO: Support provided growth factors
-    protected float growthFactor = DEFAULT_GROWTH_FACTOR;
+
+    protected static final boolean DEFAULT_FAIL_FAST =
+            Boolean.parseBoolean(System.getProperty(WritableIterator.FAIL_FAST_PROPERTY, "true"));
+
+    /** Rounded up to a power of two when applied, since table lengths are powers of two. */
+    protected final float growthFactor;
+
+    /** Whether iterators check {@link #modCount}; see {@link WritableIterator}. */
+    protected final boolean failFast;
+
+    /**
+     * Counts additions, removals and rehashes, so that iterators can detect modifications made
+     * other than through themselves.
+     */
+    protected int modCount = 0;
+
+    /**
+     * Whether {@link #hashtable} and {@link #hashes} are shared with a snapshot, and must be copied
+     * before modification.
+     */
+    protected boolean hashtableShared = false;
+
+    /**
+     * Whether {@link #overflow} and {@link #overflowHashes} are shared with a snapshot, and must be
+     * copied before modification.
+     */
+    protected boolean overflowShared = false;
 
     public WritableHashSet() {
         super();
+        this.growthFactor = DEFAULT_GROWTH_FACTOR;
+        this.failFast = DEFAULT_FAIL_FAST;
     }
 
     public WritableHashSet(@Nullable final E e) {
         super(e);
+        this.growthFactor = DEFAULT_GROWTH_FACTOR;
+        this.failFast = DEFAULT_FAIL_FAST;
     }
 
     @SafeVarargs
     public WritableHashSet(final E... elems) {
         super(elems);
+        this.growthFactor = DEFAULT_GROWTH_FACTOR;
+        this.failFast = DEFAULT_FAIL_FAST;
     }
 
     public WritableHashSet(final Container<E> other) {
         super(other);
+        this.growthFactor = DEFAULT_GROWTH_FACTOR;
+        this.failFast = DEFAULT_FAIL_FAST;
+    }
+
+    /** @param strategy Decides which elements are equal, in place of their own {@code equals} */
+    public WritableHashSet(
+            @Nullable final Container<E> other, final HashingStrategy<? super E> strategy) {
+        super(other, strategy);
+        this.growthFactor = DEFAULT_GROWTH_FACTOR;
+        this.failFast = DEFAULT_FAIL_FAST;
+    }
+
+    protected WritableHashSet(
+            final int expectedSize,
+            final float loadFactor,
+            final float growthFactor,
+            final boolean failFast,
+            final HashingStrategy<? super E> strategy) {
+        super(
+                new Object[capacityFor(expectedSize, loadFactor)],
+                new int[capacityFor(expectedSize, loadFactor)],
+                0,
+                false,
+                0,
+                loadFactor,
+                strategy);
+        this.growthFactor = growthFactor;
+        this.failFast = failFast;
+    }
+
+    /**
+     * @return A builder for sets with a given expected size, load factor, growth factor or hashing
+     *     strategy
+     */
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Configures the table of a new {@link WritableHashSet}. Sets whose final size is known up
+     * front can then allocate their table exactly once.
+     */
+    public static class Builder<E> {
+        protected int expectedSize = 0;
+        protected float loadFactor = DEFAULT_MAX_LOAD_FACTOR;
+        protected float growthFactor = DEFAULT_GROWTH_FACTOR;
+        protected boolean failFast = DEFAULT_FAIL_FAST;
+        protected HashingStrategy<? super E> hashingStrategy = HashingStrategy.natural();
+
+        protected Builder() {}
+
+        /**
+         * @param expectedSize The number of elements the set can hold before it first grows
+         * @throws IllegalArgumentException if {@code expectedSize} is negative
+         */
+        public Builder<E> expectedSize(final int expectedSize) throws IllegalArgumentException {
+            if (expectedSize < 0) {
+                throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+            }
+
+            this.expectedSize = expectedSize;
+            return this;
+        }
+
+        /**
+         * @param loadFactor The maximum ratio of elements to table slots
+         * @throws IllegalArgumentException if {@code loadFactor} is not in (0, 1]
+         */
+        public Builder<E> loadFactor(final float loadFactor) throws IllegalArgumentException {
+            if (!(loadFactor > 0 && loadFactor <= 1)) {
+                throw new IllegalArgumentException("Load factor not in (0, 1]: " + loadFactor);
+            }
+
+            this.loadFactor = loadFactor;
+            return this;
+        }
+
+        /**
+         * @param growthFactor The factor the table's length is multiplied by when it fills up,
+         *     rounded up to a power of two
+         * @throws IllegalArgumentException if {@code growthFactor} is not greater than 1
+         */
+        public Builder<E> growthFactor(final float growthFactor) throws IllegalArgumentException {
+            if (!(growthFactor > 1)) {
+                throw new IllegalArgumentException("Growth factor must exceed 1: " + growthFactor);
+            }
+
+            this.growthFactor = growthFactor;
+            return this;
+        }
+
+        /**
+         * @param failFast Whether iterators throw {@link ConcurrentModificationException} once the
+         *     set is modified other than through them, or skip the checks entirely
+         */
+        public Builder<E> failFast(final boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
+        /**
+         * @param hashingStrategy Decides which elements the set considers equal, in place of their
+         *     own {@code equals}
+         */
+        public Builder<E> hashingStrategy(final HashingStrategy<? super E> hashingStrategy) {
+            this.hashingStrategy = hashingStrategy;
+            return this;
+        }
+
+        public WritableHashSet<E> build() {
+            return new WritableHashSet<>(
+                    this.expectedSize,
+                    this.loadFactor,
+                    this.growthFactor,
+                    this.failFast,
+                    this.hashingStrategy);
+        }
     }
 
     @Override
     public boolean add(@Nullable final E e) {
-        if (this.contains(e)) return false;
-
         if (e == null) {
+            if (this.containsNull) return false;
+
             this.size++;
+            this.modCount++;
             this.containsNull = true;
-            this.cachedHashCode = null;
             return true;
         }
 
-        if (this.isEmpty()) {
+        return this.addHashed(e, this.hash(e));
+    }
+
+    /**
+     * Adds a non-null element whose hash has already been computed, so that no caller hashes an
+     * element twice.
+     */
+    protected boolean addHashed(final E e, final int hash) {
+        if (this.overflows(e, hash)) {
+            final int index = this.findInOverflow(e, hash);
+            if (index >= 0) return false;
+
+            this.unshareOverflow();
+            this.insertIntoOverflow(~index, e, hash);
+            this.size++;
+            this.modCount++;
+            this.hashSum += hash;
+            return true;
+        }
+
+        if (this.hashtable.length == 0) {
             this.resize();
         }
 
-        final boolean result = this.addToTable(this.hashtable, e);
+        int slot = this.findSlot(this.hashtable, this.hashes, e, hash);
+        if (slot >= 0) {
+            this.addedAgain(slot);
+            return false;
+        }
 
-        if (result) {
-            this.size++;
-            this.cachedHashCode = null;
+        // grow before inserting, so that the table always keeps an empty slot
+        if ((this.size() + 1) / (double) this.hashtable.length > this.maxLoadFactor) {
+            this.resize();
+            slot = this.findSlot(this.hashtable, this.hashes, e, hash);
+        } else {
+            this.unshareHashtable();
+        }
 
-            if (this.size() / (double) this.hashtable.length > this.maxLoadFactor) {
-                this.resize();
-            }
+        this.insertAt(~slot, e, hash);
+        if (this.crowded(e, hash, ~slot)) {
+            this.unshareOverflow();
+            this.spill(hash);
         }
+        return true;
+    }
+
+    /**
+     * Called when an element being added is already contained, with the slot holding it. Does
+     * nothing here; subclasses that track accesses hook in.
+     */
+    protected void addedAgain(final int slot) {}
+
+    /** Fills an empty slot of an unshared {@link #hashtable} found by {@link #findSlot}. */
+    protected void insertAt(final int slot, final E e, final int hash) {
+        this.hashtable[slot] = e;
+        this.hashes[slot] = hash;
+        this.size++;
+        this.modCount++;
+        this.hashSum += hash;
+    }
 
-        return result;
+    /** @return The length of the table that should replace the current one when it fills up */
+    protected int grownCapacity() {
+        return this.hashtable.length == 0
+                ? MINIMUM_CAPACITY
+                : ceilingPowerOfTwo((long) Math.ceil(this.hashtable.length * this.growthFactor));
     }
 
     protected void resize() {
-        final int newSize =
-                this.hashtable.length == 0 ? 4 : (int) (this.hashtable.length * this.growthFactor);
-        final Object[][] newHashtable = new Object[newSize][];
+        this.rehash(this.grownCapacity());
+    }
 
-        for (final Object[] array : this.hashtable) {
-            if (array == null) continue;
+    /**
+     * Grows the table, if needed, so that it holds {@code expectedSize} elements without exceeding
+     * the load factor, so that many elements can be added without growing again.
+     *
+     * @param expectedSize The number of elements the set must be able to hold
+     */
+    public void ensureCapacity(final int expectedSize) {
+        final int capacity = capacityFor(expectedSize, this.maxLoadFactor);
+        if (capacity > this.hashtable.length) {
+            this.rehash(capacity);
+        }
+    }
 
-            for (final Object elem : array) {
-                //noinspection unchecked
-                this.addToTable(newHashtable, (E) elem);
+    /**
+     * Shrinks the table to the smallest length that holds the set's elements without exceeding the
+     * load factor, releasing the memory left over from earlier growth.
+     */
+    public void trimToSize() {
+        final int capacity =
+                capacityFor(this.containsNull ? this.size - 1 : this.size, this.maxLoadFactor);
+        if (capacity < this.hashtable.length) {
+            this.rehash(capacity);
+        }
+    }
+
+    /** Moves every element into a new table of the given length, reusing the stored hashes. */
+    protected void rehash(final int capacity) {
+        final Object[] newHashtable = new Object[capacity];
+        final int[] newHashes = new int[capacity];
+
+        for (int i = 0; i < this.hashtable.length; i++) {
+            final Object elem = this.hashtable[i];
+            if (elem != null) {
+                this.addToTable(newHashtable, newHashes, elem, this.hashes[i]);
             }
         }
 
         this.hashtable = newHashtable;
+        this.hashes = newHashes;
+        this.hashtableShared = false;
+        this.modCount++;
     }
 
-    /** @param table Must not be zero-length */
-    protected int getIndex(final Object[][] table, final E e) {
-        return e.hashCode() % table.length;
+    /**
+     * Copies {@link #hashtable} and {@link #hashes} if a snapshot shares them, so that they can be
+     * modified in place.
+     */
+    protected void unshareHashtable() {
+        if (this.hashtableShared) {
+            this.hashtable = this.hashtable.clone();
+            this.hashes = this.hashes.clone();
+            this.hashtableShared = false;
+        }
     }
 
-    /** @param table Must not be zero-length */
-    protected boolean addToTable(final Object[][] table, final E e) {
-        final int index = this.getIndex(table, e);
-
-        Object[] array = table[index];
-        if (array == null) {
-            array = new Object[] {e};
-        } else {
-            final Object[] newArray = new Object[array.length + 1];
-            System.arraycopy(array, 0, newArray, 0, array.length);
-            array = newArray;
-
-            array[array.length - 1] = e;
+    /**
+     * Copies {@link #overflow} and {@link #overflowHashes} if a snapshot shares them, so that they
+     * can be modified in place.
+     */
+    protected void unshareOverflow() {
+        if (this.overflowShared) {
+            if (this.overflow != null) {
+                this.overflow = this.overflow.clone();
+                this.overflowHashes = this.overflowHashes.clone();
+            }
+            this.overflowShared = false;
         }
+    }
 
-        table[index] = array;
-
-        return true;
+    /**
+     * Returns an immutable set of the elements this set holds right now, in constant time. The
+     * snapshot shares this set's table and {@link #overflow}, each of which this set copies before
+     * its next modification of it, so the first write after a snapshot takes time linear in the
+     * size of what it modifies. Hand the snapshot to other threads through a safe publication
+     * mechanism (such as a volatile field or a concurrent queue).
+     */
+    @Override
+    public ReadableHashSet<E> snapshot() {
+        this.hashtableShared = true;
+        this.overflowShared = true;
+        final ReadableHashSet<E> snapshot =
+                new ReadableHashSet<>(
+                        this.hashtable,
+                        this.hashes,
+                        this.size,
+                        this.containsNull,
+                        this.hashSum,
+                        this.maxLoadFactor,
+                        this.strategy);
+        snapshot.overflow = this.overflow;
+        snapshot.overflowHashes = this.overflowHashes;
+        snapshot.overflowSize = this.overflowSize;
+        return snapshot;
     }
 
     @Override
@@ -106,40 +370,191 @@ public class WritableHashSet<E> extends ReadableHashSet<E> implements WritableCo
 
             this.containsNull = false;
             this.size--;
-            this.cachedHashCode = null;
+            this.modCount++;
 
             return true;
         }
 
-        final int index = this.getIndex(e);
-        final Object[] array = this.hashtable[index];
-        if (array == null) {
+        if (!this.accepts(e)) return false;
+
+        return this.removeHashed(e, this.hash(e));
+    }
+
+    /**
+     * Removes a non-null element whose hash has already been computed, so that no caller hashes an
+     * element twice.
+     */
+    protected boolean removeHashed(final E e, final int hash) {
+        if (this.overflows(e, hash)) {
+            final int index = this.findInOverflow(e, hash);
+            if (index < 0) return false;
+
+            this.unshareOverflow();
+            this.removeFromOverflow(index);
+            this.size--;
+            this.modCount++;
+            this.hashSum -= hash;
+            return true;
+        }
+
+        if (this.hashtable.length == 0) {
             return false;
         }
 
-        for (int i = 0; i < array.length; i++) {
-            if (e.equals(array[i])) {
-                final Object[] newArray = new Object[array.length - 1];
-                System.arraycopy(array, 0, newArray, 0, i);
-                System.arraycopy(array, i + 1, newArray, i, array.length - i - 1);
-                this.hashtable[index] = newArray;
+        final int slot = this.findSlot(this.hashtable, this.hashes, e, hash);
+        if (slot < 0) {
+            return false;
+        }
+
+        this.unshareHashtable();
+        this.removeFromTable(this.hashtable, this.hashes, slot);
+        this.size--;
+        this.modCount++;
+        this.hashSum -= hash;
+        return true;
+    }
+
+    /**
+     * Grows the table at most once, to fit {@code other}'s elements as if none were contained yet.
+     * A {@link ReadableHashSet} or {@link WritableHashSet} argument is read straight from its
+     * table, along with its stored hashes if it uses this set's strategy.
+     */
+    @Override
+    public boolean addAll(final Container<? extends E> other) {
+        if (other == this) return false;
+
+        final boolean plainHashSet = hasPlainTable(other);
+        final Object[] elems =
+                plainHashSet ? ((ReadableHashSet<?>) other).hashtable : other.toArray();
+
+        this.ensureCapacity(this.size + other.size());
+
+        boolean changed = false;
+        if (plainHashSet && ((ReadableHashSet<?>) other).containsNull) {
+            changed = this.add(null);
+        }
+
+        final int[] hashes = plainHashSet ? this.hashesOf((ReadableHashSet<?>) other) : null;
+        for (int i = 0; i < elems.length; i++) {
+            final Object elem = elems[i];
+            // a table's empty slots are null too, so its null element was added separately
+            if (elem == null && plainHashSet) continue;
+
+            //noinspection unchecked
+            changed |= hashes == null ? this.add((E) elem) : this.addHashed((E) elem, hashes[i]);
+        }
+
+        return changed;
+    }
+
+    /**
+     * Removes {@code other}'s elements one by one if it is the smaller container; otherwise tests
+     * this set's elements against it in one pass.
+     */
+    @Override
+    public boolean removeAll(final Container<?> other) {
+        if (other == this) {
+            final boolean changed = !this.isEmpty();
+            this.clear();
+            return changed;
+        }
+
+        if (other.size() < this.size) {
+            boolean changed = false;
+            for (final Object elem : other.toArray()) {
+                //noinspection unchecked
+                changed |= this.remove((E) elem);
+            }
+
+            return changed;
+        }
+
+        return this.removeIf(asLookup(other)::containsQuietly);
+    }
 
+    /**
+     * Tests this set's elements against {@code other} in one pass, after copying {@code other} into
+     * a {@link ReadableHashSet} unless it is a set or small.
+     */
+    @Override
+    public boolean retainAll(final Container<?> other) {
+        if (other == this) return false;
+
+        final Container<?> lookup = asLookup(other);
+        return this.removeIf(e -> !lookup.containsQuietly(e));
+    }
+
+    /**
+     * Removes matching elements in one pass over the table. The pass starts just after an empty
+     * slot, like {@link ReadableHashSetIterator}, so an element that backward-shift deletion moves
+     * into an emptied slot is always one the pass has yet to test.
+     */
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        boolean removed = false;
+        if (this.containsNull && filter.test(null)) {
+            this.containsNull = false;
+            this.size--;
+            this.modCount++;
+            removed = true;
+        }
+
+        final int start = this.firstEmptySlot();
+        if (start < 0) return removed;
+
+        final int mask = this.hashtable.length - 1;
+        for (int offset = 1; offset < this.hashtable.length; offset++) {
+            final int slot = (start + offset) & mask;
+
+            Object elem;
+            //noinspection unchecked
+            while ((elem = this.hashtable[slot]) != null && filter.test((E) elem)) {
+                this.unshareHashtable();
+                this.hashSum -= this.hashes[slot];
+                this.removeFromTable(this.hashtable, this.hashes, slot);
+                this.size--;
+                this.modCount++;
+                removed = true;
+            }
+        }
+
+        for (int i = 0; i < this.overflowSize; ) {
+            //noinspection unchecked,ConstantConditions
+            if (filter.test((E) this.overflow[i])) {
+                this.unshareOverflow();
+                //noinspection ConstantConditions
+                this.hashSum -= this.overflowHashes[i];
+                this.removeFromOverflow(i);
                 this.size--;
-                this.cachedHashCode = null;
-                return true;
+                this.modCount++;
+                removed = true;
+            } else {
+                i++;
             }
         }
 
-        return false;
+        return removed;
     }
 
     @Override
     public void clear() {
         if (this.isEmpty()) return;
 
-        Arrays.fill(this.hashtable, null);
+        if (this.hashtableShared) {
+            this.hashtable = new Object[this.hashtable.length];
+            this.hashes = new int[this.hashes.length];
+            this.hashtableShared = false;
+        } else {
+            Arrays.fill(this.hashtable, null);
+        }
         this.size = 0;
-        this.cachedHashCode = null;
+        this.modCount++;
+        this.containsNull = false;
+        this.hashSum = 0;
+        this.overflow = null;
+        this.overflowHashes = null;
+        this.overflowSize = 0;
+        this.overflowShared = false;
     }
 
     @Override
@@ -159,28 +574,88 @@ public class WritableHashSet<E> extends ReadableHashSet<E> implements WritableCo
 
     protected class WritableHashSetIterator extends ReadableHashSetIterator
             implements WritableIterator<E> {
+        protected final boolean failFast = WritableHashSet.this.failFast;
+        protected int expectedModCount = WritableHashSet.this.modCount;
         protected boolean canRemove = false;
 
+        /**
+         * @throws ConcurrentModificationException if the set was modified other than through this
+         *     iterator
+         */
+        protected void checkForComodification() throws ConcurrentModificationException {
+            if (this.failFast && WritableHashSet.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
         @Nullable
         @Override
-        public E next() throws IllegalStateException {
+        public E next() throws IllegalStateException, ConcurrentModificationException {
+            this.checkForComodification();
             E elem = super.next();
             this.canRemove = true;
 
             return elem;
         }
 
+        /**
+         * Steps through {@link #next} if fail-fast, so that every element is checked; an action
+         * that modified the set would otherwise leave the traversal reading a stale table.
+         */
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            if (!this.hasNext()) return;
+            if (this.failFast) {
+                while (this.hasNext()) {
+                    action.accept(this.next());
+                }
+
+                return;
+            }
+
+            super.forEachRemaining(action);
+            this.canRemove = true;
+        }
+
         @Override
-        public void remove() throws IllegalStateException {
+        public void remove() throws IllegalStateException, ConcurrentModificationException {
             if (!this.canRemove) {
                 throw new IllegalStateException("No previously successful call to next()");
             }
+            this.checkForComodification();
 
             this.canRemove = false;
-            //noinspection unchecked
-            WritableHashSet.this.remove(
-                    (E) WritableHashSet.this.hashtable[outerArrayIndex][innerArrayIndex--]);
             this.currIndex--;
+
+            if (this.lastSlot == OVERFLOW_SLOT) {
+                // the element after it in the overflow takes its index, so nothing is skipped
+                final int index = this.currIndex - this.overflowStart();
+                WritableHashSet.this.unshareOverflow();
+                //noinspection ConstantConditions
+                WritableHashSet.this.hashSum -= WritableHashSet.this.overflowHashes[index];
+                WritableHashSet.this.removeFromOverflow(index);
+                WritableHashSet.this.size--;
+                this.expectedModCount = ++WritableHashSet.this.modCount;
+                return;
+            }
+            if (this.lastSlot < 0) {
+                WritableHashSet.this.remove(null);
+                this.expectedModCount = WritableHashSet.this.modCount;
+                return;
+            }
+
+            WritableHashSet.this.unshareHashtable();
+            final Object[] table = WritableHashSet.this.hashtable;
+            final int[] hashes = WritableHashSet.this.hashes;
+            WritableHashSet.this.hashSum -= hashes[this.lastSlot];
+            WritableHashSet.this.removeFromTable(table, hashes, this.lastSlot);
+            WritableHashSet.this.size--;
+            this.expectedModCount = ++WritableHashSet.this.modCount;
+
+            // an element not yet traversed was shifted back into the emptied slot
+            if (table[this.lastSlot] != null) {
+                this.slotOffset--;
+            }
         }
     }
 }
@@ -0,0 +1,167 @@
+package tech.read_only.containers;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableIntArrayList} that also supports the addition and removal of elements. The
+ * backing array grows when needed (doubling in size by default). The {@link WritableList} methods
+ * box and unbox their arguments; prefer {@link #addInt}, {@link #setInt}, {@link #removeInt} and
+ * {@link #removeIntAt}.
+ */
+public class WritableIntArrayList extends ReadableIntArrayList implements WritableList<Integer> {
+    protected static final int DEFAULT_INITIAL_SIZE = 4;
+    protected static final float DEFAULT_GROWTH_RATE = 2.0f;
+
+    protected final float growthRate;
+
+    protected int currMaxIndex;
+
+    public WritableIntArrayList() {
+        super();
+        this.growthRate = DEFAULT_GROWTH_RATE;
+        this.currMaxIndex = -1;
+    }
+
+    public WritableIntArrayList(final int... elems) {
+        super(elems);
+        this.growthRate = DEFAULT_GROWTH_RATE;
+        this.currMaxIndex = elems.length - 1;
+    }
+
+    /** @throws NullPointerException if {@code container} contains {@code null} */
+    public WritableIntArrayList(@Nullable final Container<Integer> container) {
+        super(container);
+        this.growthRate = DEFAULT_GROWTH_RATE;
+        this.currMaxIndex = this.array.length - 1;
+    }
+
+    /**
+     * Like {@link #removeAt}, but without boxing the removed element.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds (less than 0, or greater than
+     *     or equal to {@link #size})
+     */
+    public int removeIntAt(final int index) {
+        this.checkIndex(index);
+        final int elem = this.array[index];
+
+        System.arraycopy(this.array, index + 1, this.array, index, this.currMaxIndex - index);
+        this.currMaxIndex--;
+
+        return elem;
+    }
+
+    /** Boxes the result of {@link #removeIntAt}. Never returns {@code null}. */
+    @Override
+    public Integer removeAt(final int index) {
+        return this.removeIntAt(index);
+    }
+
+    /**
+     * Like {@link #set}, but without boxing the element.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds (less than 0, or greater than
+     *     or equal to {@link #size})
+     */
+    public void setInt(final int index, final int e) {
+        this.checkIndex(index);
+        this.array[index] = e;
+    }
+
+    /** @throws NullPointerException if {@code e} is {@code null} */
+    @Override
+    public void set(final int index, @Nullable final Integer e) {
+        this.setInt(index, e);
+    }
+
+    /** Like {@link #add}, but without boxing the element. Always returns {@code true}. */
+    public boolean addInt(final int e) {
+        if (this.array.length == this.currMaxIndex + 1) {
+            this.growArray();
+        }
+
+        this.array[++this.currMaxIndex] = e;
+        return true;
+    }
+
+    /** @throws NullPointerException if {@code e} is {@code null} */
+    @Override
+    public boolean add(@Nullable final Integer e) {
+        return this.addInt(e);
+    }
+
+    protected void growArray() {
+        final int newSize =
+                this.size() == 0
+                        ? DEFAULT_INITIAL_SIZE
+                        : (int) (this.array.length * this.growthRate);
+
+        final int[] newArray = new int[newSize];
+        System.arraycopy(this.array, 0, newArray, 0, this.array.length);
+        this.array = newArray;
+    }
+
+    /** Like {@link #remove}, but without boxing the element. */
+    public boolean removeInt(final int e) {
+        final int index = this.indexOfInt(e);
+        if (index < 0) {
+            return false;
+        }
+
+        this.removeIntAt(index);
+        return true;
+    }
+
+    @Override
+    public boolean remove(@Nullable final Integer e) {
+        return e != null && this.removeInt(e);
+    }
+
+    @Override
+    public void clear() {
+        this.currMaxIndex = -1;
+    }
+
+    @Override
+    public int size() {
+        return this.currMaxIndex + 1;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public WritableIntIterator iterator() {
+        return new WritableIntArrayListIterator();
+    }
+
+    protected class WritableIntArrayListIterator extends ReadableIntArrayListIterator
+            implements WritableIntIterator {
+        protected boolean canRemove = false;
+
+        @Override
+        public int nextInt() throws IllegalStateException {
+            final int elem = super.nextInt();
+            this.canRemove = true;
+
+            return elem;
+        }
+
+        @Override
+        public void remove() throws IllegalStateException {
+            if (!this.canRemove) {
+                throw new IllegalStateException("No previously successful call to next()");
+            }
+
+            this.canRemove = false;
+            WritableIntArrayList.this.removeIntAt(--this.currIndex);
+        }
+    }
+}
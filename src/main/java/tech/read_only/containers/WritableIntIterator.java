@@ -0,0 +1,4 @@
+package tech.read_only.containers;
+
+/** A {@link ReadableIntIterator} that can also remove elements from the underlying source. */
+public interface WritableIntIterator extends ReadableIntIterator, WritableIterator<Integer> {}
@@ -3,8 +3,18 @@ package tech.read_only.containers;
 /**
  * Interface denoting a {@link ReadableIterator} class that can also remove elements from the
  * underlying source.
+ *
+ * <p>The iterators of {@link WritableArrayList} and {@link WritableHashSet} are fail-fast: once
+ * their source is modified other than through the iterator itself, {@link #next} and {@link
+ * #remove} throw {@link java.util.ConcurrentModificationException}. Their builders can turn the
+ * checks off per container, and the system property {@value #FAIL_FAST_PROPERTY} sets the default
+ * (for example, {@code -Dtech.read_only.containers.failFast=false} in production, once staging has
+ * shown that no code modifies a container it is iterating).
  */
 public interface WritableIterator<E> extends ReadableIterator<E> {
+    /** The system property that, if {@code false}, makes iterators unchecked by default. */
+    String FAIL_FAST_PROPERTY = "tech.read_only.containers.failFast";
+
     /**
      * Remove the last element returned by {@link #next} from the underlying source.
      *
@@ -20,4 +20,15 @@ public interface WritableList<E> extends ReadableList<E>, WritableContainer<E> {
      *     or equal to {@link #size})
      */
     void set(final int index, @Nullable final E e);
+
+    /**
+     * An immutable list holding the elements this list holds right now, in the same order. Later
+     * modifications of this list are not reflected in the snapshot. The default implementation
+     * copies every element; implementations that can share their storage should override it.
+     *
+     * @return A snapshot of this list
+     */
+    default ReadableList<E> snapshot() {
+        return new ReadableArrayList<>(this);
+    }
 }
@@ -0,0 +1,167 @@
+package tech.read_only.containers;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableLongArrayList} that also supports the addition and removal of elements. The
+ * backing array grows when needed (doubling in size by default). The {@link WritableList} methods
+ * box and unbox their arguments; prefer {@link #addLong}, {@link #setLong}, {@link #removeLong} and
+ * {@link #removeLongAt}.
+ */
+public class WritableLongArrayList extends ReadableLongArrayList implements WritableList<Long> {
+    protected static final int DEFAULT_INITIAL_SIZE = 4;
+    protected static final float DEFAULT_GROWTH_RATE = 2.0f;
+
+    protected final float growthRate;
+
+    protected int currMaxIndex;
+
+    public WritableLongArrayList() {
+        super();
+        this.growthRate = DEFAULT_GROWTH_RATE;
+        this.currMaxIndex = -1;
+    }
+
+    public WritableLongArrayList(final long... elems) {
+        super(elems);
+        this.growthRate = DEFAULT_GROWTH_RATE;
+        this.currMaxIndex = elems.length - 1;
+    }
+
+    /** @throws NullPointerException if {@code container} contains {@code null} */
+    public WritableLongArrayList(@Nullable final Container<Long> container) {
+        super(container);
+        this.growthRate = DEFAULT_GROWTH_RATE;
+        this.currMaxIndex = this.array.length - 1;
+    }
+
+    /**
+     * Like {@link #removeAt}, but without boxing the removed element.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds (less than 0, or greater than
+     *     or equal to {@link #size})
+     */
+    public long removeLongAt(final int index) {
+        this.checkIndex(index);
+        final long elem = this.array[index];
+
+        System.arraycopy(this.array, index + 1, this.array, index, this.currMaxIndex - index);
+        this.currMaxIndex--;
+
+        return elem;
+    }
+
+    /** Boxes the result of {@link #removeLongAt}. Never returns {@code null}. */
+    @Override
+    public Long removeAt(final int index) {
+        return this.removeLongAt(index);
+    }
+
+    /**
+     * Like {@link #set}, but without boxing the element.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds (less than 0, or greater than
+     *     or equal to {@link #size})
+     */
+    public void setLong(final int index, final long e) {
+        this.checkIndex(index);
+        this.array[index] = e;
+    }
+
+    /** @throws NullPointerException if {@code e} is {@code null} */
+    @Override
+    public void set(final int index, @Nullable final Long e) {
+        this.setLong(index, e);
+    }
+
+    /** Like {@link #add}, but without boxing the element. Always returns {@code true}. */
+    public boolean addLong(final long e) {
+        if (this.array.length == this.currMaxIndex + 1) {
+            this.growArray();
+        }
+
+        this.array[++this.currMaxIndex] = e;
+        return true;
+    }
+
+    /** @throws NullPointerException if {@code e} is {@code null} */
+    @Override
+    public boolean add(@Nullable final Long e) {
+        return this.addLong(e);
+    }
+
+    protected void growArray() {
+        final int newSize =
+                this.size() == 0
+                        ? DEFAULT_INITIAL_SIZE
+                        : (int) (this.array.length * this.growthRate);
+
+        final long[] newArray = new long[newSize];
+        System.arraycopy(this.array, 0, newArray, 0, this.array.length);
+        this.array = newArray;
+    }
+
+    /** Like {@link #remove}, but without boxing the element. */
+    public boolean removeLong(final long e) {
+        final int index = this.indexOfLong(e);
+        if (index < 0) {
+            return false;
+        }
+
+        this.removeLongAt(index);
+        return true;
+    }
+
+    @Override
+    public boolean remove(@Nullable final Long e) {
+        return e != null && this.removeLong(e);
+    }
+
+    @Override
+    public void clear() {
+        this.currMaxIndex = -1;
+    }
+
+    @Override
+    public int size() {
+        return this.currMaxIndex + 1;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public WritableLongIterator iterator() {
+        return new WritableLongArrayListIterator();
+    }
+
+    protected class WritableLongArrayListIterator extends ReadableLongArrayListIterator
+            implements WritableLongIterator {
+        protected boolean canRemove = false;
+
+        @Override
+        public long nextLong() throws IllegalStateException {
+            final long elem = super.nextLong();
+            this.canRemove = true;
+
+            return elem;
+        }
+
+        @Override
+        public void remove() throws IllegalStateException {
+            if (!this.canRemove) {
+                throw new IllegalStateException("No previously successful call to next()");
+            }
+
+            this.canRemove = false;
+            WritableLongArrayList.this.removeLongAt(--this.currIndex);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package tech.read_only.containers;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadableLongHashSet} that also supports the addition and removal of elements, growing
+ * and removing the way {@link WritableHashSet} does. {@link #addLong}, {@link #containsLong} and
+ * {@link #removeLong} never allocate outside of resizing; the {@link WritableSet} methods box and
+ * unbox their arguments.
+ */
+public class WritableLongHashSet extends ReadableLongHashSet implements WritableSet<Long> {
+    protected static final float DEFAULT_GROWTH_FACTOR = WritableHashSet.DEFAULT_GROWTH_FACTOR;
+
+    protected float growthFactor = DEFAULT_GROWTH_FACTOR;
+
+    public WritableLongHashSet() {
+        super();
+    }
+
+    public WritableLongHashSet(final long... elems) {
+        super(elems);
+    }
+
+    /** @throws NullPointerException if {@code other} contains {@code null} */
+    public WritableLongHashSet(final Container<Long> other) {
+        super(other);
+    }
+
+    /** Like {@link #add}, but without boxing the element. */
+    public boolean addLong(final long e) {
+        if (e == 0) {
+            if (this.containsZero) return false;
+
+            this.size++;
+            this.containsZero = true;
+            this.cachedHashCode = null;
+            return true;
+        }
+
+        if (this.hashtable.length == 0) {
+            this.resize();
+        }
+
+        int slot = this.findSlot(this.hashtable, e);
+        if (slot >= 0) return false;
+
+        // grow before inserting, so that the table always keeps an empty slot
+        if ((this.size() + 1) / (double) this.hashtable.length > this.maxLoadFactor) {
+            this.resize();
+            slot = this.findSlot(this.hashtable, e);
+        }
+
+        this.hashtable[~slot] = e;
+        this.size++;
+        this.cachedHashCode = null;
+
+        return true;
+    }
+
+    /** @throws NullPointerException if {@code e} is {@code null} */
+    @Override
+    public boolean add(@Nullable final Long e) {
+        return this.addLong(e);
+    }
+
+    protected void resize() {
+        final int newSize =
+                this.hashtable.length == 0
+                        ? ReadableHashSet.MINIMUM_CAPACITY
+                        : ReadableHashSet.ceilingPowerOfTwo(
+                                (long) Math.ceil(this.hashtable.length * this.growthFactor));
+        final long[] newHashtable = new long[newSize];
+        final int mask = newSize - 1;
+
+        for (final long elem : this.hashtable) {
+            if (elem == 0) continue;
+
+            int i = this.homeSlot(newHashtable, elem);
+            while (newHashtable[i] != 0) {
+                i = (i + 1) & mask;
+            }
+
+            newHashtable[i] = elem;
+        }
+
+        this.hashtable = newHashtable;
+    }
+
+    /** Like {@link #remove}, but without boxing the element. */
+    public boolean removeLong(final long e) {
+        if (e == 0) {
+            if (!this.containsZero) {
+                return false;
+            }
+
+            this.containsZero = false;
+            this.size--;
+            this.cachedHashCode = null;
+
+            return true;
+        }
+
+        if (this.hashtable.length == 0) {
+            return false;
+        }
+
+        final int slot = this.findSlot(this.hashtable, e);
+        if (slot < 0) {
+            return false;
+        }
+
+        this.removeFromTable(slot);
+        return true;
+    }
+
+    @Override
+    public boolean remove(@Nullable final Long e) {
+        return e != null && this.removeLong(e);
+    }
+
+    /** Empties a slot using the backward-shift deletion of {@link WritableHashSet}. */
+    protected void removeFromTable(final int slot) {
+        final long[] table = this.hashtable;
+        final int mask = table.length - 1;
+
+        int gap = slot;
+        for (int i = (gap + 1) & mask; table[i] != 0; i = (i + 1) & mask) {
+            final int home = this.homeSlot(table, table[i]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                table[gap] = table[i];
+                gap = i;
+            }
+        }
+
+        table[gap] = 0;
+        this.size--;
+        this.cachedHashCode = null;
+    }
+
+    @Override
+    public void clear() {
+        if (this.isEmpty()) return;
+
+        Arrays.fill(this.hashtable, 0);
+        this.size = 0;
+        this.containsZero = false;
+        this.cachedHashCode = null;
+    }
+
+    @Override
+    public WritableLongIterator iterator() {
+        return new WritableLongHashSetIterator();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    protected class WritableLongHashSetIterator extends ReadableLongHashSetIterator
+            implements WritableLongIterator {
+        protected boolean canRemove = false;
+
+        @Override
+        public long nextLong() throws IllegalStateException {
+            final long elem = super.nextLong();
+            this.canRemove = true;
+
+            return elem;
+        }
+
+        @Override
+        public void remove() throws IllegalStateException {
+            if (!this.canRemove) {
+                throw new IllegalStateException("No previously successful call to next()");
+            }
+
+            this.canRemove = false;
+            this.currIndex--;
+
+            if (this.lastSlot < 0) {
+                WritableLongHashSet.this.removeLong(0);
+                return;
+            }
+
+            WritableLongHashSet.this.removeFromTable(this.lastSlot);
+
+            // an element not yet traversed was shifted back into the emptied slot
+            if (WritableLongHashSet.this.hashtable[this.lastSlot] != 0) {
+                this.slotOffset--;
+            }
+        }
+    }
+}
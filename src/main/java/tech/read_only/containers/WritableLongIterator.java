@@ -0,0 +1,4 @@
+package tech.read_only.containers;
+
+/** A {@link ReadableLongIterator} that can also remove elements from the underlying source. */
+public interface WritableLongIterator extends ReadableLongIterator, WritableIterator<Long> {}
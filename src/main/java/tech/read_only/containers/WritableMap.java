@@ -0,0 +1,50 @@
+package tech.read_only.containers;
+
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/** A {@link ReadableMap} that also supports adding, replacing and removing mappings. */
+public interface WritableMap<K, V> extends ReadableMap<K, V> {
+    /**
+     * Maps a key to a value, replacing any value the key already mapped to. When the call returns,
+     * {@link #get} of the key returns the value.
+     *
+     * @param key The key to map
+     * @param value The value to map {@code key} to
+     * @return The value {@code key} previously mapped to; {@code null} if it was not contained
+     */
+    @Nullable
+    V put(@Nullable final K key, @Nullable final V value);
+
+    /**
+     * Removes a key and its value.
+     *
+     * @param key The key to remove
+     * @return The value {@code key} mapped to; {@code null} if it was not contained
+     */
+    @Nullable
+    V remove(@Nullable final Object key);
+
+    /**
+     * Retrieves the value a key maps to, first mapping it to a computed value if it is not
+     * contained. Implementations should only look the key up once.
+     *
+     * @param key The key for lookup
+     * @param mappingFunction Computes the value for {@code key} when it is not contained; only
+     *     called in that case
+     * @return The value {@code key} maps to after the call
+     */
+    @Nullable
+    default V computeIfAbsent(
+            @Nullable final K key, final Function<? super K, ? extends V> mappingFunction) {
+        if (this.containsKey(key)) return this.get(key);
+
+        final V value = mappingFunction.apply(key);
+        this.put(key, value);
+        return value;
+    }
+
+    /** Removes all keys and values from the map. */
+    void clear();
+}
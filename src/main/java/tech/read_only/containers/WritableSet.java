@@ -11,4 +11,15 @@ public interface WritableSet<E> extends WritableContainer<E>, ReadableSet<E> {
      */
     @Override
     boolean add(@Nullable final E elem);
+
+    /**
+     * An immutable set holding the elements this set holds right now. Later modifications of this
+     * set are not reflected in the snapshot. The default implementation copies every element;
+     * implementations that can share their storage should override it.
+     *
+     * @return A snapshot of this set
+     */
+    default ReadableSet<E> snapshot() {
+        return new ReadableHashSet<>(this);
+    }
 }
@@ -0,0 +1,24 @@
+package tech.read_only.containers;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@link ReadableSortedSet} that also supports the addition and removal of elements. Its range
+ * views are {@link RemovableSortedSet}s, whose removals write through to it.
+ */
+public interface WritableSortedSet<E> extends WritableSet<E>, RemovableSortedSet<E> {
+    /** Consistent with {@link WritableContainer#removeIf}. */
+    @Override
+    default boolean removeIf(final Predicate<? super E> filter) {
+        return WritableSet.super.removeIf(filter);
+    }
+
+    /**
+     * Consistent with {@link WritableSet#snapshot}, but keeps the order. The default implementation
+     * bulk loads a {@link ReadableBTreeSet} from this set's elements in linear time.
+     */
+    @Override
+    default ReadableSortedSet<E> snapshot() {
+        return new ReadableBTreeSet<>(this, this.comparator());
+    }
+}
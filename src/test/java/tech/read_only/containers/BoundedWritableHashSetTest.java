@@ -0,0 +1,308 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import tech.read_only.containers.BoundedWritableHashSet.EvictionPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+class BoundedWritableHashSetTest<T extends BoundedWritableHashSet<Integer>>
+        extends ContainerTestBase<Integer, T> implements WritableContainerTest {
+    /** Large enough that the tests shared with unbounded sets never evict. */
+    private static final int MAXIMUM_SIZE = 1 << 16;
+
+    private int currElem = 0;
+
+    @Override
+    protected T makeContainer() {
+        //noinspection unchecked
+        return (T) BoundedWritableHashSet.<Integer>builder().maximumSize(MAXIMUM_SIZE).build();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        final T set = this.makeContainer();
+        set.add(elem);
+        return set;
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        final T set = this.makeContainer();
+        for (final Object elem : elems) {
+            set.add((Integer) elem);
+        }
+        return set;
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Container<Integer> other) {
+        final T set = this.makeContainer();
+        if (other != null) {
+            set.addAll(other);
+        }
+        return set;
+    }
+
+    @Override
+    protected Integer generateElement() {
+        return ++currElem;
+    }
+
+    private static List<Integer> toList(final Container<Integer> set) {
+        final List<Integer> list = new ArrayList<>();
+        set.forEach(list::add);
+        return list;
+    }
+
+    @Test
+    void testCompare() {
+        final T set1 = this.makeContainer(1, 2, 3);
+        final T set2 = this.makeContainer(3, 2, 3, 1);
+
+        assertEquals(set1.size(), set2.size());
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+        assertEquals(
+                new ReadableHashSet<>(1, null, 3).hashCode(),
+                this.makeContainer(1, null, 3).hashCode());
+    }
+
+    @Test
+    @Override
+    public void testAdd() {
+        final T set1 = this.makeContainer();
+
+        assertTrue(set1.add(1));
+        assertEquals(1, set1.size());
+        assertTrue(set1.contains(1));
+        assertFalse(set1.add(1));
+
+        assertEquals(this.makeContainer(1), set1);
+
+        assertTrue(set1.add(null));
+        assertTrue(set1.contains(null));
+        assertEquals(2, set1.size());
+        assertFalse(set1.add(null));
+    }
+
+    @Test
+    @Override
+    public void testResize() {
+        final T set1 = this.makeContainer(1);
+        final int initialHashCode = set1.hashCode();
+
+        for (int i = 2; i <= 1000; i++) {
+            assertTrue(set1.add(i));
+        }
+
+        assertEquals(1000, set1.size());
+        for (int i = 1; i <= 1000; i++) {
+            assertTrue(set1.contains(i));
+        }
+
+        assertNotEquals(initialHashCode, set1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testIteratorRemove() {
+        final T set1 = this.makeContainer(1, null, 2, 3);
+        final WritableIterator<Integer> iter = set1.iterator();
+
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        final Integer removed = iter.next();
+        iter.remove();
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        final List<Integer> remaining = new ArrayList<>();
+        while (iter.hasNext()) {
+            remaining.add(iter.next());
+        }
+        assertThrows(IllegalStateException.class, iter::next);
+
+        assertEquals(3, remaining.size());
+        assertFalse(set1.contains(removed));
+        assertEquals(this.makeContainer(remaining.toArray()), set1);
+    }
+
+    @Test
+    @Override
+    public void testClear() {
+        final T set1 = this.makeContainer(1, null, 3);
+
+        set1.clear();
+
+        assertTrue(set1.isEmpty());
+        assertFalse(set1.contains(1));
+        assertFalse(set1.contains(null));
+        assertEquals(this.makeContainer(), set1);
+        assertEquals(this.makeContainer().hashCode(), set1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testRemove() {
+        final T set1 = this.makeContainer(1, 2, 3);
+
+        assertTrue(set1.remove(2));
+
+        assertEquals(2, set1.size());
+        assertFalse(set1.contains(2));
+        assertFalse(set1.remove(2));
+        assertFalse(set1.remove(null));
+
+        assertEquals(this.makeContainer(1, 3), set1);
+    }
+
+    @Test
+    void testBuilder() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> BoundedWritableHashSet.builder().maximumSize(0));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedWritableHashSet<>(-1));
+        assertThrows(IllegalStateException.class, () -> BoundedWritableHashSet.builder().build());
+
+        final BoundedWritableHashSet<Object> set =
+                BoundedWritableHashSet.builder()
+                        .maximumSize(10)
+                        .evictionPolicy(EvictionPolicy.W_TINY_LFU)
+                        .build();
+        assertEquals(10, set.maximumSize());
+        assertEquals(EvictionPolicy.W_TINY_LFU, set.evictionPolicy());
+        assertEquals(EvictionPolicy.LRU, new BoundedWritableHashSet<>(10).evictionPolicy());
+    }
+
+    @Test
+    void testLruEviction() {
+        final List<Integer> evicted = new ArrayList<>();
+        final BoundedWritableHashSet<Integer> set =
+                BoundedWritableHashSet.<Integer>builder()
+                        .maximumSize(3)
+                        .evictionListener(evicted::add)
+                        .build();
+
+        set.add(1);
+        set.add(2);
+        set.add(null);
+        assertTrue(set.contains(1));
+        assertFalse(set.add(2));
+
+        // iteration, equality and containsAll do not count as accesses
+        assertTrue(set.containsAll(new ReadableArrayList<>(2, 1)));
+        assertEquals(Arrays.asList(null, 1, 2), toList(set));
+        assertEquals(new BoundedWritableHashSet<>(3), new BoundedWritableHashSet<>(3));
+
+        set.add(4);
+        set.add(5);
+        assertEquals(Arrays.asList(null, 1), evicted);
+        assertEquals(Arrays.asList(2, 4, 5), toList(set));
+        assertEquals(2, set.evictionCount());
+
+        // explicit removal is not an eviction
+        set.remove(4);
+        set.clear();
+        assertEquals(Arrays.asList(null, 1), evicted);
+        assertEquals(2, set.evictionCount());
+    }
+
+    @Test
+    void testCounts() {
+        final T set = this.makeContainer(1, 2);
+
+        assertTrue(set.contains(1));
+        assertTrue(set.contains(2));
+        assertFalse(set.contains(3));
+        set.add(3);
+        assertTrue(set.contains(3));
+
+        assertEquals(3, set.hitCount());
+        assertEquals(1, set.missCount());
+        assertEquals(0, set.evictionCount());
+    }
+
+    /**
+     * Looks up a hot element every fifth time, and a one-off element otherwise, adding each element
+     * it misses. The hot elements come back too rarely for recency alone to keep them.
+     *
+     * @return The share of the lookups of hot elements that hit
+     */
+    private static double hotHitRate(final EvictionPolicy policy) {
+        final BoundedWritableHashSet<Integer> set =
+                BoundedWritableHashSet.<Integer>builder()
+                        .maximumSize(100)
+                        .evictionPolicy(policy)
+                        .build();
+
+        int hotHits = 0;
+        for (int i = 0; i < 100_000; i++) {
+            final boolean hot = i % 5 == 0;
+            final Integer elem = hot ? i / 5 % 50 : -i;
+            if (set.contains(elem)) {
+                if (hot) hotHits++;
+            } else {
+                set.add(elem);
+            }
+        }
+
+        return hotHits / 20_000.0;
+    }
+
+    @Test
+    void testTinyLfuKeepsFrequentElements() {
+        assertEquals(0, hotHitRate(EvictionPolicy.LRU));
+        assertTrue(hotHitRate(EvictionPolicy.W_TINY_LFU) > 0.95);
+    }
+
+    @Test
+    void testRandomOperations() {
+        for (final EvictionPolicy policy : EvictionPolicy.values()) {
+            final Set<Integer> evicted = new HashSet<>();
+            final BoundedWritableHashSet<Integer> set =
+                    BoundedWritableHashSet.<Integer>builder()
+                            .maximumSize(50)
+                            .evictionPolicy(policy)
+                            .evictionListener(evicted::add)
+                            .build();
+            final Set<Integer> expected = new HashSet<>();
+            final Random random = new Random(policy.ordinal());
+
+            for (int i = 0; i < 100_000; i++) {
+                final Integer elem = random.nextInt(200) == 0 ? null : random.nextInt(200);
+                switch (random.nextInt(4)) {
+                    case 0:
+                        assertEquals(expected.remove(elem), set.remove(elem));
+                        break;
+                    case 1:
+                        assertEquals(expected.contains(elem), set.contains(elem));
+                        break;
+                    default:
+                        evicted.clear();
+                        assertEquals(expected.add(elem), set.add(elem));
+                        expected.removeAll(evicted);
+                        assertTrue(evicted.size() <= 1);
+                }
+
+                assertTrue(set.size() <= 50);
+                assertEquals(expected.size(), set.size());
+            }
+
+            assertEquals(new ReadableHashSet<>(expected.toArray()).hashCode(), set.hashCode());
+            assertTrue(set.evictionCount() > 0);
+        }
+    }
+}
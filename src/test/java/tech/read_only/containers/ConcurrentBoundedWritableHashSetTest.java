@@ -0,0 +1,288 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import tech.read_only.containers.BoundedWritableHashSet.EvictionPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+class ConcurrentBoundedWritableHashSetTest<T extends ConcurrentBoundedWritableHashSet<Integer>>
+        extends ContainerTestBase<Integer, T> implements WritableContainerTest {
+    private static final int THREADS = 8;
+
+    /** Large enough that the tests shared with unbounded sets never evict. */
+    private static final int MAXIMUM_SIZE = 1 << 16;
+
+    private int currElem = 0;
+
+    @Override
+    protected T makeContainer() {
+        //noinspection unchecked
+        return (T)
+                BoundedWritableHashSet.<Integer>builder()
+                        .maximumSize(MAXIMUM_SIZE)
+                        .buildConcurrent();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        final T set = this.makeContainer();
+        set.add(elem);
+        return set;
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        final T set = this.makeContainer();
+        for (final Object elem : elems) {
+            set.add((Integer) elem);
+        }
+        return set;
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Container<Integer> other) {
+        final T set = this.makeContainer();
+        if (other != null) {
+            set.addAll(other);
+        }
+        return set;
+    }
+
+    @Override
+    protected Integer generateElement() {
+        return ++currElem;
+    }
+
+    /** Runs {@code task} on {@link #THREADS} threads at once, passing each its index. */
+    private static void runConcurrently(final IntTask task) throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger failures = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final int index = t;
+            final Thread thread =
+                    new Thread(
+                            () -> {
+                                try {
+                                    start.await();
+                                    task.run(index);
+                                } catch (final Throwable e) {
+                                    failures.incrementAndGet();
+                                }
+                            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, failures.get());
+    }
+
+    @FunctionalInterface
+    private interface IntTask {
+        void run(int index) throws Exception;
+    }
+
+    @Test
+    void testCompare() {
+        final T set1 = this.makeContainer(1, 2, 3);
+        final T set2 = this.makeContainer(3, 2, 3, 1);
+
+        assertEquals(set1.size(), set2.size());
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+        assertEquals(
+                new ReadableHashSet<>(1, null, 3).hashCode(),
+                this.makeContainer(1, null, 3).hashCode());
+    }
+
+    @Test
+    @Override
+    public void testAdd() {
+        final T set1 = this.makeContainer();
+
+        assertTrue(set1.add(1));
+        assertEquals(1, set1.size());
+        assertTrue(set1.contains(1));
+        assertFalse(set1.add(1));
+
+        assertEquals(this.makeContainer(1), set1);
+
+        assertTrue(set1.add(null));
+        assertTrue(set1.contains(null));
+        assertEquals(2, set1.size());
+        assertFalse(set1.add(null));
+    }
+
+    @Test
+    @Override
+    public void testResize() {
+        final T set1 = this.makeContainer(1);
+        final int initialHashCode = set1.hashCode();
+
+        for (int i = 2; i <= 1000; i++) {
+            assertTrue(set1.add(i));
+        }
+
+        assertEquals(1000, set1.size());
+        for (int i = 1; i <= 1000; i++) {
+            assertTrue(set1.contains(i));
+        }
+
+        assertNotEquals(initialHashCode, set1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testIteratorRemove() {
+        final T set1 = this.makeContainer(1, null, 2, 3);
+        final WritableIterator<Integer> iter = set1.iterator();
+
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        final Integer removed = iter.next();
+        iter.remove();
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        final List<Integer> remaining = new ArrayList<>();
+        while (iter.hasNext()) {
+            remaining.add(iter.next());
+        }
+        assertThrows(IllegalStateException.class, iter::next);
+
+        assertEquals(3, remaining.size());
+        assertFalse(set1.contains(removed));
+        assertEquals(this.makeContainer(remaining.toArray()), set1);
+
+        // removal through the iterator also reaches the eviction order, so it frees up room
+        assertTrue(set1.policy.size() == set1.size());
+    }
+
+    @Test
+    @Override
+    public void testClear() {
+        final T set1 = this.makeContainer(1, null, 3);
+
+        set1.clear();
+
+        assertTrue(set1.isEmpty());
+        assertFalse(set1.contains(1));
+        assertFalse(set1.contains(null));
+        assertEquals(this.makeContainer(), set1);
+        assertEquals(this.makeContainer().hashCode(), set1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testRemove() {
+        final T set1 = this.makeContainer(1, 2, 3);
+
+        assertTrue(set1.remove(2));
+
+        assertEquals(2, set1.size());
+        assertFalse(set1.contains(2));
+        assertFalse(set1.remove(2));
+        assertFalse(set1.remove(null));
+
+        assertEquals(this.makeContainer(1, 3), set1);
+    }
+
+    @Test
+    void testBufferedAccessOrder() {
+        final List<Integer> evicted = new ArrayList<>();
+        final ConcurrentBoundedWritableHashSet<Integer> set =
+                BoundedWritableHashSet.<Integer>builder()
+                        .maximumSize(3)
+                        .evictionListener(evicted::add)
+                        .buildConcurrent();
+
+        set.add(1);
+        set.add(2);
+        set.add(null);
+        assertTrue(set.contains(1));
+        set.cleanUp();
+
+        set.add(4);
+        set.add(5);
+        assertEquals(Arrays.asList(2, null), evicted);
+        assertEquals(new ReadableHashSet<>(1, 4, 5).hashCode(), set.hashCode());
+        assertEquals(2, set.evictionCount());
+        assertEquals(1, set.hitCount());
+        assertEquals(0, set.missCount());
+    }
+
+    /** Many more hits than fit in the read buffers still all count, and reach the policy. */
+    @Test
+    void testConcurrentHits() throws InterruptedException {
+        final ConcurrentBoundedWritableHashSet<Integer> set =
+                BoundedWritableHashSet.<Integer>builder()
+                        .maximumSize(100)
+                        .evictionPolicy(EvictionPolicy.W_TINY_LFU)
+                        .buildConcurrent();
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+        }
+
+        runConcurrently(
+                index -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        if (!set.contains(i % 100)) throw new AssertionError();
+                    }
+                });
+
+        assertEquals(THREADS * 100_000L, set.hitCount());
+        assertEquals(0, set.missCount());
+
+        set.cleanUp();
+        assertEquals(100, set.size());
+        assertEquals(100, set.policy.size());
+    }
+
+    @Test
+    void testConcurrentEviction() throws InterruptedException {
+        final ConcurrentHashMap<Integer, Boolean> evicted = new ConcurrentHashMap<>();
+        final ConcurrentBoundedWritableHashSet<Integer> set =
+                BoundedWritableHashSet.<Integer>builder()
+                        .maximumSize(1000)
+                        .evictionPolicy(EvictionPolicy.W_TINY_LFU)
+                        .evictionListener(e -> evicted.put(e, true))
+                        .buildConcurrent();
+
+        // half the threads add disjoint ranges, while the other half keeps looking up a hot range
+        runConcurrently(
+                index -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        if (index % 2 == 0) {
+                            set.add(index * 20_000 + i);
+                        } else {
+                            set.contains(i % 500);
+                        }
+                    }
+                });
+
+        assertEquals(1000, set.size());
+        assertEquals(1000, set.policy.size());
+        assertEquals(THREADS / 2 * 20_000 - 1000, set.evictionCount());
+        assertEquals(set.evictionCount(), evicted.size());
+        set.forEach(e -> assertFalse(evicted.containsKey(e)));
+    }
+}
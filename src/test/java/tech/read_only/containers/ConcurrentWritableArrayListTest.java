@@ -0,0 +1,188 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class ConcurrentWritableArrayListTest<T extends ConcurrentWritableArrayList<Integer>>
+        extends WritableArrayListTest<T> {
+    @Override
+    protected T makeContainer() {
+        return (T) new ConcurrentWritableArrayList<Integer>();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        return (T) new ConcurrentWritableArrayList<>(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T) (ConcurrentWritableArrayList<?>) new ConcurrentWritableArrayList<>(elems);
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        return (T) new ConcurrentWritableArrayList<>(other);
+    }
+
+    @Test
+    void testLockedSubList() {
+        final T list1 = this.makeContainer(1, 2, 3, 4);
+        assertEquals(Integer.valueOf(2), list1.subList(1, 3).removeAt(0));
+        assertTrue(list1.listEquals(new ReadableArrayList<>(1, 3, 4)));
+
+        final WritableList<Integer> slice1 = list1.subList(0, 2);
+        slice1.set(0, 10);
+        slice1.add(5);
+        assertTrue(slice1.remove(3));
+        assertTrue(slice1.listEquals(new ReadableArrayList<>(10, 5)));
+        assertTrue(list1.listEquals(new ReadableArrayList<>(10, 5, 4)));
+
+        final WritableList<Integer> slice2 =
+                ((WritableArrayList<Integer>.WritableSubList) slice1).subList(1, 2);
+        slice2.add(6);
+        assertTrue(slice1.listEquals(new ReadableArrayList<>(10, 5, 6)));
+        assertTrue(slice1.removeIf(e -> e == 10));
+        assertArrayEquals(new Object[] {5, 6}, slice1.toArray());
+        assertEquals(2, slice1.stream().count());
+
+        slice1.clear();
+        assertTrue(list1.listEquals(new ReadableArrayList<>(4)));
+
+        list1.add(7);
+        assertThrows(ConcurrentModificationException.class, slice1::size);
+        assertThrows(ConcurrentModificationException.class, () -> slice2.add(1));
+    }
+
+    @Test
+    void testSpareCapacity() {
+        final T list1 = this.makeContainer();
+        list1.add(1);
+        list1.add(2);
+        list1.add(3);
+
+        // the backing array now has a spare slot past the last element
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.set(3, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.removeAt(3));
+        assertFalse(list1.contains(null));
+        assertEquals(-1, list1.indexOf(null));
+        assertFalse(list1.remove(null));
+        assertEquals(3, ((Object[]) list1.toArray()).length);
+    }
+
+    @Test
+    void testReadsDuringWrites() throws InterruptedException {
+        // every element equals its index, so a consistent read always sees get(i) == i
+        final T list1 = this.makeContainer();
+        for (int i = 0; i < 100; i++) {
+            list1.add(i);
+        }
+
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final AtomicInteger failures = new AtomicInteger();
+
+        final Thread[] readers = new Thread[4];
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] =
+                    new Thread(
+                            () -> {
+                                try {
+                                    while (!done.get()) {
+                                        final int size = list1.size();
+                                        if (size < 100) failures.incrementAndGet();
+
+                                        final Integer elem = list1.get(99);
+                                        if (elem == null || elem != 99) failures.incrementAndGet();
+                                        if (list1.indexOf(50) != 50) failures.incrementAndGet();
+
+                                        final Object[] snapshot = list1.toArray();
+                                        for (int i = 0; i < snapshot.length; i++) {
+                                            if (!Integer.valueOf(i).equals(snapshot[i])) {
+                                                failures.incrementAndGet();
+                                            }
+                                        }
+                                    }
+                                } catch (final RuntimeException e) {
+                                    // e.g. an out-of-bounds read of an inconsistent state
+                                    failures.incrementAndGet();
+                                }
+                            });
+            readers[t].start();
+        }
+
+        // grows the backing array many times, and shrinks the list back, while readers run
+        for (int round = 0; round < 200; round++) {
+            for (int i = 100; i < 1000; i++) {
+                list1.add(i);
+            }
+
+            for (int i = 999; i >= 100; i--) {
+                list1.removeAt(i);
+            }
+
+            list1.set(99, 99);
+        }
+
+        done.set(true);
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(0, failures.get());
+        assertEquals(100, list1.size());
+        assertTrue(list1.contains(99));
+    }
+
+    @Test
+    void testIterationDuringRemovals() throws InterruptedException {
+        final T list1 = this.makeContainer();
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final AtomicInteger failures = new AtomicInteger();
+
+        final Thread reader =
+                new Thread(
+                        () -> {
+                            try {
+                                while (!done.get()) {
+                                    int expected = 0;
+                                    for (final ReadableIterator<Integer> iter = list1.iterator();
+                                            iter.hasNext(); ) {
+                                        // removals only shorten the list, so nothing is skipped
+                                        if (iter.next() != expected++) failures.incrementAndGet();
+                                    }
+                                }
+                            } catch (final RuntimeException e) {
+                                failures.incrementAndGet();
+                            }
+                        });
+        reader.start();
+
+        // every removal takes the last element, which the reader may be about to read
+        for (int round = 0; round < 2_000; round++) {
+            for (int i = 0; i < 100; i++) {
+                list1.add(i);
+            }
+            while (!list1.isEmpty()) {
+                list1.removeAt(list1.size() - 1);
+            }
+        }
+
+        done.set(true);
+        reader.join();
+
+        assertEquals(0, failures.get());
+    }
+}
@@ -0,0 +1,272 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+class ConcurrentWritableHashSetTest<T extends ConcurrentWritableHashSet<Integer>>
+        extends ContainerTestBase<Integer, T> implements WritableContainerTest {
+    private static final int THREADS = 8;
+
+    private int currElem = 0;
+
+    @Override
+    protected T makeContainer() {
+        //noinspection unchecked
+        return (T) new ConcurrentWritableHashSet<Integer>();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        //noinspection unchecked
+        return (T) new ConcurrentWritableHashSet<>(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        //noinspection unchecked
+        return (T) (ConcurrentWritableHashSet<?>) new ConcurrentWritableHashSet<>(elems);
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        //noinspection unchecked
+        return (T) new ConcurrentWritableHashSet<>(other);
+    }
+
+    @Override
+    protected Integer generateElement() {
+        return ++currElem;
+    }
+
+    /** Runs {@code task} on {@link #THREADS} threads at once, passing each its index. */
+    private static void runConcurrently(final IntTask task) throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger failures = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final int index = t;
+            final Thread thread =
+                    new Thread(
+                            () -> {
+                                try {
+                                    start.await();
+                                    task.run(index);
+                                } catch (final Throwable e) {
+                                    failures.incrementAndGet();
+                                }
+                            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, failures.get());
+    }
+
+    @FunctionalInterface
+    private interface IntTask {
+        void run(int index) throws Exception;
+    }
+
+    @Test
+    void testCompare() {
+        final T set1 = this.makeContainer(1, 2, 3);
+        final T set2 = this.makeContainer(3, 2, 3, 1);
+
+        assertEquals(set1.size(), set2.size());
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+        assertEquals(
+                new ReadableHashSet<>(1, null, 3).hashCode(),
+                this.makeContainer(1, null, 3).hashCode());
+    }
+
+    @Test
+    @Override
+    public void testAdd() {
+        final T set1 = this.makeContainer();
+
+        assertTrue(set1.add(1));
+        assertEquals(1, set1.size());
+        assertTrue(set1.contains(1));
+        assertFalse(set1.add(1));
+
+        assertEquals(this.makeContainer(1), set1);
+
+        assertTrue(set1.add(null));
+        assertTrue(set1.contains(null));
+        assertEquals(2, set1.size());
+        assertFalse(set1.add(null));
+    }
+
+    @Test
+    @Override
+    public void testResize() {
+        final T set1 = this.makeContainer(1);
+        final int initialHashCode = set1.hashCode();
+
+        for (int i = 2; i <= 1000; i++) {
+            assertTrue(set1.add(i));
+        }
+
+        assertEquals(1000, set1.size());
+        for (int i = 1; i <= 1000; i++) {
+            assertTrue(set1.contains(i));
+        }
+
+        assertNotEquals(initialHashCode, set1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testIteratorRemove() {
+        final T set1 = this.makeContainer(1, null, 2, 3);
+        final WritableIterator<Integer> iter = set1.iterator();
+
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        assertEquals(null, iter.next());
+        iter.remove();
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        final Integer removed = iter.next();
+        iter.remove();
+
+        final Integer first = iter.next();
+        final Integer last = iter.next();
+        assertFalse(iter.hasNext());
+        assertThrows(IllegalStateException.class, iter::next);
+        assertFalse(set1.contains(removed));
+        assertFalse(set1.contains(null));
+
+        assertEquals(this.makeContainer(first, last), set1);
+    }
+
+    @Test
+    @Override
+    public void testClear() {
+        final T set1 = this.makeContainer(1, null, 3);
+
+        set1.clear();
+
+        assertTrue(set1.isEmpty());
+        assertFalse(set1.contains(1));
+        assertFalse(set1.contains(null));
+        assertEquals(this.makeContainer(), set1);
+        assertEquals(this.makeContainer().hashCode(), set1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testRemove() {
+        final T set1 = this.makeContainer(1, 2, 3);
+
+        assertTrue(set1.remove(2));
+
+        assertEquals(2, set1.size());
+        assertFalse(set1.contains(2));
+        assertFalse(set1.remove(2));
+        assertFalse(set1.remove(null));
+
+        assertEquals(this.makeContainer(1, 3), set1);
+
+        // re-adding reuses the tombstone left behind
+        assertTrue(set1.add(2));
+        assertTrue(set1.contains(2));
+        assertEquals(this.makeContainer(1, 2, 3), set1);
+    }
+
+    @Test
+    void testTombstoneChurn() {
+        final T set1 = this.makeContainer();
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(set1.add(i));
+            assertTrue(set1.remove(i));
+        }
+
+        assertTrue(set1.isEmpty());
+        for (final ConcurrentWritableHashSet.Segment segment : set1.segments) {
+            assertTrue(segment.table.length() <= 8);
+        }
+    }
+
+    @Test
+    void testConcurrentAdd() throws InterruptedException {
+        final T set1 = this.makeContainer();
+        final AtomicInteger added = new AtomicInteger();
+
+        // every thread adds the same overlapping range, so each element must be added exactly once
+        runConcurrently(
+                index -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        if (set1.add((i * 7 + index * 1000) % 20_000)) {
+                            added.incrementAndGet();
+                        }
+                    }
+                });
+
+        assertEquals(20_000, added.get());
+        assertEquals(20_000, set1.size());
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(set1.contains(i));
+        }
+    }
+
+    @Test
+    void testConcurrentReadsDuringWrites() throws InterruptedException {
+        final T set1 = this.makeContainer();
+        for (int i = 0; i < 10_000; i++) {
+            set1.add(-i - 1);
+        }
+
+        // half the threads churn through disjoint ranges, while the other half checks that
+        // elements nobody touches are never missed, even while segments rehash
+        runConcurrently(
+                index -> {
+                    if (index % 2 == 0) {
+                        for (int i = 0; i < 50_000; i++) {
+                            final int elem = index * 50_000 + i;
+                            if (!set1.add(elem) || !set1.contains(elem)) throw new AssertionError();
+                            if (i % 3 == 0 && !set1.remove(elem)) throw new AssertionError();
+                        }
+                    } else {
+                        for (int round = 0; round < 20; round++) {
+                            for (int i = 0; i < 10_000; i++) {
+                                if (!set1.contains(-i - 1)) throw new AssertionError();
+                            }
+                        }
+                    }
+                });
+
+        int expected = 10_000;
+        for (int i = 0; i < 50_000; i++) {
+            if (i % 3 != 0) expected += THREADS / 2;
+        }
+
+        assertEquals(expected, set1.size());
+
+        int count = 0;
+        for (final ReadableIterator<Integer> iter = set1.iterator(); iter.hasNext(); iter.next()) {
+            count++;
+        }
+
+        assertEquals(expected, count);
+    }
+}
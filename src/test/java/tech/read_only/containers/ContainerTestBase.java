@@ -10,9 +10,16 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import static java.util.stream.Collectors.toList;
+
+import com.google.common.collect.HashMultiset;
+
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 
 import javax.annotation.Nullable;
 
@@ -170,4 +177,52 @@ abstract class ContainerTestBase<E, T extends Container<E>> {
         assertTrue(mixedContainer.containsAll(nullContainer));
         assertFalse(nullContainer.containsAll(mixedContainer));
     }
+
+    @Test
+    void testStream() {
+        final Object[] elems = new Object[5000];
+        for (int i = 0; i < elems.length; i++) {
+            elems[i] = this.generateElement();
+        }
+        final T container = this.makeContainer(elems);
+
+        final List<E> iterated = Arrays.asList(container.toArray());
+        final List<E> sequential = container.stream().collect(toList());
+        final List<E> parallel = container.parallelStream().collect(toList());
+
+        assertEquals(container.size(), sequential.size());
+        assertEquals(HashMultiset.create(iterated), HashMultiset.create(sequential));
+        assertEquals(HashMultiset.create(iterated), HashMultiset.create(parallel));
+        if (container instanceof ReadableList) {
+            assertEquals(iterated, sequential);
+            assertEquals(iterated, parallel);
+        }
+
+        assertEquals(0, this.makeContainer().stream().count());
+    }
+
+    @Test
+    void testForEach() {
+        final T container =
+                this.makeContainer(
+                        this.generateElement(), this.generateElement(), this.generateElement());
+        final List<E> iterated = Arrays.asList(container.toArray());
+
+        final List<E> visited = new ArrayList<>();
+        container.forEach(visited::add);
+        assertEquals(HashMultiset.create(iterated), HashMultiset.create(visited));
+        if (container instanceof ReadableList) {
+            assertEquals(iterated, visited);
+        }
+
+        final List<E> remaining = new ArrayList<>();
+        final ReadableIterator<E> iter = container.iterator();
+        remaining.add(iter.next());
+        iter.forEachRemaining(remaining::add);
+        assertEquals(iterated, remaining);
+        assertFalse(iter.hasNext());
+
+        iter.forEachRemaining(e -> fail("Should never get here"));
+        this.makeContainer().forEach(e -> fail("Should never get here"));
+    }
 }
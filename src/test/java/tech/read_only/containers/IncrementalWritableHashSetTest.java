@@ -0,0 +1,175 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+class IncrementalWritableHashSetTest<T extends IncrementalWritableHashSet<Integer>>
+        extends WritableHashSetTest<T> {
+    @Override
+    protected T makeContainer() {
+        //noinspection unchecked
+        return (T) new IncrementalWritableHashSet<Integer>();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        //noinspection unchecked
+        return (T) new IncrementalWritableHashSet<>(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        //noinspection unchecked
+        return (T) (IncrementalWritableHashSet<?>) new IncrementalWritableHashSet<>(elems);
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        //noinspection unchecked
+        return (T) new IncrementalWritableHashSet<>(other);
+    }
+
+    @Override
+    protected <E> IncrementalWritableHashSet<E> makeContainer(
+            final Container<E> other, final HashingStrategy<? super E> strategy) {
+        return new IncrementalWritableHashSet<>(other, strategy);
+    }
+
+    /**
+     * Adds 0, 1, 2, ... until a migration away from a table of at least 64 slots has just started.
+     *
+     * @return The number of elements added
+     */
+    private int fillUntilResizing(final T set) {
+        int i = 0;
+        do {
+            set.add(i++);
+        } while (!set.isResizing()
+                || set.migratedSlots > 0
+                || set.oldHashtable == null
+                || set.oldHashtable.length < 64);
+
+        return i;
+    }
+
+    @Test
+    void testMigrationIsBounded() {
+        final T set = this.makeContainer();
+        int next = this.fillUntilResizing(set);
+        final Object[] oldTable = set.oldHashtable;
+        assertNotNull(oldTable);
+        assertEquals(0, set.migratedSlots);
+
+        int operations = 0;
+        while (set.isResizing()) {
+            final int before = set.migratedSlots;
+            if (operations % 2 == 0) {
+                set.add(next++);
+            } else {
+                set.remove(operations);
+            }
+            operations++;
+
+            final int after = set.isResizing() ? set.migratedSlots : oldTable.length;
+            assertTrue(after - before <= set.migrationStep);
+        }
+
+        assertTrue(operations >= oldTable.length / set.migrationStep);
+    }
+
+    @Test
+    void testReadsDuringMigration() {
+        final T set = this.makeContainer();
+        final int count = this.fillUntilResizing(set);
+
+        set.add(count);
+        assertTrue(set.isResizing());
+        assertEquals(count + 1, set.size());
+
+        final Set<Integer> seen = new HashSet<>();
+        for (final ReadableIterator<Integer> iter = set.iterator(); iter.hasNext(); ) {
+            assertTrue(seen.add(iter.next()));
+        }
+
+        for (int i = 0; i <= count; i++) {
+            assertTrue(set.contains(i));
+            assertTrue(seen.contains(i));
+        }
+
+        assertFalse(set.add(0));
+        assertFalse(set.contains(count + 1));
+        assertEquals(count + 1, seen.size());
+    }
+
+    @Test
+    void testIteratorRemoveDuringMigration() {
+        final T set = this.makeContainer();
+        final int count = this.fillUntilResizing(set);
+
+        final WritableIterator<Integer> iter = set.iterator();
+        while (iter.hasNext()) {
+            if (iter.next() % 2 == 0) {
+                iter.remove();
+            }
+        }
+
+        assertTrue(set.isResizing());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % 2 == 1, set.contains(i));
+        }
+
+        final T expected = this.makeContainer();
+        for (int i = 1; i < count; i += 2) {
+            expected.add(i);
+        }
+
+        assertEquals(expected, set);
+        assertEquals(expected.hashCode(), set.hashCode());
+    }
+
+    @Test
+    void testReadOnlyOperationsDuringMigration() {
+        final T set = this.makeContainer();
+        final int count = this.fillUntilResizing(set);
+        set.add(null);
+        final int migrated = set.migratedSlots;
+
+        final WritableIterator<Integer> iter = set.iterator();
+        iter.next();
+
+        final T expected = this.makeContainer();
+        expected.add(null);
+        for (int i = count - 1; i >= 0; i--) {
+            expected.add(i);
+        }
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        expected.remove(0);
+        assertNotEquals(set, expected);
+
+        final String string = set.toString();
+        assertTrue(string.startsWith("null, "));
+        assertEquals(count + 1, string.split(", ").length);
+
+        // none of them moved elements, so the iterator still works
+        assertTrue(set.isResizing());
+        assertEquals(migrated, set.migratedSlots);
+        int seen = 1;
+        while (iter.hasNext()) {
+            iter.next();
+            seen++;
+        }
+        assertEquals(count + 1, seen);
+    }
+}
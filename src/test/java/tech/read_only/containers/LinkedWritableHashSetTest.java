@@ -0,0 +1,260 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+class LinkedWritableHashSetTest<T extends LinkedWritableHashSet<Integer>>
+        extends WritableHashSetTest<T> {
+    @Override
+    protected T makeContainer() {
+        //noinspection unchecked
+        return (T) new LinkedWritableHashSet<Integer>();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        //noinspection unchecked
+        return (T) new LinkedWritableHashSet<>(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        //noinspection unchecked
+        return (T) (LinkedWritableHashSet<?>) new LinkedWritableHashSet<>(elems);
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        //noinspection unchecked
+        return (T) new LinkedWritableHashSet<>(other);
+    }
+
+    @Override
+    protected <E> LinkedWritableHashSet<E> makeContainer(
+            final Container<E> other, final HashingStrategy<? super E> strategy) {
+        return new LinkedWritableHashSet<>(other, strategy);
+    }
+
+    private static List<Integer> toList(final Container<Integer> set) {
+        final List<Integer> list = new ArrayList<>();
+        set.forEach(list::add);
+        return list;
+    }
+
+    @Override
+    @Test
+    void testToString() {
+        assertEquals("1, null, 2", this.makeContainer(1, null, 2).toString());
+        assertEquals("null", this.makeContainer((Integer) null).toString());
+        assertEquals("1", this.makeContainer(1).toString());
+    }
+
+    @Override
+    @Test
+    void testSpliterator() {
+        final Object[] elems = new Object[1000];
+        for (int i = 0; i < elems.length; i++) {
+            elems[i] = 999 - i;
+        }
+
+        final Spliterator<Integer> whole = this.makeContainer(elems).spliterator();
+        assertTrue(whole.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(whole.hasCharacteristics(Spliterator.DISTINCT));
+        assertTrue(whole.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(whole.hasCharacteristics(Spliterator.NONNULL));
+        assertEquals(1000, whole.getExactSizeIfKnown());
+
+        final Spliterator<Integer> mixed = this.makeContainer(1, null, 2).spliterator();
+        assertFalse(mixed.hasCharacteristics(Spliterator.NONNULL));
+
+        final List<Integer> traversed = new ArrayList<>();
+        mixed.forEachRemaining(traversed::add);
+        assertEquals(Arrays.asList(1, null, 2), traversed);
+        assertEquals(
+                IntStream.range(0, 1000).map(i -> 999 - i).boxed().collect(Collectors.toList()),
+                this.makeContainer(elems).stream().parallel().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testInsertionOrder() {
+        final T set = this.makeContainer(5, null, 3, 5, 1);
+        assertEquals(4, set.size());
+        assertEquals("5, null, 3, 1", set.toString());
+
+        // re-adding keeps an element's place, removing and adding again moves it last
+        assertFalse(set.add(5));
+        assertTrue(set.remove(null));
+        assertTrue(set.add(null));
+        assertEquals("5, 3, 1, null", set.toString());
+        assertArrayEquals(new Object[] {5, 3, 1, null}, (Object[]) set.toArray());
+        assertEquals(
+                "5, 3, 1, null",
+                set.stream().map(String::valueOf).collect(Collectors.joining(", ")));
+
+        set.clear();
+        set.add(2);
+        set.add(null);
+        assertEquals("2, null", set.toString());
+    }
+
+    /**
+     * Adds, removes and removes through iterators at random, with keys that collide often enough
+     * for backward-shift deletion to move elements, and compares the order to {@link
+     * LinkedHashSet}.
+     */
+    @Test
+    void testOrderMatchesLinkedHashSet() {
+        final Random random = new Random(42);
+        final T set = this.makeContainer();
+        final LinkedHashSet<Integer> expected = new LinkedHashSet<>();
+
+        for (int round = 0; round < 20_000; round++) {
+            final Integer key = random.nextInt(2000) == 0 ? null : random.nextInt(1500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), set.remove(key));
+            } else {
+                assertEquals(expected.add(key), set.add(key));
+            }
+
+            if (round % 5000 == 4999) {
+                // iterator removal of every third element, then a shrink
+                int i = 0;
+                for (final WritableIterator<Integer> iter = set.iterator(); iter.hasNext(); ) {
+                    if (i++ % 3 == 0) {
+                        expected.remove(iter.next());
+                        iter.remove();
+                    } else {
+                        iter.next();
+                    }
+                }
+                set.trimToSize();
+            }
+        }
+
+        assertEquals(new ArrayList<>(expected), toList(set));
+        assertEquals(expected.size(), set.size());
+        for (final Integer key : expected) {
+            assertTrue(set.contains(key));
+        }
+
+        set.removeIf(key -> key == null || key % 2 == 0);
+        expected.removeIf(key -> key == null || key % 2 == 0);
+        assertEquals(new ArrayList<>(expected), toList(set));
+    }
+
+    @Test
+    void testAccessOrder() {
+        final LinkedWritableHashSet<Integer> set =
+                LinkedWritableHashSet.<Integer>builder().expectedSize(4).accessOrder(true).build();
+        set.add(1);
+        set.add(2);
+        set.add(null);
+        set.add(3);
+
+        assertTrue(set.contains(1));
+        assertFalse(set.add(2));
+        assertTrue(set.contains(null));
+        assertFalse(set.contains(4));
+        assertEquals("3, 1, 2, null", set.toString());
+
+        // an access reorders the set, like any other modification
+        final WritableIterator<Integer> iter = set.iterator();
+        iter.next();
+        set.contains(1);
+        assertThrows(ConcurrentModificationException.class, iter::next);
+
+        // an access-ordered set grows without losing its order
+        for (int i = 4; i < 100; i++) {
+            set.add(i);
+        }
+        set.contains(3);
+        final List<Integer> order = toList(set);
+        assertEquals(Arrays.asList(2, null), order.subList(0, 2));
+        assertEquals(List.of(1, 4), order.subList(2, 4));
+        assertEquals(3, order.get(order.size() - 1));
+
+        // quiet lookups and removing the first element leave the rest of the order alone
+        assertTrue(set.containsQuietly(1));
+        assertEquals(2, set.removeFirst());
+        assertNull(set.removeFirst());
+        assertEquals(List.of(1, 4), toList(set).subList(0, 2));
+        assertEquals(98, set.size());
+    }
+
+    /**
+     * Equality, set algebra and bulk removals only read their argument, so an access-ordered
+     * argument keeps its order and its live iterators. The set is large enough for set algebra to
+     * test in parallel.
+     */
+    @Test
+    void testReadOnlyOperationsDoNotAccess() {
+        final LinkedWritableHashSet<Integer> set =
+                LinkedWritableHashSet.<Integer>builder().accessOrder(true).build();
+        final LinkedWritableHashSet<Integer> copy =
+                LinkedWritableHashSet.<Integer>builder().accessOrder(true).build();
+        final WritableHashSet<Integer> evens = new WritableHashSet<>();
+        for (int i = 100_000; i > 0; i--) {
+            set.add(i);
+            copy.add(i);
+            if (i % 2 == 0) {
+                evens.add(i);
+            }
+        }
+        set.add(null);
+        copy.add(null);
+
+        final List<Integer> order = toList(set);
+        final WritableIterator<Integer> iter = set.iterator();
+        iter.next();
+
+        assertEquals(copy, set);
+        assertEquals(set, copy);
+        final ReadableHashSet<Integer> expected = new ReadableHashSet<>(evens);
+        assertEquals(expected, evens.intersection(set));
+        assertEquals(expected, set.intersection(evens));
+        assertEquals(100_001, evens.union(set).size());
+        assertTrue(evens.difference(set).isEmpty());
+        assertFalse(evens.retainAll(set));
+
+        // so do the bulk removals of other containers
+        final WritableArrayList<Integer> list = new WritableArrayList<>(1, 5, 0);
+        assertTrue(list.retainAll(set));
+        assertTrue(list.removeAll(set));
+        final WritableBTreeSet<Integer> sorted = new WritableBTreeSet<>(1, 5, 0);
+        assertTrue(sorted.retainAll(set));
+        assertTrue(sorted.removeAll(set));
+
+        assertEquals(order, toList(set));
+        assertEquals(order, toList(copy));
+        assertEquals(99_999, iter.next());
+    }
+
+    @Test
+    void testRemoveFirst() {
+        final LinkedWritableHashSet<Integer> set = this.makeContainer(3, 1, 2);
+        assertEquals(3, set.removeFirst());
+        assertEquals(1, set.removeFirst());
+        assertEquals(this.makeContainer(2), set);
+        assertEquals(2, set.removeFirst());
+        assertTrue(set.isEmpty());
+        assertThrows(IllegalStateException.class, set::removeFirst);
+    }
+}
@@ -0,0 +1,219 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class PersistentHashSetTest<T extends PersistentHashSet<Integer>>
+        extends ContainerTestBase<Integer, T> {
+    /** Enough elements for a trie several levels deep. */
+    private static final int LARGE = 50_000;
+
+    private int currElem = 0;
+
+    @Override
+    protected T makeContainer() {
+        return (T) new PersistentHashSet<Integer>();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        return (T) new PersistentHashSet<>(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T) (PersistentHashSet<?>) new PersistentHashSet<>(elems);
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        return (T) new PersistentHashSet<>(other);
+    }
+
+    @Override
+    protected Integer generateElement() {
+        return ++currElem;
+    }
+
+    /** Always hashes to the same value, so every instance collides with every other. */
+    private static final class Colliding {
+        private final int id;
+
+        private Colliding(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            return o instanceof Colliding && ((Colliding) o).id == this.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    void testCompare() {
+        final T set1 = this.makeContainer(1, 2, 3);
+        final T set2 = this.makeContainer(3, 2, 3, 1);
+
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+        assertEquals(new ReadableHashSet<>(new Integer[] {1, 2, 3}).hashCode(), set1.hashCode());
+        assertEquals(
+                new ReadableHashSet<>(new Integer[] {1, null}).hashCode(),
+                this.makeContainer(null, 1).hashCode());
+    }
+
+    @Test
+    void testPlusMinus() {
+        PersistentHashSet<Integer> set = this.makeContainer();
+        for (int i = 0; i < LARGE; i++) {
+            final PersistentHashSet<Integer> previous = set;
+            set = set.plus(i);
+
+            assertEquals(i + 1, set.size());
+            assertFalse(previous.contains(i));
+            assertSame(set, set.plus(i));
+        }
+
+        final ReadableHashSet<Integer> expected = new ReadableHashSet<>(set);
+        assertEquals(expected.hashCode(), set.hashCode());
+        for (int i = 0; i < LARGE; i++) {
+            assertTrue(set.contains(i));
+        }
+        assertFalse(set.contains(LARGE));
+
+        final PersistentHashSet<Integer> full = set;
+        for (int i = 0; i < LARGE; i += 2) {
+            set = set.minus(i);
+        }
+
+        assertEquals(LARGE / 2, set.size());
+        assertSame(set, set.minus(0));
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(i % 2 == 1, set.contains(i));
+            assertTrue(full.contains(i));
+        }
+
+        for (int i = 1; i < LARGE; i += 2) {
+            set = set.minus(i);
+        }
+
+        assertTrue(set.isEmpty());
+        assertEquals(this.makeContainer(), set);
+        assertEquals(LARGE, full.size());
+    }
+
+    @Test
+    void testCanonicalEquality() {
+        // insertion order and removals must not affect the shape of the trie
+        final PersistentHashSet.Transient<Integer> ascending = new PersistentHashSet.Transient<>();
+        final PersistentHashSet.Transient<Integer> descending = new PersistentHashSet.Transient<>();
+        for (int i = 0; i <= 5_000; i++) {
+            ascending.add(i);
+            descending.add(10_000 - i);
+        }
+        for (int i = 5_000; i <= 10_000; i++) {
+            descending.remove(i);
+        }
+        for (int i = 5_000; i >= 0; i--) {
+            descending.add(i);
+        }
+
+        final PersistentHashSet<Integer> set1 = ascending.toPersistent();
+        final PersistentHashSet<Integer> set2 = descending.toPersistent();
+        assertEquals(set1, set2);
+        assertTrue(PersistentHashSet.nodeEquals(set1.root, set2.root));
+        assertNotEquals(set1, set2.minus(0));
+        assertNotEquals(set1, set2.minus(0).plus(-1));
+    }
+
+    @Test
+    void testStructuralSharing() {
+        final PersistentHashSet<Integer> original =
+                new PersistentHashSet<>(new ReadableHashSet<>(range(LARGE)));
+        final PersistentHashSet<Integer> modified = original.plus(-1);
+
+        int shared = 0;
+        for (int i = 0; i < original.root.content.length; i++) {
+            if (original.root.content[i] == modified.root.content[i]) shared++;
+        }
+
+        // only one child of the root is on the path to the new element
+        assertEquals(original.root.content.length - 1, shared);
+        assertEquals(original, modified.minus(-1));
+    }
+
+    @Test
+    void testCollisions() {
+        PersistentHashSet<Object> set = new PersistentHashSet<>();
+        for (int i = 0; i < 10; i++) {
+            set = set.plus(new Colliding(i));
+        }
+        set = set.plus(1).plus(null);
+
+        assertEquals(12, set.size());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(set.contains(new Colliding(i)));
+        }
+        assertFalse(set.contains(new Colliding(10)));
+        assertEquals(12, ((Object[]) set.toArray()).length);
+
+        final PersistentHashSet<Object> rebuilt =
+                new PersistentHashSet<>(new ReadableArrayList<>(set.toArray())).minus(1).plus(1);
+        assertEquals(set, rebuilt);
+
+        for (int i = 0; i < 9; i++) {
+            set = set.minus(new Colliding(i));
+        }
+
+        // the last colliding element is inlined back into the root
+        assertEquals(3, set.size());
+        assertTrue(set.contains(new Colliding(9)));
+        assertEquals(0, set.root.nodeArity());
+    }
+
+    @Test
+    void testTransient() {
+        final PersistentHashSet<Integer> original = this.makeContainer(1, 2, 3);
+        final PersistentHashSet.Transient<Integer> builder = original.toTransient();
+
+        builder.addAll(range(LARGE)).remove(0).remove(1).add(null);
+        assertTrue(builder.contains(null));
+        assertFalse(builder.contains(0));
+
+        final PersistentHashSet<Integer> built = builder.toPersistent();
+
+        assertEquals(LARGE - 1, built.size());
+        assertEquals(3, original.size());
+        assertFalse(original.contains(4));
+        assertThrows(IllegalStateException.class, () -> builder.add(0));
+        assertThrows(IllegalStateException.class, builder::toPersistent);
+
+        // a second transient leaves the first result untouched
+        final PersistentHashSet<Integer> shrunk = built.toTransient().remove(2).toPersistent();
+        assertTrue(built.contains(2));
+        assertFalse(shrunk.contains(2));
+    }
+
+    private static Integer[] range(final int size) {
+        final Integer[] elems = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elems[i] = i;
+        }
+
+        return elems;
+    }
+}
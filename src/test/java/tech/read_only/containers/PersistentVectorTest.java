@@ -0,0 +1,192 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class PersistentVectorTest<T extends PersistentVector<Integer>>
+        extends ContainerTestBase<Integer, T> {
+    /** Enough elements for a trie three levels deep, so every path-copying case is exercised. */
+    private static final int LARGE = 32 * 32 * 32 + 32 * 2 + 5;
+
+    private int currElement = 0;
+
+    @Override
+    protected T makeContainer() {
+        return (T) new PersistentVector<Integer>();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        return (T) new PersistentVector<>(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T) (PersistentVector<?>) new PersistentVector<>(elems);
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        return (T) new PersistentVector<>(other);
+    }
+
+    @Override
+    protected Integer generateElement() {
+        return ++currElement;
+    }
+
+    private static void assertHoldsRange(final PersistentVector<Integer> vector, final int size) {
+        assertEquals(size, vector.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(Integer.valueOf(i), vector.get(i));
+        }
+
+        int i = 0;
+        for (final ReadableIterator<Integer> iter = vector.iterator(); iter.hasNext(); i++) {
+            assertEquals(Integer.valueOf(i), iter.next());
+        }
+        assertEquals(size, i);
+    }
+
+    @Test
+    void testOrder() {
+        final T list1 = this.makeContainer(1, 2, 3);
+        final T list2 = this.makeContainer(3, 2, 1);
+
+        assertNotEquals(list1, list2);
+        // not strictly guaranteed, but should be the case here
+        assertNotEquals(list1.hashCode(), list2.hashCode());
+        assertEquals(new ReadableArrayList<>(1, 2, 3).hashCode(), list1.hashCode());
+        assertTrue(list1.listEquals(new ReadableArrayList<>(1, 2, 3)));
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> this.makeContainer(1).get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> this.makeContainer(1).get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> this.makeContainer(1).with(1, 2));
+        assertThrows(IllegalStateException.class, () -> this.makeContainer().withoutLast());
+    }
+
+    @Test
+    void testAppend() {
+        PersistentVector<Integer> vector = this.makeContainer();
+        for (int i = 0; i < LARGE; i++) {
+            final PersistentVector<Integer> previous = vector;
+            vector = vector.append(i);
+
+            assertEquals(i, previous.size());
+            assertEquals(i + 1, vector.size());
+        }
+
+        assertHoldsRange(vector, LARGE);
+        assertEquals(LARGE - 1, vector.indexOf(LARGE - 1));
+        assertEquals(-1, vector.indexOf(LARGE));
+        assertEquals(this.makeContainer(vector), vector);
+
+        final Object[] array = vector.toArray();
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(i, array[i]);
+        }
+    }
+
+    @Test
+    void testWith() {
+        final PersistentVector<Integer> original =
+                new PersistentVector<Integer>().toTransient().addAll(range(LARGE)).toPersistent();
+
+        PersistentVector<Integer> modified = original;
+        for (int i = 0; i < LARGE; i += 97) {
+            modified = modified.with(i, -i);
+        }
+        modified = modified.with(LARGE - 1, null);
+
+        assertHoldsRange(original, LARGE);
+        for (int i = 0; i < LARGE - 1; i++) {
+            assertEquals(Integer.valueOf(i % 97 == 0 ? -i : i), modified.get(i));
+        }
+        assertTrue(modified.contains(null));
+        assertNotEquals(original, modified);
+    }
+
+    @Test
+    void testWithoutLast() {
+        final PersistentVector<Integer> original =
+                this.makeContainer(new ReadableArrayList<>(range(LARGE)));
+
+        PersistentVector<Integer> vector = original;
+        for (int size = LARGE; size > 0; size--) {
+            assertEquals(size, vector.size());
+            assertEquals(Integer.valueOf(size - 1), vector.get(size - 1));
+            vector = vector.withoutLast();
+        }
+
+        assertTrue(vector.isEmpty());
+        assertEquals(this.makeContainer(), vector);
+        assertHoldsRange(original, LARGE);
+        assertHoldsRange(original.withoutLast().append(LARGE - 1), LARGE);
+    }
+
+    @Test
+    void testStructuralSharing() {
+        final PersistentVector<Integer> original =
+                this.makeContainer(new ReadableArrayList<>(range(LARGE)));
+        final PersistentVector<Integer> appended = original.append(LARGE);
+        final PersistentVector<Integer> replaced = original.with(0, -1);
+
+        assertSame(original.root, appended.root);
+        assertSame(original.tail, replaced.tail);
+        assertSame(original.root.array[1], replaced.root.array[1]);
+    }
+
+    @Test
+    void testTransient() {
+        final PersistentVector<Integer> original =
+                this.makeContainer(new ReadableArrayList<>(range(100)));
+        final PersistentVector.Transient<Integer> builder = original.toTransient();
+
+        for (int i = 100; i < LARGE; i++) {
+            builder.add(i);
+        }
+        builder.set(0, -1).set(50, -50);
+        assertEquals(Integer.valueOf(-50), builder.get(50));
+
+        for (int i = 0; i < 40; i++) {
+            builder.removeLast();
+        }
+        builder.set(0, 0).set(50, 50);
+
+        final PersistentVector<Integer> built = builder.toPersistent();
+
+        assertHoldsRange(original, 100);
+        assertHoldsRange(built, LARGE - 40);
+        assertThrows(IllegalStateException.class, () -> builder.add(0));
+        assertThrows(IllegalStateException.class, builder::toPersistent);
+
+        // emptying a transient completely collapses the trie
+        final PersistentVector.Transient<Integer> emptied = built.toTransient();
+        while (emptied.size() > 0) {
+            emptied.removeLast();
+        }
+
+        assertEquals(this.makeContainer(), emptied.toPersistent());
+        assertHoldsRange(built, LARGE - 40);
+    }
+
+    private static Integer[] range(final int size) {
+        final Integer[] elems = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elems[i] = i;
+        }
+
+        return elems;
+    }
+}
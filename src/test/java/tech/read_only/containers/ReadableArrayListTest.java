@@ -1,12 +1,18 @@
 package tech.read_only.containers;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 import javax.annotation.Nullable;
 
 @SuppressWarnings("unchecked")
@@ -81,4 +87,59 @@ class ReadableArrayListTest<T extends ReadableArrayList<Integer>>
     void testIndexTooBig() {
         assertThrows(IndexOutOfBoundsException.class, () -> this.makeContainer(1).get(1));
     }
+
+    @Test
+    void testListEquals() {
+        final T list1 = this.makeContainer(1, null, 3);
+        final WritableArrayList<Integer> list2 = new WritableArrayList<>(1, null);
+        list2.ensureCapacity(100);
+        list2.add(3);
+
+        // backing arrays of different lengths, compared directly
+        assertTrue(list1.listEquals(list2));
+        assertTrue(list2.listEquals(list1));
+        assertTrue(list1.listEquals(new ConcurrentWritableArrayList<>(1, null, 3)));
+        assertTrue(list1.listEquals(new PersistentVector<>(1, null, 3)));
+
+        list1.hashCode();
+        list2.hashCode();
+        assertTrue(list1.listEquals(list2));
+        list2.set(2, 4);
+        assertFalse(list1.listEquals(list2));
+        list2.set(2, 3);
+        list2.add(4);
+        assertFalse(list1.listEquals(list2));
+        assertFalse(list1.listEquals(new ConcurrentWritableArrayList<>(1, 2, 3)));
+        assertFalse(list1.listEquals(null));
+    }
+
+    @Test
+    void testSubList() {
+        final T list1 = this.makeContainer(0, 1, 2, 3, null, 5, 6, 7, 8, 9);
+        final ReadableList<Integer> slice1 = list1.subList(2, 8);
+
+        assertEquals(6, slice1.size());
+        assertEquals(Integer.valueOf(2), slice1.get(0));
+        assertNull(slice1.get(2));
+        assertEquals(2, slice1.indexOf(null));
+        assertEquals(-1, slice1.indexOf(1));
+        assertEquals(-1, slice1.indexOf(8));
+        assertThrows(IndexOutOfBoundsException.class, () -> slice1.get(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> slice1.get(-1));
+        assertTrue(slice1.listEquals(new ReadableArrayList<>(2, 3, null, 5, 6, 7)));
+        assertArrayEquals(new Object[] {2, 3, null, 5, 6, 7}, slice1.toArray());
+        assertEquals(
+                Arrays.asList(2, 3, null, 5, 6, 7), slice1.stream().collect(Collectors.toList()));
+
+        final ReadableList<Integer> slice2 = slice1.subList(1, 4);
+        assertTrue(slice2.listEquals(new ReadableArrayList<>(3, null, 5)));
+        assertTrue(slice2.subList(1, 1).isEmpty());
+        assertTrue(list1.subList(10, 10).isEmpty());
+        assertEquals(slice2.hashCode(), Arrays.asList(3, null, 5).hashCode());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.subList(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.subList(2, 11));
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.subList(3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> slice1.subList(0, 7));
+    }
 }
@@ -0,0 +1,240 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+class ReadableBTreeSetTest<T extends ReadableBTreeSet<Integer>>
+        extends ContainerTestBase<Integer, T> {
+    private int currElem = 0;
+
+    @Override
+    protected T makeContainer() {
+        //noinspection unchecked
+        return (T) new ReadableBTreeSet<Integer>();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        //noinspection unchecked
+        return (T) new ReadableBTreeSet<>(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        //noinspection unchecked
+        return (T) (ReadableBTreeSet<?>) new ReadableBTreeSet<>(elems);
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        //noinspection unchecked
+        return (T) new ReadableBTreeSet<>(other);
+    }
+
+    protected ReadableBTreeSet<Integer> makeContainer(
+            final Container<Integer> other, final Comparator<? super Integer> comparator) {
+        return new ReadableBTreeSet<>(other, comparator);
+    }
+
+    protected ReadableBTreeSet<Integer> fromSorted(final ReadableList<Integer> sorted) {
+        return ReadableBTreeSet.fromSorted(sorted);
+    }
+
+    @Override
+    protected Integer generateElement() {
+        return ++currElem;
+    }
+
+    protected static List<Integer> toList(final Container<Integer> set) {
+        final List<Integer> list = new ArrayList<>();
+        set.forEach(list::add);
+        return list;
+    }
+
+    /** Enough elements for a tree of three levels. */
+    protected T makeLarge() {
+        final Integer[] elems = new Integer[10_000];
+        for (int i = 0; i < elems.length; i++) {
+            elems[i] = 2 * (elems.length - i);
+        }
+
+        return this.makeContainer((Object[]) elems);
+    }
+
+    @Test
+    void testCompare() {
+        final T set1 = this.makeContainer(1, 2, 3);
+        final T set2 = this.makeContainer(3, 2, 3, 1);
+
+        assertEquals(3, set2.size());
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+        assertNotEquals(set1, this.makeContainer(1, 2, 4));
+        assertEquals(
+                new ReadableHashSet<>(1, null, 3).hashCode(),
+                this.makeContainer(1, null, 3).hashCode());
+    }
+
+    @Test
+    void testOrder() {
+        assertEquals(List.of(1, 2, 3, 5), toList(this.makeContainer(5, 3, 1, 2, 3)));
+
+        final List<Integer> withNull = new ArrayList<>();
+        withNull.add(null);
+        withNull.add(1);
+        withNull.add(2);
+        assertEquals(withNull, toList(this.makeContainer(2, null, 1)));
+
+        final T large = this.makeLarge();
+        assertEquals(10_000, large.size());
+        int expected = 2;
+        for (final ReadableIterator<Integer> iter = large.iterator(); iter.hasNext(); ) {
+            assertEquals(expected, iter.next());
+            expected += 2;
+        }
+
+        assertTrue((large.spliterator().characteristics() & Spliterator.ORDERED) != 0);
+        assertEquals(List.of(2, 4, 6), large.stream().limit(3).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testComparator() {
+        final ReadableBTreeSet<Integer> set =
+                this.makeContainer(this.makeContainer(1, 2, 3), Comparator.reverseOrder());
+
+        assertEquals(Comparator.reverseOrder(), set.comparator());
+        assertEquals(List.of(3, 2, 1), toList(set));
+        assertEquals(3, set.first());
+        assertEquals(1, set.higher(2));
+        assertEquals(this.makeContainer(1, 2, 3), this.makeContainer(set));
+
+        // the comparator decides which elements are equal
+        final ReadableBTreeSet<Integer> byParity =
+                this.makeContainer(
+                        this.makeContainer(1, 2, 3, 4), Comparator.comparing(e -> e % 2));
+        assertEquals(2, byParity.size());
+        assertTrue(byParity.contains(5));
+    }
+
+    @Test
+    void testNavigation() {
+        final T set = this.makeLarge();
+
+        assertEquals(2, set.first());
+        assertEquals(20_000, set.last());
+        assertEquals(100, set.lower(102));
+        assertEquals(100, set.lower(101));
+        assertEquals(102, set.floor(102));
+        assertEquals(100, set.floor(101));
+        assertEquals(102, set.ceiling(102));
+        assertEquals(102, set.ceiling(101));
+        assertEquals(104, set.higher(102));
+        assertEquals(102, set.higher(101));
+
+        assertNull(set.lower(2));
+        assertNull(set.floor(1));
+        assertNull(set.ceiling(20_001));
+        assertNull(set.higher(20_000));
+
+        assertThrows(IllegalStateException.class, () -> this.makeContainer().first());
+        assertThrows(IllegalStateException.class, () -> this.makeContainer().last());
+    }
+
+    @Test
+    void testRankAndSelect() {
+        final T set = this.makeLarge();
+
+        for (int i = 0; i < set.size(); i++) {
+            final Integer elem = 2 * (i + 1);
+            assertEquals(elem, set.select(i));
+            assertEquals(i, set.rank(elem));
+            assertEquals(i + 1, set.rank(elem + 1));
+        }
+        assertEquals(0, set.rank(null));
+        assertEquals(0, set.rank(-5));
+
+        assertThrows(IllegalArgumentException.class, () -> set.select(-1));
+        assertThrows(IllegalArgumentException.class, () -> set.select(10_000));
+    }
+
+    @Test
+    void testSubSet() {
+        final T set = this.makeLarge();
+
+        final ReadableSortedSet<Integer> sub = set.subSet(100, true, 200, false);
+        assertEquals(50, sub.size());
+        assertEquals(100, sub.first());
+        assertEquals(198, sub.last());
+        assertTrue(sub.contains(100));
+        assertFalse(sub.contains(200));
+        assertFalse(sub.contains(98));
+        assertEquals(120, sub.select(10));
+        assertEquals(10, sub.rank(120));
+        assertEquals(0, sub.rank(0));
+        assertEquals(50, sub.rank(1000));
+        assertNull(sub.lower(100));
+        assertNull(sub.higher(198));
+        assertEquals(198, sub.floor(1000));
+        assertEquals(100, sub.ceiling(0));
+        assertThrows(IllegalArgumentException.class, () -> sub.select(50));
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 100; i < 200; i += 2) {
+            expected.add(i);
+        }
+        assertEquals(expected, toList(sub));
+
+        assertEquals(List.of(100, 102), toList(set.subSet(99, false, 102, true)));
+        assertEquals(List.of(2, 4), toList(set.headSet(6, false)));
+        assertEquals(List.of(19_998, 20_000), toList(set.tailSet(19_998, true)));
+        assertTrue(set.subSet(100, false, 100, true).isEmpty());
+        assertEquals(List.of(100), toList(set.subSet(100, true, 100, true)));
+        assertThrows(IllegalArgumentException.class, () -> set.subSet(3, true, 2, true));
+
+        // nested views keep the narrower bound of each side
+        final ReadableSortedSet<Integer> nested = sub.subSet(0, true, 110, true);
+        assertEquals(List.of(100, 102, 104, 106, 108, 110), toList(nested));
+        assertEquals(List.of(196, 198), toList(sub.tailSet(196, true).headSet(1000, true)));
+        assertTrue(sub.headSet(100, false).isEmpty());
+
+        assertEquals(new ReadableHashSet<>(100, 102).hashCode(), sub.headSet(102, true).hashCode());
+        assertEquals(set.subSet(100, true, 102, true), sub.headSet(102, true));
+        assertEquals("100, 102", sub.headSet(102, true).toString());
+    }
+
+    @Test
+    void testFromSorted() {
+        final ReadableArrayList<Integer> sorted = new ReadableArrayList<>(new Integer[] {1, 2, 5});
+        assertEquals(this.makeContainer(5, 2, 1), this.fromSorted(sorted));
+
+        final Integer[] many = new Integer[5_000];
+        for (int i = 0; i < many.length; i++) {
+            many[i] = i;
+        }
+        final ReadableBTreeSet<Integer> large = this.fromSorted(new ReadableArrayList<>(many));
+        assertEquals(5_000, large.size());
+        assertEquals(4_321, large.select(4_321));
+        assertEquals(4_321, large.rank(4_321));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> this.fromSorted(new ReadableArrayList<>(new Integer[] {1, 3, 2})));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> this.fromSorted(new ReadableArrayList<>(new Integer[] {1, 1})));
+    }
+}
@@ -0,0 +1,125 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class ReadableDoubleArrayListTest<T extends ReadableDoubleArrayList>
+        extends ContainerTestBase<Double, T> {
+    private int currElement = 0;
+
+    @Override
+    protected T makeContainer() {
+        return (T) new ReadableDoubleArrayList();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Double elem) {
+        //noinspection ConstantConditions
+        return (T) new ReadableDoubleArrayList(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T)
+                new ReadableDoubleArrayList(
+                        Arrays.stream(elems).mapToDouble(e -> (Double) e).toArray());
+    }
+
+    @Override
+    protected T makeContainer(final Container<Double> other) {
+        return (T) new ReadableDoubleArrayList(other);
+    }
+
+    @Override
+    protected Double generateElement() {
+        return ++currElement + 0.5;
+    }
+
+    @Test
+    @Override
+    void testNull() {
+        assertThrows(NullPointerException.class, () -> this.makeContainer((Double) null));
+        assertThrows(
+                NullPointerException.class,
+                () -> this.makeContainer(new ReadableArrayList<>(this.generateElement(), null)));
+
+        final T list = this.makeContainer(this.generateElement());
+        assertFalse(list.contains(null));
+        assertEquals(-1, list.indexOf(null));
+    }
+
+    @Test
+    void testPrimitiveAccess() {
+        final Double elem1 = this.generateElement();
+        final Double elem2 = this.generateElement();
+        final T list = this.makeContainer(elem1, elem2, elem1);
+
+        assertEquals(elem1, list.getDouble(0));
+        assertEquals(elem2, list.getDouble(1));
+        assertEquals(0, list.indexOfDouble(elem1));
+        assertEquals(1, list.indexOfDouble(elem2));
+        assertEquals(-1, list.indexOfDouble(this.generateElement()));
+        assertTrue(list.containsDouble(elem2));
+
+        final ReadableDoubleIterator iter = list.iterator();
+        assertEquals(elem1, iter.nextDouble());
+        assertEquals(elem2, iter.nextDouble());
+        assertEquals(elem1, iter.nextDouble());
+        assertFalse(iter.hasNext());
+        assertThrows(IllegalStateException.class, iter::nextDouble);
+
+        assertArrayEquals(new Double[] {elem1, elem2, elem1}, list.toArray());
+        assertEquals(Arrays.asList(elem1, elem2, elem1).hashCode(), list.hashCode());
+    }
+
+    @Test
+    void testCompareBoxed() {
+        final Double elem1 = this.generateElement();
+        final Double elem2 = this.generateElement();
+        final T list = this.makeContainer(elem1, elem2);
+        final ReadableArrayList<Double> boxed = new ReadableArrayList<>(elem1, elem2);
+
+        assertTrue(list.listEquals(boxed));
+        assertTrue(boxed.listEquals(list));
+        assertNotEquals(boxed, list);
+        assertEquals(list, this.makeContainer(boxed));
+        assertEquals(-1, list.indexOf("" + elem1));
+    }
+
+    @Test
+    void testOrder() {
+        final Double elem1 = this.generateElement();
+        final Double elem2 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2);
+        final T list2 = this.makeContainer(elem2, elem1);
+
+        assertNotEquals(list1, list2);
+        // not strictly guaranteed, but should be the case here
+        assertNotEquals(list1.hashCode(), list2.hashCode());
+    }
+
+    @Test
+    void testIndexNegative() {
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> this.makeContainer(this.generateElement()).getDouble(-1));
+    }
+
+    @Test
+    void testIndexTooBig() {
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> this.makeContainer(this.generateElement()).getDouble(1));
+    }
+}
@@ -0,0 +1,151 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+class ReadableHashMapTest<T extends ReadableHashMap<Integer, String>> {
+    /** @param keysAndValues Alternating keys and values */
+    protected T makeMap(final Object... keysAndValues) {
+        //noinspection unchecked
+        return (T) new ReadableHashMap<>(fill(keysAndValues));
+    }
+
+    protected T makeMap(final ReadableMap<Integer, String> other) {
+        //noinspection unchecked
+        return (T) new ReadableHashMap<>(other);
+    }
+
+    protected static WritableHashMap<Integer, String> fill(final Object... keysAndValues) {
+        final WritableHashMap<Integer, String> map = new WritableHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((Integer) keysAndValues[i], (String) keysAndValues[i + 1]);
+        }
+
+        return map;
+    }
+
+    protected static Object[] range(final int size) {
+        final Object[] keysAndValues = new Object[size * 2];
+        for (int i = 0; i < size; i++) {
+            keysAndValues[2 * i] = i;
+            keysAndValues[2 * i + 1] = Integer.toString(i);
+        }
+
+        return keysAndValues;
+    }
+
+    @Test
+    void testEmpty() {
+        final T map = this.makeMap();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+        assertNull(map.get(null));
+        assertFalse(map.containsKey(null));
+        assertEquals("x", map.getOrDefault(1, "x"));
+        assertFalse(map.keys().iterator().hasNext());
+        assertThrows(IllegalStateException.class, () -> map.entries().iterator().next());
+        assertEquals("", map.toString());
+    }
+
+    @Test
+    void testGet() {
+        final T map = this.makeMap(range(1000));
+
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(map.containsKey(i));
+            assertEquals(Integer.toString(i), map.get(i));
+        }
+        assertFalse(map.containsKey(1000));
+        assertNull(map.get(1000));
+        assertNull(map.get("0"));
+    }
+
+    @Test
+    void testNulls() {
+        final T map = this.makeMap(null, "null", 1, null);
+
+        assertEquals(2, map.size());
+        assertEquals("null", map.get(null));
+        assertTrue(map.containsKey(1));
+        assertNull(map.get(1));
+        assertNull(map.getOrDefault(1, "x"));
+        assertEquals("x", map.getOrDefault(2, "x"));
+        assertEquals("null=null, 1=null", map.toString());
+    }
+
+    @Test
+    void testViews() {
+        final T map = this.makeMap(null, "a", 1, "b", 2, "c");
+
+        final ReadableSet<Integer> keys = map.keys();
+        assertEquals(3, keys.size());
+        assertTrue(keys.contains(null));
+        assertTrue(keys.contains(2));
+        assertFalse(keys.contains(3));
+        assertEquals(new ReadableHashSet<>(new Integer[] {null, 1, 2}).hashCode(), keys.hashCode());
+        assertEquals(keys, this.makeMap(2, "x", null, "y", 1, "z").keys());
+
+        final Container<String> values = map.values();
+        assertEquals(3, values.size());
+        assertTrue(values.containsAll(new ReadableArrayList<>("a", "b", "c")));
+        assertFalse(values.contains("d"));
+
+        final ReadableSet<ReadableMap.Entry<Integer, String>> entries = map.entries();
+        assertEquals(3, entries.size());
+        assertTrue(entries.contains(new ReadableHashMap.MapEntry<>(null, "a")));
+        assertTrue(entries.contains(new ReadableHashMap.MapEntry<>(1, "b")));
+        assertFalse(entries.contains(new ReadableHashMap.MapEntry<>(1, "c")));
+        assertFalse(entries.contains("b"));
+        assertEquals(map.hashCode(), entries.hashCode());
+
+        // all views traverse in the same order
+        final ReadableIterator<Integer> keyIter = keys.iterator();
+        final ReadableIterator<String> valueIter = values.iterator();
+        for (final ReadableIterator<ReadableMap.Entry<Integer, String>> iter = entries.iterator();
+                iter.hasNext(); ) {
+            final ReadableMap.Entry<Integer, String> entry = iter.next();
+            assertEquals(entry.getKey(), keyIter.next());
+            assertEquals(entry.getValue(), valueIter.next());
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        assertFalse(keyIter.hasNext());
+        assertFalse(valueIter.hasNext());
+    }
+
+    @Test
+    void testCompare() {
+        final T map1 = this.makeMap(range(100));
+        final T map2 = this.makeMap(map1);
+        final T map3 = this.makeMap(1, "1", 0, "0");
+
+        assertEquals(map1, map2);
+        assertEquals(map1.hashCode(), map2.hashCode());
+        assertEquals(map3, this.makeMap(0, "0", 1, "1"));
+        assertNotEquals(map3, this.makeMap(0, "0", 1, "2"));
+        assertNotEquals(map3, this.makeMap(0, "0", 2, "1"));
+        assertNotEquals(map3, this.makeMap(0, "0", 1, "1", null, null));
+        assertEquals((0 ^ "0".hashCode()) + (1 ^ "1".hashCode()), map3.hashCode());
+    }
+
+    @Test
+    void testNullMap() {
+        assertTrue(
+                new ReadableHashMap<Integer, String>((ReadableMap<Integer, String>) null)
+                        .isEmpty());
+    }
+
+    @Nullable
+    protected static String valueOf(@Nullable final Integer key) {
+        return key == null ? null : Integer.toString(key);
+    }
+}
@@ -1,10 +1,22 @@
 package tech.read_only.containers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+
 import javax.annotation.Nullable;
 
 class ReadableHashSetTest<T extends ReadableHashSet<Integer>>
@@ -35,6 +47,11 @@ class ReadableHashSetTest<T extends ReadableHashSet<Integer>>
         return (T) new ReadableHashSet<>(other);
     }
 
+    protected <E> ReadableHashSet<E> makeContainer(
+            final Container<E> other, final HashingStrategy<? super E> strategy) {
+        return new ReadableHashSet<>(other, strategy);
+    }
+
     @Override
     protected Integer generateElement() {
         return ++currElem;
@@ -54,10 +71,376 @@ class ReadableHashSetTest<T extends ReadableHashSet<Integer>>
         assertEquals(set1.hashCode(), set2.hashCode());
     }
 
+    @Test
+    void testEqualsSameHashSum() {
+        // equal sizes and hash sums, but different elements
+        final T set1 = this.makeContainer(1, 4, null);
+        final T set2 = this.makeContainer(2, 3, null);
+
+        assertEquals(set1.hashCode(), set2.hashCode());
+        assertNotEquals(set1, set2);
+
+        final WritableHashSet<Integer> set3 = new WritableHashSet<>(1, 4, null);
+        set3.ensureCapacity(1000);
+        assertEquals(this.makeContainer(set3), set1);
+        assertNotEquals(this.makeContainer(1, 4), set1);
+    }
+
     @Test
     void testToString() {
-        assertEquals("null, 1, 2", this.makeContainer(1, null, 2).toString());
+        // the order of non-null elements depends on the table layout
+        final String mixed = this.makeContainer(1, null, 2).toString();
+        assertTrue(mixed.equals("null, 1, 2") || mixed.equals("null, 2, 1"), mixed);
         assertEquals("null", this.makeContainer((Integer) null).toString());
         assertEquals("1", this.makeContainer(1).toString());
     }
+
+    @Test
+    void testSpliterator() {
+        final Object[] elems = new Object[1000];
+        for (int i = 0; i < elems.length; i++) {
+            elems[i] = this.generateElement();
+        }
+
+        final Spliterator<Integer> whole = this.makeContainer(elems).spliterator();
+        assertTrue(whole.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(whole.hasCharacteristics(Spliterator.DISTINCT));
+        assertTrue(whole.hasCharacteristics(Spliterator.NONNULL));
+        assertEquals(1000, whole.getExactSizeIfKnown());
+
+        final Spliterator<Integer> prefix = whole.trySplit();
+        assertNotNull(prefix);
+        assertFalse(whole.hasCharacteristics(Spliterator.SIZED));
+        assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        assertFalse(whole.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(1000, prefix.estimateSize() + whole.estimateSize());
+
+        // the null element is traversed exactly once, by the lowest split
+        final T mixed = this.makeContainer(1, 2, 3, null);
+        final Spliterator<Integer> upper = mixed.spliterator();
+        assertFalse(upper.hasCharacteristics(Spliterator.NONNULL));
+
+        final List<Integer> traversed = new ArrayList<>();
+        final Spliterator<Integer> lower = upper.trySplit();
+        assertNotNull(lower);
+        assertTrue(lower.tryAdvance(traversed::add));
+        lower.forEachRemaining(traversed::add);
+        upper.forEachRemaining(traversed::add);
+
+        assertEquals(4, traversed.size());
+        assertNull(traversed.get(0));
+        assertTrue(traversed.containsAll(List.of(1, 2, 3)));
+    }
+
+    @Test
+    void testSetAlgebra() {
+        final T set1 = this.makeContainer(1, 2, 3, null);
+        final T set2 = this.makeContainer(3, 4);
+
+        assertEquals(new ReadableHashSet<>(new Integer[] {null, 1, 2, 3, 4}), set1.union(set2));
+        assertEquals(new ReadableHashSet<>(3), set1.intersection(set2));
+        assertEquals(new ReadableHashSet<>(new Integer[] {null, 1, 2}), set1.difference(set2));
+        assertEquals(new ReadableHashSet<>(4), set2.difference(set1));
+        assertEquals(
+                new ReadableHashSet<>(new Integer[] {null, 3}),
+                set1.intersection(new PersistentHashSet<>(3, 5, null)));
+        assertEquals(new ReadableHashSet<>(set1), set1.union(set1));
+        assertTrue(set1.difference(set1).isEmpty());
+        assertTrue(set1.intersection(this.makeContainer()).isEmpty());
+
+        // large enough to test elements in parallel, and to remove from a copy of the table
+        final Object[] evens = new Object[100_000];
+        final Object[] thirds = new Object[70_000];
+        for (int i = 0; i < evens.length; i++) {
+            evens[i] = 2 * i;
+        }
+        for (int i = 0; i < thirds.length; i++) {
+            thirds[i] = 3 * i;
+        }
+        final T large1 = this.makeContainer(evens);
+        final T large2 = this.makeContainer(thirds);
+
+        final ReadableHashSet<Integer> union = large1.union(large2);
+        final ReadableHashSet<Integer> intersection = large1.intersection(large2);
+        final ReadableHashSet<Integer> difference = large1.difference(large2);
+        final ReadableHashSet<Integer> smallDifference = large1.difference(set1);
+
+        for (int i = 0; i < 210_000; i++) {
+            final boolean even = i % 2 == 0 && i < 200_000;
+            final boolean third = i % 3 == 0;
+            assertEquals(even || third, union.contains(i));
+            assertEquals(even && third, intersection.contains(i));
+            assertEquals(even && !third, difference.contains(i));
+            assertEquals(even && i != 2, smallDifference.contains(i));
+        }
+        // multiples of 6 below 200,000
+        assertEquals(33_334, intersection.size());
+        assertEquals(100_000 + 70_000 - 33_334, union.size());
+        assertEquals(100_000 - 33_334, difference.size());
+        assertEquals(99_999, smallDifference.size());
+        assertEquals(100_000, large1.size());
+    }
+
+    @Test
+    void testHashingStrategy() {
+        final byte[] a = {1, 2};
+        final byte[] b = {1, 2};
+        final ReadableList<byte[]> arrays = new ReadableArrayList<>(a, b, new byte[] {3});
+
+        final ReadableHashSet<byte[]> byContent =
+                this.makeContainer(arrays, HashingStrategy.byteArrays());
+        assertEquals(2, byContent.size());
+        assertTrue(byContent.contains(new byte[] {1, 2}));
+        assertFalse(byContent.contains(new byte[] {2}));
+
+        final ReadableHashSet<byte[]> byIdentity =
+                this.makeContainer(arrays, HashingStrategy.identity());
+        assertEquals(3, byIdentity.size());
+        assertTrue(byIdentity.contains(b));
+        assertFalse(byIdentity.contains(new byte[] {1, 2}));
+
+        final HashingStrategy<Integer> lastDigit =
+                HashingStrategy.of(i -> i % 10, (i, j) -> i % 10 == j % 10);
+        final ReadableHashSet<Integer> byDigit =
+                this.makeContainer(new ReadableArrayList<>(1, 11, 2, null), lastDigit);
+        assertEquals(3, byDigit.size());
+        assertTrue(byDigit.contains(21));
+        assertTrue(byDigit.contains(null));
+        assertEquals(byDigit, this.makeContainer(new ReadableArrayList<>(null, 12, 21), lastDigit));
+        assertNotEquals(byDigit, this.makeContainer(new ReadableArrayList<>(1, 2, null)));
+
+        // the other set's elements are deduplicated under this set's strategy first
+        final T natural = this.makeContainer(11, 21, 3);
+        final ReadableHashSet<Integer> union = byDigit.union(natural);
+        assertEquals(4, union.size());
+        assertTrue(union.contains(13));
+        assertEquals(1, byDigit.intersection(natural).size());
+        assertEquals(2, byDigit.difference(natural).size());
+        assertFalse(byDigit.difference(natural).contains(31));
+    }
+
+    @Test
+    void testForeignTypeLookups() {
+        final ReadableHashSet<byte[]> byContent =
+                this.makeContainer(
+                        new ReadableArrayList<>(new byte[] {1}, new byte[] {2}),
+                        HashingStrategy.byteArrays());
+        final Object foreign = "x";
+        assertFalse(byContent.contains(foreign));
+        assertFalse(byContent.contains(1));
+
+        final HashingStrategy<String> byLength =
+                HashingStrategy.of(
+                        String.class, String::length, (a, b) -> a.length() == b.length());
+        final ReadableHashSet<String> lengths =
+                this.makeContainer(new ReadableArrayList<>("a", "bb"), byLength);
+        assertFalse(lengths.contains(2));
+        assertTrue(lengths.contains("zz"));
+
+        // without a type, the strategy is called, and its cast fails loudly
+        final ReadableHashSet<String> untyped =
+                this.makeContainer(
+                        new ReadableArrayList<>("a", "bb"),
+                        HashingStrategy.<String>of(
+                                String::length, (a, b) -> a.length() == b.length()));
+        assertThrows(ClassCastException.class, () -> untyped.contains(2));
+
+        // so does a ClassCastException thrown by an accepted element's own code
+        final ReadableHashSet<Object> broken =
+                this.makeContainer(
+                        new ReadableArrayList<>(1000),
+                        HashingStrategy.of(
+                                Object.class,
+                                Object::hashCode,
+                                (a, b) -> {
+                                    throw new ClassCastException();
+                                }));
+        assertThrows(ClassCastException.class, () -> broken.contains(1000));
+
+        // set algebra with a set of another type finds nothing in common
+        final ReadableSet<?> integers = this.makeContainer(1, 2);
+        assertEquals(0, lengths.intersection(integers).size());
+        assertEquals(2, lengths.difference(integers).size());
+    }
+
+    /** Inverts {@link ReadableHashSet#spread}, as if its seed were {@code seed}. */
+    static int unspread(final int spread, final int seed) {
+        int h = spread ^ (spread >>> 16);
+        h *= 0x7ED1B41D;
+        h ^= (h >>> 13) ^ (h >>> 26);
+        h *= 0xA5CB9243;
+        h ^= h >>> 16;
+        return h ^ seed;
+    }
+
+    /** @return The largest distance of any element from its home slot */
+    static int maxProbeLength(final ReadableHashSet<?> set) {
+        final Object[] table = set.hashtable;
+        int max = 0;
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] != null) {
+                max = Math.max(max, (i - set.homeSlot(table, set.hashes[i])) & (table.length - 1));
+            }
+        }
+
+        return max;
+    }
+
+    @Test
+    void testSeededSpread() {
+        final int seed = ReadableHashSet.HASH_SEED;
+        assertEquals(12345, ReadableHashSet.spread(unspread(12345, seed)));
+
+        // keys crafted to share their low 16 mixed bits under a guessed seed
+        final Integer[] guessed = new Integer[1000];
+        final Integer[] known = new Integer[1000];
+        for (int i = 0; i < 1000; i++) {
+            guessed[i] = unspread(i << 16, seed + 1);
+            known[i] = unspread(i << 16, seed);
+        }
+
+        // only an attacker who knows the seed gets all keys into one probe run
+        assertTrue(maxProbeLength(this.makeContainer((Object[]) guessed)) < 100);
+        assertEquals(999, maxProbeLength(this.makeContainer((Object[]) known)));
+    }
+
+    /** @return {@code 1 << blocks} distinct strings that all hash alike, as "Aa" and "BB" do */
+    static String[] equalHashStrings(final int blocks) {
+        final String[] strings = new String[1 << blocks];
+        for (int i = 0; i < strings.length; i++) {
+            final StringBuilder builder = new StringBuilder();
+            for (int block = 0; block < blocks; block++) {
+                builder.append(((i >>> block) & 1) == 0 ? "Aa" : "BB");
+            }
+            strings[i] = builder.toString();
+        }
+
+        return strings;
+    }
+
+    @Test
+    void testEqualHashCodes() {
+        final String[] colliding = equalHashStrings(12);
+        final String[] present = new String[colliding.length / 2 + 100];
+        for (int i = 0; i < colliding.length / 2; i++) {
+            present[i] = colliding[2 * i];
+        }
+        for (int i = 0; i < 100; i++) {
+            present[colliding.length / 2 + i] = "key" + i;
+        }
+
+        final ReadableHashSet<String> set =
+                this.makeContainer(new ReadableArrayList<>(present), HashingStrategy.natural());
+        assertEquals(present.length, set.size());
+        for (int i = 0; i < colliding.length; i++) {
+            assertEquals(i % 2 == 0, set.contains(colliding[i]));
+        }
+        assertTrue(set.contains("key42"));
+        assertFalse(set.contains("key100"));
+
+        // the colliding keys no longer crowd one probe run
+        if (set.spillsCollisions()) {
+            assertTrue(maxProbeLength(set) < ReadableHashSet.OVERFLOW_THRESHOLD);
+        }
+
+        final List<String> reversed = new ArrayList<>(List.of(present));
+        Collections.reverse(reversed);
+        final ReadableHashSet<String> same = new ReadableHashSet<>(reversed.toArray(new String[0]));
+        assertEquals(same.hashCode(), set.hashCode());
+        assertEquals(new HashSet<>(reversed), toJavaSet(set));
+        assertEquals(present.length, set.stream().parallel().distinct().count());
+        assertEquals(present.length, set.toString().split(", ").length);
+
+        final ReadableHashSet<String> odd = new ReadableHashSet<>(colliding).difference(same);
+        assertEquals(colliding.length / 2, odd.size());
+        assertFalse(odd.contains(colliding[0]));
+        assertTrue(odd.contains(colliding[1]));
+        assertEquals(
+                colliding.length / 2, same.intersection(new ReadableHashSet<>(colliding)).size());
+        assertEquals(present.length + odd.size(), same.union(odd).size());
+    }
+
+    /** Equal by id, but ranked by {@code id % 3}, which is legal yet inconsistent with equals. */
+    static final class Ranked implements Comparable<Ranked> {
+        final int id;
+
+        Ranked(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(final Ranked o) {
+            return Integer.compare(this.id % 3, o.id % 3);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Ranked && ((Ranked) o).id == this.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    /** Comparable, but only to strings, so it cannot be ranked against its own kind. */
+    static final class StringRanked implements Comparable<String> {
+        final int id;
+
+        StringRanked(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(final String o) {
+            return Integer.toString(this.id).compareTo(o);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof StringRanked && ((StringRanked) o).id == this.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    void testEqualHashComparables() {
+        final Object[] elems = new Object[40];
+        for (int i = 0; i < 20; i++) {
+            elems[2 * i] = new Ranked(i);
+            elems[2 * i + 1] = new StringRanked(i);
+        }
+
+        final ReadableHashSet<Object> set =
+                this.makeContainer(new ReadableArrayList<>(elems), HashingStrategy.natural());
+        assertEquals(elems.length, set.size());
+        for (final Object elem : elems) {
+            assertTrue(set.contains(elem));
+        }
+        assertFalse(set.contains(new Ranked(20)));
+        assertFalse(set.contains(new StringRanked(20)));
+        assertEquals(Set.of(elems), toJavaSet(set));
+
+        // only the elements comparable to their own class spill
+        if (set.spillsCollisions()) {
+            assertEquals(20, set.overflowSize);
+            for (final Object elem : set.hashtable) {
+                assertFalse(elem instanceof Ranked);
+            }
+        }
+    }
+
+    protected static <E> Set<E> toJavaSet(final Container<E> set) {
+        final Set<E> elems = new HashSet<>();
+        for (final ReadableIterator<E> iter = set.iterator(); iter.hasNext(); ) {
+            assertTrue(elems.add(iter.next()));
+        }
+
+        return elems;
+    }
 }
@@ -0,0 +1,124 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class ReadableIntArrayListTest<T extends ReadableIntArrayList>
+        extends ContainerTestBase<Integer, T> {
+    private int currElement = 0;
+
+    @Override
+    protected T makeContainer() {
+        return (T) new ReadableIntArrayList();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        //noinspection ConstantConditions
+        return (T) new ReadableIntArrayList(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T)
+                new ReadableIntArrayList(Arrays.stream(elems).mapToInt(e -> (Integer) e).toArray());
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        return (T) new ReadableIntArrayList(other);
+    }
+
+    @Override
+    protected Integer generateElement() {
+        return ++currElement;
+    }
+
+    @Test
+    @Override
+    void testNull() {
+        assertThrows(NullPointerException.class, () -> this.makeContainer((Integer) null));
+        assertThrows(
+                NullPointerException.class,
+                () -> this.makeContainer(new ReadableArrayList<>(this.generateElement(), null)));
+
+        final T list = this.makeContainer(this.generateElement());
+        assertFalse(list.contains(null));
+        assertEquals(-1, list.indexOf(null));
+    }
+
+    @Test
+    void testPrimitiveAccess() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final T list = this.makeContainer(elem1, elem2, elem1);
+
+        assertEquals(elem1, list.getInt(0));
+        assertEquals(elem2, list.getInt(1));
+        assertEquals(0, list.indexOfInt(elem1));
+        assertEquals(1, list.indexOfInt(elem2));
+        assertEquals(-1, list.indexOfInt(this.generateElement()));
+        assertTrue(list.containsInt(elem2));
+
+        final ReadableIntIterator iter = list.iterator();
+        assertEquals(elem1, iter.nextInt());
+        assertEquals(elem2, iter.nextInt());
+        assertEquals(elem1, iter.nextInt());
+        assertFalse(iter.hasNext());
+        assertThrows(IllegalStateException.class, iter::nextInt);
+
+        assertArrayEquals(new Integer[] {elem1, elem2, elem1}, list.toArray());
+        assertEquals(Arrays.asList(elem1, elem2, elem1).hashCode(), list.hashCode());
+    }
+
+    @Test
+    void testCompareBoxed() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final T list = this.makeContainer(elem1, elem2);
+        final ReadableArrayList<Integer> boxed = new ReadableArrayList<>(elem1, elem2);
+
+        assertTrue(list.listEquals(boxed));
+        assertTrue(boxed.listEquals(list));
+        assertNotEquals(boxed, list);
+        assertEquals(list, this.makeContainer(boxed));
+        assertEquals(-1, list.indexOf("" + elem1));
+    }
+
+    @Test
+    void testOrder() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2);
+        final T list2 = this.makeContainer(elem2, elem1);
+
+        assertNotEquals(list1, list2);
+        // not strictly guaranteed, but should be the case here
+        assertNotEquals(list1.hashCode(), list2.hashCode());
+    }
+
+    @Test
+    void testIndexNegative() {
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> this.makeContainer(this.generateElement()).getInt(-1));
+    }
+
+    @Test
+    void testIndexTooBig() {
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> this.makeContainer(this.generateElement()).getInt(1));
+    }
+}
@@ -0,0 +1,92 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class ReadableIntHashSetTest<T extends ReadableIntHashSet> extends ContainerTestBase<Integer, T> {
+    private int currElem = 0;
+
+    @Override
+    protected T makeContainer() {
+        return (T) new ReadableIntHashSet();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        //noinspection ConstantConditions
+        return (T) new ReadableIntHashSet(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T)
+                new ReadableIntHashSet(Arrays.stream(elems).mapToInt(e -> (Integer) e).toArray());
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        return (T) new ReadableIntHashSet(other);
+    }
+
+    @Override
+    protected Integer generateElement() {
+        return ++currElem;
+    }
+
+    @Test
+    @Override
+    void testNull() {
+        assertThrows(NullPointerException.class, () -> this.makeContainer((Integer) null));
+        assertThrows(
+                NullPointerException.class,
+                () -> this.makeContainer(new ReadableArrayList<>(this.generateElement(), null)));
+
+        assertFalse(this.makeContainer(this.generateElement()).contains(null));
+    }
+
+    @Test
+    void testZero() {
+        final Integer elem = this.generateElement();
+        final T zeroSet = this.makeContainer(0);
+
+        assertEquals(1, zeroSet.size());
+        assertTrue(zeroSet.containsInt(0));
+        assertTrue(zeroSet.contains(0));
+        assertArrayEquals(new Integer[] {0}, zeroSet.toArray());
+
+        final T mixedSet = this.makeContainer(elem, 0, elem);
+
+        assertEquals(2, mixedSet.size());
+        assertTrue(mixedSet.containsAll(zeroSet));
+        assertFalse(zeroSet.containsAll(mixedSet));
+        assertEquals("0, " + elem, mixedSet.toString());
+    }
+
+    @Test
+    void testCompare() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final T set1 = this.makeContainer(elem1, elem2);
+        final T set2 = this.makeContainer(elem2, elem1, elem2);
+
+        assertEquals(set1.size(), set2.size());
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+        assertEquals(
+                new ReadableHashSet<>(new Integer[] {elem1, elem2}).hashCode(), set1.hashCode());
+
+        assertTrue(set1.containsInt(elem1));
+        assertFalse(set1.containsInt(this.generateElement()));
+        assertFalse(set1.contains("" + elem1));
+    }
+}
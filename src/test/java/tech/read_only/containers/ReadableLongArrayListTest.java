@@ -0,0 +1,124 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class ReadableLongArrayListTest<T extends ReadableLongArrayList>
+        extends ContainerTestBase<Long, T> {
+    private int currElement = 0;
+
+    @Override
+    protected T makeContainer() {
+        return (T) new ReadableLongArrayList();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Long elem) {
+        //noinspection ConstantConditions
+        return (T) new ReadableLongArrayList(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T)
+                new ReadableLongArrayList(Arrays.stream(elems).mapToLong(e -> (Long) e).toArray());
+    }
+
+    @Override
+    protected T makeContainer(final Container<Long> other) {
+        return (T) new ReadableLongArrayList(other);
+    }
+
+    @Override
+    protected Long generateElement() {
+        return (long) ++currElement;
+    }
+
+    @Test
+    @Override
+    void testNull() {
+        assertThrows(NullPointerException.class, () -> this.makeContainer((Long) null));
+        assertThrows(
+                NullPointerException.class,
+                () -> this.makeContainer(new ReadableArrayList<>(this.generateElement(), null)));
+
+        final T list = this.makeContainer(this.generateElement());
+        assertFalse(list.contains(null));
+        assertEquals(-1, list.indexOf(null));
+    }
+
+    @Test
+    void testPrimitiveAccess() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final T list = this.makeContainer(elem1, elem2, elem1);
+
+        assertEquals(elem1, list.getLong(0));
+        assertEquals(elem2, list.getLong(1));
+        assertEquals(0, list.indexOfLong(elem1));
+        assertEquals(1, list.indexOfLong(elem2));
+        assertEquals(-1, list.indexOfLong(this.generateElement()));
+        assertTrue(list.containsLong(elem2));
+
+        final ReadableLongIterator iter = list.iterator();
+        assertEquals(elem1, iter.nextLong());
+        assertEquals(elem2, iter.nextLong());
+        assertEquals(elem1, iter.nextLong());
+        assertFalse(iter.hasNext());
+        assertThrows(IllegalStateException.class, iter::nextLong);
+
+        assertArrayEquals(new Long[] {elem1, elem2, elem1}, list.toArray());
+        assertEquals(Arrays.asList(elem1, elem2, elem1).hashCode(), list.hashCode());
+    }
+
+    @Test
+    void testCompareBoxed() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final T list = this.makeContainer(elem1, elem2);
+        final ReadableArrayList<Long> boxed = new ReadableArrayList<>(elem1, elem2);
+
+        assertTrue(list.listEquals(boxed));
+        assertTrue(boxed.listEquals(list));
+        assertNotEquals(boxed, list);
+        assertEquals(list, this.makeContainer(boxed));
+        assertEquals(-1, list.indexOf("" + elem1));
+    }
+
+    @Test
+    void testOrder() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2);
+        final T list2 = this.makeContainer(elem2, elem1);
+
+        assertNotEquals(list1, list2);
+        // not strictly guaranteed, but should be the case here
+        assertNotEquals(list1.hashCode(), list2.hashCode());
+    }
+
+    @Test
+    void testIndexNegative() {
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> this.makeContainer(this.generateElement()).getLong(-1));
+    }
+
+    @Test
+    void testIndexTooBig() {
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> this.makeContainer(this.generateElement()).getLong(1));
+    }
+}
@@ -0,0 +1,91 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class ReadableLongHashSetTest<T extends ReadableLongHashSet> extends ContainerTestBase<Long, T> {
+    private int currElem = 0;
+
+    @Override
+    protected T makeContainer() {
+        return (T) new ReadableLongHashSet();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Long elem) {
+        //noinspection ConstantConditions
+        return (T) new ReadableLongHashSet(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T) new ReadableLongHashSet(Arrays.stream(elems).mapToLong(e -> (Long) e).toArray());
+    }
+
+    @Override
+    protected T makeContainer(final Container<Long> other) {
+        return (T) new ReadableLongHashSet(other);
+    }
+
+    @Override
+    protected Long generateElement() {
+        // vary the high bits too, which Long.hashCode folds into the low ones
+        return ((long) ++currElem << 32) + 1;
+    }
+
+    @Test
+    @Override
+    void testNull() {
+        assertThrows(NullPointerException.class, () -> this.makeContainer((Long) null));
+        assertThrows(
+                NullPointerException.class,
+                () -> this.makeContainer(new ReadableArrayList<>(this.generateElement(), null)));
+
+        assertFalse(this.makeContainer(this.generateElement()).contains(null));
+    }
+
+    @Test
+    void testZero() {
+        final Long elem = this.generateElement();
+        final T zeroSet = this.makeContainer(0L);
+
+        assertEquals(1, zeroSet.size());
+        assertTrue(zeroSet.containsLong(0));
+        assertTrue(zeroSet.contains(0L));
+        assertArrayEquals(new Long[] {0L}, zeroSet.toArray());
+
+        final T mixedSet = this.makeContainer(elem, 0L, elem);
+
+        assertEquals(2, mixedSet.size());
+        assertTrue(mixedSet.containsAll(zeroSet));
+        assertFalse(zeroSet.containsAll(mixedSet));
+        assertEquals("0, " + elem, mixedSet.toString());
+    }
+
+    @Test
+    void testCompare() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final T set1 = this.makeContainer(elem1, elem2);
+        final T set2 = this.makeContainer(elem2, elem1, elem2);
+
+        assertEquals(set1.size(), set2.size());
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+        assertEquals(new ReadableHashSet<>(new Long[] {elem1, elem2}).hashCode(), set1.hashCode());
+
+        assertTrue(set1.containsLong(elem1));
+        assertFalse(set1.containsLong(this.generateElement()));
+        assertFalse(set1.contains("" + elem1));
+    }
+}
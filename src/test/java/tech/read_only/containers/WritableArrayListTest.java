@@ -3,10 +3,15 @@ package tech.read_only.containers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+
 import javax.annotation.Nullable;
 
 @SuppressWarnings("unchecked")
@@ -76,10 +81,12 @@ class WritableArrayListTest<T extends WritableArrayList<Integer>> extends Readab
     public void testIteratorRemove() {
         final T list1 = this.makeContainer(1, 2, 3);
         final WritableIterator<Integer> iter = list1.iterator();
+        assertThrows(IllegalStateException.class, iter::remove);
 
         iter.next();
         iter.next();
         iter.remove();
+        assertThrows(IllegalStateException.class, iter::remove);
 
         assertTrue(iter.hasNext());
         assertEquals(Integer.valueOf(3), iter.next());
@@ -155,4 +162,282 @@ class WritableArrayListTest<T extends WritableArrayList<Integer>> extends Readab
         assertEquals(list2, list1);
         assertEquals(list2.hashCode(), list1.hashCode());
     }
+
+    @Test
+    void testSnapshot() {
+        final T list1 = this.makeContainer(1, 2, 3);
+        final ReadableList<Integer> snapshot1 = list1.snapshot();
+
+        assertEquals(new ReadableArrayList<>(1, 2, 3), snapshot1);
+
+        // appending into spare capacity, then modifying in place
+        list1.add(4);
+        list1.set(0, 5);
+        final ReadableList<Integer> snapshot2 = list1.snapshot();
+        list1.removeAt(1);
+        list1.add(6);
+
+        assertEquals(new ReadableArrayList<>(1, 2, 3), snapshot1);
+        assertEquals(new ReadableArrayList<>(5, 2, 3, 4), snapshot2);
+        assertEquals(this.makeContainer(5, 3, 4, 6), list1);
+
+        final ReadableList<Integer> snapshot3 = list1.snapshot();
+        final WritableIterator<Integer> iter = list1.iterator();
+        iter.next();
+        iter.remove();
+        list1.clear();
+        list1.add(7);
+
+        assertEquals(new ReadableArrayList<>(5, 3, 4, 6), snapshot3);
+        assertEquals(3, snapshot3.indexOf(6));
+        assertEquals(-1, snapshot3.indexOf(null));
+        assertEquals(this.makeContainer(7), list1);
+    }
+
+    @Test
+    void testRemoveIf() {
+        final T list1 = this.makeContainer(1, 2, null, 3, 4, 5, 6);
+        final ReadableList<Integer> snapshot = list1.snapshot();
+
+        assertFalse(list1.removeIf(e -> e != null && e > 6));
+        assertTrue(list1.removeIf(e -> e == null || e % 2 == 0));
+        assertEquals(this.makeContainer(1, 3, 5), list1);
+        assertEquals(new ReadableArrayList<>(1, 2, null, 3, 4, 5, 6), snapshot);
+
+        list1.add(7);
+        assertTrue(list1.removeIf(e -> true));
+        assertTrue(list1.isEmpty());
+        assertFalse(list1.removeIf(e -> true));
+
+        // a throwing filter keeps everything it has not tested yet
+        final T list2 = this.makeContainer(1, 2, 3, 4, 5);
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        list2.removeIf(
+                                e -> {
+                                    if (e == 4) throw new IllegalStateException();
+                                    return e % 2 == 0;
+                                }));
+        assertEquals(this.makeContainer(1, 3, 4, 5), list2);
+    }
+
+    @Test
+    void testBulkOperations() {
+        final T list1 = this.makeContainer(1, 2);
+        final ReadableList<Integer> snapshot = list1.snapshot();
+
+        assertTrue(list1.addAll(new ReadableArrayList<>(3, null, 4)));
+        assertTrue(list1.addAll(new ReadableHashSet<>(5)));
+        assertFalse(list1.addAll(new ReadableArrayList<>()));
+        assertEquals(this.makeContainer(1, 2, 3, null, 4, 5), list1);
+
+        assertTrue(list1.addAll(list1));
+        assertEquals(this.makeContainer(1, 2, 3, null, 4, 5, 1, 2, 3, null, 4, 5), list1);
+
+        assertTrue(list1.removeAll(new ReadableArrayList<>(2, null, 6)));
+        assertEquals(this.makeContainer(1, 3, 4, 5, 1, 3, 4, 5), list1);
+        assertFalse(list1.removeAll(new ReadableHashSet<>(6)));
+
+        assertTrue(list1.retainAll(new ReadableHashSet<>(new Integer[] {1, 4, 6})));
+        assertEquals(this.makeContainer(1, 4, 1, 4), list1);
+        assertFalse(list1.retainAll(list1));
+
+        assertTrue(list1.removeAll(list1));
+        assertTrue(list1.isEmpty());
+        assertEquals(new ReadableArrayList<>(1, 2), snapshot);
+
+        // large arguments are copied into a hash set before filtering
+        final T list2 = this.makeContainer();
+        final WritableArrayList<Integer> evens = new WritableArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list2.add(i);
+            if (i % 2 == 0) evens.add(i);
+        }
+        final T list3 = this.makeContainer(list2);
+
+        assertTrue(list2.removeAll(evens));
+        assertTrue(list3.retainAll(evens));
+        assertEquals(5_000, list2.size());
+        assertEquals(evens, new WritableArrayList<>(list3));
+        for (int i = 0; i < 5_000; i++) {
+            assertEquals(Integer.valueOf(2 * i + 1), list2.get(i));
+        }
+    }
+
+    @Test
+    void testCapacity() {
+        final WritableArrayList<Integer> built =
+                WritableArrayList.<Integer>builder().expectedSize(100).growthRate(1.5f).build();
+        final Object[] initial = built.array;
+        assertEquals(100, initial.length);
+
+        for (int i = 0; i < 100; i++) {
+            built.add(i);
+        }
+        assertSame(initial, built.array);
+
+        built.add(100);
+        assertEquals(150, built.array.length);
+        assertEquals(101, built.size());
+
+        assertThrows(
+                IllegalArgumentException.class, () -> WritableArrayList.builder().expectedSize(-1));
+        assertThrows(
+                IllegalArgumentException.class, () -> WritableArrayList.builder().growthRate(1));
+        assertTrue(WritableArrayList.builder().build().isEmpty());
+
+        final T list1 = this.makeContainer(1, 2, 3);
+        list1.ensureCapacity(1000);
+        assertEquals(1000, list1.array.length);
+        list1.ensureCapacity(10);
+        assertEquals(1000, list1.array.length);
+
+        final ReadableList<Integer> snapshot = list1.snapshot();
+        list1.trimToSize();
+        assertEquals(3, list1.array.length);
+        list1.set(0, 0);
+        list1.add(4);
+
+        assertEquals(this.makeContainer(0, 2, 3, 4), list1);
+        assertEquals(new ReadableArrayList<>(1, 2, 3), snapshot);
+
+        list1.clear();
+        list1.trimToSize();
+        assertEquals(0, list1.array.length);
+        list1.add(5);
+        assertEquals(this.makeContainer(5), list1);
+    }
+
+    @Test
+    void testHashCode() {
+        final T list1 = this.makeContainer(1, 2, 3);
+        assertEquals(Arrays.asList(1, 2, 3).hashCode(), list1.hashCode());
+
+        // appending and removing the last element keep the cached hash in step
+        list1.add(null);
+        list1.add(4);
+        assertEquals(Arrays.asList(1, 2, 3, null, 4).hashCode(), list1.hashCode());
+        list1.removeAt(4);
+        list1.addAll(new ReadableArrayList<>(5, 6));
+        assertEquals(Arrays.asList(1, 2, 3, null, 5, 6).hashCode(), list1.hashCode());
+        list1.remove(6);
+        assertEquals(Arrays.asList(1, 2, 3, null, 5).hashCode(), list1.hashCode());
+
+        final ReadableList<Integer> snapshot = list1.snapshot();
+        list1.set(0, 0);
+        list1.removeAt(1);
+        assertEquals(Arrays.asList(0, 3, null, 5).hashCode(), list1.hashCode());
+        list1.removeIf(e -> e == null);
+        assertEquals(Arrays.asList(0, 3, 5).hashCode(), list1.hashCode());
+        assertEquals(Arrays.asList(1, 2, 3, null, 5).hashCode(), snapshot.hashCode());
+
+        list1.clear();
+        assertEquals(1, list1.hashCode());
+        for (int i = 0; i < 1000; i++) {
+            list1.add(i);
+        }
+        assertEquals(this.makeContainer(list1.snapshot()).hashCode(), list1.hashCode());
+    }
+
+    @Test
+    void testFailFast() {
+        final WritableArrayList<Integer> list1 = new WritableArrayList<>(1, 2, 3, 4);
+        final WritableIterator<Integer> iter1 = list1.iterator();
+        iter1.next();
+        iter1.remove();
+        iter1.next();
+        list1.set(0, 5);
+        assertEquals(Integer.valueOf(3), iter1.next());
+
+        list1.add(6);
+        assertThrows(ConcurrentModificationException.class, iter1::next);
+        assertThrows(ConcurrentModificationException.class, iter1::remove);
+        assertThrows(
+                ConcurrentModificationException.class,
+                () -> list1.iterator().forEachRemaining(e -> list1.removeAt(0)));
+
+        // unchecked iterators read whatever the list holds at each step
+        final WritableArrayList<Integer> list2 =
+                WritableArrayList.<Integer>builder().failFast(false).build();
+        list2.addAll(new ReadableArrayList<>(1, 2, 3));
+        final WritableIterator<Integer> iter2 = list2.iterator();
+        iter2.next();
+        list2.removeAt(0);
+        assertEquals(Integer.valueOf(3), iter2.next());
+        assertFalse(iter2.hasNext());
+    }
+
+    @Test
+    void testWritableSubList() {
+        final WritableArrayList<Integer> list1 = new WritableArrayList<>(0, 1, 2, 3, 4, 5, 6, 7);
+        final ReadableList<Integer> snapshot = list1.snapshot();
+        final WritableList<Integer> slice1 = list1.subList(2, 6);
+
+        slice1.set(0, 20);
+        slice1.add(50);
+        assertEquals(new WritableArrayList<>(0, 1, 20, 3, 4, 5, 50, 6, 7), list1);
+        assertTrue(slice1.listEquals(new ReadableArrayList<>(20, 3, 4, 5, 50)));
+        assertEquals(new ReadableArrayList<>(0, 1, 2, 3, 4, 5, 6, 7), snapshot);
+
+        // changes through a nested slice keep the enclosing slice in step
+        final WritableList<Integer> slice2 =
+                ((WritableArrayList<Integer>.WritableSubList) slice1).subList(1, 3);
+        assertEquals(Integer.valueOf(3), slice2.removeAt(0));
+        assertTrue(slice2.remove(4));
+        slice2.add(40);
+        assertTrue(slice1.listEquals(new ReadableArrayList<>(20, 40, 5, 50)));
+        assertEquals(new WritableArrayList<>(0, 1, 20, 40, 5, 50, 6, 7), list1);
+
+        assertTrue(slice1.removeIf(e -> e % 20 == 0));
+        assertFalse(slice1.removeIf(e -> e > 100));
+        assertTrue(slice1.listEquals(new ReadableArrayList<>(5, 50)));
+        assertEquals(new WritableArrayList<>(0, 1, 5, 50, 6, 7), list1);
+
+        for (final WritableIterator<Integer> iter = slice1.iterator(); iter.hasNext(); ) {
+            if (iter.next() == 5) {
+                iter.remove();
+            }
+        }
+        assertEquals(new WritableArrayList<>(0, 1, 50, 6, 7), list1);
+
+        // a second removal without an intervening next() leaves the parent list alone
+        final WritableArrayList<Integer> list2 = new WritableArrayList<>(0, 1, 2, 3);
+        final WritableIterator<Integer> sliceIter = list2.subList(1, 4).iterator();
+        assertThrows(IllegalStateException.class, sliceIter::remove);
+        sliceIter.next();
+        sliceIter.next();
+        sliceIter.remove();
+        assertThrows(IllegalStateException.class, sliceIter::remove);
+        assertEquals(new WritableArrayList<>(0, 1, 3), list2);
+
+        slice1.clear();
+        assertTrue(slice1.isEmpty());
+        assertEquals(new WritableArrayList<>(0, 1, 6, 7), list1);
+        slice1.add(2);
+        assertEquals(new WritableArrayList<>(0, 1, 2, 6, 7), list1);
+        assertEquals(Arrays.asList(0, 1, 2, 6, 7).hashCode(), list1.hashCode());
+
+        // a filter that throws still leaves the list and the slice consistent
+        final WritableList<Integer> slice3 = list1.subList(0, 4);
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        slice3.removeIf(
+                                e -> {
+                                    if (e == 6) throw new IllegalStateException();
+                                    return e == 1;
+                                }));
+        assertTrue(slice3.listEquals(new ReadableArrayList<>(0, 2, 6)));
+        assertEquals(new WritableArrayList<>(0, 2, 6, 7), list1);
+
+        // the slices become invalid once the list's length changes other than through them
+        list1.add(8);
+        assertThrows(ConcurrentModificationException.class, () -> slice3.get(0));
+        assertThrows(ConcurrentModificationException.class, slice3::size);
+        assertThrows(ConcurrentModificationException.class, () -> slice3.add(1));
+        assertThrows(ConcurrentModificationException.class, slice1::clear);
+        list1.set(0, 1);
+        assertEquals(new WritableArrayList<>(1, 2, 6, 7, 8), list1);
+    }
 }
@@ -0,0 +1,301 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import javax.annotation.Nullable;
+
+class WritableBTreeSetTest<T extends WritableBTreeSet<Integer>> extends ReadableBTreeSetTest<T>
+        implements WritableContainerTest {
+    @Override
+    protected T makeContainer() {
+        //noinspection unchecked
+        return (T) new WritableBTreeSet<Integer>();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        //noinspection unchecked
+        return (T) new WritableBTreeSet<>(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        //noinspection unchecked
+        return (T) (WritableBTreeSet<?>) new WritableBTreeSet<>(elems);
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        //noinspection unchecked
+        return (T) new WritableBTreeSet<>(other);
+    }
+
+    @Override
+    protected ReadableBTreeSet<Integer> makeContainer(
+            final Container<Integer> other, final Comparator<? super Integer> comparator) {
+        return new WritableBTreeSet<>(other, comparator);
+    }
+
+    @Override
+    protected ReadableBTreeSet<Integer> fromSorted(final ReadableList<Integer> sorted) {
+        return WritableBTreeSet.fromSorted(sorted);
+    }
+
+    @Test
+    @Override
+    public void testAdd() {
+        final T set1 = this.makeContainer();
+
+        assertTrue(set1.add(1));
+        assertEquals(1, set1.size());
+        assertTrue(set1.contains(1));
+        assertFalse(set1.add(1));
+
+        assertEquals(this.makeContainer(1), set1);
+        assertEquals(this.makeContainer(1).hashCode(), set1.hashCode());
+
+        assertTrue(set1.add(null));
+        assertTrue(set1.contains(null));
+        assertEquals(2, set1.size());
+        assertFalse(set1.add(null));
+        assertNull(set1.first());
+    }
+
+    @Test
+    @Override
+    public void testResize() {
+        final T set1 = this.makeContainer(1);
+        final int initialHashCode = set1.hashCode();
+
+        // descending, so that every insertion splits the leftmost nodes
+        for (int i = 10_000; i >= 2; i--) {
+            assertTrue(set1.add(i));
+        }
+
+        assertEquals(10_000, set1.size());
+        for (int i = 1; i <= 10_000; i++) {
+            assertTrue(set1.contains(i));
+            assertEquals(i, set1.select(i - 1));
+        }
+
+        assertNotEquals(initialHashCode, set1.hashCode());
+        assertEquals(this.makeLarge().size(), set1.size());
+    }
+
+    @Test
+    @Override
+    public void testIteratorRemove() {
+        final T set1 = this.makeContainer(1, null, 2, 3);
+        final WritableIterator<Integer> iter = set1.iterator();
+
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        assertNull(iter.next());
+        assertEquals(1, iter.next());
+        iter.remove();
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        assertEquals(2, iter.next());
+        assertEquals(3, iter.next());
+        assertFalse(iter.hasNext());
+        assertThrows(IllegalStateException.class, iter::next);
+
+        assertEquals(this.makeContainer(null, 2, 3), set1);
+
+        // removing while iterating over many leaves rebalances under the iterator
+        final T large = this.makeLarge();
+        for (final WritableIterator<Integer> iter2 = large.iterator(); iter2.hasNext(); ) {
+            if (iter2.next() % 4 != 0) {
+                iter2.remove();
+            }
+        }
+        assertEquals(5_000, large.size());
+        for (int i = 0; i < large.size(); i++) {
+            assertEquals(4 * (i + 1), large.select(i));
+        }
+    }
+
+    @Test
+    @Override
+    public void testClear() {
+        final T set1 = this.makeLarge();
+
+        set1.clear();
+
+        assertTrue(set1.isEmpty());
+        assertFalse(set1.contains(2));
+        assertEquals(this.makeContainer(), set1);
+        assertEquals(this.makeContainer().hashCode(), set1.hashCode());
+
+        assertTrue(set1.add(1));
+        assertEquals(this.makeContainer(1), set1);
+    }
+
+    @Test
+    @Override
+    public void testRemove() {
+        final T set1 = this.makeContainer(1, 2, 3);
+
+        assertTrue(set1.remove(2));
+
+        assertEquals(2, set1.size());
+        assertFalse(set1.contains(2));
+        assertFalse(set1.remove(2));
+        assertFalse(set1.remove(null));
+
+        assertEquals(this.makeContainer(1, 3), set1);
+        assertEquals(this.makeContainer(1, 3).hashCode(), set1.hashCode());
+
+        final T set2 = this.makeContainer((Integer) null);
+        assertTrue(set2.remove(null));
+        assertTrue(set2.isEmpty());
+    }
+
+    @Test
+    void testRemoveFirstAndLast() {
+        final T set = this.makeLarge();
+
+        for (int i = 1; i <= 2_500; i++) {
+            assertEquals(2 * i, set.removeFirst());
+            assertEquals(20_002 - 2 * i, set.removeLast());
+        }
+
+        assertEquals(5_000, set.size());
+        assertEquals(5_002, set.first());
+        assertEquals(15_000, set.last());
+
+        final T empty = this.makeContainer();
+        assertThrows(IllegalStateException.class, empty::removeFirst);
+        assertThrows(IllegalStateException.class, empty::removeLast);
+    }
+
+    @Test
+    void testRemovableSubSet() {
+        final T set = this.makeContainer(1, 3, 5, 7, 9);
+        final RemovableSortedSet<Integer> sub = set.subSet(3, true, 7, false);
+
+        // a view has no add that could fail for elements outside of its range
+        assertFalse(sub instanceof WritableContainer);
+        assertFalse(sub.headSet(5, true) instanceof WritableContainer);
+
+        assertEquals(List.of(3, 5), toList(sub));
+        assertTrue(set.add(4));
+        assertFalse(sub.remove(1));
+        assertFalse(sub.remove(7));
+        assertTrue(set.contains(1));
+
+        // changes to the set show through the view, and the reverse
+        set.add(6);
+        set.remove(3);
+        assertEquals(List.of(4, 5, 6), toList(sub));
+        assertEquals(List.of(1, 4, 5, 6, 7, 9), toList(set));
+
+        assertEquals(4, sub.removeFirst());
+        assertEquals(6, sub.removeLast());
+        assertEquals(List.of(1, 5, 7, 9), toList(set));
+
+        for (final WritableIterator<Integer> iter = set.tailSet(5, false).iterator();
+                iter.hasNext(); ) {
+            if (iter.next() == 7) {
+                iter.remove();
+            }
+        }
+        assertEquals(List.of(1, 5, 9), toList(set));
+
+        final T large = this.makeLarge();
+        large.subSet(1_000, true, 9_000, true).clear();
+        assertEquals(10_000 - 4_001, large.size());
+        assertEquals(998, large.lower(1_000));
+        assertEquals(9_002, large.higher(998));
+
+        large.headSet(5_000, true).subSet(0, true, 100, false).removeIf(e -> e % 4 == 0);
+        assertEquals(List.of(2, 6, 10), toList(large.headSet(12, false)));
+    }
+
+    @Test
+    void testFailFast() {
+        final T set = this.makeContainer(1, 2, 3);
+        final WritableIterator<Integer> iter = set.iterator();
+        iter.next();
+        set.add(4);
+
+        assertThrows(ConcurrentModificationException.class, iter::next);
+        assertThrows(ConcurrentModificationException.class, iter::remove);
+    }
+
+    @Test
+    void testRemoveIf() {
+        final T set = this.makeLarge();
+
+        assertFalse(set.removeIf(e -> e < 0));
+        assertTrue(set.removeIf(e -> e % 3 == 0));
+
+        assertEquals(6_667, set.size());
+        assertEquals(4, set.select(1));
+        assertEquals(8, set.select(2));
+        assertFalse(set.contains(6));
+
+        final WritableHashSet<Integer> expected = new WritableHashSet<>();
+        set.forEach(expected::add);
+        assertEquals(expected.hashCode(), set.hashCode());
+    }
+
+    @Test
+    void testSnapshot() {
+        final T set = this.makeLarge();
+        final ReadableSortedSet<Integer> snapshot = set.snapshot();
+
+        set.clear();
+
+        assertEquals(10_000, snapshot.size());
+        assertEquals(20_000, snapshot.last());
+        assertEquals(new ReadableBTreeSet<>(this.makeLarge()), snapshot);
+    }
+
+    /** Checks every operation against {@link TreeSet}, with few enough elements to merge often. */
+    @Test
+    void testRandomOperations() {
+        final T set = this.makeContainer();
+        final TreeSet<Integer> expected = new TreeSet<>();
+        final Random random = new Random(0);
+
+        for (int i = 0; i < 200_000; i++) {
+            final Integer elem = random.nextInt(5_000);
+            switch (random.nextInt(5)) {
+                case 0:
+                case 1:
+                    assertEquals(expected.remove(elem), set.remove(elem));
+                    break;
+                case 2:
+                    assertEquals(expected.floor(elem), set.floor(elem));
+                    assertEquals(expected.higher(elem), set.higher(elem));
+                    assertEquals(expected.headSet(elem).size(), set.rank(elem));
+                    break;
+                default:
+                    assertEquals(expected.add(elem), set.add(elem));
+            }
+
+            assertEquals(expected.size(), set.size());
+        }
+
+        assertEquals(new ArrayList<>(expected), toList(set));
+        assertEquals(new ReadableHashSet<>(expected.toArray()).hashCode(), set.hashCode());
+        for (int i = 0; i < set.size(); i += 97) {
+            assertEquals(expected.headSet(set.select(i)).size(), i);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class WritableHashMapTest<T extends WritableHashMap<Integer, String>>
+        extends ReadableHashMapTest<T> {
+    @Override
+    protected T makeMap(final Object... keysAndValues) {
+        //noinspection unchecked
+        return (T) fill(keysAndValues);
+    }
+
+    @Override
+    protected T makeMap(final ReadableMap<Integer, String> other) {
+        //noinspection unchecked
+        return (T) new WritableHashMap<>(other);
+    }
+
+    @Test
+    void testPut() {
+        final T map = this.makeMap();
+
+        assertNull(map.put(1, "a"));
+        assertEquals("a", map.put(1, "b"));
+        assertNull(map.put(null, "c"));
+        assertEquals("c", map.put(null, null));
+        assertNull(map.put(2, null));
+
+        assertEquals(3, map.size());
+        assertEquals("b", map.get(1));
+        assertTrue(map.containsKey(null));
+        assertNull(map.get(null));
+        assertTrue(map.containsKey(2));
+    }
+
+    @Test
+    void testRemove() {
+        final T map = this.makeMap(range(1000));
+        map.put(null, "null");
+
+        assertNull(map.remove(1000));
+        assertEquals("null", map.remove(null));
+        assertNull(map.remove(null));
+
+        // removes keys from the middle of probe runs, in a different order than insertion
+        for (int i = 0; i < 1000; i += 3) {
+            assertEquals(Integer.toString(i), map.remove(i));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 3 != 0, map.containsKey(i));
+            assertEquals(i % 3 == 0 ? null : Integer.toString(i), map.get(i));
+        }
+        assertEquals(666, map.size());
+        assertEquals(666, ((Object[]) map.keys().toArray()).length);
+
+        assertEquals(this.makeMap(map), map);
+        assertNotEquals(this.makeMap(range(1000)), map);
+    }
+
+    @Test
+    void testComputeIfAbsent() {
+        final T map = this.makeMap(1, "a");
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertEquals(
+                "a",
+                map.computeIfAbsent(
+                        1,
+                        key -> {
+                            calls.incrementAndGet();
+                            return "b";
+                        }));
+        assertEquals(0, calls.get());
+
+        for (int i = 2; i < 100; i++) {
+            assertEquals(Integer.toString(i), map.computeIfAbsent(i, ReadableHashMapTest::valueOf));
+        }
+        assertNull(map.computeIfAbsent(null, ReadableHashMapTest::valueOf));
+        assertTrue(map.containsKey(null));
+        assertEquals(100, map.size());
+
+        // a mapping function that modifies the map itself
+        assertEquals(
+                "nested",
+                map.computeIfAbsent(
+                        100,
+                        key -> {
+                            for (int i = 101; i < 200; i++) {
+                                map.put(i, null);
+                            }
+                            map.remove(2);
+                            return "nested";
+                        }));
+        assertEquals("nested", map.get(100));
+        assertFalse(map.containsKey(2));
+        assertEquals(199, map.size());
+    }
+
+    @Test
+    void testClear() {
+        final T map = this.makeMap(range(10));
+        map.put(null, "null");
+        final ReadableSet<Integer> keys = map.keys();
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertTrue(keys.isEmpty());
+        assertFalse(map.containsKey(null));
+        assertNull(map.get(0));
+        assertEquals(this.makeMap(), map);
+
+        map.put(0, "0");
+        assertEquals(1, keys.size());
+        assertTrue(keys.contains(0));
+    }
+
+    @Test
+    void testFailFast() {
+        final T map = this.makeMap(range(10));
+        final ReadableIterator<Integer> keys = map.keys().iterator();
+        final ReadableIterator<String> values = map.values().iterator();
+        final ReadableIterator<ReadableMap.Entry<Integer, String>> entries =
+                map.entries().iterator();
+        keys.next();
+        values.next();
+        entries.next();
+
+        // replacing a value is not a structural modification
+        map.put(0, "zero");
+        keys.next();
+        values.next();
+        entries.next();
+
+        // adding keys until the tables grow
+        for (int i = 10; i < 100; i++) {
+            map.put(i, Integer.toString(i));
+        }
+        assertThrows(ConcurrentModificationException.class, keys::next);
+        assertThrows(ConcurrentModificationException.class, values::next);
+        assertThrows(ConcurrentModificationException.class, entries::next);
+
+        final ReadableIterator<Integer> iter = map.keys().iterator();
+        iter.next();
+        map.remove(50);
+        assertThrows(ConcurrentModificationException.class, iter::next);
+
+        assertThrows(
+                ConcurrentModificationException.class,
+                () -> map.keys().iterator().forEachRemaining(key -> map.remove(key)));
+    }
+}
@@ -3,11 +3,19 @@ package tech.read_only.containers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.annotation.Nullable;
 
 class WritableHashSetTest<T extends WritableHashSet<Integer>> extends ReadableHashSetTest<T>
@@ -36,6 +44,12 @@ class WritableHashSetTest<T extends WritableHashSet<Integer>> extends ReadableHa
         return (T) new WritableHashSet<>(other);
     }
 
+    @Override
+    protected <E> WritableHashSet<E> makeContainer(
+            final Container<E> other, final HashingStrategy<? super E> strategy) {
+        return new WritableHashSet<>(other, strategy);
+    }
+
     @Test
     public void testAdd() {
         final T set1 = this.makeContainer();
@@ -94,22 +108,53 @@ class WritableHashSetTest<T extends WritableHashSet<Integer>> extends ReadableHa
             fail("Expected IllegalStateException");
             return;
         } catch (final IllegalStateException e) {
-            iter.next();
+            // the order of elements depends on the table layout
         }
 
-        iter.next();
+        final Integer first = iter.next();
+        final Integer removed = iter.next();
         iter.remove();
 
         assertTrue(iter.hasNext());
-        assertEquals(Integer.valueOf(3), iter.next());
+        final Integer last = iter.next();
         assertFalse(iter.hasNext());
+        assertFalse(set1.contains(removed));
 
-        final T set2 = this.makeContainer(1, 3);
+        final T set2 = this.makeContainer(first, last);
 
         assertEquals(set2, set1);
         assertEquals(set1.hashCode(), set2.hashCode());
     }
 
+    @Test
+    void testManyElements() {
+        final T set1 = this.makeContainer();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(set1.add(i * 64));
+        }
+
+        assertEquals(1000, set1.size());
+        for (int i = 0; i < 1000; i += 2) {
+            assertTrue(set1.remove(i * 64));
+        }
+
+        assertEquals(500, set1.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, set1.contains(i * 64));
+        }
+
+        int count = 0;
+        for (final WritableIterator<Integer> iter = set1.iterator(); iter.hasNext(); ) {
+            assertEquals(64, iter.next() % 128);
+            iter.remove();
+            count++;
+        }
+
+        assertEquals(500, count);
+        assertTrue(set1.isEmpty());
+        assertEquals(this.makeContainer(), set1);
+    }
+
     @Test
     @Override
     public void testClear() {
@@ -155,4 +200,392 @@ class WritableHashSetTest<T extends WritableHashSet<Integer>> extends ReadableHa
         assertTrue(set4.remove(1));
         assertTrue(set4.isEmpty());
     }
+
+    @Test
+    void testSnapshot() {
+        final T set1 = this.makeContainer(1, 2, 3);
+        final ReadableSet<Integer> snapshot1 = set1.snapshot();
+
+        assertEquals(new ReadableHashSet<>(new Integer[] {1, 2, 3}), snapshot1);
+
+        set1.add(4);
+        set1.remove(1);
+        set1.add(null);
+        final ReadableSet<Integer> snapshot2 = set1.snapshot();
+
+        // enough additions to resize, and to start (and finish) any incremental migration
+        for (int i = 5; i < 100; i++) {
+            set1.add(i);
+        }
+        final ReadableSet<Integer> snapshot3 = set1.snapshot();
+
+        for (final WritableIterator<Integer> iter = set1.iterator(); iter.hasNext(); ) {
+            final Integer elem = iter.next();
+            if (elem == null || elem % 2 == 0) {
+                iter.remove();
+            }
+        }
+        set1.clear();
+        set1.add(0);
+
+        assertEquals(new ReadableHashSet<>(new Integer[] {1, 2, 3}), snapshot1);
+        assertEquals(new ReadableHashSet<>(new Integer[] {null, 2, 3, 4}), snapshot2);
+        assertEquals(99, snapshot3.size());
+        assertTrue(snapshot3.contains(null));
+        for (int i = 2; i < 100; i++) {
+            assertTrue(snapshot3.contains(i));
+        }
+        assertEquals(this.makeContainer(0), set1);
+    }
+
+    @Test
+    void testRemoveIf() {
+        final T set1 = this.makeContainer();
+        for (int i = 0; i < 1000; i++) {
+            set1.add(i);
+        }
+        set1.add(null);
+        final ReadableSet<Integer> snapshot = set1.snapshot();
+
+        assertFalse(set1.removeIf(e -> e != null && e >= 1000));
+        assertTrue(set1.removeIf(e -> e == null || e % 3 == 0));
+
+        assertEquals(666, set1.size());
+        assertFalse(set1.contains(null));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 3 != 0, set1.contains(i));
+        }
+        assertEquals(1001, snapshot.size());
+
+        assertTrue(set1.removeIf(e -> true));
+        assertTrue(set1.isEmpty());
+        assertEquals(this.makeContainer(), set1);
+        assertFalse(this.makeContainer().removeIf(e -> true));
+    }
+
+    @Test
+    void testBulkOperations() {
+        final T set1 = this.makeContainer(1, 2);
+        final ReadableSet<Integer> snapshot = set1.snapshot();
+
+        assertTrue(set1.addAll(new ReadableHashSet<>(new Integer[] {2, 3, null})));
+        assertTrue(set1.addAll(new ReadableArrayList<>(4, 4, 5)));
+        assertFalse(set1.addAll(new ReadableArrayList<>(1, null)));
+        assertFalse(set1.addAll(set1));
+        assertEquals(this.makeContainer(1, 2, 3, 4, 5, null), set1);
+
+        assertTrue(set1.removeAll(new ReadableArrayList<>(2, null, 6)));
+        assertEquals(this.makeContainer(1, 3, 4, 5), set1);
+        assertFalse(set1.removeAll(new ReadableHashSet<>(6)));
+
+        assertTrue(set1.retainAll(new ReadableArrayList<>(1, 4, 6)));
+        assertEquals(this.makeContainer(1, 4), set1);
+        assertFalse(set1.retainAll(set1));
+
+        assertTrue(set1.removeAll(set1));
+        assertTrue(set1.isEmpty());
+        assertEquals(new ReadableHashSet<>(new Integer[] {1, 2}), snapshot);
+
+        final WritableHashSet<Integer> source = new WritableHashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            source.add(i);
+        }
+
+        final T set2 = this.makeContainer();
+        assertTrue(set2.addAll(source));
+        assertEquals(source.size(), set2.size());
+        if (set2.getClass() == WritableHashSet.class) {
+            // presized in one step, to the same table length as a set built from the source
+            assertEquals(
+                    ReadableHashSet.capacityFor(100_000, ReadableHashSet.DEFAULT_MAX_LOAD_FACTOR),
+                    set2.hashtable.length);
+        }
+
+        // removing a larger container tests this set's elements instead
+        final T set3 = this.makeContainer(-1, 0, 1, 2);
+        assertTrue(set3.removeAll(source));
+        assertEquals(this.makeContainer(-1), set3);
+        assertTrue(set2.retainAll(this.makeContainer(-1, 0, 99_999)));
+        assertEquals(this.makeContainer(0, 99_999), set2);
+    }
+
+    @Test
+    void testCapacity() {
+        final WritableHashSet<Integer> built =
+                WritableHashSet.<Integer>builder()
+                        .expectedSize(1000)
+                        .loadFactor(0.5f)
+                        .growthFactor(4)
+                        .build();
+        final Object[] initial = built.hashtable;
+        assertEquals(2048, initial.length);
+
+        // the table only fills past its load factor after 1024 elements
+        for (int i = 0; i < 1024; i++) {
+            built.add(i);
+        }
+        assertSame(initial, built.hashtable);
+
+        built.add(1024);
+        assertEquals(8192, built.hashtable.length);
+
+        assertThrows(
+                IllegalArgumentException.class, () -> WritableHashSet.builder().expectedSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> WritableHashSet.builder().loadFactor(0));
+        assertThrows(IllegalArgumentException.class, () -> WritableHashSet.builder().loadFactor(2));
+        assertThrows(
+                IllegalArgumentException.class, () -> WritableHashSet.builder().growthFactor(1));
+        assertTrue(WritableHashSet.builder().build().isEmpty());
+
+        final T set1 = this.makeContainer(1, 2, null);
+        set1.ensureCapacity(1000);
+        assertEquals(
+                ReadableHashSet.capacityFor(1000, ReadableHashSet.DEFAULT_MAX_LOAD_FACTOR),
+                set1.hashtable.length);
+
+        for (int i = 3; i < 1000; i++) {
+            set1.add(i);
+        }
+        final ReadableSet<Integer> snapshot = set1.snapshot();
+        set1.removeIf(e -> e != null && e > 3);
+        set1.trimToSize();
+
+        assertEquals(
+                ReadableHashSet.capacityFor(3, ReadableHashSet.DEFAULT_MAX_LOAD_FACTOR),
+                set1.hashtable.length);
+        assertEquals(this.makeContainer(1, 2, 3, null), set1);
+        assertEquals(1000, snapshot.size());
+
+        set1.clear();
+        set1.trimToSize();
+        assertEquals(0, set1.hashtable.length);
+        set1.add(5);
+        assertEquals(this.makeContainer(5), set1);
+    }
+
+    @Test
+    void testHashCode() {
+        final T set1 = this.makeContainer(1, 2, 3);
+        final ReadableSet<Integer> snapshot = set1.snapshot();
+
+        for (int i = 4; i < 1000; i++) {
+            set1.add(i);
+        }
+        set1.add(null);
+        set1.remove(500);
+        set1.removeIf(e -> e != null && e % 3 == 0);
+        for (final WritableIterator<Integer> iter = set1.iterator(); iter.hasNext(); ) {
+            final Integer elem = iter.next();
+            if (elem != null && elem % 5 == 0) {
+                iter.remove();
+            }
+        }
+
+        assertEquals(new ReadableHashSet<>(set1.snapshot()).hashCode(), set1.hashCode());
+        assertEquals(new ReadableHashSet<>(1, 2, 3).hashCode(), snapshot.hashCode());
+
+        set1.remove(null);
+        set1.removeAll(new ReadableArrayList<>(1, 2, 4));
+        assertEquals(new ReadableHashSet<>(set1.snapshot()).hashCode(), set1.hashCode());
+
+        set1.clear();
+        assertEquals(this.makeContainer().hashCode(), set1.hashCode());
+        set1.add(7);
+        assertEquals(new ReadableHashSet<>(7).hashCode(), set1.hashCode());
+    }
+
+    @Test
+    void testFailFast() {
+        final T set1 = this.makeContainer(null, 1, 2, 3);
+        final WritableIterator<Integer> iter1 = set1.iterator();
+        iter1.next();
+        iter1.remove();
+        iter1.next();
+        iter1.remove();
+        assertTrue(iter1.hasNext());
+
+        set1.add(4);
+        assertThrows(ConcurrentModificationException.class, iter1::next);
+
+        // a failed addition or removal changes nothing, so iteration may continue
+        final WritableIterator<Integer> iter2 = set1.iterator();
+        set1.add(4);
+        set1.remove(5);
+        iter2.next();
+
+        for (int i = 5; i < 100; i++) {
+            set1.add(i);
+        }
+        assertThrows(
+                ConcurrentModificationException.class,
+                () -> set1.iterator().forEachRemaining(e -> set1.add(e + 1000)));
+
+        final WritableHashSet<Integer> set2 =
+                WritableHashSet.<Integer>builder().failFast(false).build();
+        set2.add(1);
+        set2.add(2);
+        final WritableIterator<Integer> iter3 = set2.iterator();
+        iter3.next();
+        set2.add(3);
+        iter3.next();
+    }
+
+    @Test
+    void testHashingStrategyStoresHashes() {
+        final AtomicInteger hashes = new AtomicInteger();
+        final AtomicInteger comparisons = new AtomicInteger();
+        final HashingStrategy<Integer> counting =
+                HashingStrategy.of(
+                        i -> {
+                            hashes.incrementAndGet();
+                            return i;
+                        },
+                        (i, j) -> {
+                            comparisons.incrementAndGet();
+                            return i.equals(j);
+                        });
+        final WritableHashSet<Integer> set =
+                this.makeContainer(new ReadableArrayList<Integer>(), counting);
+
+        // grows many times, but never hashes an element again, nor compares distinct hashes
+        for (int i = 0; i < 1000; i++) {
+            set.add(i);
+        }
+        assertEquals(1000, hashes.get());
+        assertEquals(0, comparisons.get());
+
+        assertTrue(set.contains(500));
+        assertFalse(set.add(500));
+        assertTrue(set.remove(500));
+        assertEquals(1003, hashes.get());
+        assertEquals(3, comparisons.get());
+
+        set.trimToSize();
+        set.removeIf(i -> i % 2 == 0);
+        assertEquals(1003, hashes.get());
+        // the sum of the odd numbers below 1000
+        assertEquals(1 + 250_000, set.hashCode());
+        assertEquals(
+                new ReadableHashSet<>(new ReadableArrayList<>(1, 3, 5), counting),
+                set.intersection(
+                        this.makeContainer(new ReadableArrayList<>(1, 2, 3, 5), counting)));
+    }
+
+    @Test
+    void testEqualHashCodeUpdates() {
+        final String[] colliding = equalHashStrings(12);
+        final WritableHashSet<String> set =
+                this.makeContainer(
+                        new ReadableArrayList<>(new String[] {"key"}), HashingStrategy.natural());
+        final Set<String> expected = new HashSet<>(List.of("key"));
+
+        for (final String elem : colliding) {
+            assertTrue(set.add(elem));
+            expected.add(elem);
+        }
+        assertFalse(set.add(colliding[7]));
+        assertEquals(expected.size(), set.size());
+        if (set.spillsCollisions()) {
+            assertTrue(maxProbeLength(set) < ReadableHashSet.OVERFLOW_THRESHOLD);
+        }
+
+        final ReadableHashSet<String> snapshot = set.snapshot();
+
+        for (int i = 0; i < colliding.length; i += 3) {
+            assertTrue(set.remove(colliding[i]));
+            assertFalse(set.remove(colliding[i]));
+            expected.remove(colliding[i]);
+        }
+        for (final WritableIterator<String> iter = set.iterator(); iter.hasNext(); ) {
+            if (iter.next().startsWith("BB")) {
+                iter.remove();
+            }
+        }
+        expected.removeIf(elem -> elem.startsWith("BB"));
+        assertTrue(set.removeIf(elem -> elem.endsWith("BBAa")));
+        expected.removeIf(elem -> elem.endsWith("BBAa"));
+
+        assertEquals(expected, toJavaSet(set));
+        assertEquals(
+                new ReadableHashSet<>(expected.toArray(new String[0])).hashCode(), set.hashCode());
+        for (final String elem : colliding) {
+            assertEquals(expected.contains(elem), set.contains(elem));
+        }
+
+        assertEquals(colliding.length + 1, snapshot.size());
+        assertTrue(snapshot.contains(colliding[0]));
+        assertTrue(snapshot.contains(colliding[colliding.length - 1]));
+
+        // the snapshot keeps the overflow it shared as it was
+        final ReadableHashSet<String> shared = set.snapshot();
+        final int sharedSize = shared.size();
+        for (final String elem : colliding) {
+            set.add(elem);
+        }
+        assertEquals(sharedSize, shared.size());
+        assertEquals(expected, toJavaSet(shared));
+        set.removeIf(elem -> true);
+        assertEquals(expected, toJavaSet(shared));
+
+        set.clear();
+        assertFalse(set.contains(colliding[1]));
+        assertTrue(set.add(colliding[1]));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void testEqualHashComparableUpdates() {
+        final WritableHashSet<Object> set =
+                this.makeContainer(new ReadableArrayList<>(), HashingStrategy.natural());
+        final Set<Object> expected = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            assertTrue(set.add(new Ranked(i)));
+            assertTrue(set.add(new StringRanked(i)));
+            expected.add(new Ranked(i));
+            expected.add(new StringRanked(i));
+        }
+        assertFalse(set.add(new Ranked(7)));
+        assertFalse(set.add(new StringRanked(7)));
+        assertEquals(40, set.size());
+
+        for (int i = 0; i < 20; i += 2) {
+            assertTrue(set.remove(new Ranked(i)));
+            assertFalse(set.remove(new Ranked(i)));
+            assertTrue(set.remove(new StringRanked(i)));
+            expected.remove(new Ranked(i));
+            expected.remove(new StringRanked(i));
+        }
+        assertEquals(expected, toJavaSet(set));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i % 2 == 1, set.contains(new Ranked(i)));
+            assertEquals(i % 2 == 1, set.contains(new StringRanked(i)));
+        }
+    }
+
+    @Test
+    void testForeignTypeRemovals() {
+        final WritableHashSet<byte[]> byContent =
+                this.makeContainer(
+                        new ReadableArrayList<>(new byte[] {1}, new byte[] {2}),
+                        HashingStrategy.byteArrays());
+
+        //noinspection unchecked
+        assertFalse(((WritableHashSet<Object>) (WritableHashSet<?>) byContent).remove("x"));
+        assertFalse(byContent.removeAll(new ReadableArrayList<Object>("x", 1)));
+        assertEquals(2, byContent.size());
+        assertTrue(byContent.contains(new byte[] {1}));
+
+        // a ClassCastException from an accepted element's own code is not taken to mean absent
+        final WritableHashSet<Object> broken =
+                this.makeContainer(
+                        new ReadableArrayList<>(1000),
+                        HashingStrategy.of(
+                                Object.class,
+                                Object::hashCode,
+                                (a, b) -> {
+                                    throw new ClassCastException();
+                                }));
+        assertThrows(ClassCastException.class, () -> broken.remove(1000));
+        assertEquals(1, broken.size());
+    }
 }
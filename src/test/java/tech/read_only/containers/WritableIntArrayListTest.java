@@ -0,0 +1,188 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class WritableIntArrayListTest<T extends WritableIntArrayList> extends ReadableIntArrayListTest<T>
+        implements WritableContainerTest {
+    @Override
+    protected T makeContainer() {
+        return (T) new WritableIntArrayList();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        //noinspection ConstantConditions
+        return (T) new WritableIntArrayList(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T)
+                new WritableIntArrayList(Arrays.stream(elems).mapToInt(e -> (Integer) e).toArray());
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        return (T) new WritableIntArrayList(other);
+    }
+
+    @Test
+    @Override
+    public void testAdd() {
+        final Integer elem = this.generateElement();
+        final T list1 = this.makeContainer();
+        list1.add(elem);
+
+        assertFalse(list1.isEmpty());
+        assertEquals(1, list1.size());
+        assertTrue(list1.contains(elem));
+
+        assertTrue(list1.addInt(elem));
+
+        assertEquals(2, list1.size());
+
+        final T list2 = this.makeContainer(elem, elem);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+
+        assertThrows(NullPointerException.class, () -> list1.add(null));
+    }
+
+    @Test
+    @Override
+    public void testResize() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final T list1 = this.makeContainer(elem1);
+        final int initialHashCode = list1.hashCode();
+
+        for (int i = 0; i < 10; i++) {
+            list1.addInt(elem2);
+        }
+
+        assertEquals(11, list1.size());
+        assertTrue(list1.contains(elem1));
+        assertTrue(list1.contains(elem2));
+        assertEquals(elem2, list1.getInt(10));
+        assertNotEquals(initialHashCode, list1.hashCode());
+
+        final T list2 = this.makeContainer(list1);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testIteratorRemove() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final Integer elem3 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2, elem3);
+        final WritableIntIterator iter = list1.iterator();
+
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        iter.nextInt();
+        iter.nextInt();
+        iter.remove();
+
+        assertThrows(IllegalStateException.class, iter::remove);
+        assertTrue(iter.hasNext());
+        assertEquals(elem3, iter.nextInt());
+        assertFalse(iter.hasNext());
+
+        final T list2 = this.makeContainer(elem1, elem3);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testClear() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2);
+
+        list1.clear();
+
+        assertTrue(list1.isEmpty());
+        assertFalse(list1.contains(elem1));
+        assertFalse(list1.containsInt(elem2));
+
+        final T list2 = this.makeContainer();
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+    }
+
+    @Test
+    void testSet() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final Integer elem3 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2);
+
+        list1.set(0, elem3);
+        list1.setInt(1, elem1);
+
+        final T list2 = this.makeContainer(elem3, elem1);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.setInt(2, elem1));
+    }
+
+    @Test
+    void testRemoveAt() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final Integer elem3 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2, elem3);
+
+        assertEquals(elem2, list1.removeAt(1));
+        assertEquals(2, list1.size());
+        assertFalse(list1.contains(elem2));
+        assertEquals(elem3, list1.removeIntAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.removeIntAt(1));
+
+        final T list2 = this.makeContainer(elem1);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testRemove() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final Integer elem3 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2, elem3);
+
+        assertTrue(list1.remove(elem2));
+
+        assertEquals(2, list1.size());
+        assertFalse(list1.contains(elem2));
+        assertFalse(list1.removeInt(elem2));
+        assertFalse(list1.remove(null));
+
+        final T list2 = this.makeContainer(elem1, elem3);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+    }
+}
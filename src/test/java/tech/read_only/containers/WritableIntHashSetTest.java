@@ -0,0 +1,183 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class WritableIntHashSetTest<T extends WritableIntHashSet> extends ReadableIntHashSetTest<T>
+        implements WritableContainerTest {
+    @Override
+    protected T makeContainer() {
+        return (T) new WritableIntHashSet();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Integer elem) {
+        //noinspection ConstantConditions
+        return (T) new WritableIntHashSet(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T)
+                new WritableIntHashSet(Arrays.stream(elems).mapToInt(e -> (Integer) e).toArray());
+    }
+
+    @Override
+    protected T makeContainer(final Container<Integer> other) {
+        return (T) new WritableIntHashSet(other);
+    }
+
+    @Test
+    @Override
+    public void testAdd() {
+        final Integer elem = this.generateElement();
+        final T set1 = this.makeContainer();
+
+        assertTrue(set1.add(elem));
+        assertFalse(set1.isEmpty());
+        assertEquals(1, set1.size());
+        assertTrue(set1.contains(elem));
+
+        assertFalse(set1.addInt(elem));
+        assertEquals(1, set1.size());
+
+        final T set2 = this.makeContainer(elem);
+
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+
+        assertTrue(set1.addInt(0));
+        assertTrue(set1.containsInt(0));
+        assertEquals(2, set1.size());
+        assertFalse(set1.add(0));
+
+        assertThrows(NullPointerException.class, () -> set1.add(null));
+    }
+
+    @Test
+    @Override
+    public void testResize() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final T set1 = this.makeContainer(elem1);
+        final int initialHashCode = set1.hashCode();
+
+        set1.add(elem2);
+
+        assertEquals(2, set1.size());
+        assertTrue(set1.contains(elem1));
+        assertTrue(set1.contains(elem2));
+        assertNotEquals(initialHashCode, set1.hashCode());
+
+        final T set2 = this.makeContainer(elem1, elem2);
+
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testIteratorRemove() {
+        final T set1 = this.makeContainer(this.generateElement(), 0, this.generateElement());
+        final WritableIntIterator iter = set1.iterator();
+
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        assertEquals(0, iter.nextInt());
+        iter.remove();
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        final Integer removed = iter.nextInt();
+        iter.remove();
+
+        assertTrue(iter.hasNext());
+        final Integer last = iter.nextInt();
+        assertFalse(iter.hasNext());
+        assertFalse(set1.contains(removed));
+        assertFalse(set1.contains(0));
+
+        final T set2 = this.makeContainer(last);
+
+        assertEquals(set2, set1);
+        assertEquals(set2.hashCode(), set1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testClear() {
+        final Integer elem = this.generateElement();
+        final T set1 = this.makeContainer(elem, 0);
+
+        set1.clear();
+
+        assertTrue(set1.isEmpty());
+        assertFalse(set1.contains(elem));
+        assertFalse(set1.containsInt(0));
+
+        final T set2 = this.makeContainer();
+
+        assertEquals(set2, set1);
+        assertEquals(set2.hashCode(), set1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testRemove() {
+        final Integer elem1 = this.generateElement();
+        final Integer elem2 = this.generateElement();
+        final T set1 = this.makeContainer(elem1, elem2, 0);
+
+        assertTrue(set1.remove(elem2));
+
+        assertEquals(2, set1.size());
+        assertFalse(set1.contains(elem2));
+        assertFalse(set1.removeInt(elem2));
+        assertFalse(set1.remove(null));
+        assertTrue(set1.removeInt(0));
+        assertFalse(set1.removeInt(0));
+
+        final T set2 = this.makeContainer(elem1);
+
+        assertEquals(set2, set1);
+        assertEquals(set2.hashCode(), set1.hashCode());
+    }
+
+    @Test
+    void testManyElements() {
+        final Integer[] elems = new Integer[1000];
+        final T set1 = this.makeContainer();
+        for (int i = 0; i < elems.length; i++) {
+            elems[i] = this.generateElement();
+            assertTrue(set1.addInt(elems[i]));
+        }
+
+        for (int i = 0; i < elems.length; i += 2) {
+            assertTrue(set1.removeInt(elems[i]));
+        }
+
+        assertEquals(500, set1.size());
+        for (int i = 0; i < elems.length; i++) {
+            assertEquals(i % 2 == 1, set1.containsInt(elems[i]));
+        }
+
+        int count = 0;
+        for (final WritableIntIterator iter = set1.iterator(); iter.hasNext(); ) {
+            iter.nextInt();
+            iter.remove();
+            count++;
+        }
+
+        assertEquals(500, count);
+        assertTrue(set1.isEmpty());
+    }
+}
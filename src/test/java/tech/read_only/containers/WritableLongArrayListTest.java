@@ -0,0 +1,188 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class WritableLongArrayListTest<T extends WritableLongArrayList>
+        extends ReadableLongArrayListTest<T> implements WritableContainerTest {
+    @Override
+    protected T makeContainer() {
+        return (T) new WritableLongArrayList();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Long elem) {
+        //noinspection ConstantConditions
+        return (T) new WritableLongArrayList(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T)
+                new WritableLongArrayList(Arrays.stream(elems).mapToLong(e -> (Long) e).toArray());
+    }
+
+    @Override
+    protected T makeContainer(final Container<Long> other) {
+        return (T) new WritableLongArrayList(other);
+    }
+
+    @Test
+    @Override
+    public void testAdd() {
+        final Long elem = this.generateElement();
+        final T list1 = this.makeContainer();
+        list1.add(elem);
+
+        assertFalse(list1.isEmpty());
+        assertEquals(1, list1.size());
+        assertTrue(list1.contains(elem));
+
+        assertTrue(list1.addLong(elem));
+
+        assertEquals(2, list1.size());
+
+        final T list2 = this.makeContainer(elem, elem);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+
+        assertThrows(NullPointerException.class, () -> list1.add(null));
+    }
+
+    @Test
+    @Override
+    public void testResize() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final T list1 = this.makeContainer(elem1);
+        final int initialHashCode = list1.hashCode();
+
+        for (int i = 0; i < 10; i++) {
+            list1.addLong(elem2);
+        }
+
+        assertEquals(11, list1.size());
+        assertTrue(list1.contains(elem1));
+        assertTrue(list1.contains(elem2));
+        assertEquals(elem2, list1.getLong(10));
+        assertNotEquals(initialHashCode, list1.hashCode());
+
+        final T list2 = this.makeContainer(list1);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testIteratorRemove() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final Long elem3 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2, elem3);
+        final WritableLongIterator iter = list1.iterator();
+
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        iter.nextLong();
+        iter.nextLong();
+        iter.remove();
+
+        assertThrows(IllegalStateException.class, iter::remove);
+        assertTrue(iter.hasNext());
+        assertEquals(elem3, iter.nextLong());
+        assertFalse(iter.hasNext());
+
+        final T list2 = this.makeContainer(elem1, elem3);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testClear() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2);
+
+        list1.clear();
+
+        assertTrue(list1.isEmpty());
+        assertFalse(list1.contains(elem1));
+        assertFalse(list1.containsLong(elem2));
+
+        final T list2 = this.makeContainer();
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+    }
+
+    @Test
+    void testSet() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final Long elem3 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2);
+
+        list1.set(0, elem3);
+        list1.setLong(1, elem1);
+
+        final T list2 = this.makeContainer(elem3, elem1);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.setLong(2, elem1));
+    }
+
+    @Test
+    void testRemoveAt() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final Long elem3 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2, elem3);
+
+        assertEquals(elem2, list1.removeAt(1));
+        assertEquals(2, list1.size());
+        assertFalse(list1.contains(elem2));
+        assertEquals(elem3, list1.removeLongAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.removeLongAt(1));
+
+        final T list2 = this.makeContainer(elem1);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testRemove() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final Long elem3 = this.generateElement();
+        final T list1 = this.makeContainer(elem1, elem2, elem3);
+
+        assertTrue(list1.remove(elem2));
+
+        assertEquals(2, list1.size());
+        assertFalse(list1.contains(elem2));
+        assertFalse(list1.removeLong(elem2));
+        assertFalse(list1.remove(null));
+
+        final T list2 = this.makeContainer(elem1, elem3);
+
+        assertEquals(list2, list1);
+        assertEquals(list2.hashCode(), list1.hashCode());
+    }
+}
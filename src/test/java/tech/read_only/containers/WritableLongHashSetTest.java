@@ -0,0 +1,182 @@
+package tech.read_only.containers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+@SuppressWarnings("unchecked")
+class WritableLongHashSetTest<T extends WritableLongHashSet> extends ReadableLongHashSetTest<T>
+        implements WritableContainerTest {
+    @Override
+    protected T makeContainer() {
+        return (T) new WritableLongHashSet();
+    }
+
+    @Override
+    protected T makeContainer(@Nullable final Long elem) {
+        //noinspection ConstantConditions
+        return (T) new WritableLongHashSet(elem);
+    }
+
+    @Override
+    protected T makeContainer(final Object... elems) {
+        return (T) new WritableLongHashSet(Arrays.stream(elems).mapToLong(e -> (Long) e).toArray());
+    }
+
+    @Override
+    protected T makeContainer(final Container<Long> other) {
+        return (T) new WritableLongHashSet(other);
+    }
+
+    @Test
+    @Override
+    public void testAdd() {
+        final Long elem = this.generateElement();
+        final T set1 = this.makeContainer();
+
+        assertTrue(set1.add(elem));
+        assertFalse(set1.isEmpty());
+        assertEquals(1, set1.size());
+        assertTrue(set1.contains(elem));
+
+        assertFalse(set1.addLong(elem));
+        assertEquals(1, set1.size());
+
+        final T set2 = this.makeContainer(elem);
+
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+
+        assertTrue(set1.addLong(0));
+        assertTrue(set1.containsLong(0));
+        assertEquals(2, set1.size());
+        assertFalse(set1.add(0L));
+
+        assertThrows(NullPointerException.class, () -> set1.add(null));
+    }
+
+    @Test
+    @Override
+    public void testResize() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final T set1 = this.makeContainer(elem1);
+        final int initialHashCode = set1.hashCode();
+
+        set1.add(elem2);
+
+        assertEquals(2, set1.size());
+        assertTrue(set1.contains(elem1));
+        assertTrue(set1.contains(elem2));
+        assertNotEquals(initialHashCode, set1.hashCode());
+
+        final T set2 = this.makeContainer(elem1, elem2);
+
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testIteratorRemove() {
+        final T set1 = this.makeContainer(this.generateElement(), 0L, this.generateElement());
+        final WritableLongIterator iter = set1.iterator();
+
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        assertEquals(0L, iter.nextLong());
+        iter.remove();
+        assertThrows(IllegalStateException.class, iter::remove);
+
+        final Long removed = iter.nextLong();
+        iter.remove();
+
+        assertTrue(iter.hasNext());
+        final Long last = iter.nextLong();
+        assertFalse(iter.hasNext());
+        assertFalse(set1.contains(removed));
+        assertFalse(set1.contains(0L));
+
+        final T set2 = this.makeContainer(last);
+
+        assertEquals(set2, set1);
+        assertEquals(set2.hashCode(), set1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testClear() {
+        final Long elem = this.generateElement();
+        final T set1 = this.makeContainer(elem, 0L);
+
+        set1.clear();
+
+        assertTrue(set1.isEmpty());
+        assertFalse(set1.contains(elem));
+        assertFalse(set1.containsLong(0));
+
+        final T set2 = this.makeContainer();
+
+        assertEquals(set2, set1);
+        assertEquals(set2.hashCode(), set1.hashCode());
+    }
+
+    @Test
+    @Override
+    public void testRemove() {
+        final Long elem1 = this.generateElement();
+        final Long elem2 = this.generateElement();
+        final T set1 = this.makeContainer(elem1, elem2, 0L);
+
+        assertTrue(set1.remove(elem2));
+
+        assertEquals(2, set1.size());
+        assertFalse(set1.contains(elem2));
+        assertFalse(set1.removeLong(elem2));
+        assertFalse(set1.remove(null));
+        assertTrue(set1.removeLong(0));
+        assertFalse(set1.removeLong(0));
+
+        final T set2 = this.makeContainer(elem1);
+
+        assertEquals(set2, set1);
+        assertEquals(set2.hashCode(), set1.hashCode());
+    }
+
+    @Test
+    void testManyElements() {
+        final Long[] elems = new Long[1000];
+        final T set1 = this.makeContainer();
+        for (int i = 0; i < elems.length; i++) {
+            elems[i] = this.generateElement();
+            assertTrue(set1.addLong(elems[i]));
+        }
+
+        for (int i = 0; i < elems.length; i += 2) {
+            assertTrue(set1.removeLong(elems[i]));
+        }
+
+        assertEquals(500, set1.size());
+        for (int i = 0; i < elems.length; i++) {
+            assertEquals(i % 2 == 1, set1.containsLong(elems[i]));
+        }
+
+        int count = 0;
+        for (final WritableLongIterator iter = set1.iterator(); iter.hasNext(); ) {
+            iter.nextLong();
+            iter.remove();
+            count++;
+        }
+
+        assertEquals(500, count);
+        assertTrue(set1.isEmpty());
+    }
+}